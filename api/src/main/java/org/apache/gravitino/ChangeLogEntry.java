@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * An entry of the change log of a metalake. Every create, alter or drop of a metadata object in
+ * the metalake appends one entry, and entries are numbered by a sequence that increases with the
+ * order in which they are written.
+ */
+@Evolving
+public interface ChangeLogEntry {
+
+  /** The operation recorded by a change log entry. */
+  enum Operation {
+    /** The metadata object is created. */
+    CREATE,
+    /** The metadata object is altered, including renamed. */
+    ALTER,
+    /** The metadata object is dropped. */
+    DROP
+  }
+
+  /**
+   * @return The sequence number of the entry, unique and increasing within the change log.
+   */
+  long sequence();
+
+  /**
+   * @return The type of the changed metadata object, for example {@code TABLE} or {@code USER}.
+   */
+  String entityType();
+
+  /**
+   * @return The full identifier of the changed metadata object, including the metalake name.
+   */
+  NameIdentifier identifier();
+
+  /**
+   * @return The operation applied to the metadata object.
+   */
+  Operation operation();
+
+  /**
+   * @return The time the change was made, in milliseconds since the epoch.
+   */
+  long changeTime();
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import javax.annotation.Nullable;
+import org.apache.gravitino.annotation.Evolving;
+
+/**
+ * A page of {@link NameIdentifier}s returned by a paginated list operation.
+ *
+ * <p>Pagination is keyset based: identifiers are ordered by name, and the page token is the name
+ * of the last identifier of the previous page. Callers should treat the token as opaque and pass it
+ * back unchanged to fetch the next page. A page without a next page token is the last one.
+ */
+@Evolving
+public final class NameIdentifierPage {
+
+  private static final NameIdentifier[] EMPTY = new NameIdentifier[0];
+
+  private final NameIdentifier[] identifiers;
+
+  @Nullable private final String nextPageToken;
+
+  private NameIdentifierPage(NameIdentifier[] identifiers, @Nullable String nextPageToken) {
+    this.identifiers = identifiers;
+    this.nextPageToken = nextPageToken;
+  }
+
+  /**
+   * Create a page with the given identifiers and next page token.
+   *
+   * @param identifiers The identifiers of the page, in page order.
+   * @param nextPageToken The token to fetch the next page, or null if this is the last page.
+   * @return The created {@link NameIdentifierPage}.
+   */
+  public static NameIdentifierPage of(NameIdentifier[] identifiers, @Nullable String nextPageToken) {
+    Preconditions.checkArgument(identifiers != null, "identifiers must not be null");
+    return new NameIdentifierPage(identifiers, nextPageToken);
+  }
+
+  /**
+   * Cut one page out of a complete, in-memory list of identifiers. The identifiers are ordered by
+   * name, and only those whose name is strictly greater than the page token are returned.
+   *
+   * <p>This is the fallback for sources that cannot paginate natively, it bounds the size of the
+   * response but not the cost of producing the full list.
+   *
+   * @param identifiers All the identifiers to paginate over.
+   * @param pageToken The token returned by the previous page, or null to start from the beginning.
+   * @param pageSize The maximum number of identifiers in the page, must be positive.
+   * @return The requested {@link NameIdentifierPage}.
+   */
+  public static NameIdentifierPage paginate(
+      NameIdentifier[] identifiers, @Nullable String pageToken, int pageSize) {
+    checkPageSize(pageSize);
+    if (identifiers == null || identifiers.length == 0) {
+      return new NameIdentifierPage(EMPTY, null);
+    }
+
+    NameIdentifier[] candidates =
+        Arrays.stream(identifiers)
+            .filter(ident -> pageToken == null || ident.name().compareTo(pageToken) > 0)
+            .sorted(Comparator.comparing(NameIdentifier::name))
+            .limit(pageSize + 1L)
+            .toArray(NameIdentifier[]::new);
+
+    if (candidates.length <= pageSize) {
+      return new NameIdentifierPage(candidates, null);
+    }
+
+    NameIdentifier[] page = Arrays.copyOf(candidates, pageSize);
+    return new NameIdentifierPage(page, page[pageSize - 1].name());
+  }
+
+  /**
+   * Check that the requested page size is valid.
+   *
+   * @param pageSize The page size to check.
+   * @throws IllegalArgumentException If the page size is not positive.
+   */
+  public static void checkPageSize(int pageSize) {
+    Preconditions.checkArgument(pageSize > 0, "pageSize must be positive, but got %s", pageSize);
+  }
+
+  /**
+   * Get the identifiers of this page.
+   *
+   * @return The identifiers of this page.
+   */
+  public NameIdentifier[] identifiers() {
+    return identifiers;
+  }
+
+  /**
+   * Get the token to fetch the next page.
+   *
+   * @return The next page token, or null if this is the last page.
+   */
+  @Nullable
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
+  /**
+   * Check if there are more pages after this one.
+   *
+   * @return True if there are more pages, false otherwise.
+   */
+  public boolean hasNextPage() {
+    return nextPageToken != null;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof NameIdentifierPage)) {
+      return false;
+    }
+    NameIdentifierPage that = (NameIdentifierPage) o;
+    return Arrays.equals(identifiers, that.identifiers)
+        && Objects.equals(nextPageToken, that.nextPageToken);
+  }
+
+  @Override
+  public int hashCode() {
+    return 31 * Arrays.hashCode(identifiers) + Objects.hashCode(nextPageToken);
+  }
+}
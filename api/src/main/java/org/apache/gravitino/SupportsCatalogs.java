@@ -18,6 +18,7 @@
  */
 package org.apache.gravitino;
 
+import java.util.Arrays;
 import java.util.Map;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.exceptions.CatalogAlreadyExistsException;
@@ -42,6 +43,25 @@ public interface SupportsCatalogs {
    */
   String[] listCatalogs() throws NoSuchMetalakeException;
 
+  /**
+   * List one page of the catalogs in the metalake. Catalogs are ordered by name, and each
+   * identifier of the page only contains the catalog name.
+   *
+   * <p>The default implementation lists all the catalogs and then cuts the requested page out of
+   * them.
+   *
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of catalogs to return, must be positive.
+   * @return A page of catalog identifiers.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  default NameIdentifierPage listCatalogs(String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    NameIdentifier[] idents =
+        Arrays.stream(listCatalogs()).map(NameIdentifier::of).toArray(NameIdentifier[]::new);
+    return NameIdentifierPage.paginate(idents, pageToken, pageSize);
+  }
+
   /**
    * List all catalogs with their information in the metalake.
    *
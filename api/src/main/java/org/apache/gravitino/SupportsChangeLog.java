@@ -0,0 +1,48 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+
+/**
+ * Interface for reading the change log of a metalake. Downstream caches can poll it to find out
+ * which metadata objects changed since they last looked, instead of listing them all again.
+ */
+@Evolving
+public interface SupportsChangeLog {
+
+  /**
+   * List the change log entries written after the given sequence number, ordered by sequence. To
+   * read the whole log, start from 0 and pass the sequence of the last entry of each page to fetch
+   * the next one, until an empty page is returned.
+   *
+   * <p>Entries older than the store retention time are removed, so a consumer that falls further
+   * behind than that should reload its state instead of relying on the log.
+   *
+   * <p>A page may hold fewer than {@code limit} entries, as the server caps the page size and holds
+   * back the entries written within the last few seconds until their transactions have committed.
+   *
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return, must be positive.
+   * @return The change log entries, at most {@code limit} of them.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  ChangeLogEntry[] listChanges(long afterSequence, int limit) throws NoSuchMetalakeException;
+}
@@ -23,6 +23,7 @@ package org.apache.gravitino.rel;
 import java.util.Map;
 import java.util.Set;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.annotation.Evolving;
 import org.apache.gravitino.authorization.Privilege;
@@ -53,6 +54,23 @@ public interface TableCatalog {
    */
   NameIdentifier[] listTables(Namespace namespace) throws NoSuchSchemaException;
 
+  /**
+   * List one page of the tables in a namespace from the catalog. Tables are ordered by name.
+   *
+   * <p>The default implementation lists all the tables and then cuts the requested page out of
+   * them, catalogs that can paginate natively should override it.
+   *
+   * @param namespace A namespace.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of tables to return, must be positive.
+   * @return A page of table identifiers in the namespace.
+   * @throws NoSuchSchemaException If the schema does not exist.
+   */
+  default NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    return NameIdentifierPage.paginate(listTables(namespace), pageToken, pageSize);
+  }
+
   /**
    * Load table metadata by {@link NameIdentifier} from the catalog.
    *
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class TestNameIdentifierPage {
+
+  @Test
+  public void testPaginate() {
+    NameIdentifier a = NameIdentifier.of("ns", "a");
+    NameIdentifier b = NameIdentifier.of("ns", "b");
+    NameIdentifier c = NameIdentifier.of("ns", "c");
+    NameIdentifier[] all = new NameIdentifier[] {c, a, b};
+
+    NameIdentifierPage first = NameIdentifierPage.paginate(all, null, 2);
+    assertArrayEquals(new NameIdentifier[] {a, b}, first.identifiers());
+    assertEquals("b", first.nextPageToken());
+    assertTrue(first.hasNextPage());
+
+    NameIdentifierPage second = NameIdentifierPage.paginate(all, first.nextPageToken(), 2);
+    assertArrayEquals(new NameIdentifier[] {c}, second.identifiers());
+    assertNull(second.nextPageToken());
+    assertFalse(second.hasNextPage());
+
+    // An exact fit has no next page.
+    NameIdentifierPage exact = NameIdentifierPage.paginate(all, null, 3);
+    assertEquals(3, exact.identifiers().length);
+    assertFalse(exact.hasNextPage());
+
+    NameIdentifierPage empty = NameIdentifierPage.paginate(new NameIdentifier[0], null, 2);
+    assertEquals(0, empty.identifiers().length);
+    assertFalse(empty.hasNextPage());
+  }
+
+  @Test
+  public void testInvalidPageSize() {
+    NameIdentifier[] all = new NameIdentifier[] {NameIdentifier.of("ns", "a")};
+    assertThrows(IllegalArgumentException.class, () -> NameIdentifierPage.paginate(all, null, 0));
+    assertThrows(IllegalArgumentException.class, () -> NameIdentifierPage.of(null, null));
+  }
+}
@@ -39,6 +39,7 @@ import org.apache.gravitino.Catalog;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -157,6 +158,12 @@ public class GenericCatalogOperations implements CatalogOperations, SupportsSche
     return schemaOps.listSchemas(namespace);
   }
 
+  @Override
+  public NameIdentifierPage listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    return schemaOps.listSchemas(namespace, pageToken, pageSize);
+  }
+
   @Override
   public Schema createSchema(NameIdentifier ident, String comment, Map<String, String> properties)
       throws NoSuchCatalogException, SchemaAlreadyExistsException {
@@ -207,6 +214,13 @@ public class GenericCatalogOperations implements CatalogOperations, SupportsSche
     return tableOps.listTables(namespace);
   }
 
+  @Override
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    ManagedTableOperations tableOps = tableOpsCache.values().iterator().next().get();
+    return tableOps.listTables(namespace, pageToken, pageSize);
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     Table loadedTable = tableOps(ident).loadTable(ident);
@@ -42,6 +42,7 @@ import org.apache.gravitino.exceptions.IllegalRoleException;
 import org.apache.gravitino.exceptions.IllegalStatisticNameException;
 import org.apache.gravitino.exceptions.InUseException;
 import org.apache.gravitino.exceptions.JobTemplateAlreadyExistsException;
+import org.apache.gravitino.exceptions.LockTimeoutException;
 import org.apache.gravitino.exceptions.MetalakeAlreadyExistsException;
 import org.apache.gravitino.exceptions.MetalakeInUseException;
 import org.apache.gravitino.exceptions.MetalakeNotInUseException;
@@ -1311,6 +1312,9 @@ public class ErrorHandlers {
       if (errorResponse.getCode() == ErrorConstants.FORBIDDEN_CODE) {
         throw new ForbiddenException("Forbidden error :%s", errorResponse.getMessage());
       }
+      if (errorResponse.getCode() == ErrorConstants.LOCK_TIMEOUT_CODE) {
+        throw new LockTimeoutException("%s", formatErrorMessage(errorResponse));
+      }
       throw new RESTException("Unable to process: %s", formatErrorMessage(errorResponse));
     }
   }
@@ -27,8 +27,11 @@ import java.util.Optional;
 import java.util.Set;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.MetadataObject;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.SupportsCatalogs;
+import org.apache.gravitino.SupportsChangeLog;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.Privilege;
@@ -79,7 +82,7 @@ import org.apache.gravitino.tag.TagOperations;
  * API.
  */
 public class GravitinoClient extends GravitinoClientBase
-    implements SupportsCatalogs, TagOperations, SupportsJobs, PolicyOperations {
+    implements SupportsCatalogs, TagOperations, SupportsJobs, PolicyOperations, SupportsChangeLog {
 
   private final GravitinoMetalake metalake;
 
@@ -121,6 +124,18 @@ public class GravitinoClient extends GravitinoClientBase
     return getMetalake().listCatalogs();
   }
 
+  @Override
+  public NameIdentifierPage listCatalogs(String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    return getMetalake().listCatalogs(pageToken, pageSize);
+  }
+
+  @Override
+  public ChangeLogEntry[] listChanges(long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    return getMetalake().listChanges(afterSequence, limit);
+  }
+
   @Override
   public Catalog[] listCatalogsInfo() throws NoSuchMetalakeException {
     return getMetalake().listCatalogsInfo();
@@ -35,10 +35,13 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.MetadataObjects;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.SupportsCatalogs;
+import org.apache.gravitino.SupportsChangeLog;
 import org.apache.gravitino.authorization.Group;
 import org.apache.gravitino.authorization.Owner;
 import org.apache.gravitino.authorization.Privilege;
@@ -75,6 +78,7 @@ import org.apache.gravitino.dto.requests.UserAddRequest;
 import org.apache.gravitino.dto.responses.BaseResponse;
 import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
+import org.apache.gravitino.dto.responses.ChangeLogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -138,7 +142,12 @@ import org.apache.gravitino.tag.TagOperations;
  * create, load, alter and drop a catalog with specified identifier.
  */
 public class GravitinoMetalake extends MetalakeDTO
-    implements SupportsCatalogs, TagOperations, SupportsRoles, SupportsJobs, PolicyOperations {
+    implements SupportsCatalogs,
+        TagOperations,
+        SupportsRoles,
+        SupportsJobs,
+        PolicyOperations,
+        SupportsChangeLog {
   private static final String API_METALAKES_CATALOGS_PATH = "api/metalakes/%s/catalogs/%s";
   private static final String API_PERMISSION_PATH = "api/metalakes/%s/permissions/%s";
   private static final String API_METALAKES_USERS_PATH = "api/metalakes/%s/users/%s";
@@ -187,6 +196,68 @@ public class GravitinoMetalake extends MetalakeDTO
     return Arrays.stream(resp.identifiers()).map(NameIdentifier::name).toArray(String[]::new);
   }
 
+  /**
+   * List one page of the catalogs under this metalake, ordered by catalog name.
+   *
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of catalogs to return.
+   * @return A page of {@link NameIdentifier} of the catalogs.
+   * @throws NoSuchMetalakeException if the metalake with specified namespace does not exist.
+   */
+  @Override
+  public NameIdentifierPage listCatalogs(String pageToken, int pageSize)
+      throws NoSuchMetalakeException {
+    NameIdentifierPage.checkPageSize(pageSize);
+
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    EntityListResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/catalogs", RESTUtils.encodeString(this.name())),
+            params,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.catalogErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return NameIdentifierPage.of(idents, resp.nextPageToken());
+  }
+
+  /**
+   * List the change log entries of this metalake written after the given sequence number.
+   *
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return, must be positive.
+   * @return The change log entries, ordered by sequence.
+   * @throws NoSuchMetalakeException if the metalake does not exist.
+   */
+  @Override
+  public ChangeLogEntry[] listChanges(long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+
+    Map<String, String> params = new HashMap<>();
+    params.put("afterSequence", String.valueOf(afterSequence));
+    params.put("limit", String.valueOf(limit));
+    ChangeLogResponse resp =
+        restClient.get(
+            String.format("api/metalakes/%s/changes", RESTUtils.encodeString(this.name())),
+            params,
+            ChangeLogResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.metalakeErrorHandler());
+    resp.validate();
+
+    return resp.getChanges();
+  }
+
   /**
    * List all the catalogs with their information under this metalake.
    *
@@ -35,6 +35,7 @@ import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.authorization.Privilege;
 import org.apache.gravitino.dto.AuditDTO;
@@ -110,6 +111,44 @@ class RelationalCatalog extends BaseSchemaCatalog implements TableCatalog {
         .toArray(NameIdentifier[]::new);
   }
 
+  /**
+   * List one page of the tables under the given Schema namespace, ordered by table name.
+   *
+   * @param namespace The namespace to list the tables under it. This namespace should have 1 level,
+   *     which is the schema name;
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of tables to return.
+   * @return A page of {@link NameIdentifier} of the tables under the given namespace.
+   * @throws NoSuchSchemaException if the schema with specified namespace does not exist.
+   */
+  @Override
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    checkTableNamespace(namespace);
+    NameIdentifierPage.checkPageSize(pageSize);
+
+    Namespace fullNamespace = getTableFullNamespace(namespace);
+    Map<String, String> params = new HashMap<>();
+    params.put("pageSize", String.valueOf(pageSize));
+    if (pageToken != null) {
+      params.put("pageToken", pageToken);
+    }
+    EntityListResponse resp =
+        restClient.get(
+            formatTableRequestPath(fullNamespace),
+            params,
+            EntityListResponse.class,
+            Collections.emptyMap(),
+            ErrorHandlers.tableErrorHandler());
+    resp.validate();
+
+    NameIdentifier[] idents =
+        Arrays.stream(resp.identifiers())
+            .map(ident -> NameIdentifier.of(ident.namespace().level(2), ident.name()))
+            .toArray(NameIdentifier[]::new);
+    return NameIdentifierPage.of(idents, resp.nextPageToken());
+  }
+
   /**
    * Load the table with specified identifier.
    *
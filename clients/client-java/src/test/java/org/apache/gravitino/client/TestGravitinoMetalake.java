@@ -32,10 +32,12 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.CatalogChange;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.ChangeLogEntryDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.policy.PolicyContentDTO;
 import org.apache.gravitino.dto.policy.PolicyDTO;
@@ -51,6 +53,7 @@ import org.apache.gravitino.dto.requests.TagUpdateRequest;
 import org.apache.gravitino.dto.requests.TagUpdatesRequest;
 import org.apache.gravitino.dto.responses.CatalogListResponse;
 import org.apache.gravitino.dto.responses.CatalogResponse;
+import org.apache.gravitino.dto.responses.ChangeLogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.EntityListResponse;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -200,6 +203,51 @@ public class TestGravitinoMetalake extends TestBase {
     Assertions.assertTrue(ex.getMessage().contains("mock error"));
   }
 
+  @Test
+  public void testListChanges() throws JsonProcessingException {
+    String path = "/api/metalakes/" + metalakeName + "/changes";
+    Map<String, String> params = ImmutableMap.of("afterSequence", "5", "limit", "2");
+
+    ChangeLogEntryDTO change1 =
+        ChangeLogEntryDTO.builder()
+            .withSequence(6L)
+            .withEntityType("CATALOG")
+            .withIdentifier(NameIdentifier.of(metalakeName, "catalog1"))
+            .withOperation(ChangeLogEntry.Operation.CREATE)
+            .withChangeTime(1000L)
+            .build();
+    ChangeLogEntryDTO change2 =
+        ChangeLogEntryDTO.builder()
+            .withSequence(8L)
+            .withEntityType("SCHEMA")
+            .withIdentifier(NameIdentifier.of(metalakeName, "catalog1", "schema1"))
+            .withOperation(ChangeLogEntry.Operation.DROP)
+            .withChangeTime(2000L)
+            .build();
+    ChangeLogResponse resp = new ChangeLogResponse(new ChangeLogEntryDTO[] {change1, change2});
+    buildMockResource(Method.GET, path, params, null, resp, HttpStatus.SC_OK);
+
+    ChangeLogEntry[] changes = gravitinoClient.listChanges(5L, 2);
+    Assertions.assertEquals(2, changes.length);
+    Assertions.assertEquals(6L, changes[0].sequence());
+    Assertions.assertEquals(NameIdentifier.of(metalakeName, "catalog1"), changes[0].identifier());
+    Assertions.assertEquals(ChangeLogEntry.Operation.CREATE, changes[0].operation());
+    Assertions.assertEquals("SCHEMA", changes[1].entityType());
+    Assertions.assertEquals(ChangeLogEntry.Operation.DROP, changes[1].operation());
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class, () -> gravitinoClient.listChanges(0L, 0));
+
+    // Test return no found
+    ErrorResponse errorResponse =
+        ErrorResponse.notFound(NoSuchMetalakeException.class.getSimpleName(), "mock error");
+    buildMockResource(Method.GET, path, params, null, errorResponse, HttpStatus.SC_NOT_FOUND);
+    Throwable ex =
+        Assertions.assertThrows(
+            NoSuchMetalakeException.class, () -> gravitinoClient.listChanges(5L, 2));
+    Assertions.assertTrue(ex.getMessage().contains("mock error"));
+  }
+
   @Test
   public void testLoadCatalog() throws JsonProcessingException {
     String catalogName = "mock";
@@ -23,6 +23,7 @@ import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.nio.file.Files;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -120,6 +121,22 @@ public abstract class Config {
     return entry.readFrom(configMap);
   }
 
+  /**
+   * Gets the value of a configuration entry, falling back to the default value of the entry when
+   * the config yields none, as a config mocked in tests does for the entries it doesn't stub.
+   *
+   * @param config The config to read the entry from.
+   * @param entry The configuration entry to retrieve.
+   * @param <T> The type of the configuration value.
+   * @return The value of the configuration entry, or its default value.
+   * @throws NoSuchElementException If the entry is neither found nor has a default value.
+   */
+  public static <T> T getOrDefault(Config config, ConfigEntry<T> entry)
+      throws NoSuchElementException {
+    T value = config.get(entry);
+    return value != null ? value : entry.readFrom(Collections.emptyMap());
+  }
+
   /**
    * Retrieves the raw string value associated with the specified configuration key.
    *
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils.NameIdentifierDeserializer;
+import org.apache.gravitino.json.JsonUtils.NameIdentifierSerializer;
+
+/** Represents a change log entry Data Transfer Object (DTO). */
+public class ChangeLogEntryDTO implements ChangeLogEntry {
+
+  @JsonProperty("sequence")
+  private long sequence;
+
+  @JsonProperty("entityType")
+  private String entityType;
+
+  @JsonSerialize(using = NameIdentifierSerializer.class)
+  @JsonDeserialize(using = NameIdentifierDeserializer.class)
+  @JsonProperty("identifier")
+  private NameIdentifier identifier;
+
+  @JsonProperty("operation")
+  private Operation operation;
+
+  @JsonProperty("changeTime")
+  private long changeTime;
+
+  private ChangeLogEntryDTO() {}
+
+  @Override
+  public long sequence() {
+    return sequence;
+  }
+
+  @Override
+  public String entityType() {
+    return entityType;
+  }
+
+  @Override
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  @Override
+  public Operation operation() {
+    return operation;
+  }
+
+  @Override
+  public long changeTime() {
+    return changeTime;
+  }
+
+  /**
+   * Validates the change log entry.
+   *
+   * @throws IllegalArgumentException If a required field is missing.
+   */
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(sequence > 0, "\"sequence\" must be positive");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(entityType), "\"entityType\" must not be blank");
+    Preconditions.checkArgument(identifier != null, "\"identifier\" must not be null");
+    Preconditions.checkArgument(operation != null, "\"operation\" must not be null");
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof ChangeLogEntryDTO)) {
+      return false;
+    }
+
+    ChangeLogEntryDTO that = (ChangeLogEntryDTO) o;
+    return sequence == that.sequence
+        && changeTime == that.changeTime
+        && Objects.equal(entityType, that.entityType)
+        && Objects.equal(identifier, that.identifier)
+        && operation == that.operation;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(sequence, entityType, identifier, operation, changeTime);
+  }
+
+  /**
+   * @return a new builder for constructing a change log entry DTO.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing ChangeLogEntryDTO instances. */
+  public static class Builder {
+    private final ChangeLogEntryDTO entryDTO;
+
+    private Builder() {
+      entryDTO = new ChangeLogEntryDTO();
+    }
+
+    /**
+     * Sets the sequence number of the entry.
+     *
+     * @param sequence The sequence number of the entry.
+     * @return The builder instance.
+     */
+    public Builder withSequence(long sequence) {
+      entryDTO.sequence = sequence;
+      return this;
+    }
+
+    /**
+     * Sets the type of the changed metadata object.
+     *
+     * @param entityType The type of the changed metadata object.
+     * @return The builder instance.
+     */
+    public Builder withEntityType(String entityType) {
+      entryDTO.entityType = entityType;
+      return this;
+    }
+
+    /**
+     * Sets the full identifier of the changed metadata object.
+     *
+     * @param identifier The full identifier of the changed metadata object.
+     * @return The builder instance.
+     */
+    public Builder withIdentifier(NameIdentifier identifier) {
+      entryDTO.identifier = identifier;
+      return this;
+    }
+
+    /**
+     * Sets the operation applied to the metadata object.
+     *
+     * @param operation The operation applied to the metadata object.
+     * @return The builder instance.
+     */
+    public Builder withOperation(Operation operation) {
+      entryDTO.operation = operation;
+      return this;
+    }
+
+    /**
+     * Sets the time the change was made.
+     *
+     * @param changeTime The time the change was made, in milliseconds since the epoch.
+     * @return The builder instance.
+     */
+    public Builder withChangeTime(long changeTime) {
+      entryDTO.changeTime = changeTime;
+      return this;
+    }
+
+    /**
+     * @return The constructed change log entry DTO.
+     */
+    public ChangeLogEntryDTO build() {
+      return entryDTO;
+    }
+  }
+}
@@ -0,0 +1,248 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils.NameIdentifierDeserializer;
+import org.apache.gravitino.json.JsonUtils.NameIdentifierSerializer;
+
+/**
+ * Represents a thread holding or waiting for a tree lock node Data Transfer Object (DTO), dumped to
+ * diagnose lock contention.
+ */
+public class LockThreadDTO {
+
+  @JsonProperty("node")
+  private String node;
+
+  @JsonProperty("level")
+  private String level;
+
+  @JsonSerialize(using = NameIdentifierSerializer.class)
+  @JsonDeserialize(using = NameIdentifierDeserializer.class)
+  @JsonProperty("identifier")
+  private NameIdentifier identifier;
+
+  @JsonProperty("threadName")
+  private String threadName;
+
+  @JsonProperty("threadId")
+  private long threadId;
+
+  @JsonProperty("since")
+  private long since;
+
+  @JsonProperty("ageMs")
+  private long ageMs;
+
+  private LockThreadDTO() {}
+
+  /**
+   * @return The name of the lock node.
+   */
+  public String node() {
+    return node;
+  }
+
+  /**
+   * @return The level of the lock node: root, metalake, catalog, schema or leaf.
+   */
+  public String level() {
+    return level;
+  }
+
+  /**
+   * @return The identifier of the resource path the thread locks.
+   */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /**
+   * @return The name of the thread.
+   */
+  public String threadName() {
+    return threadName;
+  }
+
+  /**
+   * @return The id of the thread.
+   */
+  public long threadId() {
+    return threadId;
+  }
+
+  /**
+   * @return The time the thread got the lock or began to wait for it, in milliseconds since the
+   *     epoch.
+   */
+  public long since() {
+    return since;
+  }
+
+  /**
+   * @return The time in milliseconds the thread has held or waited for the lock when dumped.
+   */
+  public long ageMs() {
+    return ageMs;
+  }
+
+  /**
+   * Validates the lock thread.
+   *
+   * @throws IllegalArgumentException If a required field is missing.
+   */
+  public void validate() throws IllegalArgumentException {
+    Preconditions.checkArgument(StringUtils.isNotBlank(node), "\"node\" must not be blank");
+    Preconditions.checkArgument(StringUtils.isNotBlank(level), "\"level\" must not be blank");
+    Preconditions.checkArgument(identifier != null, "\"identifier\" must not be null");
+    Preconditions.checkArgument(
+        StringUtils.isNotBlank(threadName), "\"threadName\" must not be blank");
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof LockThreadDTO)) {
+      return false;
+    }
+
+    LockThreadDTO that = (LockThreadDTO) o;
+    return threadId == that.threadId
+        && since == that.since
+        && ageMs == that.ageMs
+        && Objects.equal(node, that.node)
+        && Objects.equal(level, that.level)
+        && Objects.equal(identifier, that.identifier)
+        && Objects.equal(threadName, that.threadName);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(node, level, identifier, threadName, threadId, since, ageMs);
+  }
+
+  /**
+   * @return a new builder for constructing a lock thread DTO.
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /** Builder class for constructing LockThreadDTO instances. */
+  public static class Builder {
+    private final LockThreadDTO lockThreadDTO;
+
+    private Builder() {
+      lockThreadDTO = new LockThreadDTO();
+    }
+
+    /**
+     * Sets the name of the lock node.
+     *
+     * @param node The name of the lock node.
+     * @return The builder instance.
+     */
+    public Builder withNode(String node) {
+      lockThreadDTO.node = node;
+      return this;
+    }
+
+    /**
+     * Sets the level of the lock node.
+     *
+     * @param level The level of the lock node: root, metalake, catalog, schema or leaf.
+     * @return The builder instance.
+     */
+    public Builder withLevel(String level) {
+      lockThreadDTO.level = level;
+      return this;
+    }
+
+    /**
+     * Sets the identifier of the resource path the thread locks.
+     *
+     * @param identifier The identifier of the resource path.
+     * @return The builder instance.
+     */
+    public Builder withIdentifier(NameIdentifier identifier) {
+      lockThreadDTO.identifier = identifier;
+      return this;
+    }
+
+    /**
+     * Sets the name of the thread.
+     *
+     * @param threadName The name of the thread.
+     * @return The builder instance.
+     */
+    public Builder withThreadName(String threadName) {
+      lockThreadDTO.threadName = threadName;
+      return this;
+    }
+
+    /**
+     * Sets the id of the thread.
+     *
+     * @param threadId The id of the thread.
+     * @return The builder instance.
+     */
+    public Builder withThreadId(long threadId) {
+      lockThreadDTO.threadId = threadId;
+      return this;
+    }
+
+    /**
+     * Sets the time the thread got the lock or began to wait for it.
+     *
+     * @param since The time in milliseconds since the epoch.
+     * @return The builder instance.
+     */
+    public Builder withSince(long since) {
+      lockThreadDTO.since = since;
+      return this;
+    }
+
+    /**
+     * Sets the time the thread has held or waited for the lock.
+     *
+     * @param ageMs The time in milliseconds.
+     * @return The builder instance.
+     */
+    public Builder withAgeMs(long ageMs) {
+      lockThreadDTO.ageMs = ageMs;
+      return this;
+    }
+
+    /**
+     * @return The constructed lock thread DTO.
+     */
+    public LockThreadDTO build() {
+      return lockThreadDTO;
+    }
+  }
+}
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.ChangeLogEntryDTO;
+
+/** Represents a response for a page of change log entries. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class ChangeLogResponse extends BaseResponse {
+
+  @JsonProperty("changes")
+  private final ChangeLogEntryDTO[] changes;
+
+  /**
+   * Creates a new ChangeLogResponse.
+   *
+   * @param changes The change log entries, ordered by sequence.
+   */
+  public ChangeLogResponse(ChangeLogEntryDTO[] changes) {
+    super(0);
+    this.changes = changes;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * ChangeLogResponse.
+   */
+  public ChangeLogResponse() {
+    super();
+    this.changes = null;
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(changes != null, "\"changes\" must not be null");
+    Arrays.stream(changes)
+        .forEach(
+            c -> {
+              Preconditions.checkArgument(c != null, "change must not be null");
+              c.validate();
+            });
+  }
+}
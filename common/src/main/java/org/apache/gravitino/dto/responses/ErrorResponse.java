@@ -29,6 +29,7 @@ import lombok.EqualsAndHashCode;
 import lombok.Getter;
 import org.apache.gravitino.exceptions.ConnectionFailedException;
 import org.apache.gravitino.exceptions.ForbiddenException;
+import org.apache.gravitino.exceptions.LockTimeoutException;
 import org.apache.gravitino.exceptions.RESTException;
 
 /** Represents an error response. */
@@ -348,6 +349,21 @@ public class ErrorResponse extends BaseResponse {
         getStackTrace(throwable));
   }
 
+  /**
+   * Create a new lock timeout error instance of {@link ErrorResponse}.
+   *
+   * @param message The message of the error.
+   * @param throwable The throwable that caused the error.
+   * @return The new instance.
+   */
+  public static ErrorResponse lockTimeout(String message, Throwable throwable) {
+    return new ErrorResponse(
+        ErrorConstants.LOCK_TIMEOUT_CODE,
+        LockTimeoutException.class.getSimpleName(),
+        message,
+        getStackTrace(throwable));
+  }
+
   private static List<String> getStackTrace(Throwable throwable) {
     if (throwable == null) {
       return null;
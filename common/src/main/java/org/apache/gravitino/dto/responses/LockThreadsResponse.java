@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.dto.responses;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.google.common.base.Preconditions;
+import java.util.Arrays;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.gravitino.dto.LockThreadDTO;
+
+/** Represents a response for the threads holding and waiting for the tree lock nodes. */
+@Getter
+@ToString
+@EqualsAndHashCode(callSuper = true)
+public class LockThreadsResponse extends BaseResponse {
+
+  @JsonProperty("holders")
+  private final LockThreadDTO[] holders;
+
+  @JsonProperty("waiters")
+  private final LockThreadDTO[] waiters;
+
+  /**
+   * Creates a new LockThreadsResponse.
+   *
+   * @param holders The threads holding a lock node, the longest held first.
+   * @param waiters The threads waiting for a lock node, the longest waiting first.
+   */
+  public LockThreadsResponse(LockThreadDTO[] holders, LockThreadDTO[] waiters) {
+    super(0);
+    this.holders = holders;
+    this.waiters = waiters;
+  }
+
+  /**
+   * This is the constructor that is used by Jackson deserializer to create an instance of
+   * LockThreadsResponse.
+   */
+  public LockThreadsResponse() {
+    super();
+    this.holders = null;
+    this.waiters = null;
+  }
+
+  @Override
+  public void validate() throws IllegalArgumentException {
+    super.validate();
+
+    Preconditions.checkArgument(holders != null, "\"holders\" must not be null");
+    Preconditions.checkArgument(waiters != null, "\"waiters\" must not be null");
+    Arrays.stream(holders).forEach(LockThreadsResponse::validateThread);
+    Arrays.stream(waiters).forEach(LockThreadsResponse::validateThread);
+  }
+
+  private static void validateThread(LockThreadDTO thread) {
+    Preconditions.checkArgument(thread != null, "lock thread must not be null");
+    thread.validate();
+  }
+}
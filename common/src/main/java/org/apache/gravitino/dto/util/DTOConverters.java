@@ -26,6 +26,7 @@ import java.util.Optional;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.Audit;
 import org.apache.gravitino.Catalog;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.Schema;
@@ -40,6 +41,7 @@ import org.apache.gravitino.credential.Credential;
 import org.apache.gravitino.credential.CredentialFactory;
 import org.apache.gravitino.dto.AuditDTO;
 import org.apache.gravitino.dto.CatalogDTO;
+import org.apache.gravitino.dto.ChangeLogEntryDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.SchemaDTO;
 import org.apache.gravitino.dto.authorization.GroupDTO;
@@ -169,6 +171,26 @@ public class DTOConverters {
         .build();
   }
 
+  /**
+   * Converts a {@link ChangeLogEntry} to a {@link ChangeLogEntryDTO}.
+   *
+   * @param entry The change log entry.
+   * @return The change log entry DTO.
+   */
+  public static ChangeLogEntryDTO toDTO(ChangeLogEntry entry) {
+    if (entry instanceof ChangeLogEntryDTO) {
+      return (ChangeLogEntryDTO) entry;
+    }
+
+    return ChangeLogEntryDTO.builder()
+        .withSequence(entry.sequence())
+        .withEntityType(entry.entityType())
+        .withIdentifier(entry.identifier())
+        .withOperation(entry.operation())
+        .withChangeTime(entry.changeTime())
+        .build();
+  }
+
   /**
    * Converts a {@link Partition} to a {@link PartitionDTO}.
    *
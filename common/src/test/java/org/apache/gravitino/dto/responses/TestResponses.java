@@ -21,6 +21,7 @@ package org.apache.gravitino.dto.responses;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -100,6 +101,25 @@ public class TestResponses {
     assertEquals("TableA", identsB[0].name());
   }
 
+  @Test
+  void testPaginatedEntityListResponse() throws JsonProcessingException {
+    NameIdentifier[] idents = {NameIdentifier.of("metalake", "catalog", "schema", "table1")};
+    EntityListResponse entityList = new EntityListResponse(idents, "table1");
+    entityList.validate(); // No exception thrown
+
+    String json = JsonUtils.objectMapper().writeValueAsString(entityList);
+    EntityListResponse deserialized =
+        JsonUtils.objectMapper().readValue(json, EntityListResponse.class);
+    assertEquals(entityList, deserialized);
+    assertEquals("table1", deserialized.nextPageToken());
+
+    // The token is omitted when the list is not paginated.
+    String unpagedJson = JsonUtils.objectMapper().writeValueAsString(new EntityListResponse(idents));
+    assertFalse(unpagedJson.contains("nextPageToken"));
+    assertNull(
+        JsonUtils.objectMapper().readValue(unpagedJson, EntityListResponse.class).nextPageToken());
+  }
+
   @Test
   void testEntityListResponseException() throws IllegalArgumentException {
     EntityListResponse entityList = new EntityListResponse();
@@ -120,7 +120,11 @@ jmh {
   warmupIterations = 5
   iterations = 10
   fork = 1
-  threads = 10
+  // The thread count and the benchmarks to run can be overridden, e.g. -PjmhThreads=64.
+  threads = (project.properties["jmhThreads"] as? String)?.toInt() ?: 10
+  (project.properties["jmhIncludes"] as? String)?.let { includes.add(it) }
   resultFormat = "csv"
   resultsFile = file("$buildDir/reports/jmh/results.csv")
+  // Report the allocation rate next to the score.
+  profilers.add("gc")
 }
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jcstress.annotations.Actor;
+import org.openjdk.jcstress.annotations.Description;
+import org.openjdk.jcstress.annotations.Expect;
+import org.openjdk.jcstress.annotations.JCStressTest;
+import org.openjdk.jcstress.annotations.Outcome;
+import org.openjdk.jcstress.annotations.State;
+import org.openjdk.jcstress.infra.results.II_Result;
+
+public class TestTreeLockStampCoherence {
+
+  // The lock manager starts its own threads, so all the tests share one.
+  private static final LockManager LOCK_MANAGER = new LockManager(optimisticReadConfig());
+
+  private static final NameIdentifier SCHEMA_IDENT =
+      NameIdentifier.of("metalake1", "catalog1", "schema1");
+
+  private static final NameIdentifier TABLE_IDENT =
+      NameIdentifier.of("metalake1", "catalog1", "schema1", "table1");
+
+  static {
+    // Create the nodes of the path, optimistic reads don't create them.
+    TreeLock treeLock = LOCK_MANAGER.createTreeLock(TABLE_IDENT);
+    treeLock.lock(LockType.READ);
+    treeLock.unlock();
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(id = "0, 0", expect = Expect.ACCEPTABLE, desc = "Validated read before the write."),
+    @Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Validated read after the write."),
+    @Outcome(
+        id = "-1, -1",
+        expect = Expect.ACCEPTABLE,
+        desc = "The read overlapped the write and failed its validation."),
+    @Outcome(
+        id = "1, 0",
+        expect = Expect.FORBIDDEN,
+        desc = "A validated read observed half of the write."),
+    @Outcome(
+        id = "0, 1",
+        expect = Expect.FORBIDDEN,
+        desc = "A validated read observed half of the write.")
+  })
+  @Description(
+      "Tests an optimistic read of a tree lock node against a writer that updates two fields under "
+          + "the write lock of the node. A read that passes its validation must see both updates "
+          + "or none of them; a forbidden result means the version of the node does not order the "
+          + "optimistic read with the write.")
+  @State
+  public static class NodeWriteCoherenceTest {
+    private final TreeLockNode node = new TreeLockNode("node");
+    private int x;
+    private int y;
+
+    @Actor
+    public void writer() {
+      node.lock(LockType.WRITE);
+      try {
+        x = 1;
+        y = 1;
+      } finally {
+        node.unlock(LockType.WRITE);
+      }
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+      TreeLockStamp stamp = TreeLockStamp.of(new TreeLockNode[] {node});
+      if (stamp == null) {
+        r.r1 = -1;
+        r.r2 = -1;
+        return;
+      }
+
+      int readY = y;
+      int readX = x;
+      if (stamp.validate()) {
+        r.r1 = readX;
+        r.r2 = readY;
+      } else {
+        r.r1 = -1;
+        r.r2 = -1;
+      }
+    }
+  }
+
+  @JCStressTest
+  @Outcome.Outcomes({
+    @Outcome(id = "0, 0", expect = Expect.ACCEPTABLE, desc = "Validated read before the write."),
+    @Outcome(id = "1, 1", expect = Expect.ACCEPTABLE, desc = "Validated read after the write."),
+    @Outcome(
+        id = "-1, -1",
+        expect = Expect.ACCEPTABLE,
+        desc = "The read overlapped a write on its path and fell back."),
+    @Outcome(
+        id = "1, 0",
+        expect = Expect.FORBIDDEN,
+        desc = "A validated read observed half of the write."),
+    @Outcome(
+        id = "0, 1",
+        expect = Expect.FORBIDDEN,
+        desc = "A validated read observed half of the write.")
+  })
+  @Description(
+      "Tests an optimistic read of a table against a writer holding the write tree lock of its "
+          + "schema, as a drop of the schema does. The stamp covers every node from the root to "
+          + "the table, so a read that passes its validation must not observe a partial write of "
+          + "an ancestor.")
+  @State
+  public static class AncestorWriteCoherenceTest {
+    private int x;
+    private int y;
+
+    @Actor
+    public void writer() {
+      TreeLock treeLock = LOCK_MANAGER.createTreeLock(SCHEMA_IDENT);
+      treeLock.lock(LockType.WRITE);
+      try {
+        x = 1;
+        y = 1;
+      } finally {
+        treeLock.unlock();
+      }
+    }
+
+    @Actor
+    public void reader(II_Result r) {
+      TreeLockStamp stamp = LOCK_MANAGER.tryOptimisticRead(TABLE_IDENT);
+      if (stamp == null) {
+        r.r1 = -1;
+        r.r2 = -1;
+        return;
+      }
+
+      int readY = y;
+      int readX = x;
+      if (stamp.validate()) {
+        r.r1 = readX;
+        r.r2 = readY;
+      } else {
+        r.r1 = -1;
+        r.r2 = -1;
+      }
+    }
+  }
+
+  private static Config optimisticReadConfig() {
+    Config config = new Config() {};
+    config.set(Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED, true);
+    return config;
+  }
+}
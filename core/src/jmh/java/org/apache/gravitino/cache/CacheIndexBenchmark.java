@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.Lists;
+import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
+import com.googlecode.concurrenttrees.radix.RadixTree;
+import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * CacheIndexBenchmark compares the {@link EntityCacheKeyTrie} used by the entity cache to index
+ * its keys with the radix tree on the string form of the keys it replaced.
+ *
+ * <p>The index is loaded with {@code totalCnt} table keys spread over {@value #CATALOG_CNT}
+ * catalogs of {@value #SCHEMA_CNT} schemas each, plus the keys of the catalogs and schemas. The
+ * put benchmark puts an existing key again, which is what the cache does on every load. The
+ * invalidate benchmarks collect and remove all the keys under a schema or under a catalog, as an
+ * invalidation of the entity cache does; the removed keys are put back before each invocation.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class CacheIndexBenchmark {
+
+  private static final int CATALOG_CNT = 20;
+
+  private static final int SCHEMA_CNT = 100;
+
+  private static final String METALAKE_NAME = "benchmark_metalake";
+
+  @Param({"1000000"})
+  public int totalCnt;
+
+  @Param({"trie", "radix"})
+  public String index;
+
+  private KeyIndex keyIndex;
+
+  private List<EntityCacheRelationKey> tableKeys;
+
+  private NameIdentifier schemaIdent;
+
+  private NameIdentifier catalogIdent;
+
+  private List<EntityCacheRelationKey> removed = Collections.emptyList();
+
+  private int next;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.keyIndex = "trie".equals(index) ? new TrieKeyIndex() : new RadixKeyIndex();
+    this.tableKeys = Lists.newArrayListWithCapacity(totalCnt);
+
+    int tableCnt = Math.max(1, totalCnt / (CATALOG_CNT * SCHEMA_CNT));
+    for (int c = 0; c < CATALOG_CNT; c++) {
+      String catalog = "catalog" + c;
+      keyIndex.put(
+          EntityCacheRelationKey.of(
+              NameIdentifier.of(METALAKE_NAME, catalog), Entity.EntityType.CATALOG));
+      for (int s = 0; s < SCHEMA_CNT; s++) {
+        String schema = "schema" + s;
+        keyIndex.put(
+            EntityCacheRelationKey.of(
+                NameIdentifier.of(METALAKE_NAME, catalog, schema), Entity.EntityType.SCHEMA));
+        for (int t = 0; t < tableCnt; t++) {
+          EntityCacheRelationKey key =
+              EntityCacheRelationKey.of(
+                  NameIdentifier.of(METALAKE_NAME, catalog, schema, "table" + t),
+                  Entity.EntityType.TABLE);
+          keyIndex.put(key);
+          tableKeys.add(key);
+        }
+      }
+    }
+
+    // catalog1 is a prefix of the key strings of catalog10 to catalog19, not one of their levels.
+    this.catalogIdent = NameIdentifier.of(METALAKE_NAME, "catalog1");
+    this.schemaIdent = NameIdentifier.of(METALAKE_NAME, "catalog1", "schema1");
+  }
+
+  @Setup(Level.Invocation)
+  public void restore() {
+    removed.forEach(keyIndex::put);
+    removed = Collections.emptyList();
+  }
+
+  @Benchmark
+  public void benchmarkPut(Blackhole bh) {
+    EntityCacheRelationKey key = tableKeys.get(next);
+    next = (next + 1) % tableKeys.size();
+    keyIndex.put(key);
+    bh.consume(key);
+  }
+
+  @Benchmark
+  public int benchmarkInvalidateSchema() {
+    return invalidate(schemaIdent);
+  }
+
+  @Benchmark
+  public int benchmarkInvalidateCatalog() {
+    return invalidate(catalogIdent);
+  }
+
+  private int invalidate(NameIdentifier ident) {
+    removed = keyIndex.valuesUnder(ident);
+    removed.forEach(keyIndex::remove);
+    return removed.size();
+  }
+
+  private interface KeyIndex {
+    void put(EntityCacheRelationKey key);
+
+    List<EntityCacheRelationKey> valuesUnder(NameIdentifier ident);
+
+    void remove(EntityCacheRelationKey key);
+  }
+
+  private static class TrieKeyIndex implements KeyIndex {
+    private final EntityCacheKeyTrie<EntityCacheRelationKey> trie = new EntityCacheKeyTrie<>();
+
+    @Override
+    public void put(EntityCacheRelationKey key) {
+      trie.put(key, key);
+    }
+
+    @Override
+    public List<EntityCacheRelationKey> valuesUnder(NameIdentifier ident) {
+      return trie.valuesUnder(ident);
+    }
+
+    @Override
+    public void remove(EntityCacheRelationKey key) {
+      trie.remove(key);
+    }
+  }
+
+  private static class RadixKeyIndex implements KeyIndex {
+    private final RadixTree<EntityCacheRelationKey> tree =
+        new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+
+    @Override
+    public void put(EntityCacheRelationKey key) {
+      tree.put(key.toString(), key);
+    }
+
+    @Override
+    public List<EntityCacheRelationKey> valuesUnder(NameIdentifier ident) {
+      return Lists.newArrayList(tree.getValuesForKeysStartingWith(ident.toString()));
+    }
+
+    @Override
+    public void remove(EntityCacheRelationKey key) {
+      tree.remove(key.toString());
+    }
+  }
+}
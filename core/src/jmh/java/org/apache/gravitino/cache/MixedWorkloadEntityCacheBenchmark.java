@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * MixedWorkloadEntityCacheBenchmark runs a server-like workload against the {@link
+ * CaffeineEntityCache}, so that the contention on the {@link SegmentedLock} and the upkeep of the
+ * {@link ReverseIndexCache} show up in the results, which the single-operation benchmarks miss.
+ *
+ * <p>The cache is accessed the way {@code RelationalEntityStore} does: reads take the cache lock
+ * of their key and put the entity back on a miss, as if it was loaded from the backend. Each group
+ * of eight threads runs:
+ *
+ * <ul>
+ *   <li>4 threads reading tables, drawn from a Zipfian distribution over {@code tableCnt} tables
+ *   <li>1 thread reading the users of a role, {@code ROLE_USER_REL}
+ *   <li>1 thread reading the owner of a table, {@code OWNER_REL}
+ *   <li>1 thread invalidating a random schema, which cascades to its tables and their relations
+ *   <li>1 thread updating a table under {@link EntityCache#withCacheLock}
+ * </ul>
+ *
+ * <p>All the groups share one cache. JMH runs as many groups as fit in the thread count, so the
+ * workload can be run under 8 to 64 threads by setting the thread count, for example:
+ *
+ * <pre>
+ * ./gradlew :core:jmh -PjmhIncludes=MixedWorkloadEntityCacheBenchmark -PjmhThreads=64
+ * </pre>
+ *
+ * <p>The benchmark reports the throughput and, through {@code SampleTime}, the latency percentiles
+ * of each operation, the tail ones being the first to move when a lock gets contended.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MixedWorkloadEntityCacheBenchmark {
+  public static final int TABLE_READ_THREADS = 4;
+  public static final int RELATION_READ_THREADS = 1;
+  public static final int INVALIDATE_THREADS = 1;
+  public static final int WRITE_THREADS = 1;
+
+  private static final String METALAKE_NAME = "benchmark_metalake";
+  private static final int CATALOG_CNT = 4;
+  private static final int SCHEMA_CNT = 25;
+  private static final int ROLE_CNT = 100;
+  private static final int OWNED_TABLE_CNT = 1000;
+
+  @Param({"10000", "100000"})
+  public int tableCnt;
+
+  private EntityCache cache;
+  private ZipfianGenerator zipfian;
+
+  /** The tables, ordered by popularity. */
+  private List<TableEntity> tables;
+
+  private List<NameIdentifier> schemaIdents;
+  private List<RoleEntity> roles;
+  private Map<RoleEntity, List<UserEntity>> roleUsers;
+  private List<UserEntity> owners;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.cache = new CaffeineEntityCache(new Config() {});
+    this.zipfian = new ZipfianGenerator(tableCnt);
+
+    this.schemaIdents = Lists.newArrayListWithCapacity(CATALOG_CNT * SCHEMA_CNT);
+    for (int c = 0; c < CATALOG_CNT; c++) {
+      for (int s = 0; s < SCHEMA_CNT; s++) {
+        schemaIdents.add(NameIdentifier.of(METALAKE_NAME, "catalog" + c, "schema" + s));
+      }
+    }
+
+    this.tables = Lists.newArrayListWithCapacity(tableCnt);
+    for (int i = 0; i < tableCnt; i++) {
+      NameIdentifier schemaIdent = schemaIdents.get(i % schemaIdents.size());
+      Namespace namespace = Namespace.fromString(schemaIdent.toString());
+      tables.add(TestUtil.getTestTableEntity(i, "table" + i, namespace));
+    }
+    // Spread the popular tables over the schemas.
+    Collections.shuffle(tables, new Random(tableCnt));
+
+    this.roleUsers = BenchmarkHelper.getRelationEntities(ROLE_CNT);
+    this.roles = Lists.newArrayList(roleUsers.keySet());
+    this.owners = Lists.newArrayListWithCapacity(OWNED_TABLE_CNT);
+    for (int i = 0; i < OWNED_TABLE_CNT; i++) {
+      owners.add(TestUtil.getTestUserEntity(ImmutableList.of()));
+    }
+
+    tables.forEach(cache::put);
+    roleUsers.forEach(this::putRoleUsers);
+    for (int i = 0; i < Math.min(OWNED_TABLE_CNT, tableCnt); i++) {
+      putOwner(i);
+    }
+  }
+
+  /**
+   * Reads a table, the popular ones more often than the others.
+   *
+   * @return The table.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(TABLE_READ_THREADS)
+  public Entity benchmarkReadTable() {
+    TableEntity table = tables.get(zipfian.next(ThreadLocalRandom.current()));
+    NameIdentifier ident = table.nameIdentifier();
+
+    return cache.withCacheLock(
+        EntityCacheRelationKey.of(ident, Entity.EntityType.TABLE),
+        () -> {
+          Optional<TableEntity> cached = cache.getIfPresent(ident, Entity.EntityType.TABLE);
+          if (cached.isPresent()) {
+            return cached.get();
+          }
+
+          cache.put(table);
+          return table;
+        });
+  }
+
+  /**
+   * Reads the users of a role.
+   *
+   * @return The users of the role.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(RELATION_READ_THREADS)
+  public List<UserEntity> benchmarkReadRoleUsers() {
+    RoleEntity role = roles.get(ThreadLocalRandom.current().nextInt(roles.size()));
+    SupportsRelationOperations.Type relType = SupportsRelationOperations.Type.ROLE_USER_REL;
+
+    return cache.withCacheLock(
+        EntityCacheRelationKey.of(role.nameIdentifier(), Entity.EntityType.ROLE, relType),
+        () -> {
+          Optional<List<UserEntity>> cached =
+              cache.getIfPresent(relType, role.nameIdentifier(), Entity.EntityType.ROLE);
+          if (cached.isPresent()) {
+            return cached.get();
+          }
+
+          return putRoleUsers(role, roleUsers.get(role));
+        });
+  }
+
+  /**
+   * Reads the owner of one of the owned tables.
+   *
+   * @return The owner of the table.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(RELATION_READ_THREADS)
+  public List<UserEntity> benchmarkReadTableOwner() {
+    int idx = zipfian.next(ThreadLocalRandom.current()) % Math.min(OWNED_TABLE_CNT, tableCnt);
+    NameIdentifier ident = tables.get(idx).nameIdentifier();
+    SupportsRelationOperations.Type relType = SupportsRelationOperations.Type.OWNER_REL;
+
+    return cache.withCacheLock(
+        EntityCacheRelationKey.of(ident, Entity.EntityType.TABLE, relType),
+        () -> {
+          Optional<List<UserEntity>> cached =
+              cache.getIfPresent(relType, ident, Entity.EntityType.TABLE);
+          return cached.orElseGet(() -> putOwner(idx));
+        });
+  }
+
+  /**
+   * Invalidates a schema, which drops its tables and their owner relations from the cache.
+   *
+   * @return Whether the schema was cached.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(INVALIDATE_THREADS)
+  public boolean benchmarkInvalidateSchema() {
+    NameIdentifier schemaIdent =
+        schemaIdents.get(ThreadLocalRandom.current().nextInt(schemaIdents.size()));
+
+    return cache.invalidate(schemaIdent, Entity.EntityType.SCHEMA);
+  }
+
+  /**
+   * Replaces a table under its cache lock, as an update that reloads the entity does.
+   *
+   * @return The new version of the table.
+   */
+  @Benchmark
+  @Group("mixed")
+  @GroupThreads(WRITE_THREADS)
+  public Entity benchmarkWriteTable() {
+    TableEntity table = tables.get(zipfian.next(ThreadLocalRandom.current()));
+    NameIdentifier ident = table.nameIdentifier();
+    TableEntity updated =
+        TestUtil.getTestTableEntity(table.id(), table.name(), table.namespace());
+
+    cache.withCacheLock(
+        EntityCacheRelationKey.of(ident, Entity.EntityType.TABLE),
+        () -> {
+          cache.invalidate(ident, Entity.EntityType.TABLE);
+          cache.put(updated);
+        });
+    return updated;
+  }
+
+  private List<UserEntity> putRoleUsers(RoleEntity role, List<UserEntity> users) {
+    cache.put(
+        role.nameIdentifier(),
+        Entity.EntityType.ROLE,
+        SupportsRelationOperations.Type.ROLE_USER_REL,
+        users);
+    return users;
+  }
+
+  private List<UserEntity> putOwner(int idx) {
+    List<UserEntity> owner = ImmutableList.of(owners.get(idx));
+    cache.put(
+        tables.get(idx).nameIdentifier(),
+        Entity.EntityType.TABLE,
+        SupportsRelationOperations.Type.OWNER_REL,
+        owner);
+    return owner;
+  }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.base.Preconditions;
+import java.util.Random;
+
+/**
+ * Draws ranks in {@code [0, itemCnt)} from a Zipfian distribution, rank 0 being the most popular
+ * one. The cumulative probabilities of the ranks are computed once, so that each draw is a binary
+ * search.
+ *
+ * <p>With the default exponent of 0.99, as used by YCSB, the 1% most popular of 10,000 items get
+ * about half of the draws, which is close to the way the tables of a catalog are read.
+ */
+public class ZipfianGenerator {
+  public static final double DEFAULT_EXPONENT = 0.99;
+
+  private final double[] cumulativeProbabilities;
+
+  /**
+   * Creates a generator with the default exponent.
+   *
+   * @param itemCnt the number of items, must be positive.
+   */
+  public ZipfianGenerator(int itemCnt) {
+    this(itemCnt, DEFAULT_EXPONENT);
+  }
+
+  /**
+   * Creates a generator.
+   *
+   * @param itemCnt the number of items, must be positive.
+   * @param exponent the exponent of the distribution, the higher the more skewed.
+   */
+  public ZipfianGenerator(int itemCnt, double exponent) {
+    Preconditions.checkArgument(itemCnt > 0, "itemCnt must be positive");
+    this.cumulativeProbabilities = new double[itemCnt];
+
+    double sum = 0;
+    for (int i = 0; i < itemCnt; i++) {
+      sum += 1 / Math.pow(i + 1, exponent);
+      cumulativeProbabilities[i] = sum;
+    }
+    for (int i = 0; i < itemCnt; i++) {
+      cumulativeProbabilities[i] /= sum;
+    }
+  }
+
+  /**
+   * Draws the next rank.
+   *
+   * @param random the source of randomness, usually the one of the calling thread.
+   * @return a rank in {@code [0, itemCnt)}.
+   */
+  public int next(Random random) {
+    double p = random.nextDouble();
+    int low = 0;
+    int high = cumulativeProbabilities.length - 1;
+    while (low < high) {
+      int mid = (low + high) >>> 1;
+      if (cumulativeProbabilities[mid] < p) {
+        low = mid + 1;
+      } else {
+        high = mid;
+      }
+    }
+
+    return low;
+  }
+}
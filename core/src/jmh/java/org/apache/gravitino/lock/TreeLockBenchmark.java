@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.lock;
+
+import com.google.common.collect.Lists;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * TreeLockBenchmark compares the read tree locks with the optimistic reads of {@link
+ * TreeLockUtils#doWithOptimisticReadTreeLock} on the path of a table load, for both the tree and
+ * the striped {@link LockManager}.
+ *
+ * <p>The tables are spread over a few schemas of one catalog, so all the reads share the root,
+ * metalake and catalog nodes, which is where the read locks contend. The {@code read} benchmark
+ * only reads, the {@code readWrite} group adds a thread that write locks random tables, which makes
+ * some optimistic reads fall back to the read locks.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class TreeLockBenchmark {
+  private static final int SCHEMA_CNT = 4;
+
+  @Param({"1000"})
+  public int tableCnt;
+
+  @Param({"false", "true"})
+  public boolean optimisticRead;
+
+  @Param({LockManagerFactory.TREE_LOCK_MANAGER, LockManagerFactory.STRIPED_LOCK_MANAGER})
+  public String implementation;
+
+  private List<NameIdentifier> tableIdents;
+
+  @Setup(Level.Trial)
+  public void setup() throws IllegalAccessException {
+    Config config = new Config(false) {};
+    config.set(Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED, optimisticRead);
+    config.set(Configs.TREE_LOCK_IMPLEMENTATION, implementation);
+    LockManager lockManager = LockManagerFactory.createLockManager(config);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", lockManager, true);
+
+    this.tableIdents = Lists.newArrayListWithCapacity(tableCnt);
+    for (int i = 0; i < tableCnt; i++) {
+      NameIdentifier ident =
+          NameIdentifier.of("metalake", "catalog", "schema" + i % SCHEMA_CNT, "table" + i);
+      tableIdents.add(ident);
+      // Create the nodes of the path, as the first load of the table does.
+      TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> null);
+    }
+  }
+
+  @Benchmark
+  public NameIdentifier benchmarkRead() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(7)
+  public NameIdentifier benchmarkReadWithWrites() {
+    return read();
+  }
+
+  @Benchmark
+  @Group("readWrite")
+  @GroupThreads(1)
+  public NameIdentifier benchmarkWrite() {
+    NameIdentifier ident = randomTable();
+    return TreeLockUtils.doWithTreeLock(ident, LockType.WRITE, () -> ident);
+  }
+
+  private NameIdentifier read() {
+    NameIdentifier ident = randomTable();
+    return optimisticRead
+        ? TreeLockUtils.doWithOptimisticReadTreeLock(ident, () -> ident)
+        : TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> ident);
+  }
+
+  private NameIdentifier randomTable() {
+    return tableIdents.get(ThreadLocalRandom.current().nextInt(tableIdents.size()));
+  }
+}
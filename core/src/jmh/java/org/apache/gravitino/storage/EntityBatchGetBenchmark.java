@@ -0,0 +1,173 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.EntityStoreFactory;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.storage.relational.converters.H2ExceptionConverter;
+import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
+import org.apache.gravitino.utils.TestUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * EntityBatchGetBenchmark measures how long the relational entity store takes to load {@code
+ * entityCnt} topics of one schema from an embedded H2 database, comparing a loop of {@link
+ * EntityStore#get} with one {@link EntityStore#batchGet} of the same identifiers.
+ *
+ * <p>The entity cache is disabled, so every identifier is a cache miss. {@code get} resolves the
+ * schema id and selects one topic per identifier, while {@code batchGet} resolves the schema id
+ * once and selects the topics with IN-list queries of up to 500 names. H2 runs in process, so the
+ * gap to MySQL or PostgreSQL, where every query is also a network round trip, is smaller than in
+ * production.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EntityBatchGetBenchmark {
+
+  private static final String METALAKE_NAME = "benchmark_metalake";
+
+  private static final String CATALOG_NAME = "benchmark_catalog";
+
+  private static final String SCHEMA_NAME = "benchmark_schema";
+
+  private static final String DB_DIR =
+      "/tmp/gravitino_jdbc_batch_get_benchmark_"
+          + UUID.randomUUID().toString().replace("-", "")
+          + "/testdb";
+
+  @Param({"10", "100", "1000"})
+  public int entityCnt;
+
+  private final RandomIdGenerator generator = new RandomIdGenerator();
+
+  private EntityStore store;
+
+  private List<NameIdentifier> identifiers;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    FileUtils.deleteQuietly(new File(DB_DIR));
+    new File(DB_DIR).mkdirs();
+
+    Config config = mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE)).thenReturn(Configs.RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_STORE))
+        .thenReturn(Configs.DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(DB_DIR);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(
+            String.format(
+                "jdbc:h2:%s;DB_CLOSE_DELAY=-1;AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=FALSE", DB_DIR));
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD))
+        .thenReturn("gravitino");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER))
+        .thenReturn("org.h2.Driver");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS))
+        .thenReturn(100);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_BATCH_WRITE_CHUNK_SIZE)).thenReturn(500);
+    Mockito.when(config.get(Configs.STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(Configs.VERSION_RETENTION_COUNT)).thenReturn(1L);
+    // Measure the database reads only.
+    Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(false);
+
+    try {
+      FieldUtils.writeStaticField(
+          SQLExceptionConverterFactory.class, "converter", new H2ExceptionConverter(), true);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+
+    store = EntityStoreFactory.createEntityStore(config);
+    store.initialize(config);
+
+    store.put(TestUtil.getTestMetalake(generator.nextId(), METALAKE_NAME, "benchmark"), true);
+    store.put(
+        TestUtil.getTestCatalogEntity(
+            generator.nextId(), CATALOG_NAME, Namespace.of(METALAKE_NAME), "kafka", "benchmark"),
+        true);
+    store.put(
+        TestUtil.getTestSchemaEntity(
+            generator.nextId(),
+            SCHEMA_NAME,
+            Namespace.of(METALAKE_NAME, CATALOG_NAME),
+            "benchmark"),
+        true);
+
+    Namespace namespace = Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+    identifiers = new ArrayList<>(entityCnt);
+    for (int i = 0; i < entityCnt; i++) {
+      TopicEntity topic =
+          TestUtil.getTestTopicEntity(generator.nextId(), "topic_" + i, namespace, "benchmark");
+      store.put(topic, false);
+      identifiers.add(topic.nameIdentifier());
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (store != null) {
+      store.close();
+    }
+    FileUtils.deleteQuietly(new File(DB_DIR).getParentFile());
+  }
+
+  @Benchmark
+  public void benchmarkGet(Blackhole blackhole) throws IOException {
+    for (NameIdentifier identifier : identifiers) {
+      blackhole.consume(store.get(identifier, Entity.EntityType.TOPIC, TopicEntity.class));
+    }
+  }
+
+  @Benchmark
+  public void benchmarkBatchGet(Blackhole blackhole) {
+    blackhole.consume(store.batchGet(identifiers, Entity.EntityType.TOPIC, TopicEntity.class));
+  }
+}
@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * IdGeneratorBenchmark compares the cost of generating ids with {@link RandomIdGenerator} and
+ * {@link TimeOrderedIdGenerator}. The generator is shared by all benchmark threads, as it is shared
+ * by all requests of a server.
+ *
+ * @see IdGeneratorInsertBenchmark
+ */
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorBenchmark {
+
+  @Param({IdGeneratorFactory.RANDOM_ID_GENERATOR, IdGeneratorFactory.TIME_ORDERED_ID_GENERATOR})
+  public String generatorType;
+
+  private IdGenerator generator;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    this.generator =
+        IdGeneratorFactory.TIME_ORDERED_ID_GENERATOR.equals(generatorType)
+            ? new TimeOrderedIdGenerator(1)
+            : new RandomIdGenerator();
+  }
+
+  @Benchmark
+  public long benchmarkNextId() {
+    return generator.nextId();
+  }
+}
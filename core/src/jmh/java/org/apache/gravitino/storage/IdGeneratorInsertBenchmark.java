@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * IdGeneratorInsertBenchmark measures the insert throughput of an H2 table whose primary key is
+ * filled by {@link RandomIdGenerator} or {@link TimeOrderedIdGenerator}.
+ *
+ * <p>The table mirrors the shape of the entity tables of the relational store: a BIGINT primary
+ * key, a unique key on the parent id and name, and a JSON-like payload column. Each benchmark
+ * invocation inserts {@value #ROWS_PER_INVOCATION} rows in one transaction, and the score is
+ * reported per row. The table is preloaded with {@code preloadCnt} rows so the primary key index
+ * is deep enough for the insert position to matter. H2 keeps the table in memory, so the gap to
+ * MySQL or PostgreSQL, where random inserts also cause buffer pool misses, is larger than here.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class IdGeneratorInsertBenchmark {
+
+  private static final int ROWS_PER_INVOCATION = 1000;
+
+  private static final String INSERT_SQL =
+      "INSERT INTO id_bench_meta (id, parent_id, name, payload) VALUES (?, ?, ?, ?)";
+
+  @Param({IdGeneratorFactory.RANDOM_ID_GENERATOR, IdGeneratorFactory.TIME_ORDERED_ID_GENERATOR})
+  public String generatorType;
+
+  @Param({"100000"})
+  public int preloadCnt;
+
+  private IdGenerator generator;
+
+  private String jdbcUrl;
+
+  @Setup(Level.Trial)
+  public void setup() throws SQLException {
+    this.generator =
+        IdGeneratorFactory.TIME_ORDERED_ID_GENERATOR.equals(generatorType)
+            ? new TimeOrderedIdGenerator(1)
+            : new RandomIdGenerator();
+    this.jdbcUrl = "jdbc:h2:mem:id_bench_" + generatorType + ";DB_CLOSE_DELAY=-1";
+
+    try (Connection connection = DriverManager.getConnection(jdbcUrl);
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS id_bench_meta");
+      statement.execute(
+          "CREATE TABLE id_bench_meta ("
+              + "id BIGINT NOT NULL PRIMARY KEY, "
+              + "parent_id BIGINT NOT NULL, "
+              + "name VARCHAR(128) NOT NULL, "
+              + "payload VARCHAR(1024), "
+              + "CONSTRAINT uk_pid_name UNIQUE (parent_id, name))");
+    }
+
+    try (Connection connection = DriverManager.getConnection(jdbcUrl)) {
+      insertRows(connection, preloadCnt);
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws SQLException {
+    try (Connection connection = DriverManager.getConnection(jdbcUrl);
+        Statement statement = connection.createStatement()) {
+      statement.execute("DROP TABLE IF EXISTS id_bench_meta");
+    }
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(ROWS_PER_INVOCATION)
+  public void benchmarkInsert(ConnectionState state) throws SQLException {
+    insertRows(state.connection, ROWS_PER_INVOCATION);
+  }
+
+  private void insertRows(Connection connection, int count) throws SQLException {
+    connection.setAutoCommit(false);
+    try (PreparedStatement statement = connection.prepareStatement(INSERT_SQL)) {
+      for (int i = 0; i < count; i++) {
+        long id = generator.nextId();
+        statement.setLong(1, id);
+        statement.setLong(2, id % 100);
+        statement.setString(3, "entity_" + id);
+        statement.setString(4, "{\"comment\":\"benchmark\",\"properties\":{}}");
+        statement.addBatch();
+      }
+      statement.executeBatch();
+      connection.commit();
+    } catch (SQLException e) {
+      connection.rollback();
+      throw e;
+    }
+  }
+
+  /** Each benchmark thread inserts through its own connection. */
+  @State(Scope.Thread)
+  public static class ConnectionState {
+
+    private Connection connection;
+
+    @Setup(Level.Trial)
+    public void setup(IdGeneratorInsertBenchmark benchmark) throws SQLException {
+      this.connection = DriverManager.getConnection(benchmark.jdbcUrl);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+      connection.close();
+    }
+  }
+}
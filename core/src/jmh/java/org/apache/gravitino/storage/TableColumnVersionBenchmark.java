@@ -0,0 +1,236 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage;
+
+import static org.mockito.Mockito.mock;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.EntityStoreFactory;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.relational.converters.H2ExceptionConverter;
+import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
+import org.apache.gravitino.utils.TestUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+/**
+ * TableColumnVersionBenchmark measures the average time to alter and to load a wide table stored
+ * in an embedded H2 database, after the table has gone through {@value #HISTORY_VERSIONS} versions
+ * that each change one column.
+ *
+ * <p>{@code snapshotInterval} controls how the column versions are stored: {@code 1} copies every
+ * column into every version, {@code 2147483647} only ever stores the changed columns, and the
+ * values in between store the changed columns plus a full snapshot every that many versions. The
+ * alter benchmark changes the comment of one column per invocation, so it writes one row between
+ * two snapshots and {@code columnCnt} rows on a snapshot version. The load benchmark rebuilds the
+ * latest columns, which reads every column row written since the latest snapshot.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TableColumnVersionBenchmark {
+
+  private static final int HISTORY_VERSIONS = 100;
+
+  private static final String METALAKE_NAME = "benchmark_metalake";
+
+  private static final String CATALOG_NAME = "benchmark_catalog";
+
+  private static final String SCHEMA_NAME = "benchmark_schema";
+
+  private static final String TABLE_NAME = "benchmark_table";
+
+  private static final String DB_DIR =
+      "/tmp/gravitino_jdbc_column_version_benchmark_"
+          + UUID.randomUUID().toString().replace("-", "")
+          + "/testdb";
+
+  @Param({"1000", "5000", "10000"})
+  public int columnCnt;
+
+  @Param({"1", "50", "2147483647"})
+  public int snapshotInterval;
+
+  private final RandomIdGenerator generator = new RandomIdGenerator();
+
+  private final NameIdentifier tableIdent =
+      NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, TABLE_NAME);
+
+  private EntityStore store;
+
+  private int alterCount;
+
+  @Setup(Level.Trial)
+  public void setup() throws IOException {
+    FileUtils.deleteQuietly(new File(DB_DIR));
+    new File(DB_DIR).mkdirs();
+
+    Config config = mock(Config.class);
+    Mockito.when(config.get(Configs.ENTITY_STORE)).thenReturn(Configs.RELATIONAL_ENTITY_STORE);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_STORE))
+        .thenReturn(Configs.DEFAULT_ENTITY_RELATIONAL_STORE);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PATH)).thenReturn(DB_DIR);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL))
+        .thenReturn(
+            String.format(
+                "jdbc:h2:%s;DB_CLOSE_DELAY=-1;AUTO_SERVER=TRUE;DB_CLOSE_ON_EXIT=FALSE", DB_DIR));
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER)).thenReturn("gravitino");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD))
+        .thenReturn("gravitino");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER))
+        .thenReturn("org.h2.Driver");
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS))
+        .thenReturn(100);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS))
+        .thenReturn(1000L);
+    Mockito.when(config.get(Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_INTERVAL))
+        .thenReturn(snapshotInterval);
+    Mockito.when(config.get(Configs.STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(Configs.VERSION_RETENTION_COUNT)).thenReturn(1L);
+    // Measure the database reads and writes only.
+    Mockito.when(config.get(Configs.CACHE_ENABLED)).thenReturn(false);
+
+    try {
+      FieldUtils.writeStaticField(
+          SQLExceptionConverterFactory.class, "converter", new H2ExceptionConverter(), true);
+    } catch (IllegalAccessException e) {
+      throw new RuntimeException(e);
+    }
+
+    store = EntityStoreFactory.createEntityStore(config);
+    store.initialize(config);
+
+    store.put(TestUtil.getTestMetalake(generator.nextId(), METALAKE_NAME, "benchmark"), true);
+    store.put(
+        TestUtil.getTestCatalogEntity(
+            generator.nextId(), CATALOG_NAME, Namespace.of(METALAKE_NAME), "hive", "benchmark"),
+        true);
+    store.put(
+        TestUtil.getTestSchemaEntity(
+            generator.nextId(),
+            SCHEMA_NAME,
+            Namespace.of(METALAKE_NAME, CATALOG_NAME),
+            "benchmark"),
+        true);
+
+    List<ColumnEntity> columns = new ArrayList<>(columnCnt);
+    for (int i = 0; i < columnCnt; i++) {
+      columns.add(
+          ColumnEntity.builder()
+              .withId(generator.nextId())
+              .withName("column_" + i)
+              .withPosition(i)
+              .withComment("comment")
+              .withDataType(Types.StringType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(TestUtil.getTestAuditInfo())
+              .build());
+    }
+    store.put(
+        TableEntity.builder()
+            .withId(generator.nextId())
+            .withName(TABLE_NAME)
+            .withNamespace(tableIdent.namespace())
+            .withColumns(columns)
+            .withAuditInfo(TestUtil.getTestAuditInfo())
+            .build(),
+        false);
+
+    for (int i = 0; i < HISTORY_VERSIONS; i++) {
+      alterOneColumn();
+    }
+  }
+
+  @TearDown(Level.Trial)
+  public void tearDown() throws IOException {
+    if (store != null) {
+      store.close();
+    }
+    FileUtils.deleteQuietly(new File(DB_DIR).getParentFile());
+  }
+
+  @Benchmark
+  @Threads(1)
+  public TableEntity benchmarkAlterTable() throws IOException {
+    return alterOneColumn();
+  }
+
+  @Benchmark
+  public TableEntity benchmarkLoadTable() throws IOException {
+    return store.get(tableIdent, Entity.EntityType.TABLE, TableEntity.class);
+  }
+
+  private TableEntity alterOneColumn() throws IOException {
+    int alter = alterCount++;
+    return store.update(
+        tableIdent,
+        TableEntity.class,
+        Entity.EntityType.TABLE,
+        table -> {
+          List<ColumnEntity> columns = new ArrayList<>(table.columns());
+          int index = alter % columns.size();
+          ColumnEntity column = columns.get(index);
+          columns.set(
+              index,
+              ColumnEntity.builder()
+                  .withId(column.id())
+                  .withName(column.name())
+                  .withPosition(column.position())
+                  .withComment("comment_" + alter)
+                  .withDataType(column.dataType())
+                  .withNullable(column.nullable())
+                  .withAutoIncrement(column.autoIncrement())
+                  .withAuditInfo(column.auditInfo())
+                  .build());
+          return TableEntity.builder()
+              .withId(table.id())
+              .withName(table.name())
+              .withNamespace(table.namespace())
+              .withColumns(columns)
+              .withAuditInfo(table.auditInfo())
+              .build();
+        });
+  }
+}
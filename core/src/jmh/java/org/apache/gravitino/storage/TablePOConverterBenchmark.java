@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.rel.expressions.NamedReference;
+import org.apache.gravitino.rel.expressions.distributions.Distributions;
+import org.apache.gravitino.rel.expressions.sorts.SortOrder;
+import org.apache.gravitino.rel.expressions.sorts.SortOrders;
+import org.apache.gravitino.rel.expressions.transforms.Transform;
+import org.apache.gravitino.rel.expressions.transforms.Transforms;
+import org.apache.gravitino.rel.indexes.Index;
+import org.apache.gravitino.rel.indexes.Indexes;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+import org.apache.gravitino.utils.TestUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * TablePOConverterBenchmark measures the cost of converting {@value #TABLE_COUNT} rows of the
+ * table meta table, each with {@code propertyCnt} properties, a partitioning, sort orders, a
+ * distribution and indexes, into {@link TableEntity}s.
+ *
+ * <p>{@code benchmarkListNames} reads only the identifiers of the converted tables, as listing
+ * tables and filtering them by privileges do, so the JSON columns other than the audit info are
+ * never decoded. {@code benchmarkListAndReadAll} reads every JSON field of every table, which is
+ * the cost of the conversion when all the columns are decoded eagerly. The gc profiler of the jmh
+ * task reports the allocation rate of both.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class TablePOConverterBenchmark {
+
+  private static final int TABLE_COUNT = 10000;
+
+  private static final Namespace NAMESPACE =
+      Namespace.of("benchmark_metalake", "benchmark_catalog", "benchmark_schema");
+
+  @Param({"10", "100"})
+  public int propertyCnt;
+
+  private List<TablePO> tablePOs;
+
+  @Setup(Level.Trial)
+  public void setup() {
+    Map<String, String> properties = new HashMap<>(propertyCnt);
+    for (int i = 0; i < propertyCnt; i++) {
+      properties.put("property_key_" + i, "property_value_" + i);
+    }
+
+    RandomIdGenerator generator = new RandomIdGenerator();
+    tablePOs = new ArrayList<>(TABLE_COUNT);
+    for (int i = 0; i < TABLE_COUNT; i++) {
+      TableEntity table =
+          TableEntity.builder()
+              .withId(generator.nextId())
+              .withName("table_" + i)
+              .withNamespace(NAMESPACE)
+              .withAuditInfo(TestUtil.getTestAuditInfo())
+              .withProperties(properties)
+              .withPartitioning(new Transform[] {Transforms.identity("dt")})
+              .withSortOrders(new SortOrder[] {SortOrders.ascending(NamedReference.field("id"))})
+              .withDistribution(Distributions.hash(16, NamedReference.field("id")))
+              .withIndexes(new Index[] {Indexes.primary("pk", new String[][] {{"id"}})})
+              .build();
+      tablePOs.add(
+          POConverters.initializeTablePOWithVersion(
+              table, TablePO.builder().withMetalakeId(1L).withCatalogId(1L).withSchemaId(1L)));
+    }
+  }
+
+  @Benchmark
+  public void benchmarkListNames(Blackhole blackhole) {
+    for (TableEntity table : POConverters.fromTablePOs(tablePOs, NAMESPACE)) {
+      blackhole.consume(table.nameIdentifier());
+    }
+  }
+
+  @Benchmark
+  public void benchmarkListAndReadAll(Blackhole blackhole) {
+    for (TableEntity table : POConverters.fromTablePOs(tablePOs, NAMESPACE)) {
+      blackhole.consume(table.nameIdentifier());
+      blackhole.consume(table.properties());
+      blackhole.consume(table.partitioning());
+      blackhole.consume(table.sortOrders());
+      blackhole.consume(table.distribution());
+      blackhole.consume(table.indexes());
+    }
+  }
+}
@@ -22,13 +22,18 @@ import com.google.common.collect.Lists;
 import java.io.File;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
+import org.apache.commons.lang3.EnumUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.audit.FileAuditWriter;
 import org.apache.gravitino.audit.v2.SimpleFormatterV2;
 import org.apache.gravitino.config.ConfigBuilder;
 import org.apache.gravitino.config.ConfigConstants;
 import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.lock.LockManagerFactory;
 import org.apache.gravitino.stats.storage.JdbcPartitionStatisticStorageFactory;
+import org.apache.gravitino.storage.IdGeneratorFactory;
+import org.apache.gravitino.storage.TimeOrderedIdGenerator;
 
 public class Configs {
 
@@ -119,6 +124,32 @@ public class Configs {
           .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
           .createWithDefault(DEFAULT_ENTITY_RELATIONAL_STORE);
 
+  public static final ConfigEntry<String> ENTITY_STORE_ID_GENERATOR =
+      new ConfigBuilder("gravitino.entity.store.idGenerator")
+          .doc(
+              "The id generator used to assign ids to entities, `random` or `timeOrdered`. "
+                  + "`timeOrdered` generates increasing ids which are cheaper to insert into the "
+                  + "primary key indexes of the relational store.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(IdGeneratorFactory.RANDOM_ID_GENERATOR);
+
+  public static final ConfigEntry<Integer> ENTITY_STORE_ID_GENERATOR_NODE_ID =
+      new ConfigBuilder("gravitino.entity.store.idGenerator.nodeId")
+          .doc(
+              "The node id of the `timeOrdered` id generator, between 0 and 1023. It must be "
+                  + "unique among the servers sharing the same entity store. If it is -1, the "
+                  + "default, a node id is derived from the host address and the process id.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(
+              value -> value >= -1 && value <= TimeOrderedIdGenerator.MAX_NODE_ID,
+              "The node id must be between 0 and "
+                  + TimeOrderedIdGenerator.MAX_NODE_ID
+                  + ", or -1 to derive it from the host")
+          .createWithDefault(-1);
+
   public static final ConfigEntry<String> ENTITY_RELATIONAL_JDBC_BACKEND_URL =
       new ConfigBuilder(ENTITY_RELATIONAL_JDBC_BACKEND_URL_KEY)
           .doc("Connection URL of `JDBCBackend`")
@@ -176,6 +207,80 @@ public class Configs {
           .stringConf()
           .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_PATH);
 
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcUrl")
+          .doc(
+              "Connection URL of the read replica of `JDBCBackend`. If it is set, read-only "
+                  + "operations are served by the replica when it is fresh enough")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcUser")
+          .doc("Username of the read replica, the username of `JDBCBackend` is used if not set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Optional<String>> ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.jdbcPassword")
+          .doc("Password of the read replica, the password of `JDBCBackend` is used if not set")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .createWithOptional();
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_READ_REPLICA_MAX_CONNECTIONS =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.maxConnections")
+          .doc("The maximum number of connections for the read replica connection pool")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_READ_REPLICA_MAX_LAG_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.readReplica.maxLagMs")
+          .doc(
+              "The maximum replication lag in milliseconds of the read replica. Reads go to the "
+                  + "primary database when the measured lag is larger, when the lag is unknown, "
+                  + "or when this server committed a write within this period")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000L);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_BATCH_WRITE_CHUNK_SIZE =
+      new ConfigBuilder("gravitino.entity.store.relational.batchWriteChunkSize")
+          .doc(
+              "The maximum number of entities written in one transaction by a batch put. Larger "
+                  + "batches are split into several transactions of this size")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(500);
+
+  public static final ConfigEntry<Integer> ENTITY_RELATIONAL_COLUMN_SNAPSHOT_INTERVAL =
+      new ConfigBuilder("gravitino.entity.store.relational.columnSnapshotInterval")
+          .doc(
+              "The number of table versions between two full snapshots of the table columns. The "
+                  + "other versions only store the columns they add, change or drop")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(50);
+
+  public static final ConfigEntry<Long> ENTITY_RELATIONAL_CHANGE_LOG_COMMIT_LAG_MS =
+      new ConfigBuilder("gravitino.entity.store.relational.changeLogCommitLagMs")
+          .doc(
+              "The age in milliseconds a change log entry must reach before it is listed. An "
+                  + "entry gets its sequence when it is written but becomes visible when its "
+                  + "transaction commits, so this must exceed the longest write transaction, or "
+                  + "a reader paging by sequence can skip a late entry")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5_000L);
+
   public static final ConfigEntry<Long> CATALOG_CACHE_EVICTION_INTERVAL_MS =
       new ConfigBuilder("gravitino.catalog.cache.evictionIntervalMs")
           .doc("The interval in milliseconds to evict the catalog cache")
@@ -258,6 +363,37 @@ public class Configs {
                   MAX_VERSION_RETENTION_COUNT))
           .createWithDefault(DEFAULT_VERSION_RETENTION_COUNT);
 
+  public static final ConfigEntry<Integer> GARBAGE_COLLECTOR_PARALLELISM =
+      new ConfigBuilder("gravitino.entity.store.gc.parallelism")
+          .doc(
+              "The number of entity types whose deleted and old-version data the garbage "
+                  + "collector purges in parallel")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  public static final ConfigEntry<Integer> GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND =
+      new ConfigBuilder("gravitino.entity.store.gc.maxDeletesPerSecond")
+          .doc(
+              "The maximum number of rows per second the garbage collector deletes, shared by "
+                  + "all its parallel workers")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1000);
+
+  public static final ConfigEntry<Long> GARBAGE_COLLECTOR_TARGET_BATCH_LATENCY_MS =
+      new ConfigBuilder("gravitino.entity.store.gc.targetBatchLatencyMs")
+          .doc(
+              "The target latency in milliseconds of a single garbage collector delete. The "
+                  + "batch size of each entity type grows while deletes are faster than this, and "
+                  + "shrinks when they are slower")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(200L);
+
   // The followings are configurations for tree lock
 
   public static final ConfigEntry<Long> TREE_LOCK_MAX_NODE_IN_MEMORY =
@@ -281,6 +417,114 @@ public class Configs {
           .longConf()
           .createWithDefault(CLEAN_INTERVAL_IN_SECS);
 
+  public static final ConfigEntry<String> TREE_LOCK_IMPLEMENTATION =
+      new ConfigBuilder("gravitino.lock.implementation")
+          .doc(
+              "Which lock manager implementation to use, `tree` keeps a lock node per resource "
+                  + "path, `striped` maps the resource paths onto a fixed number of locks")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .checkValue(StringUtils::isNotBlank, ConfigConstants.NOT_BLANK_ERROR_MSG)
+          .createWithDefault(LockManagerFactory.TREE_LOCK_MANAGER);
+
+  public static final ConfigEntry<Integer> TREE_LOCK_STRIPES =
+      new ConfigBuilder("gravitino.lock.stripes")
+          .doc(
+              "The number of locks per level of the resource paths of the striped lock manager, "
+                  + "rounded up to a power of two")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1024);
+
+  public static final ConfigEntry<Boolean> TREE_LOCK_OPTIMISTIC_READ_ENABLED =
+      new ConfigBuilder("gravitino.lock.optimisticRead.enabled")
+          .doc(
+              "Whether the read-only operations such as loading a table first try to run without "
+                  + "taking the tree locks, and take them only if a write overlaps. The entities "
+                  + "read by an attempt that overlapped a write may stay in the entity cache")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> TREE_LOCK_READ_TIMEOUT_MS =
+      new ConfigBuilder("gravitino.lock.readTimeoutMs")
+          .doc(
+              "The maximum time in milliseconds the read operations wait for their tree locks "
+                  + "before failing with a retryable error, 0 to wait indefinitely")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(30000L);
+
+  public static final ConfigEntry<Long> TREE_LOCK_WRITE_TIMEOUT_MS =
+      new ConfigBuilder("gravitino.lock.writeTimeoutMs")
+          .doc(
+              "The maximum time in milliseconds the write operations wait for their tree locks "
+                  + "before failing with a retryable error, 0 to wait indefinitely")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value >= 0, ConfigConstants.NON_NEGATIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60000L);
+
+  public static final ConfigEntry<Boolean> DISTRIBUTED_LOCK_ENABLED =
+      new ConfigBuilder("gravitino.lock.distributed.enabled")
+          .doc(
+              "Whether the write operations also take a lease lock in the relational entity "
+                  + "store, so that the servers sharing the store don't write the same resource "
+                  + "concurrently")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Long> DISTRIBUTED_LOCK_LEASE_MS =
+      new ConfigBuilder("gravitino.lock.distributed.leaseMs")
+          .doc(
+              "The time in milliseconds a distributed lock lease lasts without being renewed, "
+                  + "the leases held are renewed every third of it")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(30000L);
+
+  public static final ConfigEntry<Integer> DISTRIBUTED_LOCK_KEY_LEVEL =
+      new ConfigBuilder("gravitino.lock.distributed.keyLevel")
+          .doc(
+              "The number of identifier levels a distributed lock covers, deeper identifiers "
+                  + "are locked through their ancestor at this level")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(3);
+
+  public static final ConfigEntry<Boolean> ENTITY_IMPORT_ASYNC_ENABLED =
+      new ConfigBuilder("gravitino.entity.import.async.enabled")
+          .doc(
+              "Whether the schemas, tables and topics found in the underlying source of a catalog "
+                  + "but not in the entity store are imported in the background, instead of within "
+                  + "the request loading them")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  public static final ConfigEntry<Integer> ENTITY_IMPORT_QUEUE_CAPACITY =
+      new ConfigBuilder("gravitino.entity.import.queueCapacity")
+          .doc(
+              "The maximum number of entity imports queued, the entities loaded while the queue "
+                  + "is full are imported within the request")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10000);
+
+  public static final ConfigEntry<Integer> ENTITY_IMPORT_BATCH_SIZE =
+      new ConfigBuilder("gravitino.entity.import.batchSize")
+          .doc("The maximum number of queued entity imports run in one batch")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(100);
+
   public static final ConfigEntry<Boolean> ENABLE_AUTHORIZATION =
       new ConfigBuilder("gravitino.authorization.enable")
           .doc("Enable the authorization")
@@ -416,11 +660,12 @@ public class Configs {
           .checkValue(value -> value >= 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
           .createWithDefault(3_600_000L);
 
-  // Whether to enable cache statistics logging
+  // Whether to export cache statistics as metrics
   public static final ConfigEntry<Boolean> CACHE_STATS_ENABLED =
       new ConfigBuilder("gravitino.cache.enableStats")
           .doc(
-              "Whether to enable cache statistics logging such as hit/miss count, load failures, and size.")
+              "Whether to export the cache statistics such as the hit/miss count, load time, "
+                  + "evictions and size of each entity type as metrics.")
           .version(ConfigConstants.VERSION_1_0_0)
           .booleanConf()
           .createWithDefault(false);
@@ -461,6 +706,178 @@ public class Configs {
           .checkValue(value -> value > 0, "Lock segments must be positive.")
           .createWithDefault(16);
 
+  // Whether to cache the lookups of missing entities
+  public static final ConfigEntry<Boolean> CACHE_NEGATIVE_ENABLED =
+      new ConfigBuilder("gravitino.cache.negative.enabled")
+          .doc(
+              "Whether to remember the entities recently found missing, so that repeated lookups "
+                  + "of them do not go to the entity store. When several servers share the entity "
+                  + "store, enable it together with `gravitino.cache.invalidation.enabled`, "
+                  + "otherwise an entity created by another server stays missing here until the "
+                  + "record expires.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Maximum number of missing entities remembered
+  public static final ConfigEntry<Long> CACHE_NEGATIVE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.cache.negative.maxEntries")
+          .doc("Maximum number of missing entities remembered by the cache.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(10_000L);
+
+  // Expiration time of the missing entities remembered
+  public static final ConfigEntry<Long> CACHE_NEGATIVE_EXPIRATION_TIME =
+      new ConfigBuilder("gravitino.cache.negative.expireTimeInMs")
+          .doc(
+              "Time after which a missing entity is looked up in the entity store again, in "
+                  + "milliseconds. It bounds how long an entity created by another server can be "
+                  + "reported missing.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(5_000L);
+
+  // Entity types kept in their own partition of the cache, with their own entry budget
+  public static final ConfigEntry<List<String>> CACHE_ENTITY_TYPE_MAX_ENTRIES =
+      new ConfigBuilder("gravitino.cache.entityTypeMaxEntries")
+          .doc(
+              "Comma-separated list of ENTITY_TYPE:MAX_ENTRIES. The entities of each listed type, "
+                  + "and the relations starting from them, are kept in a partition of the cache "
+                  + "holding at most MAX_ENTRIES entries, so they are not evicted by the entries "
+                  + "of the other types. The other types share the main budget of the cache.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .stringConf()
+          .toSequence()
+          .checkValue(
+              valueList ->
+                  valueList != null
+                      && valueList.stream()
+                          .allMatch(
+                              value ->
+                                  value.matches("[A-Za-z_]+:[1-9][0-9]*")
+                                      && EnumUtils.isValidEnumIgnoreCase(
+                                          Entity.EntityType.class, value.split(":")[0])),
+              "The value must be a list of ENTITY_TYPE:MAX_ENTRIES with positive MAX_ENTRIES")
+          .createWithDefault(Lists.newArrayList("USER:10000", "GROUP:10000", "ROLE:10000"));
+
+  // Whether to keep the entities evicted from the cache in a serialized tier
+  public static final ConfigEntry<Boolean> CACHE_SECOND_TIER_ENABLED =
+      new ConfigBuilder("gravitino.cache.secondTier.enabled")
+          .doc(
+              "Whether to keep the schemas, tables, topics and models evicted from the cache in a "
+                  + "second tier, in a compact serialized form, and promote them back when they "
+                  + "are read again.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Maximum size of the serialized tier of the cache
+  public static final ConfigEntry<Long> CACHE_SECOND_TIER_MAX_BYTES =
+      new ConfigBuilder("gravitino.cache.secondTier.maxBytes")
+          .doc("Maximum number of bytes of the entities kept in the serialized tier of the cache.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(256L * 1024 * 1024);
+
+  // Whether to reload the entries read close to their expiration in the background
+  public static final ConfigEntry<Boolean> CACHE_REFRESH_AHEAD_ENABLED =
+      new ConfigBuilder("gravitino.cache.refreshAhead.enabled")
+          .doc(
+              "Whether to reload an entity read after a fraction of its time-to-live in the "
+                  + "background, while the cached value keeps being served, so that frequently "
+                  + "read entities do not expire under the readers.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Fraction of the time-to-live after which a read entity is reloaded
+  public static final ConfigEntry<Double> CACHE_REFRESH_AHEAD_FACTOR =
+      new ConfigBuilder("gravitino.cache.refreshAhead.factor")
+          .doc(
+              "The fraction of the time-to-live of an entry after which reading it reloads it in "
+                  + "the background, between 0 and 1 exclusive.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .doubleConf()
+          .checkValue(value -> value > 0 && value < 1, "The value must be between 0 and 1")
+          .createWithDefault(0.8);
+
+  // Number of threads reloading the entries in the background
+  public static final ConfigEntry<Integer> CACHE_REFRESH_AHEAD_THREADS =
+      new ConfigBuilder("gravitino.cache.refreshAhead.threads")
+          .doc("The number of threads reloading the cache entries in the background.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(2);
+
+  // Whether to preload the entity cache when the server starts
+  public static final ConfigEntry<Boolean> CACHE_WARMUP_ENABLED =
+      new ConfigBuilder("gravitino.cache.warmup.enabled")
+          .doc(
+              "Whether to preload the metalakes, catalogs, schemas, users and roles into the cache "
+                  + "when the server starts. The server starts serving requests after the warm-up "
+                  + "completes or times out.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Number of threads loading the entity cache when the server starts
+  public static final ConfigEntry<Integer> CACHE_WARMUP_PARALLELISM =
+      new ConfigBuilder("gravitino.cache.warmup.parallelism")
+          .doc("The number of concurrent entity store reads of the cache warm-up.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .intConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(4);
+
+  // Time budget of the cache warm-up
+  public static final ConfigEntry<Long> CACHE_WARMUP_TIMEOUT_MS =
+      new ConfigBuilder("gravitino.cache.warmup.timeoutMs")
+          .doc(
+              "The maximum time of the cache warm-up in milliseconds, the entities not loaded by "
+                  + "then are loaded on demand.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(60_000L);
+
+  // Whether to apply the entity changes of the other nodes to the local cache
+  public static final ConfigEntry<Boolean> CACHE_INVALIDATION_ENABLED =
+      new ConfigBuilder("gravitino.cache.invalidation.enabled")
+          .doc(
+              "Whether to tail the entity change log in the relational store and invalidate the "
+                  + "cache entries changed by other Gravitino servers. Enable it when several "
+                  + "servers share one relational store.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .booleanConf()
+          .createWithDefault(false);
+
+  // Interval of polling the entity change log
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_POLL_INTERVAL_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.pollIntervalMs")
+          .doc("The interval of polling the entity change log for cache invalidations, in ms.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(1_000L);
+
+  // Upper bound of the staleness of the cache
+  public static final ConfigEntry<Long> CACHE_INVALIDATION_MAX_STALENESS_MS =
+      new ConfigBuilder("gravitino.cache.invalidation.maxStalenessMs")
+          .doc(
+              "The maximum time without a successful poll of the entity change log, in ms. When "
+                  + "it is exceeded the whole cache is cleared, so reads never serve entries older "
+                  + "than this. It also bounds how long a missing change log sequence is waited "
+                  + "for.")
+          .version(ConfigConstants.VERSION_1_2_0)
+          .longConf()
+          .checkValue(value -> value > 0, ConfigConstants.POSITIVE_NUMBER_ERROR_MSG)
+          .createWithDefault(30_000L);
+
   public static final ConfigEntry<String> JOB_STAGING_DIR =
       new ConfigBuilder("gravitino.job.stagingDir")
           .doc("Directory for managing staging files when running jobs.")
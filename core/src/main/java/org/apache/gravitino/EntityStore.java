@@ -22,11 +22,14 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
 import org.apache.gravitino.utils.Executable;
 
 public interface EntityStore extends Closeable {
@@ -85,6 +88,34 @@ public interface EntityStore extends Closeable {
     throw new UnsupportedOperationException("Don't support to skip fields");
   }
 
+  /**
+   * List one page of the entities with the specified {@link org.apache.gravitino.Namespace}. The
+   * entities are ordered by name, and only the entities whose name is strictly greater than {@code
+   * afterName} are returned, which allows callers to walk through a large namespace with keyset
+   * pagination.
+   *
+   * <p>The default implementation lists all the entities and then filters them in memory, stores
+   * that can paginate natively should override it.
+   *
+   * @param <E> class of the entity
+   * @param namespace the namespace of the entities
+   * @param type the detailed type of the entity
+   * @param entityType the general type of the entity
+   * @param afterName the name to start after, null to start from the beginning
+   * @param limit the maximum number of entities to return
+   * @return the list of entities ordered by name
+   * @throws IOException if the list operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Class<E> type, EntityType entityType, String afterName, int limit)
+      throws IOException {
+    return list(namespace, type, entityType).stream()
+        .filter(e -> afterName == null || e.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Check if the entity with the specified {@link org.apache.gravitino.NameIdentifier} exists.
    *
@@ -174,8 +205,8 @@ public interface EntityStore extends Closeable {
    * @param entityType the general type of the entity
    * @param clazz the entity class instance
    * @param <E> the class of entity
-   * @return the entity retrieved from the underlying storage
-   * @throws NoSuchEntityException if the entity does not exist
+   * @return the entities retrieved from the underlying storage, the identifiers whose entity does
+   *     not exist are omitted
    */
   <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> idents, EntityType entityType, Class<E> clazz);
@@ -259,6 +290,23 @@ public interface EntityStore extends Closeable {
   <R, E extends Exception> R executeInTransaction(Executable<R, E> executable)
       throws E, IOException;
 
+  /**
+   * List the change log entries of the metalake written after the given sequence number, ordered
+   * by sequence. Stores that keep a change log append an entry for every put, update and delete of
+   * an entity, in the same transaction as the mutation.
+   *
+   * @param metalake the name of the metalake
+   * @param afterSequence only the entries whose sequence is greater than this are returned
+   * @param limit the maximum number of entries to return
+   * @return the change log entries ordered by sequence
+   * @throws IOException if the list operation fails
+   * @throws UnsupportedOperationException if the store does not keep a change log
+   */
+  default List<EntityChangeLogEntry> listChanges(String metalake, long afterSequence, int limit)
+      throws IOException {
+    throw new UnsupportedOperationException("change log is not supported");
+  }
+
   /**
    * Get the extra relation operations that are supported by the entity store.
    *
@@ -31,6 +31,7 @@ import org.apache.gravitino.auxiliary.AuxiliaryServiceManager;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.catalog.CatalogManager;
 import org.apache.gravitino.catalog.CatalogNormalizeDispatcher;
+import org.apache.gravitino.catalog.EntityImporter;
 import org.apache.gravitino.catalog.FilesetDispatcher;
 import org.apache.gravitino.catalog.FilesetNormalizeDispatcher;
 import org.apache.gravitino.catalog.FilesetOperationDispatcher;
@@ -85,7 +86,9 @@ import org.apache.gravitino.listener.StatisticEventDispatcher;
 import org.apache.gravitino.listener.TableEventDispatcher;
 import org.apache.gravitino.listener.TagEventDispatcher;
 import org.apache.gravitino.listener.TopicEventDispatcher;
+import org.apache.gravitino.lock.DistributedLockProvider;
 import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockManagerFactory;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
 import org.apache.gravitino.metalake.MetalakeNormalizeDispatcher;
@@ -96,7 +99,7 @@ import org.apache.gravitino.policy.PolicyManager;
 import org.apache.gravitino.stats.StatisticDispatcher;
 import org.apache.gravitino.stats.StatisticManager;
 import org.apache.gravitino.storage.IdGenerator;
-import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.IdGeneratorFactory;
 import org.apache.gravitino.tag.TagDispatcher;
 import org.apache.gravitino.tag.TagManager;
 import org.slf4j.Logger;
@@ -155,6 +158,10 @@ public class GravitinoEnv {
 
   private LockManager lockManager;
 
+  private DistributedLockProvider distributedLockProvider;
+
+  private EntityImporter entityImporter;
+
   private EventListenerManager eventListenerManager;
 
   private AuditLogManager auditLogManager;
@@ -369,6 +376,24 @@ public class GravitinoEnv {
     return lockManager;
   }
 
+  /**
+   * Get the DistributedLockProvider associated with the Gravitino environment.
+   *
+   * @return The DistributedLockProvider instance, or null if distributed locks are disabled.
+   */
+  public DistributedLockProvider distributedLockProvider() {
+    return distributedLockProvider;
+  }
+
+  /**
+   * Get the EntityImporter associated with the Gravitino environment.
+   *
+   * @return The EntityImporter instance, or null if entities are imported synchronously.
+   */
+  public EntityImporter entityImporter() {
+    return entityImporter;
+  }
+
   /**
    * Get the AccessControlDispatcher associated with the Gravitino environment.
    *
@@ -471,6 +496,20 @@ public class GravitinoEnv {
   public void shutdown() {
     LOG.info("Shutting down Gravitino Environment...");
 
+    // The background imports take tree locks and write the entity store.
+    if (entityImporter != null) {
+      entityImporter.close();
+    }
+
+    // The leases are released before the entity store holding them is closed.
+    if (distributedLockProvider != null) {
+      try {
+        distributedLockProvider.close();
+      } catch (Exception e) {
+        LOG.warn("Failed to close DistributedLockProvider.", e);
+      }
+    }
+
     if (entityStore != null) {
       try {
         entityStore.close();
@@ -541,11 +580,16 @@ public class GravitinoEnv {
     this.entityStore = EntityStoreFactory.createEntityStore(config);
     entityStore.initialize(config);
 
-    // create and initialize a random id generator
-    this.idGenerator = new RandomIdGenerator();
+    // Create the id generator configured by "gravitino.entity.store.idGenerator"
+    this.idGenerator = IdGeneratorFactory.createIdGenerator(config);
 
     // Tree lock
-    this.lockManager = new LockManager(config);
+    this.lockManager = LockManagerFactory.createLockManager(config);
+    this.distributedLockProvider = LockManagerFactory.createDistributedLockProvider(config);
+
+    if (config.get(Configs.ENTITY_IMPORT_ASYNC_ENABLED)) {
+      this.entityImporter = new EntityImporter(config, entityStore);
+    }
 
     // Create and initialize metalake related modules, the operation chain is:
     // MetalakeEventDispatcher -> MetalakeNormalizeDispatcher -> MetalakeHookDispatcher ->
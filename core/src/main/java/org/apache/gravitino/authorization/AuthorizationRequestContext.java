@@ -23,6 +23,8 @@ import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Function;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.MetadataObject;
 
 public class AuthorizationRequestContext {
@@ -33,6 +35,10 @@ public class AuthorizationRequestContext {
   /** Used to cache the results of metadata authorization. */
   private final Map<AuthorizationKey, Boolean> denyAuthorizerCache = new ConcurrentHashMap<>();
 
+  /** Used to cache the ids of metadata objects, keyed by metalake and metadata object. */
+  private final Map<Pair<String, MetadataObject>, Long> metadataIdCache =
+      new ConcurrentHashMap<>();
+
   /** Used to determine whether the role has already been loaded. */
   private final AtomicBoolean hasLoadRole = new AtomicBoolean();
 
@@ -78,6 +84,36 @@ public class AuthorizationRequestContext {
     return denyAuthorizerCache.computeIfAbsent(context, authorizer);
   }
 
+  /**
+   * Put the ids of metadata objects resolved ahead of the authorization, for example in one batch
+   * for all the objects of a list request.
+   *
+   * @param metalake metalake
+   * @param metadataIds ids keyed by metadata object
+   */
+  public void putMetadataIds(String metalake, Map<MetadataObject, Long> metadataIds) {
+    metadataIds.forEach((object, id) -> metadataIdCache.put(Pair.of(metalake, object), id));
+  }
+
+  /**
+   * get the id of a metadata object, loading and caching it if it is not resolved yet
+   *
+   * @param metalake metalake
+   * @param metadataObject metadata object
+   * @param loader loads the id if it is not cached
+   * @return metadata object id
+   */
+  public Long getMetadataId(String metalake, MetadataObject metadataObject, Supplier<Long> loader) {
+    Pair<String, MetadataObject> key = Pair.of(metalake, metadataObject);
+    Long id = metadataIdCache.get(key);
+    if (id == null) {
+      // Not computeIfAbsent, the loader queries the store and must not run under the map lock.
+      id = loader.get();
+      metadataIdCache.put(key, id);
+    }
+    return id;
+  }
+
   public void loadRole(Runnable runnable) {
     if (hasLoadRole.get()) {
       return;
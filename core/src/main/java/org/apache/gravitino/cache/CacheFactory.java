@@ -52,4 +52,32 @@ public final class CacheFactory {
       throw new RuntimeException("Failed to create and initialize EntityCache: " + name, e);
     }
   }
+
+  /**
+   * Creates a new {@link org.apache.gravitino.cache.EntityCache} using the cache type specified in
+   * the configuration, with the codec of its serialized tier. The codec is ignored by the caches
+   * without a serialized tier.
+   *
+   * @param config The configuration.
+   * @param codec The codec of the entities in the serialized tier.
+   * @return A cache instance
+   */
+  public static EntityCache getEntityCache(Config config, EntityCodec codec) {
+    String name = config.get(Configs.CACHE_IMPLEMENTATION);
+    String className = ENTITY_CACHES.getOrDefault(name, name);
+
+    try {
+      Class<?> cacheClass = Class.forName(className);
+      try {
+        return (EntityCache)
+            cacheClass
+                .getDeclaredConstructor(Config.class, EntityCodec.class)
+                .newInstance(config, codec);
+      } catch (NoSuchMethodException e) {
+        return (EntityCache) cacheClass.getDeclaredConstructor(Config.class).newInstance(config);
+      }
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create and initialize EntityCache: " + name, e);
+    }
+  }
 }
@@ -18,9 +18,14 @@
  */
 package org.apache.gravitino.cache;
 
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.EntityIdResolver;
 import org.apache.gravitino.meta.NamespacedEntityId;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -61,4 +66,28 @@ public class CachedEntityIdResolver implements EntityIdResolver {
         .map(HasIdentifier::id)
         .orElseGet(() -> underlyingResolver.getEntityId(nameIdentifier, type));
   }
+
+  @Override
+  public Map<NameIdentifier, NamespacedEntityId> getEntityIds(
+      List<NameIdentifier> nameIdentifiers, Entity.EntityType type) {
+    Map<NameIdentifier, NamespacedEntityId> result = Maps.newHashMap();
+    List<NameIdentifier> uncached = Lists.newArrayList();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      if (!entityCache.contains(nameIdentifier, type)) {
+        uncached.add(nameIdentifier);
+        continue;
+      }
+
+      try {
+        result.put(nameIdentifier, getEntityIds(nameIdentifier, type));
+      } catch (NoSuchEntityException e) {
+        // The entity is evicted and dropped since it was checked, omit it.
+      }
+    }
+
+    if (!uncached.isEmpty()) {
+      result.putAll(underlyingResolver.getEntityIds(uncached, type));
+    }
+    return result;
+  }
 }
@@ -19,41 +19,51 @@
 
 package org.apache.gravitino.cache;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
-import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
-import com.googlecode.concurrenttrees.radix.RadixTree;
-import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SupportsRelationOperations;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.GenericEntity;
 import org.apache.gravitino.meta.ModelVersionEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityCacheMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -62,8 +72,8 @@ public class CaffeineEntityCache extends BaseEntityCache {
   private static final int CACHE_CLEANUP_CORE_THREADS = 1;
   private static final int CACHE_CLEANUP_MAX_THREADS = 1;
   private static final int CACHE_CLEANUP_QUEUE_CAPACITY = 100;
-  private static final int CACHE_MONITOR_PERIOD_MINUTES = 5;
-  private static final int CACHE_MONITOR_INITIAL_DELAY_MINUTES = 0;
+  private static final int CACHE_REFRESH_QUEUE_CAPACITY = 1000;
+  private static final int CACHE_DEMOTION_QUEUE_CAPACITY = 1000;
   private static final ExecutorService CLEANUP_EXECUTOR =
       new ThreadPoolExecutor(
           CACHE_CLEANUP_CORE_THREADS,
@@ -78,21 +88,75 @@ public class CaffeineEntityCache extends BaseEntityCache {
           },
           new ThreadPoolExecutor.CallerRunsPolicy());
 
+  // Encodes the entities evicted to the second tier, away from the thread of the write that evicted
+  // them. The demotions beyond the queue capacity are dropped, the entities are then loaded from
+  // the store again.
+  private static final ExecutorService DEMOTION_EXECUTOR =
+      new ThreadPoolExecutor(
+          1,
+          1,
+          0L,
+          TimeUnit.MILLISECONDS,
+          new ArrayBlockingQueue<>(CACHE_DEMOTION_QUEUE_CAPACITY),
+          r -> {
+            Thread t = new Thread(r, "CaffeineEntityCache-Demotion");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.DiscardPolicy());
+
   private static final Logger LOG = LoggerFactory.getLogger(CaffeineEntityCache.class.getName());
 
   /** Segmented locking for better concurrency */
   private final SegmentedLock segmentedLock;
 
-  /** Cache data structure. */
+  /** Cache data structure of the entity types sharing the main budget. */
   private final Cache<EntityCacheRelationKey, List<Entity>> cacheData;
 
+  /** Cache data structures of the entity types with their own budget. */
+  private final Map<Entity.EntityType, Cache<EntityCacheRelationKey, List<Entity>>> typeCacheData;
+
   /** Cache reverse index structure. */
   private ReverseIndexCache reverseIndex;
 
   /** Cache Index structure. */
-  private RadixTree<EntityCacheRelationKey> cacheIndex;
+  private EntityCacheKeyTrie<EntityCacheRelationKey> cacheIndex;
+
+  /** The negative tier, null if it is disabled. */
+  private final NegativeEntityCache negativeCache;
+
+  /** The serialized tier of the evicted entities, null if it is disabled. */
+  private final SerializedEntityCache secondTier;
+
+  /** The codec of the serialized tier, null if the tier is disabled. */
+  private final EntityCodec codec;
+
+  /**
+   * Increased before every invalidation of the second tier, so that a demotion encoded after an
+   * invalidation doesn't keep the entity it evicted before.
+   */
+  private final AtomicLong secondTierInvalidations = new AtomicLong();
 
-  private ScheduledExecutorService scheduler;
+  /** The executor reloading the entries read close to their expiration, null if it is disabled. */
+  private final ExecutorService refreshExecutor;
+
+  /** The age after which a read entry is reloaded, in nanoseconds. */
+  private final long refreshAfterNanos;
+
+  /** The keys being reloaded, so that an entry is only reloaded once at a time. */
+  private final Set<EntityCacheRelationKey> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+  /** The loader of the entries reloaded, refreshing is disabled until it is set. */
+  private volatile EntityCacheLoader refreshLoader;
+
+  /** Whether the entries are weighed, otherwise the weighted size of a type is its entry count. */
+  private final boolean weigherEnabled;
+
+  /** The metrics of the cache, null if the statistics are disabled. */
+  private final EntityCacheMetricsSource metricsSource;
+
+  /** The metrics of each entity type, null if the statistics are disabled. */
+  private final Map<Entity.EntityType, TypeStats> typeStats;
 
   @VisibleForTesting
   public ReverseIndexCache getReverseIndex() {
@@ -108,45 +172,93 @@ public class CaffeineEntityCache extends BaseEntityCache {
           SupportsRelationOperations.Type.TAG_METADATA_OBJECT_REL);
 
   /**
-   * Constructs a new {@link CaffeineEntityCache}.
+   * Constructs a new {@link CaffeineEntityCache} without the serialized tier.
    *
    * @param cacheConfig the cache configuration
    */
   public CaffeineEntityCache(Config cacheConfig) {
+    this(cacheConfig, null);
+  }
+
+  /**
+   * Constructs a new {@link CaffeineEntityCache}. The serialized tier is enabled if it is enabled
+   * in the configuration and a codec is given.
+   *
+   * @param cacheConfig the cache configuration
+   * @param codec the codec of the entities kept in the serialized tier, may be null
+   */
+  public CaffeineEntityCache(Config cacheConfig, EntityCodec codec) {
     super(cacheConfig);
-    this.cacheIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+    this.cacheIndex = new EntityCacheKeyTrie<>();
     this.reverseIndex = new ReverseIndexCache();
 
     // Initialize segmented lock
     int lockSegments = cacheConfig.get(Configs.CACHE_LOCK_SEGMENTS);
     this.segmentedLock = new SegmentedLock(lockSegments);
 
-    Caffeine<EntityCacheKey, List<Entity>> cacheDataBuilder = newBaseBuilder(cacheConfig);
+    this.weigherEnabled = cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED);
+    this.cacheData = newCacheData(cacheConfig, null);
+    this.typeCacheData = new EnumMap<>(Entity.EntityType.class);
+    // The entity types with their own budget are kept apart, so that a burst of entities of the
+    // other types cannot evict them.
+    entityTypeBudgets(cacheConfig)
+        .forEach(
+            (type, maxEntries) -> typeCacheData.put(type, newCacheData(cacheConfig, maxEntries)));
+
+    if (Config.getOrDefault(cacheConfig, Configs.CACHE_NEGATIVE_ENABLED)) {
+      this.negativeCache =
+          new NegativeEntityCache(
+              Config.getOrDefault(cacheConfig, Configs.CACHE_NEGATIVE_MAX_ENTRIES),
+              Config.getOrDefault(cacheConfig, Configs.CACHE_NEGATIVE_EXPIRATION_TIME));
+    } else {
+      this.negativeCache = null;
+    }
 
-    cacheDataBuilder
-        .executor(CLEANUP_EXECUTOR)
-        .removalListener(
-            (key, value, cause) -> {
-              if (cause == RemovalCause.EXPLICIT || cause == RemovalCause.REPLACED) {
-                return;
-              }
-              try {
-                invalidateExpiredItem(key);
-              } catch (Throwable t) {
-                LOG.error(
-                    "Failed to remove entity key={} value={} from cache asynchronously, cause={}",
-                    key,
-                    value,
-                    cause,
-                    t);
-              }
-            });
+    if (codec != null
+        && Config.getOrDefault(cacheConfig, Configs.CACHE_SECOND_TIER_ENABLED)) {
+      this.codec = codec;
+      this.secondTier =
+          new SerializedEntityCache(
+              Config.getOrDefault(cacheConfig, Configs.CACHE_SECOND_TIER_MAX_BYTES),
+              cacheConfig.get(Configs.CACHE_EXPIRATION_TIME));
+    } else {
+      this.codec = null;
+      this.secondTier = null;
+    }
 
-    this.cacheData = cacheDataBuilder.build();
+    long expireTimeMillis = cacheConfig.get(Configs.CACHE_EXPIRATION_TIME);
+    if (expireTimeMillis > 0
+        && Config.getOrDefault(cacheConfig, Configs.CACHE_REFRESH_AHEAD_ENABLED)) {
+      this.refreshAfterNanos =
+          (long)
+              (TimeUnit.MILLISECONDS.toNanos(expireTimeMillis)
+                  * Config.getOrDefault(cacheConfig, Configs.CACHE_REFRESH_AHEAD_FACTOR));
+      int refreshThreads = Config.getOrDefault(cacheConfig, Configs.CACHE_REFRESH_AHEAD_THREADS);
+      // The reloads beyond the queue capacity are dropped, the entries then expire as usual.
+      this.refreshExecutor =
+          new ThreadPoolExecutor(
+              refreshThreads,
+              refreshThreads,
+              0L,
+              TimeUnit.MILLISECONDS,
+              new ArrayBlockingQueue<>(CACHE_REFRESH_QUEUE_CAPACITY),
+              r -> {
+                Thread t = new Thread(r, "CaffeineEntityCache-Refresh");
+                t.setDaemon(true);
+                return t;
+              });
+    } else {
+      this.refreshAfterNanos = 0L;
+      this.refreshExecutor = null;
+    }
 
     if (cacheConfig.get(Configs.CACHE_STATS_ENABLED)) {
-      this.scheduler = Executors.newSingleThreadScheduledExecutor();
-      startCacheStatsMonitor();
+      this.metricsSource = new EntityCacheMetricsSource();
+      this.typeStats = new EnumMap<>(Entity.EntityType.class);
+      registerMetrics();
+    } else {
+      this.metricsSource = null;
+      this.typeStats = null;
     }
   }
 
@@ -155,6 +267,31 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return this.cacheData;
   }
 
+  @VisibleForTesting
+  Cache<EntityCacheRelationKey, List<Entity>> getCacheData(Entity.EntityType type) {
+    return typeCacheData.getOrDefault(type, cacheData);
+  }
+
+  /**
+   * Returns the hit and miss statistics of the negative tier, which are kept apart from the ones of
+   * the entity cache.
+   *
+   * @return The statistics of the negative tier, empty if the tier is disabled.
+   */
+  public CacheStats getNegativeCacheStats() {
+    return negativeCache != null ? negativeCache.stats() : CacheStats.empty();
+  }
+
+  @VisibleForTesting
+  public SerializedEntityCache getSecondTier() {
+    return secondTier;
+  }
+
+  @VisibleForTesting
+  EntityCacheMetricsSource getMetricsSource() {
+    return metricsSource;
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> Optional<List<E>> getIfPresent(
@@ -163,8 +300,10 @@ public class CaffeineEntityCache extends BaseEntityCache {
       Entity.EntityType identType) {
     checkArguments(nameIdentifier, identType, relType);
 
-    List<Entity> entitiesFromCache =
-        cacheData.getIfPresent(EntityCacheRelationKey.of(nameIdentifier, identType, relType));
+    EntityCacheRelationKey entityCacheKey =
+        EntityCacheRelationKey.of(nameIdentifier, identType, relType);
+    List<Entity> entitiesFromCache = cacheFor(entityCacheKey).getIfPresent(entityCacheKey);
+    recordLookup(identType, entitiesFromCache != null);
     return Optional.ofNullable(entitiesFromCache).map(BaseEntityCache::convertEntities);
   }
 
@@ -174,7 +313,14 @@ public class CaffeineEntityCache extends BaseEntityCache {
       NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
 
-    List<Entity> entitiesFromCache = cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type));
+    EntityCacheRelationKey entityCacheKey = EntityCacheRelationKey.of(ident, type);
+    List<Entity> entitiesFromCache = cacheFor(entityCacheKey).getIfPresent(entityCacheKey);
+    if (entitiesFromCache == null) {
+      entitiesFromCache = promoteFromSecondTier(entityCacheKey);
+    } else {
+      refreshIfAging(entityCacheKey, entitiesFromCache);
+    }
+    recordLookup(type, entitiesFromCache != null);
 
     return Optional.ofNullable(entitiesFromCache)
         .filter(l -> !l.isEmpty())
@@ -212,8 +358,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
           // catalog:TAG_METADATA_OBJECT_REL -> null.
           RELATION_TYPES.forEach(
               relType -> {
-                List<Entity> relatedEntities =
-                    cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type, relType));
+                EntityCacheRelationKey relationKey =
+                    EntityCacheRelationKey.of(ident, type, relType);
+                List<Entity> relatedEntities = cacheFor(relationKey).getIfPresent(relationKey);
                 if (relatedEntities != null) {
                   relatedEntities.stream()
                       .filter(e -> StringUtils.isNotBlank(((HasIdentifier) e).name()))
@@ -240,6 +387,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
               });
 
           invalidateEntities(ident, type, Optional.empty());
+          invalidateNotFound(ident);
           return true;
         });
   }
@@ -249,14 +397,39 @@ public class CaffeineEntityCache extends BaseEntityCache {
   public boolean contains(
       NameIdentifier ident, Entity.EntityType type, SupportsRelationOperations.Type relType) {
     checkArguments(ident, type, relType);
-    return cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type, relType)) != null;
+    EntityCacheRelationKey entityCacheKey = EntityCacheRelationKey.of(ident, type, relType);
+    return cacheFor(entityCacheKey).getIfPresent(entityCacheKey) != null;
   }
 
   /** {@inheritDoc} */
   @Override
   public boolean contains(NameIdentifier ident, Entity.EntityType type) {
     checkArguments(ident, type);
-    return cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type)) != null;
+    EntityCacheRelationKey entityCacheKey = EntityCacheRelationKey.of(ident, type);
+    return cacheFor(entityCacheKey).getIfPresent(entityCacheKey) != null
+        || (secondTier != null && secondTier.contains(entityCacheKey));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNotFound(NameIdentifier ident, Entity.EntityType type) {
+    checkArguments(ident, type);
+    return negativeCache != null && negativeCache.contains(ident, type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void putNotFound(NameIdentifier ident, Entity.EntityType type) {
+    checkArguments(ident, type);
+    if (negativeCache != null) {
+      negativeCache.put(ident, type);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNotFoundCacheEnabled() {
+    return negativeCache != null;
   }
 
   /** {@inheritDoc} */
@@ -271,6 +444,14 @@ public class CaffeineEntityCache extends BaseEntityCache {
     segmentedLock.withGlobalLock(
         () -> {
           cacheData.invalidateAll();
+          typeCacheData.values().forEach(Cache::invalidateAll);
+          if (negativeCache != null) {
+            negativeCache.clear();
+          }
+          if (secondTier != null) {
+            secondTierInvalidations.incrementAndGet();
+            secondTier.clear();
+          }
         });
   }
 
@@ -294,7 +475,9 @@ public class CaffeineEntityCache extends BaseEntityCache {
           }
 
           syncEntitiesToCache(
-              entityCacheKey, entities.stream().map(e -> (Entity) e).collect(Collectors.toList()));
+              entityCacheKey,
+              entities.stream().map(e -> (Entity) e).collect(Collectors.toList()),
+              System.nanoTime());
         });
   }
 
@@ -310,13 +493,35 @@ public class CaffeineEntityCache extends BaseEntityCache {
         entityCacheKey,
         () -> {
           invalidateOnKeyChange(entity);
-          syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity));
+          syncEntitiesToCache(entityCacheKey, Lists.newArrayList(entity), System.nanoTime());
+          if (secondTier != null) {
+            secondTierInvalidations.incrementAndGet();
+            secondTier.invalidate(entityCacheKey);
+          }
         });
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void recordLoad(Entity.EntityType type, long durationNanos) {
+    if (typeStats != null) {
+      typeStats.get(type).loads.update(durationNanos, TimeUnit.NANOSECONDS);
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setRefreshLoader(EntityCacheLoader loader) {
+    this.refreshLoader = loader;
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> void invalidateOnKeyChange(E entity) {
+    // The entity and everything under it may have been recorded as missing before it was
+    // created or renamed to this name.
+    invalidateNotFound(entity.nameIdentifier());
+
     // Invalidate the cache if inserting the entity may affect related cache keys.
     // For example, inserting a model version changes the latest version of the model,
     // so the corresponding model cache entry should be invalidated.
@@ -357,8 +562,13 @@ public class CaffeineEntityCache extends BaseEntityCache {
     segmentedLock.withLock(
         key,
         () -> {
+          // The key may have been put again since it was removed, for example when the entity is
+          // promoted back from the second tier, then it must stay indexed.
+          if (cacheFor(key).policy().getIfPresentQuietly(key) != null) {
+            return;
+          }
           reverseIndex.remove(key);
-          cacheIndex.remove(key.toString());
+          cacheIndex.remove(key);
         });
   }
 
@@ -368,40 +578,94 @@ public class CaffeineEntityCache extends BaseEntityCache {
    *
    * @param key The key of the entities.
    * @param newEntities The new entities to sync to the cache.
+   * @param loadedAtNanos The time the entities were loaded from the store, the entry expires the
+   *     expiration time after it.
    */
-  private void syncEntitiesToCache(EntityCacheRelationKey key, List<Entity> newEntities) {
-    List<Entity> existingEntities = cacheData.getIfPresent(key);
+  private void syncEntitiesToCache(
+      EntityCacheRelationKey key, List<Entity> newEntities, long loadedAtNanos) {
+    Cache<EntityCacheRelationKey, List<Entity>> cache = cacheFor(key);
+    List<Entity> existingEntities = cache.getIfPresent(key);
 
+    Collection<Entity> entities = newEntities;
     if (existingEntities != null && key.relationType() != null) {
       Set<Entity> merged = Sets.newLinkedHashSet(existingEntities);
       merged.addAll(newEntities);
-      newEntities = new ArrayList<>(merged);
+      entities = merged;
     }
 
-    cacheData.put(key, newEntities);
+    List<Entity> loadedEntities = new LoadedEntities(entities, loadedAtNanos);
+    cache.put(key, loadedEntities);
+    recordWeight(key, loadedEntities, 1);
 
-    for (Entity entity : newEntities) {
+    for (Entity entity : loadedEntities) {
       reverseIndex.indexEntity(entity, key);
     }
 
-    if (cacheData.policy().getIfPresentQuietly(key) != null) {
-      cacheIndex.put(key.toString(), key);
+    if (cache.policy().getIfPresentQuietly(key) != null) {
+      cacheIndex.put(key, key);
     }
   }
 
+  /**
+   * Returns a new cache data structure, with the listeners keeping the indexes, the second tier and
+   * the metrics in sync with it.
+   *
+   * @param cacheConfig The cache configuration
+   * @param maxEntries The entry budget of an entity type partition, or null for the main budget
+   * @return The new cache data structure
+   */
+  private Cache<EntityCacheRelationKey, List<Entity>> newCacheData(
+      Config cacheConfig, Long maxEntries) {
+    Caffeine<EntityCacheKey, List<Entity>> cacheDataBuilder =
+        newBaseBuilder(cacheConfig, maxEntries);
+
+    return cacheDataBuilder
+        .executor(CLEANUP_EXECUTOR)
+        // The eviction listener runs atomically with the removal of the entry, so an invalidation
+        // of the key either happens before the entry is handed to the demotion, or is seen by it.
+        .evictionListener(
+            (key, value, cause) -> {
+              recordEviction(key);
+              if (cause == RemovalCause.SIZE) {
+                demoteToSecondTier(key, value);
+              }
+            })
+        .removalListener(
+            (key, value, cause) -> {
+              recordWeight(key, value, -1);
+              if (cause == RemovalCause.EXPLICIT || cause == RemovalCause.REPLACED) {
+                return;
+              }
+              try {
+                invalidateExpiredItem(key);
+              } catch (Throwable t) {
+                LOG.error(
+                    "Failed to remove entity key={} value={} from cache asynchronously, cause={}",
+                    key,
+                    value,
+                    cause,
+                    t);
+              }
+            })
+        .build();
+  }
+
   /**
    * Returns a new instance of Caffeine cache builder.
    *
    * @param cacheConfig The cache configuration
+   * @param maxEntries The entry budget of an entity type partition, or null for the main budget
    * @param <KEY> The key type
    * @param <VALUE> The value type
    * @return The new instance of Caffeine cache builder
    */
   @SuppressWarnings("unchecked")
-  private <KEY, VALUE> Caffeine<KEY, VALUE> newBaseBuilder(Config cacheConfig) {
+  private <KEY, VALUE> Caffeine<KEY, VALUE> newBaseBuilder(Config cacheConfig, Long maxEntries) {
     Caffeine<Object, Object> builder = Caffeine.newBuilder();
 
-    if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
+    if (maxEntries != null) {
+      builder.maximumSize(maxEntries);
+    } else if (cacheConfig.get(Configs.CACHE_WEIGHER_ENABLED)) {
       builder.maximumWeight(EntityCacheWeigher.getMaxWeight());
       builder.weigher(EntityCacheWeigher.getInstance());
     } else {
@@ -409,8 +673,29 @@ public class CaffeineEntityCache extends BaseEntityCache {
     }
 
     if (cacheConfig.get(Configs.CACHE_EXPIRATION_TIME) > 0) {
-      builder.expireAfterWrite(
-          cacheConfig.get(Configs.CACHE_EXPIRATION_TIME), TimeUnit.MILLISECONDS);
+      // An entry expires the expiration time after its entities were loaded from the store, which
+      // is earlier than it was put if it was promoted back from the second tier.
+      long expireTimeNanos =
+          TimeUnit.MILLISECONDS.toNanos(cacheConfig.get(Configs.CACHE_EXPIRATION_TIME));
+      builder.expireAfter(
+          new Expiry<Object, Object>() {
+            @Override
+            public long expireAfterCreate(Object key, Object entities, long currentTime) {
+              return Math.max(0L, expireTimeNanos - ageOf(entities, currentTime));
+            }
+
+            @Override
+            public long expireAfterUpdate(
+                Object key, Object entities, long currentTime, long currentDuration) {
+              return expireAfterCreate(key, entities, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(
+                Object key, Object entities, long currentTime, long currentDuration) {
+              return currentDuration;
+            }
+          });
     }
 
     if (cacheConfig.get(Configs.CACHE_STATS_ENABLED)) {
@@ -432,10 +717,7 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Queue<EntityCacheKey> queue = new ArrayDeque<>();
 
     EntityCacheRelationKey valueForExactKey =
-        cacheIndex.getValueForExactKey(
-            relTypeOpt.isEmpty()
-                ? EntityCacheRelationKey.of(identifier, type).toString()
-                : EntityCacheRelationKey.of(identifier, type, relTypeOpt.get()).toString());
+        cacheIndex.get(EntityCacheRelationKey.of(identifier, type, relTypeOpt.orElse(null)));
 
     if (valueForExactKey == null) {
       // It means the key does not exist in the cache. However, we still need to handle some cases.
@@ -457,31 +739,32 @@ public class CaffeineEntityCache extends BaseEntityCache {
       }
       visited.add(currentKeyToRemove);
 
-      cacheData.invalidate(currentKeyToRemove);
-      cacheIndex.remove(currentKeyToRemove.toString());
+      cacheFor(currentKeyToRemove).invalidate(currentKeyToRemove);
+      cacheIndex.remove(currentKeyToRemove);
+      if (secondTier != null) {
+        // The entities evicted to the second tier are not in the index of this tier, so the ones
+        // under the identifier are removed by prefix as well.
+        secondTierInvalidations.incrementAndGet();
+        secondTier.invalidate(currentKeyToRemove.identifier());
+      }
 
       // Remove related entity keys
-      List<EntityCacheKey> relatedEntityKeysToRemove =
-          Lists.newArrayList(
-              cacheIndex.getValuesForKeysStartingWith(currentKeyToRemove.identifier().toString()));
-      queue.addAll(relatedEntityKeysToRemove);
+      queue.addAll(cacheIndex.valuesUnder(currentKeyToRemove.identifier()));
 
       // Look up from reverse index to go to next depth
       List<List<EntityCacheKey>> reverseKeysToRemove =
-          Lists.newArrayList(
-              reverseIndex.getValuesForKeysStartingWith(
-                  currentKeyToRemove.identifier().toString()));
+          reverseIndex.getValuesUnder(currentKeyToRemove.identifier());
 
       reverseKeysToRemove.forEach(
           key -> {
             // Remove from reverse index
-            // Convert EntityCacheRelationKey to EntityCacheKey
-            key.stream()
-                .forEach(
-                    k ->
-                        reverseIndex
-                            .getValuesForKeysStartingWith(k.toString())
-                            .forEach(rsk -> rsk.forEach(v -> reverseIndex.remove(v))));
+            key.forEach(
+                k -> {
+                  List<EntityCacheKey> reverseKeys = reverseIndex.get(k);
+                  if (reverseKeys != null) {
+                    reverseKeys.forEach(reverseIndex::remove);
+                  }
+                });
           });
 
       reverseIndex.remove(currentKeyToRemove);
@@ -494,23 +777,269 @@ public class CaffeineEntityCache extends BaseEntityCache {
     return true;
   }
 
-  /** Starts the cache stats monitor. */
-  private void startCacheStatsMonitor() {
-    scheduler.scheduleAtFixedRate(
+  /**
+   * Moves an entity evicted for size to the second tier. Only the single entities of the types
+   * supported by the codec are moved, the relations are loaded again from the store.
+   *
+   * <p>This runs atomically with the eviction, on the thread of the write that evicted the entry,
+   * so the entity is only handed over here and encoded on another thread.
+   *
+   * @param key The key of the evicted entry
+   * @param entities The entities of the evicted entry
+   */
+  private void demoteToSecondTier(EntityCacheKey key, List<Entity> entities) {
+    if (secondTier == null
+        || !(key instanceof EntityCacheRelationKey)
+        || ((EntityCacheRelationKey) key).relationType() != null
+        || !(entities instanceof LoadedEntities)
+        || entities.size() != 1
+        || !codec.supports(key.entityType())) {
+      return;
+    }
+
+    EntityCacheRelationKey relationKey = (EntityCacheRelationKey) key;
+    Entity entity = entities.get(0);
+    long loadedAtNanos = ((LoadedEntities) entities).loadedAtNanos;
+    long invalidations = secondTierInvalidations.get();
+    DEMOTION_EXECUTOR.execute(
+        () -> encodeToSecondTier(relationKey, entity, loadedAtNanos, invalidations));
+  }
+
+  /**
+   * Encodes an evicted entity into the second tier, unless the second tier has been invalidated
+   * since the entity was evicted.
+   *
+   * @param key The key of the evicted entry
+   * @param entity The evicted entity
+   * @param loadedAtNanos The time the entity was loaded from the store
+   * @param invalidations The number of invalidations of the second tier when it was evicted
+   */
+  private void encodeToSecondTier(
+      EntityCacheRelationKey key, Entity entity, long loadedAtNanos, long invalidations) {
+    try {
+      byte[] bytes = codec.encode(entity);
+      if (secondTierInvalidations.get() != invalidations) {
+        return;
+      }
+      secondTier.put(key, bytes, loadedAtNanos);
+      // An invalidation may have come between the check and the put, it then wins.
+      if (secondTierInvalidations.get() != invalidations) {
+        secondTier.invalidate(key);
+      }
+    } catch (Exception e) {
+      LOG.warn("Failed to move entity {} to the second tier of the cache", key, e);
+    }
+  }
+
+  /**
+   * Moves an entity from the second tier back to the cache.
+   *
+   * @param key The key of the entity
+   * @return The entity in a list, or null if it is not in the second tier
+   */
+  private List<Entity> promoteFromSecondTier(EntityCacheRelationKey key) {
+    if (secondTier == null || !codec.supports(key.entityType())) {
+      return null;
+    }
+
+    SerializedEntityCache.Entry entry = secondTier.getIfPresent(key);
+    if (entry == null) {
+      return null;
+    }
+
+    List<Entity> entities;
+    try {
+      entities =
+          Lists.newArrayList(codec.decode(key.identifier(), key.entityType(), entry.bytes()));
+    } catch (Exception e) {
+      LOG.warn("Failed to read entity {} from the second tier of the cache", key, e);
+      secondTier.invalidate(key);
+      return null;
+    }
+
+    return segmentedLock.withLock(
+        key,
         () -> {
-          CacheStats stats = cacheData.stats();
-          LOG.info(
-              "[Cache Stats] hitRate={}, hitCount={}, missCount={}, loadSuccess={}, loadFailure={}, evictions={}",
-              String.format("%.4f", stats.hitRate()),
-              stats.hitCount(),
-              stats.missCount(),
-              stats.loadSuccessCount(),
-              stats.loadFailureCount(),
-              stats.evictionCount());
-        },
-        CACHE_MONITOR_INITIAL_DELAY_MINUTES,
-        CACHE_MONITOR_PERIOD_MINUTES,
-        TimeUnit.MINUTES);
+          // The entity may have been invalidated or put again while it was decoded.
+          if (secondTier.getIfPresentQuietly(key) != entry) {
+            return null;
+          }
+          secondTier.invalidate(key);
+          // It keeps the time it was loaded, so moving between the tiers doesn't extend its life.
+          syncEntitiesToCache(key, entities, entry.loadedAtNanos());
+          return entities;
+        });
+  }
+
+  /**
+   * Reloads the entry in the background if it is older than the refresh age, the entry read keeps
+   * being served until the reload is done.
+   *
+   * @param key The key of the entry read
+   * @param entities The entities of the entry read
+   */
+  private void refreshIfAging(EntityCacheRelationKey key, List<Entity> entities) {
+    EntityCacheLoader loader = refreshLoader;
+    if (refreshExecutor == null || loader == null) {
+      return;
+    }
+
+    if (ageOf(entities, System.nanoTime()) < refreshAfterNanos || !refreshingKeys.add(key)) {
+      return;
+    }
+
+    try {
+      refreshExecutor.execute(() -> refresh(key, entities, loader));
+    } catch (RejectedExecutionException e) {
+      refreshingKeys.remove(key);
+    }
+  }
+
+  /**
+   * Reloads the entry from the store, and replaces it if it has not changed meanwhile.
+   *
+   * @param key The key of the entry
+   * @param entities The entities of the entry when the reload was requested
+   * @param loader The loader of the entity
+   */
+  private void refresh(
+      EntityCacheRelationKey key, List<Entity> entities, EntityCacheLoader loader) {
+    try {
+      long loadedAtNanos = System.nanoTime();
+      Entity loaded;
+      try {
+        loaded = loader.load(key.identifier(), key.entityType());
+      } catch (NoSuchEntityException e) {
+        loaded = null;
+      }
+
+      Entity entity = loaded;
+      segmentedLock.withLock(
+          key,
+          () -> {
+            // The writes invalidate or replace the entry under the same lock, so an entry that is
+            // no longer the one read has been written meanwhile, and the loaded value may be older
+            // than the write.
+            if (cacheFor(key).policy().getIfPresentQuietly(key) != entities) {
+              return;
+            }
+
+            if (entity == null) {
+              invalidateEntities(key.identifier(), key.entityType(), Optional.empty());
+            } else {
+              syncEntitiesToCache(key, Lists.newArrayList(entity), loadedAtNanos);
+              recordRefresh(key);
+            }
+          });
+    } catch (Exception e) {
+      LOG.warn("Failed to refresh entity {} in the cache", key, e);
+    } finally {
+      refreshingKeys.remove(key);
+    }
+  }
+
+  /**
+   * Returns the time since the entities of an entry were loaded from the store.
+   *
+   * @param entities The entities of the entry
+   * @param currentTime The current time, as of {@link System#nanoTime()}
+   * @return The age of the entities in nanoseconds, 0 if their load time is unknown
+   */
+  private static long ageOf(Object entities, long currentTime) {
+    return entities instanceof LoadedEntities
+        ? currentTime - ((LoadedEntities) entities).loadedAtNanos
+        : 0L;
+  }
+
+  private void invalidateNotFound(NameIdentifier ident) {
+    if (negativeCache != null) {
+      negativeCache.invalidate(ident);
+    }
+  }
+
+  /**
+   * Returns the cache data structure holding the key, the one of the partition of the key's entity
+   * type if the type has its own budget.
+   *
+   * @param key The key of the entry
+   * @return The cache data structure of the key
+   */
+  private Cache<EntityCacheRelationKey, List<Entity>> cacheFor(EntityCacheKey key) {
+    Cache<EntityCacheRelationKey, List<Entity>> cache = typeCacheData.get(key.entityType());
+    return cache != null ? cache : cacheData;
+  }
+
+  /**
+   * Parses the entry budgets of the entity types kept in their own partition.
+   *
+   * @param cacheConfig The cache configuration
+   * @return The entry budget of each entity type with its own partition
+   */
+  private static Map<Entity.EntityType, Long> entityTypeBudgets(Config cacheConfig) {
+    Map<Entity.EntityType, Long> budgets = new EnumMap<>(Entity.EntityType.class);
+    for (String value : Config.getOrDefault(cacheConfig, Configs.CACHE_ENTITY_TYPE_MAX_ENTRIES)) {
+      String[] parts = value.split(":");
+      budgets.put(
+          Entity.EntityType.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)),
+          Long.parseLong(parts[1].trim()));
+    }
+    return budgets;
+  }
+
+  /** Creates the metrics of each entity type and the tiers, and registers them. */
+  private void registerMetrics() {
+    for (Entity.EntityType type : Entity.EntityType.values()) {
+      typeStats.put(type, new TypeStats(metricsSource, type));
+    }
+
+    if (negativeCache != null) {
+      metricsSource.registerNegativeTierGauges(
+          () -> negativeCache.stats().hitRate(), negativeCache::size);
+    }
+    if (secondTier != null) {
+      metricsSource.registerSecondTierGauges(
+          () -> secondTier.stats().hitRate(), secondTier::size, secondTier::weightedSize);
+    }
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  private void recordLookup(Entity.EntityType type, boolean hit) {
+    if (typeStats != null) {
+      TypeStats stats = typeStats.get(type);
+      (hit ? stats.hits : stats.misses).inc();
+    }
+  }
+
+  private void recordRefresh(EntityCacheKey key) {
+    if (typeStats != null) {
+      typeStats.get(key.entityType()).refreshes.inc();
+    }
+  }
+
+  private void recordEviction(EntityCacheKey key) {
+    if (typeStats != null) {
+      typeStats.get(key.entityType()).evictions.inc();
+    }
+  }
+
+  /**
+   * Adds the weight of the entities to, or removes it from, the weighted size of the key's type.
+   *
+   * @param key The key of the entities
+   * @param entities The entities put or removed
+   * @param sign 1 if the entities are put, -1 if they are removed
+   */
+  private void recordWeight(EntityCacheKey key, List<Entity> entities, int sign) {
+    if (typeStats == null || entities == null) {
+      return;
+    }
+
+    long weight = weigherEnabled ? EntityCacheWeigher.getInstance().weigh(key, entities) : 1;
+    typeStats.get(key.entityType()).weightedSize.add(sign * weight);
   }
 
   /**
@@ -536,4 +1065,39 @@ public class CaffeineEntityCache extends BaseEntityCache {
     Preconditions.checkArgument(ident != null, "NameIdentifier cannot be null");
     Preconditions.checkArgument(type != null, "EntityType cannot be null");
   }
+
+  /** The entities of an entry, with the time they were loaded from the store. */
+  private static final class LoadedEntities extends ArrayList<Entity> {
+    private final long loadedAtNanos;
+
+    private LoadedEntities(Collection<Entity> entities, long loadedAtNanos) {
+      super(entities);
+      this.loadedAtNanos = loadedAtNanos;
+    }
+  }
+
+  /** The metrics of an entity type, looked up once so that recording them is cheap. */
+  private static final class TypeStats {
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter evictions;
+    private final Counter refreshes;
+    private final Timer loads;
+    private final LongAdder weightedSize = new LongAdder();
+
+    private TypeStats(EntityCacheMetricsSource metricsSource, Entity.EntityType type) {
+      this.hits = metricsSource.hits(type);
+      this.misses = metricsSource.misses(type);
+      this.evictions = metricsSource.evictions(type);
+      this.refreshes = metricsSource.refreshes(type);
+      this.loads = metricsSource.loads(type);
+      metricsSource.registerEntityTypeGauges(type, this::hitRate, weightedSize::sum);
+    }
+
+    private double hitRate() {
+      long hitCount = hits.getCount();
+      long requestCount = hitCount + misses.getCount();
+      return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+  }
 }
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.SupportsRelationOperations;
+
+/**
+ * An index of entity cache keys, organized as a trie of the levels of their identifiers: the
+ * metalake, the catalog, the schema and so on down to the name. The keys of one identifier, one per
+ * entity type and relation type, are kept in the same node.
+ *
+ * <p>Unlike a radix tree on the string form of the keys, the levels are compared as a whole, so
+ * the keys under {@code metalake.catalog1} do not include the ones under {@code
+ * metalake.catalog10}, and no key string is built on lookups. Collecting the keys under an
+ * identifier visits only its subtree.
+ *
+ * <p>Lookups are lock free. The updates lock the nodes they change, and the nodes left empty by a
+ * removal are unlinked from the trie, so that the trie does not grow with the identifiers that are
+ * no longer cached.
+ *
+ * @param <V> The type of the values.
+ */
+final class EntityCacheKeyTrie<V> {
+
+  private static final SupportsRelationOperations.Type[] RELATION_TYPES =
+      SupportsRelationOperations.Type.values();
+
+  /** The slots of the keys in a node, one per entity type and relation type, shared by all. */
+  private static final Slot[][] SLOTS = newSlots();
+
+  private final Node<V> root = new Node<>();
+
+  private final AtomicInteger size = new AtomicInteger();
+
+  /**
+   * Associates the value with the key.
+   *
+   * @param key The key.
+   * @param value The value.
+   * @return The previous value of the key, or null if there was none.
+   */
+  V put(EntityCacheKey key, V value) {
+    Slot slot = slotOf(key);
+    while (true) {
+      Node<V> node = findOrCreate(key.identifier());
+      if (node == null) {
+        continue;
+      }
+
+      synchronized (node) {
+        // The node may have been unlinked by a concurrent removal since it was found.
+        if (node.detached) {
+          continue;
+        }
+        Entry<V> previous = node.entries.put(slot, new Entry<>(key, value));
+        if (previous == null) {
+          size.incrementAndGet();
+          return null;
+        }
+        return previous.value;
+      }
+    }
+  }
+
+  /**
+   * Returns the value of the key.
+   *
+   * @param key The key.
+   * @return The value of the key, or null if there is none.
+   */
+  V get(EntityCacheKey key) {
+    Node<V> node = find(key.identifier());
+    if (node == null) {
+      return null;
+    }
+
+    Entry<V> entry = node.entries.get(slotOf(key));
+    return entry != null ? entry.value : null;
+  }
+
+  /**
+   * Removes the key.
+   *
+   * @param key The key.
+   * @return The value of the key, or null if there was none.
+   */
+  V remove(EntityCacheKey key) {
+    NameIdentifier ident = key.identifier();
+    int depth = depthOf(ident);
+    List<Node<V>> path = Lists.newArrayListWithCapacity(depth + 1);
+    Node<V> node = root;
+    path.add(node);
+    for (int i = 0; i < depth; i++) {
+      node = node.child(levelOf(ident, i));
+      if (node == null) {
+        return null;
+      }
+      path.add(node);
+    }
+
+    Entry<V> removed;
+    synchronized (node) {
+      removed = node.entries.remove(slotOf(key));
+    }
+    if (removed == null) {
+      return null;
+    }
+
+    size.decrementAndGet();
+    prune(ident, path);
+    return removed.value;
+  }
+
+  /**
+   * Returns the values of the identifier and of all the identifiers under it, whatever their
+   * entity and relation types.
+   *
+   * @param ident The identifier.
+   * @return The values of the subtree of the identifier.
+   */
+  List<V> valuesUnder(NameIdentifier ident) {
+    Node<V> node = find(ident);
+    if (node == null) {
+      return Collections.emptyList();
+    }
+
+    List<V> values = Lists.newArrayList();
+    Queue<Node<V>> queue = new ArrayDeque<>();
+    queue.offer(node);
+    while (!queue.isEmpty()) {
+      Node<V> current = queue.poll();
+      current.entries.values().forEach(entry -> values.add(entry.value));
+      Map<String, Node<V>> children = current.children;
+      if (children != null) {
+        queue.addAll(children.values());
+      }
+    }
+    return values;
+  }
+
+  /**
+   * Performs the action for each key and value of the trie.
+   *
+   * @param action The action.
+   */
+  void forEach(BiConsumer<EntityCacheKey, V> action) {
+    Queue<Node<V>> queue = new ArrayDeque<>();
+    queue.offer(root);
+    while (!queue.isEmpty()) {
+      Node<V> current = queue.poll();
+      current.entries.values().forEach(entry -> action.accept(entry.key, entry.value));
+      Map<String, Node<V>> children = current.children;
+      if (children != null) {
+        queue.addAll(children.values());
+      }
+    }
+  }
+
+  /** Removes all the keys. */
+  void clear() {
+    List<EntityCacheKey> keys = Lists.newArrayList();
+    forEach((key, value) -> keys.add(key));
+    keys.forEach(this::remove);
+  }
+
+  /**
+   * Returns the number of keys.
+   *
+   * @return The number of keys.
+   */
+  int size() {
+    return size.get();
+  }
+
+  private Node<V> find(NameIdentifier ident) {
+    int depth = depthOf(ident);
+    Node<V> node = root;
+    for (int i = 0; i < depth && node != null; i++) {
+      node = node.child(levelOf(ident, i));
+    }
+    return node;
+  }
+
+  /**
+   * Finds the node of the identifier, creating the missing nodes on its path.
+   *
+   * @param ident The identifier.
+   * @return The node, or null if a node of the path was unlinked meanwhile and the lookup must be
+   *     retried.
+   */
+  private Node<V> findOrCreate(NameIdentifier ident) {
+    int depth = depthOf(ident);
+    Node<V> node = root;
+    for (int i = 0; i < depth; i++) {
+      String level = levelOf(ident, i);
+      Node<V> child = node.child(level);
+      if (child == null) {
+        synchronized (node) {
+          if (node.detached) {
+            return null;
+          }
+          if (node.children == null) {
+            node.children = new ConcurrentHashMap<>();
+          }
+          child = node.children.computeIfAbsent(level, l -> new Node<>());
+        }
+      }
+      node = child;
+    }
+    return node;
+  }
+
+  /**
+   * Unlinks the empty nodes of the path, from the node of the identifier up to the root.
+   *
+   * @param ident The identifier.
+   * @param path The nodes from the root to the node of the identifier.
+   */
+  private void prune(NameIdentifier ident, List<Node<V>> path) {
+    for (int i = path.size() - 1; i > 0; i--) {
+      Node<V> parent = path.get(i - 1);
+      Node<V> child = path.get(i);
+      synchronized (parent) {
+        synchronized (child) {
+          if (child.detached || !child.isEmpty()) {
+            return;
+          }
+          child.detached = true;
+          parent.children.remove(levelOf(ident, i - 1), child);
+        }
+      }
+    }
+  }
+
+  private static int depthOf(NameIdentifier ident) {
+    return ident.namespace().length() + 1;
+  }
+
+  private static String levelOf(NameIdentifier ident, int pos) {
+    Namespace namespace = ident.namespace();
+    return pos < namespace.length() ? namespace.level(pos) : ident.name();
+  }
+
+  private static Slot slotOf(EntityCacheKey key) {
+    SupportsRelationOperations.Type relationType =
+        key instanceof EntityCacheRelationKey
+            ? ((EntityCacheRelationKey) key).relationType()
+            : null;
+    return SLOTS[key.entityType().ordinal()][relationType == null ? 0 : relationType.ordinal() + 1];
+  }
+
+  private static Slot[][] newSlots() {
+    Entity.EntityType[] entityTypes = Entity.EntityType.values();
+    Slot[][] slots = new Slot[entityTypes.length][RELATION_TYPES.length + 1];
+    for (Entity.EntityType entityType : entityTypes) {
+      slots[entityType.ordinal()][0] = new Slot();
+      for (SupportsRelationOperations.Type relationType : RELATION_TYPES) {
+        slots[entityType.ordinal()][relationType.ordinal() + 1] = new Slot();
+      }
+    }
+    return slots;
+  }
+
+  /**
+   * The position of a key in the node of its identifier. There is one instance per entity type and
+   * relation type, so the slots are compared by identity.
+   */
+  private static final class Slot {}
+
+  private static final class Entry<V> {
+    private final EntityCacheKey key;
+    private final V value;
+
+    private Entry(EntityCacheKey key, V value) {
+      this.key = key;
+      this.value = value;
+    }
+  }
+
+  private static final class Node<V> {
+    private final Map<Slot, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** The children of the node by level, created with the first child. Guarded by the node. */
+    private volatile Map<String, Node<V>> children;
+
+    /** Whether the node has been unlinked from the trie. Guarded by the node. */
+    private boolean detached;
+
+    private Node<V> child(String level) {
+      Map<String, Node<V>> current = children;
+      return current != null ? current.get(level) : null;
+    }
+
+    private boolean isEmpty() {
+      Map<String, Node<V>> current = children;
+      return entries.isEmpty() && (current == null || current.isEmpty());
+    }
+  }
+}
@@ -0,0 +1,41 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.io.IOException;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * Loads an entity from the entity store. The entity cache uses it to reload the entries read close
+ * to their expiration in the background, so that the readers do not wait for the reload.
+ */
+@FunctionalInterface
+public interface EntityCacheLoader {
+
+  /**
+   * Loads the entity.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @return The entity loaded from the entity store.
+   * @throws IOException If the entity cannot be loaded.
+   */
+  Entity load(NameIdentifier ident, Entity.EntityType type) throws IOException;
+}
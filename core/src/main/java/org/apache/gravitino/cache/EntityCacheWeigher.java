@@ -52,6 +52,9 @@ import org.slf4j.LoggerFactory;
  *
  * <p>Note: Caffeine's W-TinyLFU algorithm considers both access frequency and weight. Frequently
  * accessed heavier entries may still be retained over infrequently accessed lighter entries.
+ *
+ * <p>The entries of the serialized tier, see {@link SerializedEntityCache}, are weighed apart by
+ * {@link #weighSerialized(EntityCacheKey, byte[])}, in bytes.
  */
 public class EntityCacheWeigher implements Weigher<EntityCacheKey, List<Entity>> {
   public static final int METALAKE_WEIGHT = 0; // 0 means never evict
@@ -60,6 +63,8 @@ public class EntityCacheWeigher implements Weigher<EntityCacheKey, List<Entity>>
   public static final int OTHER_WEIGHT = 200;
   public static final int TAG_WEIGHT = 500;
   public static final int POLICY_WEIGHT = 500;
+  // The estimated heap overhead of an entry of the serialized tier, apart from its bytes and key.
+  public static final int SERIALIZED_ENTRY_OVERHEAD = 96;
   private static final Logger LOG = LoggerFactory.getLogger(EntityCacheWeigher.class.getName());
   private static final EntityCacheWeigher INSTANCE = new EntityCacheWeigher();
   private static final Map<Entity.EntityType, Integer> ENTITY_WEIGHTS =
@@ -121,6 +126,20 @@ public class EntityCacheWeigher implements Weigher<EntityCacheKey, List<Entity>>
     return INSTANCE;
   }
 
+  /**
+   * Returns the weight of an entry of the serialized tier, which is the estimated number of bytes
+   * it takes on the heap: the encoded entity, the characters of the key and a fixed overhead.
+   *
+   * @param key The key of the entry.
+   * @param bytes The encoded entity.
+   * @return The weight of the entry, in bytes.
+   */
+  public static @NonNegative int weighSerialized(
+      @NonNull EntityCacheKey key, @NonNull byte[] bytes) {
+    long weight = (long) bytes.length + 2L * key.toString().length() + SERIALIZED_ENTRY_OVERHEAD;
+    return (int) Math.min(weight, Integer.MAX_VALUE);
+  }
+
   /** {@inheritDoc} */
   @Override
   public @NonNegative int weigh(
@@ -0,0 +1,58 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.io.IOException;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * Encodes entities to a compact binary form and decodes them back, for the serialized tier of the
+ * entity cache. The identifier of an entity is not encoded, it is the key of the cache entry.
+ */
+public interface EntityCodec {
+
+  /**
+   * Returns whether the entities of the given type can be encoded.
+   *
+   * @param type The type of the entities.
+   * @return {@code true} if the entities of the type can be encoded, {@code false} otherwise.
+   */
+  boolean supports(Entity.EntityType type);
+
+  /**
+   * Encodes the entity.
+   *
+   * @param entity The entity to encode, its type must be supported.
+   * @return The encoded entity.
+   * @throws IOException If the entity cannot be encoded.
+   */
+  byte[] encode(Entity entity) throws IOException;
+
+  /**
+   * Decodes an entity encoded by {@link #encode(Entity)}.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @param bytes The encoded entity.
+   * @return The decoded entity.
+   * @throws IOException If the entity cannot be decoded.
+   */
+  Entity decode(NameIdentifier ident, Entity.EntityType type, byte[] bytes) throws IOException;
+}
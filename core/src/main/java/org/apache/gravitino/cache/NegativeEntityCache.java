@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The negative tier of the entity cache. It remembers the identifiers that were recently looked up
+ * and not found in the store, so that repeated probes of missing entities, such as the existence
+ * checks of query engines, do not go to the store every time.
+ *
+ * <p>The tier is bounded in size and its entries expire after a short time. An entry is also
+ * removed when an entity with the same identifier, or one of its parents, is created, renamed or
+ * invalidated, see {@link #invalidate(NameIdentifier)}. Its hit and miss statistics are recorded
+ * apart from the ones of the entity cache.
+ */
+public class NegativeEntityCache {
+
+  /** The identifiers found missing, the value is unused. */
+  private final PrefixIndexedCache<Boolean> cacheData;
+
+  /**
+   * Constructs a new {@link NegativeEntityCache}.
+   *
+   * @param maxEntries The maximum number of identifiers to remember.
+   * @param expireTimeMillis The time after which a remembered identifier expires, in milliseconds.
+   */
+  public NegativeEntityCache(long maxEntries, long expireTimeMillis) {
+    this.cacheData =
+        new PrefixIndexedCache<>(
+            Caffeine.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(expireTimeMillis, TimeUnit.MILLISECONDS)
+                .recordStats());
+  }
+
+  /**
+   * Checks whether the entity was recently found missing. This counts as a hit or a miss of the
+   * negative tier.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   * @return {@code true} if the entity is known to be missing, {@code false} otherwise.
+   */
+  public boolean contains(NameIdentifier ident, Entity.EntityType type) {
+    return cacheData.getIfPresent(EntityCacheRelationKey.of(ident, type)) != null;
+  }
+
+  /**
+   * Remembers that the entity is missing in the store.
+   *
+   * @param ident The identifier of the entity.
+   * @param type The type of the entity.
+   */
+  public void put(NameIdentifier ident, Entity.EntityType type) {
+    cacheData.put(EntityCacheRelationKey.of(ident, type), Boolean.TRUE);
+  }
+
+  /**
+   * Forgets the identifier and all the identifiers under it, whatever their entity types.
+   *
+   * @param ident The identifier whose entity may now exist.
+   */
+  public void invalidate(NameIdentifier ident) {
+    cacheData.invalidatePrefix(ident);
+  }
+
+  /** Forgets all the identifiers. */
+  public void clear() {
+    cacheData.clear();
+  }
+
+  /**
+   * Returns the hit and miss statistics of the negative tier.
+   *
+   * @return The statistics of the negative tier.
+   */
+  public CacheStats stats() {
+    return cacheData.stats();
+  }
+
+  /**
+   * Returns the number of identifiers remembered, including the ones expired but not cleaned up.
+   *
+   * @return The number of identifiers remembered.
+   */
+  public long size() {
+    return cacheData.estimatedSize();
+  }
+}
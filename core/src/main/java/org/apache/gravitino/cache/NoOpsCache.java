@@ -90,12 +90,42 @@ public class NoOpsCache extends BaseEntityCache {
     return false;
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNotFound(NameIdentifier ident, Entity.EntityType type) {
+    return false;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void putNotFound(NameIdentifier ident, Entity.EntityType type) {
+    // do nothing
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isNotFoundCacheEnabled() {
+    return false;
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> void put(E entity) {
     // do nothing
   }
 
+  /** {@inheritDoc} */
+  @Override
+  public void recordLoad(Entity.EntityType type, long durationNanos) {
+    // do nothing
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void setRefreshLoader(EntityCacheLoader loader) {
+    // do nothing
+  }
+
   /** {@inheritDoc} */
   @Override
   public <E extends Entity & HasIdentifier> void invalidateOnKeyChange(E entity) {
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Policy;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * A Caffeine cache of entity cache keys with an index of the keys by their string form, so that an
+ * identifier and all the identifiers under it can be removed together. It backs the tiers of the
+ * entity cache that are kept apart from the entity objects.
+ *
+ * @param <V> The type of the cached values.
+ */
+class PrefixIndexedCache<V> {
+
+  private final Cache<EntityCacheRelationKey, V> cacheData;
+
+  private final EntityCacheKeyTrie<EntityCacheRelationKey> cacheIndex = new EntityCacheKeyTrie<>();
+
+  /**
+   * Constructs a new {@link PrefixIndexedCache}.
+   *
+   * @param builder The builder with the bounds of the cache, it must not have a removal listener.
+   */
+  PrefixIndexedCache(Caffeine<Object, Object> builder) {
+    this.cacheData =
+        builder
+            .removalListener(
+                (EntityCacheRelationKey key, V value, RemovalCause cause) -> onRemoval(key, cause))
+            .build();
+  }
+
+  V getIfPresent(EntityCacheRelationKey key) {
+    return cacheData.getIfPresent(key);
+  }
+
+  void put(EntityCacheRelationKey key, V value) {
+    cacheIndex.put(key, key);
+    cacheData.put(key, value);
+  }
+
+  void invalidate(EntityCacheRelationKey key) {
+    cacheIndex.remove(key);
+    cacheData.invalidate(key);
+  }
+
+  /**
+   * Removes the identifier and all the identifiers under it, whatever their entity types.
+   *
+   * @param ident The identifier to remove.
+   */
+  void invalidatePrefix(NameIdentifier ident) {
+    for (EntityCacheRelationKey key : cacheIndex.valuesUnder(ident)) {
+      invalidate(key);
+    }
+  }
+
+  void clear() {
+    cacheData.invalidateAll();
+    cacheIndex.clear();
+  }
+
+  CacheStats stats() {
+    return cacheData.stats();
+  }
+
+  long estimatedSize() {
+    return cacheData.estimatedSize();
+  }
+
+  Policy<EntityCacheRelationKey, V> policy() {
+    return cacheData.policy();
+  }
+
+  private void onRemoval(EntityCacheRelationKey key, RemovalCause cause) {
+    // The explicit removals clean up the index themselves. A key put again after it was evicted
+    // must stay indexed.
+    if (cause != RemovalCause.EXPLICIT
+        && key != null
+        && cacheData.policy().getIfPresentQuietly(key) == null) {
+      cacheIndex.remove(key);
+    }
+  }
+}
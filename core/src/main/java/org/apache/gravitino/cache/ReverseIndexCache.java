@@ -23,9 +23,6 @@ import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
-import com.googlecode.concurrenttrees.radix.ConcurrentRadixTree;
-import com.googlecode.concurrenttrees.radix.RadixTree;
-import com.googlecode.concurrenttrees.radix.node.concrete.DefaultCharArrayNodeFactory;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -41,11 +38,11 @@ import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.UserEntity;
 
 /**
- * Reverse index cache for managing entity relationships. This cache uses a radix tree to
- * efficiently store and retrieve relationships between entities based on their keys.
+ * Reverse index cache for managing entity relationships. This cache uses a trie of the identifier
+ * levels to efficiently store and retrieve relationships between entities based on their keys.
  */
 public class ReverseIndexCache {
-  private final RadixTree<List<EntityCacheKey>> reverseIndex;
+  private final EntityCacheKeyTrie<List<EntityCacheKey>> reverseIndex;
 
   /** Registers a reverse index processor for a specific entity class. */
   private final Multimap<Class<? extends Entity>, ReverseIndexRule> reverseIndexRules =
@@ -75,7 +72,7 @@ public class ReverseIndexCache {
       Maps.newConcurrentMap();
 
   public ReverseIndexCache() {
-    this.reverseIndex = new ConcurrentRadixTree<>(new DefaultCharArrayNodeFactory());
+    this.reverseIndex = new EntityCacheKeyTrie<>();
 
     registerReverseRule(UserEntity.class, ReverseIndexRules.USER_ROLE_REVERSE_RULE);
     registerReverseRule(UserEntity.class, ReverseIndexRules.USER_OWNERSHIP_REVERSE_RULE);
@@ -88,28 +85,44 @@ public class ReverseIndexCache {
         GenericEntity.class, ReverseIndexRules.GENERIC_METADATA_OBJECT_REVERSE_RULE);
   }
 
-  public Iterable<List<EntityCacheKey>> getValuesForKeysStartingWith(String keyPrefix) {
-    return reverseIndex.getValuesForKeysStartingWith(keyPrefix);
+  /**
+   * Returns the keys related to the identifier and to all the identifiers under it.
+   *
+   * @param nameIdentifier The identifier.
+   * @return The lists of keys related to the identifiers of the subtree.
+   */
+  public List<List<EntityCacheKey>> getValuesUnder(NameIdentifier nameIdentifier) {
+    return reverseIndex.valuesUnder(nameIdentifier);
+  }
+
+  /**
+   * Returns the keys related to the key.
+   *
+   * @param key The key.
+   * @return The keys related to the key, or null if there are none.
+   */
+  public List<EntityCacheKey> get(EntityCacheKey key) {
+    return reverseIndex.get(key);
   }
 
   public boolean remove(EntityCacheKey key) {
     List<EntityCacheKey> relatedKeys = entityToReverseIndexMap.remove(key);
     if (CollectionUtils.isNotEmpty(relatedKeys)) {
       for (EntityCacheKey relatedKey : relatedKeys) {
-        List<EntityCacheKey> existingKeys = reverseIndex.getValueForExactKey(relatedKey.toString());
+        List<EntityCacheKey> existingKeys = reverseIndex.get(relatedKey);
         if (existingKeys != null && existingKeys.contains(key)) {
           List<EntityCacheKey> newValues = Lists.newArrayList(existingKeys);
           newValues.remove(key);
           if (newValues.isEmpty()) {
-            reverseIndex.remove(relatedKey.toString());
+            reverseIndex.remove(relatedKey);
           } else {
-            reverseIndex.put(relatedKey.toString(), newValues);
+            reverseIndex.put(relatedKey, newValues);
           }
         }
       }
     }
 
-    return reverseIndex.remove(key.toString());
+    return reverseIndex.remove(key) != null;
   }
 
   public int size() {
@@ -121,9 +134,9 @@ public class ReverseIndexCache {
     EntityCacheKey entityCacheKey = EntityCacheKey.of(nameIdentifier, type);
     entityToReverseIndexMap.computeIfAbsent(key, k -> Lists.newArrayList()).add(entityCacheKey);
 
-    List<EntityCacheKey> existingKeys = reverseIndex.getValueForExactKey(entityCacheKey.toString());
+    List<EntityCacheKey> existingKeys = reverseIndex.get(entityCacheKey);
     if (existingKeys == null) {
-      reverseIndex.put(entityCacheKey.toString(), List.of(key));
+      reverseIndex.put(entityCacheKey, List.of(key));
     } else {
       if (existingKeys.contains(key)) {
         return;
@@ -131,13 +144,13 @@ public class ReverseIndexCache {
 
       List<EntityCacheKey> newValues = Lists.newArrayList(existingKeys);
       newValues.add(key);
-      reverseIndex.put(entityCacheKey.toString(), newValues);
+      reverseIndex.put(entityCacheKey, newValues);
     }
   }
 
   public List<EntityCacheKey> get(NameIdentifier nameIdentifier, Entity.EntityType type) {
     EntityCacheKey entityCacheKey = EntityCacheKey.of(nameIdentifier, type);
-    return reverseIndex.getValueForExactKey(entityCacheKey.toString());
+    return reverseIndex.get(entityCacheKey);
   }
 
   public void put(Entity entity, EntityCacheRelationKey key) {
@@ -171,12 +184,8 @@ public class ReverseIndexCache {
 
   @Override
   public String toString() {
-    Iterable<CharSequence> keys = reverseIndex.getKeysStartingWith("");
     StringBuilder sb = new StringBuilder();
-    for (CharSequence key : keys) {
-      sb.append(key).append(" -> ").append(reverseIndex.getValueForExactKey(key.toString()));
-      sb.append("\n");
-    }
+    reverseIndex.forEach((key, value) -> sb.append(key).append(" -> ").append(value).append("\n"));
 
     return sb.toString();
   }
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * The serialized tier of the entity cache. It keeps the entities evicted from the entity cache in
+ * the compact binary form of an {@link EntityCodec}, within a budget of bytes of its own, so that
+ * a working set larger than the entity cache can still be served without going to the store.
+ *
+ * <p>The tier is exclusive of the entity cache: an entity is put in it when it is evicted for size
+ * from the entity cache, and taken out of it when it is read again and promoted back. It is
+ * invalidated together with the entity cache, by identifier and by prefix.
+ *
+ * <p>An entity keeps the time it was loaded from the store across the tiers, and expires the
+ * expiration time after it, however often it moved between them.
+ */
+public class SerializedEntityCache {
+
+  private final PrefixIndexedCache<Entry> cacheData;
+
+  /**
+   * Constructs a new {@link SerializedEntityCache}.
+   *
+   * @param maxBytes The maximum number of bytes of the encoded entities and their keys.
+   * @param expireTimeMillis The time after which an entity expires since it was loaded from the
+   *     store, in milliseconds, 0 to never expire.
+   */
+  public SerializedEntityCache(long maxBytes, long expireTimeMillis) {
+    Caffeine<Object, Object> builder =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher(
+                (Object key, Object entry) ->
+                    EntityCacheWeigher.weighSerialized(
+                        (EntityCacheKey) key, ((Entry) entry).bytes()))
+            .recordStats();
+    if (expireTimeMillis > 0) {
+      long expireTimeNanos = TimeUnit.MILLISECONDS.toNanos(expireTimeMillis);
+      builder.expireAfter(
+          new Expiry<Object, Object>() {
+            @Override
+            public long expireAfterCreate(Object key, Object entry, long currentTime) {
+              long age = currentTime - ((Entry) entry).loadedAtNanos();
+              return Math.max(0L, expireTimeNanos - age);
+            }
+
+            @Override
+            public long expireAfterUpdate(
+                Object key, Object entry, long currentTime, long currentDuration) {
+              return expireAfterCreate(key, entry, currentTime);
+            }
+
+            @Override
+            public long expireAfterRead(
+                Object key, Object entry, long currentTime, long currentDuration) {
+              return currentDuration;
+            }
+          });
+    }
+    this.cacheData = new PrefixIndexedCache<>(builder);
+  }
+
+  /**
+   * Returns the encoded entity. This counts as a hit or a miss of the tier.
+   *
+   * @param key The key of the entity.
+   * @return The encoded entity, or {@code null} if it is not in the tier.
+   */
+  public Entry getIfPresent(EntityCacheRelationKey key) {
+    return cacheData.getIfPresent(key);
+  }
+
+  /**
+   * Returns the encoded entity without counting a hit or a miss of the tier.
+   *
+   * @param key The key of the entity.
+   * @return The encoded entity, or {@code null} if it is not in the tier.
+   */
+  public Entry getIfPresentQuietly(EntityCacheRelationKey key) {
+    return cacheData.policy().getIfPresentQuietly(key);
+  }
+
+  /**
+   * Checks whether the entity is in the tier, without counting a hit or a miss.
+   *
+   * @param key The key of the entity.
+   * @return {@code true} if the entity is in the tier, {@code false} otherwise.
+   */
+  public boolean contains(EntityCacheRelationKey key) {
+    return getIfPresentQuietly(key) != null;
+  }
+
+  /**
+   * Puts the encoded entity in the tier. It is not kept if it is larger than the budget of bytes,
+   * or if it was loaded longer than the expiration time ago.
+   *
+   * @param key The key of the entity.
+   * @param bytes The encoded entity.
+   * @param loadedAtNanos The time the entity was loaded from the store, as of {@link
+   *     System#nanoTime()}.
+   */
+  public void put(EntityCacheRelationKey key, byte[] bytes, long loadedAtNanos) {
+    cacheData.put(key, new Entry(bytes, loadedAtNanos));
+  }
+
+  /**
+   * Removes the entity with the key.
+   *
+   * @param key The key of the entity.
+   */
+  public void invalidate(EntityCacheRelationKey key) {
+    cacheData.invalidate(key);
+  }
+
+  /**
+   * Removes the entities with the identifier and all the identifiers under it.
+   *
+   * @param ident The identifier of the entities to remove.
+   */
+  public void invalidate(NameIdentifier ident) {
+    cacheData.invalidatePrefix(ident);
+  }
+
+  /** Removes all the entities. */
+  public void clear() {
+    cacheData.clear();
+  }
+
+  /**
+   * Returns the hit and miss statistics of the tier.
+   *
+   * @return The statistics of the tier.
+   */
+  public CacheStats stats() {
+    return cacheData.stats();
+  }
+
+  /**
+   * Returns the number of entities in the tier, including the ones expired but not cleaned up.
+   *
+   * @return The number of entities in the tier.
+   */
+  public long size() {
+    return cacheData.estimatedSize();
+  }
+
+  /**
+   * Returns the number of bytes used by the tier, as weighed by {@link
+   * EntityCacheWeigher#weighSerialized(EntityCacheKey, byte[])}.
+   *
+   * @return The number of bytes used by the tier.
+   */
+  public long weightedSize() {
+    return cacheData
+        .policy()
+        .eviction()
+        .map(eviction -> eviction.weightedSize().orElse(0L))
+        .orElse(0L);
+  }
+
+  /** An encoded entity with the time it was loaded from the store. */
+  public static final class Entry {
+    private final byte[] bytes;
+    private final long loadedAtNanos;
+
+    private Entry(byte[] bytes, long loadedAtNanos) {
+      this.bytes = bytes;
+      this.loadedAtNanos = loadedAtNanos;
+    }
+
+    /**
+     * Returns the encoded entity.
+     *
+     * @return The encoded entity.
+     */
+    public byte[] bytes() {
+      return bytes;
+    }
+
+    /**
+     * Returns the time the entity was loaded from the store, as of {@link System#nanoTime()}.
+     *
+     * @return The load time of the entity in nanoseconds.
+     */
+    public long loadedAtNanos() {
+      return loadedAtNanos;
+    }
+  }
+}
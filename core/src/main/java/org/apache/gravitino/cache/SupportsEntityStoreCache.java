@@ -59,6 +59,33 @@ public interface SupportsEntityStoreCache {
    */
   boolean contains(NameIdentifier ident, Entity.EntityType type);
 
+  /**
+   * Checks whether the entity was recently looked up and found missing in the store. Such lookups
+   * can fail fast without going to the store.
+   *
+   * @param ident the name identifier of the entity
+   * @param type the type of the entity
+   * @return {@code true} if the entity is known to be missing; {@code false} otherwise
+   */
+  boolean isNotFound(NameIdentifier ident, Entity.EntityType type);
+
+  /**
+   * Records that the entity was looked up and found missing in the store. The record expires after
+   * a short time, and is removed when the entity or one of its parents is put or invalidated.
+   *
+   * @param ident the name identifier of the entity
+   * @param type the type of the entity
+   */
+  void putNotFound(NameIdentifier ident, Entity.EntityType type);
+
+  /**
+   * Checks whether the lookups found missing in the store are recorded. If not, {@link
+   * #isNotFound} always returns {@code false} and {@link #putNotFound} does nothing.
+   *
+   * @return {@code true} if the missing entities are recorded; {@code false} otherwise
+   */
+  boolean isNotFoundCacheEnabled();
+
   /**
    * Puts an entity into the cache.
    *
@@ -67,6 +94,22 @@ public interface SupportsEntityStoreCache {
    */
   <E extends Entity & HasIdentifier> void put(E entity);
 
+  /**
+   * Records the time spent loading entities of the given type from the store after a cache miss.
+   *
+   * @param type the type of the entities loaded
+   * @param durationNanos the time spent loading them, in nanoseconds
+   */
+  void recordLoad(Entity.EntityType type, long durationNanos);
+
+  /**
+   * Sets the loader used to refresh the entries in the background before they expire. Refreshing
+   * is disabled until a loader is set.
+   *
+   * @param loader the loader of the entities from the store
+   */
+  void setRefreshLoader(EntityCacheLoader loader);
+
   /**
    * Invalidates related cache entries when inserting the given entity, if necessary.
    *
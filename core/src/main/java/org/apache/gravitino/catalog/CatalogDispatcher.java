@@ -19,10 +19,25 @@
 
 package org.apache.gravitino.catalog;
 
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchCatalogException;
+
 /**
  * {@code CatalogDispatcher} interface acts as a specialization of the {@link SupportsCatalogs}
  * interface. This interface is designed to potentially add custom behaviors or operations related
  * to dispatching or handling catalog-related events or actions that are not covered by the standard
  * {@code SupportsCatalogs} operations.
  */
-public interface CatalogDispatcher extends SupportsCatalogs {}
+public interface CatalogDispatcher extends SupportsCatalogs {
+
+  /**
+   * Refresh the metadata a catalog caches from its underlying source, see {@link
+   * CatalogMetadataCache}. The identifier can be the catalog, to refresh all its schemas and
+   * tables, a schema, to refresh it and its tables, or a table. The next loads read them from the
+   * underlying source again. Nothing is done if the catalog doesn't enable the metadata cache.
+   *
+   * @param ident The identifier of the catalog, schema or table to refresh.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  void refreshMetadataCache(NameIdentifier ident) throws NoSuchCatalogException;
+}
@@ -71,6 +71,7 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.Schema;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.BaseCatalog;
 import org.apache.gravitino.connector.CatalogOperations;
@@ -101,6 +102,7 @@ import org.apache.gravitino.rel.TableCatalog;
 import org.apache.gravitino.rel.ViewCatalog;
 import org.apache.gravitino.storage.IdGenerator;
 import org.apache.gravitino.utils.IsolatedClassLoader;
+import org.apache.gravitino.utils.NameIdentifierUtil;
 import org.apache.gravitino.utils.NamespaceUtil;
 import org.apache.gravitino.utils.PrincipalUtils;
 import org.apache.gravitino.utils.ThrowableFunction;
@@ -119,16 +121,124 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
 
     private BaseCatalog catalog;
     private IsolatedClassLoader classLoader;
+    @Nullable private final CatalogMetadataCache metadataCache;
 
     public CatalogWrapper(BaseCatalog catalog, IsolatedClassLoader classLoader) {
+      this(catalog, classLoader, null);
+    }
+
+    public CatalogWrapper(
+        BaseCatalog catalog,
+        IsolatedClassLoader classLoader,
+        @Nullable CatalogMetadataCache metadataCache) {
       this.catalog = catalog;
       this.classLoader = classLoader;
+      this.metadataCache = metadataCache;
     }
 
     public BaseCatalog catalog() {
       return catalog;
     }
 
+    /**
+     * Load a schema from the catalog, or from the metadata cache if the catalog enables it.
+     *
+     * @param ident The identifier of the schema.
+     * @return The schema loaded.
+     * @throws Exception If the schema can't be loaded.
+     */
+    public Schema loadSchema(NameIdentifier ident) throws Exception {
+      if (metadataCache == null) {
+        return doWithSchemaOps(s -> s.loadSchema(ident));
+      }
+      return metadataCache.getSchema(ident, () -> doWithSchemaOps(s -> s.loadSchema(ident)));
+    }
+
+    /**
+     * Load a table from the catalog, or from the metadata cache if the catalog enables it.
+     *
+     * @param ident The identifier of the table.
+     * @return The table loaded.
+     * @throws Exception If the table can't be loaded.
+     */
+    public Table loadTable(NameIdentifier ident) throws Exception {
+      if (metadataCache == null) {
+        return doWithTableOps(t -> t.loadTable(ident));
+      }
+      return metadataCache.getTable(ident, () -> doWithTableOps(t -> t.loadTable(ident)));
+    }
+
+    /**
+     * Run a write to schemas, and invalidate the cached schemas it changes once it is done, whether
+     * it succeeded or not.
+     *
+     * @param fn The write to run.
+     * @param changedSchemas The identifiers of the schemas the write changes.
+     * @return The result of the write.
+     * @param <R> The type of the result.
+     * @throws Exception If the write fails.
+     */
+    public <R> R doWithSchemaWriteOps(
+        ThrowableFunction<SupportsSchemas, R> fn, NameIdentifier... changedSchemas)
+        throws Exception {
+      try {
+        return doWithSchemaOps(fn);
+      } finally {
+        Arrays.stream(changedSchemas).forEach(this::invalidateSchema);
+      }
+    }
+
+    /**
+     * Run a write to tables, and invalidate the cached tables it changes once it is done, whether
+     * it succeeded or not.
+     *
+     * @param fn The write to run.
+     * @param changedTables The identifiers of the tables the write changes.
+     * @return The result of the write.
+     * @param <R> The type of the result.
+     * @throws Exception If the write fails.
+     */
+    public <R> R doWithTableWriteOps(
+        ThrowableFunction<TableCatalog, R> fn, NameIdentifier... changedTables) throws Exception {
+      try {
+        return doWithTableOps(fn);
+      } finally {
+        Arrays.stream(changedTables).forEach(this::invalidateTable);
+      }
+    }
+
+    /**
+     * Invalidate a cached schema and the tables under it, after a write to the schema.
+     *
+     * @param ident The identifier of the schema.
+     */
+    public void invalidateSchema(NameIdentifier ident) {
+      if (metadataCache != null) {
+        metadataCache.invalidateSchema(ident);
+      }
+    }
+
+    /**
+     * Invalidate a cached table, after a write to the table.
+     *
+     * @param ident The identifier of the table.
+     */
+    public void invalidateTable(NameIdentifier ident) {
+      if (metadataCache != null) {
+        metadataCache.invalidateTable(ident);
+      }
+    }
+
+    /**
+     * Get the metadata cache of the catalog.
+     *
+     * @return The metadata cache, or null if the catalog doesn't enable it.
+     */
+    @Nullable
+    public CatalogMetadataCache metadataCache() {
+      return metadataCache;
+    }
+
     public <R> R doWithSchemaOps(ThrowableFunction<SupportsSchemas, R> fn) throws Exception {
       return classLoader.withClassLoader(
           cl -> {
@@ -633,6 +743,39 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
         });
   }
 
+  @Override
+  public void refreshMetadataCache(NameIdentifier ident) throws NoSuchCatalogException {
+    NameIdentifier catalogIdent = NameIdentifierUtil.getCatalogIdentifier(ident);
+    CatalogWrapper wrapper = loadCatalogAndWrap(catalogIdent);
+    CatalogMetadataCache metadataCache = wrapper.metadataCache();
+    if (metadataCache == null) {
+      return;
+    }
+
+    // The cache is keyed by the identifiers the dispatchers normalized.
+    Capability capability;
+    try {
+      capability = wrapper.capabilities();
+    } catch (Exception e) {
+      throw new RuntimeException(e);
+    }
+
+    int levels = ident.namespace().length() + 1;
+    if (levels == 2) {
+      metadataCache.invalidateAll();
+    } else if (levels == 3) {
+      metadataCache.invalidateSchema(
+          CapabilityHelpers.applyCaseSensitive(ident, Capability.Scope.SCHEMA, capability));
+    } else if (levels == 4) {
+      metadataCache.invalidateTable(
+          CapabilityHelpers.applyCaseSensitive(ident, Capability.Scope.TABLE, capability));
+    } else {
+      throw new IllegalArgumentException(
+          "Only a catalog, a schema or a table can be refreshed, but got " + ident);
+    }
+    LOG.info("Refreshed the metadata cache of {}", ident);
+  }
+
   /**
    * Alters an existing catalog with the specified changes.
    *
@@ -963,7 +1106,8 @@ public class CatalogManager implements CatalogDispatcher, Closeable {
     IsolatedClassLoader classLoader = createClassLoader(provider, conf);
     BaseCatalog<?> catalog = createBaseCatalog(classLoader, entity);
 
-    CatalogWrapper wrapper = new CatalogWrapper(catalog, classLoader);
+    CatalogWrapper wrapper =
+        new CatalogWrapper(catalog, classLoader, CatalogMetadataCache.create(conf));
     // Validate catalog properties and initialize the config
     classLoader.withClassLoader(
         cl -> {
@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.connector.BaseCatalogPropertiesMetadata;
+import org.apache.gravitino.connector.PropertiesMetadata;
+import org.apache.gravitino.rel.Table;
+import org.apache.gravitino.utils.Executable;
+
+/**
+ * A cache of the schemas and tables loaded from the underlying source of a catalog, such as a Hive
+ * Metastore. Loading them from a remote source is the main cost of a load request, even when they
+ * did not change, so a catalog can opt in to keep them for a while.
+ *
+ * <p>The writes going through the dispatchers invalidate the entries they change. Changes made
+ * directly in the underlying source, or through another Gravitino server, are only seen once the
+ * entries expire or are refreshed explicitly.
+ *
+ * <p>The entries are keyed by identifier only and shared by all the users. A catalog that
+ * impersonates the users when accessing the underlying source can return different metadata to
+ * different users, so it can't enable the cache.
+ */
+public class CatalogMetadataCache {
+
+  /** The catalog property to enable the metadata cache of the catalog. */
+  public static final String METADATA_CACHE_ENABLED = "metadata-cache.enabled";
+
+  /** The catalog property of the time in milliseconds a cached schema or table is kept. */
+  public static final String METADATA_CACHE_TTL_MS = "metadata-cache.ttl-ms";
+
+  /** The catalog property of the maximum number of schemas and tables cached, each. */
+  public static final String METADATA_CACHE_MAX_ENTRIES = "metadata-cache.max-entries";
+
+  public static final long DEFAULT_METADATA_CACHE_TTL_MS = 60_000L;
+
+  public static final int DEFAULT_METADATA_CACHE_MAX_ENTRIES = 10_000;
+
+  // The catalog properties enabling impersonation, under the names used by the different catalogs.
+  private static final List<String> IMPERSONATION_ENABLE_PROPERTIES =
+      ImmutableList.of("impersonation-enable", "authentication.impersonation-enable");
+
+  private final Cache<NameIdentifier, Schema> schemas;
+
+  private final Cache<NameIdentifier, Table> tables;
+
+  // Increased by every invalidation, so that a load running concurrently with a write doesn't
+  // cache what it read before the write.
+  private final AtomicLong generation = new AtomicLong();
+
+  @VisibleForTesting
+  CatalogMetadataCache(long ttlMs, int maxEntries) {
+    Preconditions.checkArgument(ttlMs > 0, "%s must be positive", METADATA_CACHE_TTL_MS);
+    Preconditions.checkArgument(maxEntries > 0, "%s must be positive", METADATA_CACHE_MAX_ENTRIES);
+    this.schemas =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxEntries)
+            .build();
+    this.tables =
+        Caffeine.newBuilder()
+            .expireAfterWrite(ttlMs, TimeUnit.MILLISECONDS)
+            .maximumSize(maxEntries)
+            .build();
+  }
+
+  /**
+   * Create the metadata cache of a catalog from its properties.
+   *
+   * @param properties The properties of the catalog.
+   * @return The metadata cache, or null if the catalog doesn't enable it.
+   * @throws IllegalArgumentException If the cache properties are invalid, or if the catalog also
+   *     enables impersonation.
+   */
+  public static CatalogMetadataCache create(Map<String, String> properties) {
+    if (properties == null || !Boolean.parseBoolean(properties.get(METADATA_CACHE_ENABLED))) {
+      return null;
+    }
+
+    for (String impersonationProperty : IMPERSONATION_ENABLE_PROPERTIES) {
+      Preconditions.checkArgument(
+          !Boolean.parseBoolean(properties.get(impersonationProperty)),
+          "Property %s can't be enabled together with %s, the cached metadata would be shared "
+              + "by all the impersonated users",
+          METADATA_CACHE_ENABLED,
+          impersonationProperty);
+    }
+
+    PropertiesMetadata propertiesMetadata =
+        BaseCatalogPropertiesMetadata.BASIC_CATALOG_PROPERTIES_METADATA;
+    return new CatalogMetadataCache(
+        (Long) propertiesMetadata.getOrDefault(properties, METADATA_CACHE_TTL_MS),
+        (Integer) propertiesMetadata.getOrDefault(properties, METADATA_CACHE_MAX_ENTRIES));
+  }
+
+  /**
+   * Get a schema from the cache, or load it from the underlying source.
+   *
+   * @param ident The identifier of the schema.
+   * @param loader The loader of the schema from the underlying source.
+   * @return The schema.
+   * @throws Exception If the schema is not cached and the loader fails.
+   */
+  public Schema getSchema(NameIdentifier ident, Executable<Schema, Exception> loader)
+      throws Exception {
+    return get(schemas, ident, loader);
+  }
+
+  /**
+   * Get a table from the cache, or load it from the underlying source.
+   *
+   * @param ident The identifier of the table.
+   * @param loader The loader of the table from the underlying source.
+   * @return The table.
+   * @throws Exception If the table is not cached and the loader fails.
+   */
+  public Table getTable(NameIdentifier ident, Executable<Table, Exception> loader)
+      throws Exception {
+    return get(tables, ident, loader);
+  }
+
+  /**
+   * Invalidate a schema and all the tables under it.
+   *
+   * @param ident The identifier of the schema.
+   */
+  public void invalidateSchema(NameIdentifier ident) {
+    generation.incrementAndGet();
+    schemas.invalidate(ident);
+    String[] tableLevels = ArrayUtils.add(ident.namespace().levels(), ident.name());
+    tables
+        .asMap()
+        .keySet()
+        .removeIf(tableIdent -> Arrays.equals(tableIdent.namespace().levels(), tableLevels));
+  }
+
+  /**
+   * Invalidate a table.
+   *
+   * @param ident The identifier of the table.
+   */
+  public void invalidateTable(NameIdentifier ident) {
+    generation.incrementAndGet();
+    tables.invalidate(ident);
+  }
+
+  /** Invalidate all the schemas and tables of the catalog. */
+  public void invalidateAll() {
+    generation.incrementAndGet();
+    schemas.invalidateAll();
+    tables.invalidateAll();
+  }
+
+  @VisibleForTesting
+  long size() {
+    return schemas.estimatedSize() + tables.estimatedSize();
+  }
+
+  private <T> T get(
+      Cache<NameIdentifier, T> cache, NameIdentifier ident, Executable<T, Exception> loader)
+      throws Exception {
+    T cached = cache.getIfPresent(ident);
+    if (cached != null) {
+      return cached;
+    }
+
+    // The load is not run within the cache, a slow source then doesn't block the other entries.
+    long loadGeneration = generation.get();
+    T loaded = loader.execute();
+    if (loaded != null && generation.get() == loadGeneration) {
+      cache.put(ident, loaded);
+      // An invalidation may have come between the check and the put, it then wins.
+      if (generation.get() != loadGeneration) {
+        cache.asMap().remove(ident, loaded);
+      }
+    }
+    return loaded;
+  }
+}
@@ -134,6 +134,11 @@ public class CatalogNormalizeDispatcher implements CatalogDispatcher {
     dispatcher.disableCatalog(ident);
   }
 
+  @Override
+  public void refreshMetadataCache(NameIdentifier ident) throws NoSuchCatalogException {
+    dispatcher.refreshMetadataCache(ident);
+  }
+
   private void validateCatalogName(String name) throws IllegalArgumentException {
     if (RESERVED_WORDS.contains(name.toLowerCase())) {
       throw new IllegalArgumentException("The catalog name '" + name + "' is reserved.");
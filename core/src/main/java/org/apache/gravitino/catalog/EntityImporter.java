@@ -0,0 +1,386 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Configs.ENTITY_IMPORT_BATCH_SIZE;
+import static org.apache.gravitino.Configs.ENTITY_IMPORT_QUEUE_CAPACITY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.io.Closeable;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Imports in the background the entities that exist in the underlying source of a catalog but not
+ * in the entity store yet, such as the tables of a Hive Metastore created without Gravitino.
+ *
+ * <p>A load of such an entity is then served right away with what the catalog returned, instead of
+ * taking the write lock of the parent and writing the entity store within the read request. The
+ * worker drains the queued imports in batches. It first loads the entities of a batch from their
+ * catalogs without holding any lock, then writes the entities under the same parent with one
+ * {@link EntityStore#batchPut} per entity type, within a single hold of the parent's write lock.
+ * Parents are written before their children within a batch. The imports are idempotent: a loader
+ * returns nothing if the entity has been imported meanwhile, and the entities are written with
+ * overwrite to replace the stored entity otherwise left behind by a rename in the underlying
+ * source.
+ *
+ * <p>An entity altered or dropped through Gravitino while its import is pending may have been
+ * loaded before the change, so the change cancels the import, see {@link #cancel}.
+ *
+ * <p>An import that fails is only logged, the next load of the entity queues it again. Imports
+ * still queued when the server stops are dropped likewise.
+ */
+public class EntityImporter implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityImporter.class);
+
+  private static final long CLOSE_TIMEOUT_MS = 5000L;
+
+  private final EntityStore store;
+
+  private final BlockingQueue<ImportTask> queue;
+
+  // The imports queued or running, an import is run by whoever claims it first.
+  private final Map<NameIdentifier, ImportTask> pending = new ConcurrentHashMap<>();
+
+  private final int batchSize;
+
+  private final Thread worker;
+
+  private volatile boolean closed = false;
+
+  public EntityImporter(Config config, EntityStore store) {
+    this(store, config.get(ENTITY_IMPORT_QUEUE_CAPACITY), config.get(ENTITY_IMPORT_BATCH_SIZE));
+  }
+
+  @VisibleForTesting
+  EntityImporter(EntityStore store, int queueCapacity, int batchSize) {
+    Preconditions.checkArgument(queueCapacity > 0, "The queue capacity must be positive");
+    Preconditions.checkArgument(batchSize > 0, "The batch size must be positive");
+    this.store = store;
+    this.queue = new ArrayBlockingQueue<>(queueCapacity);
+    this.batchSize = batchSize;
+    this.worker =
+        new ThreadFactoryBuilder()
+            .setDaemon(true)
+            .setNameFormat("entity-importer-%d")
+            .build()
+            .newThread(this::run);
+    worker.start();
+  }
+
+  /**
+   * Queue the import of an entity, unless it is already queued.
+   *
+   * @param ident The identifier of the entity to import.
+   * @param parentIdent The identifier of the parent, whose write lock the entity is written under.
+   * @param loader Loads the entity from the catalog without any lock held, and returns the entity
+   *     to store, or null if it doesn't need to be imported anymore. It runs as the current user.
+   * @param <E> The type of the entity.
+   * @return True if the import is queued, false if the queue is full or the importer is closed, in
+   *     which case the caller should import the entity itself.
+   */
+  public <E extends Entity & HasIdentifier> boolean submit(
+      NameIdentifier ident, NameIdentifier parentIdent, Supplier<E> loader) {
+    if (closed) {
+      return false;
+    }
+
+    // The loader calls the catalog on behalf of the user whose load queued the import.
+    ImportTask task =
+        new ImportTask(ident, parentIdent, PrincipalUtils.getCurrentPrincipal(), loader);
+    ImportTask existing = pending.putIfAbsent(ident, task);
+    if (existing != null) {
+      return true;
+    }
+
+    if (!queue.offer(task)) {
+      pending.remove(ident, task);
+      LOG.warn("The entity import queue is full, importing {} synchronously", ident);
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Import an entity right away if its import is queued, or wait for it if it is running. Writes
+   * that need the entity in the store, such as creating a table in an imported schema, call this
+   * first. It must not be called while holding a tree lock.
+   *
+   * @param ident The identifier of the entity.
+   */
+  public void importNow(NameIdentifier ident) {
+    ImportTask task = pending.get(ident);
+    if (task == null) {
+      return;
+    }
+
+    if (!task.claim()) {
+      task.done.join();
+      return;
+    }
+
+    try {
+      if (load(task)) {
+        TreeLockUtils.doWithTreeLock(
+            task.parentIdent, LockType.WRITE, () -> write(task.parentIdent, List.of(task)));
+      }
+    } finally {
+      finish(task);
+    }
+  }
+
+  /**
+   * Cancel the pending imports of an entity and of the entities under it. An alteration or a drop
+   * of the entity calls this within the write lock it takes, so that an entity loaded before the
+   * change is not written after it. The entities are imported again on their next load.
+   *
+   * @param ident The identifier of the altered or dropped entity.
+   */
+  public void cancel(NameIdentifier ident) {
+    if (pending.isEmpty()) {
+      return;
+    }
+
+    List<String> levels = List.of(ident.namespace().levels());
+    pending.values().stream()
+        .filter(task -> task.ident.equals(ident) || isUnder(task.ident, levels, ident.name()))
+        .forEach(task -> task.cancelled = true);
+  }
+
+  /**
+   * Get the number of imports queued or running.
+   *
+   * @return The number of pending imports.
+   */
+  public int pendingImports() {
+    return pending.size();
+  }
+
+  @Override
+  public void close() {
+    closed = true;
+    worker.interrupt();
+    try {
+      worker.join(CLOSE_TIMEOUT_MS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+
+    if (!pending.isEmpty()) {
+      LOG.info("Dropped {} pending entity imports on close", pending.size());
+    }
+    queue.clear();
+  }
+
+  private void run() {
+    while (!closed) {
+      List<ImportTask> batch = new ArrayList<>(batchSize);
+      try {
+        batch.add(queue.take());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      queue.drainTo(batch, batchSize - 1);
+
+      try {
+        importBatch(batch);
+      } catch (Throwable t) {
+        LOG.error("Failed to import a batch of {} entities", batch.size(), t);
+      }
+    }
+  }
+
+  private void importBatch(List<ImportTask> batch) {
+    Map<NameIdentifier, List<ImportTask>> tasksByParent = new LinkedHashMap<>();
+    for (ImportTask task : batch) {
+      // A task claimed by importNow meanwhile is run there.
+      if (!task.claim()) {
+        continue;
+      }
+
+      // The catalog is called without any lock held.
+      if (load(task)) {
+        tasksByParent.computeIfAbsent(task.parentIdent, k -> new ArrayList<>()).add(task);
+      } else {
+        finish(task);
+      }
+    }
+
+    // The schemas are written before the tables and topics under them.
+    List<Map.Entry<NameIdentifier, List<ImportTask>>> groups =
+        new ArrayList<>(tasksByParent.entrySet());
+    groups.sort(Comparator.comparingInt(group -> group.getKey().namespace().length()));
+
+    for (Map.Entry<NameIdentifier, List<ImportTask>> group : groups) {
+      try {
+        TreeLockUtils.doWithTreeLock(
+            group.getKey(), LockType.WRITE, () -> write(group.getKey(), group.getValue()));
+      } catch (Exception e) {
+        LOG.warn(
+            "Failed to import {} entities under {}", group.getValue().size(), group.getKey(), e);
+      } finally {
+        group.getValue().forEach(this::finish);
+      }
+    }
+  }
+
+  /**
+   * Load the entity of a task from its catalog.
+   *
+   * @param task The import task.
+   * @return True if the entity has to be written, false if it doesn't or couldn't be loaded.
+   */
+  private boolean load(ImportTask task) {
+    try {
+      task.entity = PrincipalUtils.doAs(task.principal, task.loader::get);
+      return task.entity != null;
+    } catch (Exception e) {
+      LOG.warn("Failed to load entity {}, it will be imported on its next load", task.ident, e);
+      return false;
+    }
+  }
+
+  /**
+   * Write the loaded entities of the tasks under the same parent, the caller holds the parent's
+   * write lock.
+   *
+   * @param parentIdent The identifier of the parent.
+   * @param tasks The import tasks whose entity has been loaded.
+   * @return Always null.
+   */
+  private Void write(NameIdentifier parentIdent, List<ImportTask> tasks) {
+    Map<Entity.EntityType, List<Entity>> entitiesByType = new EnumMap<>(Entity.EntityType.class);
+    for (ImportTask task : tasks) {
+      if (task.cancelled) {
+        LOG.debug("The import of entity {} is cancelled", task.ident);
+        continue;
+      }
+      entitiesByType
+          .computeIfAbsent(task.entity.type(), k -> new ArrayList<>())
+          .add(task.entity);
+    }
+
+    entitiesByType.forEach(
+        (type, entities) -> {
+          try {
+            batchPut(entities);
+            LOG.debug(
+                "Imported {} entities of type {} under {}", entities.size(), type, parentIdent);
+          } catch (Exception e) {
+            LOG.warn(
+                "Failed to import {} entities of type {} under {}, importing them one by one",
+                entities.size(),
+                type,
+                parentIdent,
+                e);
+            entities.forEach(this::put);
+          }
+        });
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Entity & HasIdentifier> void batchPut(List<Entity> entities)
+      throws Exception {
+    store.batchPut((List<E>) (List<?>) entities, true);
+  }
+
+  @SuppressWarnings("unchecked")
+  private <E extends Entity & HasIdentifier> void put(Entity entity) {
+    E e = (E) entity;
+    try {
+      store.put(e, true);
+    } catch (Exception ex) {
+      LOG.warn(
+          "Failed to import entity {}, it will be imported on its next load",
+          e.nameIdentifier(),
+          ex);
+    }
+  }
+
+  private void finish(ImportTask task) {
+    pending.remove(task.ident, task);
+    task.done.complete(null);
+  }
+
+  private static boolean isUnder(NameIdentifier child, List<String> levels, String name) {
+    String[] childLevels = child.namespace().levels();
+    if (childLevels.length <= levels.size()) {
+      return false;
+    }
+    for (int i = 0; i < levels.size(); i++) {
+      if (!childLevels[i].equals(levels.get(i))) {
+        return false;
+      }
+    }
+    return childLevels[levels.size()].equals(name);
+  }
+
+  private static final class ImportTask {
+    private final NameIdentifier ident;
+    private final NameIdentifier parentIdent;
+    private final Principal principal;
+    private final Supplier<? extends Entity> loader;
+    private final AtomicBoolean claimed = new AtomicBoolean(false);
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    // The entity loaded from the catalog, written by the thread that claimed the task.
+    private Entity entity;
+    private volatile boolean cancelled = false;
+
+    private ImportTask(
+        NameIdentifier ident,
+        NameIdentifier parentIdent,
+        Principal principal,
+        Supplier<? extends Entity> loader) {
+      this.ident = ident;
+      this.parentIdent = parentIdent;
+      this.principal = principal;
+      this.loader = loader;
+    }
+
+    private boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+  }
+}
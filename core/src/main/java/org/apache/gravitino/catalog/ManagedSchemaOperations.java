@@ -27,6 +27,7 @@ import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -72,6 +73,31 @@ public abstract class ManagedSchemaOperations implements SupportsSchemas {
 
   protected abstract EntityStore store();
 
+  @Override
+  public NameIdentifierPage listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    NameIdentifierPage.checkPageSize(pageSize);
+    try {
+      // Fetch one more schema than requested to know whether there is a next page.
+      List<SchemaEntity> schemas =
+          store()
+              .list(
+                  namespace, SchemaEntity.class, Entity.EntityType.SCHEMA, pageToken, pageSize + 1);
+      NameIdentifier[] idents =
+          schemas.stream()
+              .limit(pageSize)
+              .map(s -> NameIdentifier.of(namespace, s.name()))
+              .toArray(NameIdentifier[]::new);
+      String nextPageToken = schemas.size() > pageSize ? idents[pageSize - 1].name() : null;
+      return NameIdentifierPage.of(idents, nextPageToken);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchCatalogException(e, "Catalog %s does not exist", namespace);
+    } catch (IOException ioe) {
+      throw new RuntimeException("Failed to list schemas under namespace " + namespace, ioe);
+    }
+  }
+
   @Override
   public NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException {
     try {
@@ -36,6 +36,7 @@ import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.GenericColumn;
@@ -93,6 +94,31 @@ public abstract class ManagedTableOperations implements TableCatalog {
     }
   }
 
+  @Override
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    NameIdentifierPage.checkPageSize(pageSize);
+    try {
+      // Fetch one more table than requested to know whether there is a next page.
+      List<TableEntity> tables =
+          store()
+              .list(
+                  namespace, TableEntity.class, Entity.EntityType.TABLE, pageToken, pageSize + 1);
+      NameIdentifier[] idents =
+          tables.stream()
+              .limit(pageSize)
+              .map(t -> NameIdentifier.of(namespace, t.name()))
+              .toArray(NameIdentifier[]::new);
+      String nextPageToken = tables.size() > pageSize ? idents[pageSize - 1].name() : null;
+      return NameIdentifierPage.of(idents, nextPageToken);
+
+    } catch (NoSuchEntityException e) {
+      throw new NoSuchSchemaException(e, "Schema %s does not exist", namespace);
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to list tables in schema " + namespace, e);
+    }
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     try {
@@ -24,9 +24,11 @@ import static org.apache.gravitino.utils.NameIdentifierUtil.getCatalogIdentifier
 import com.google.common.collect.Maps;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.SchemaChange;
@@ -228,6 +230,47 @@ public abstract class OperationDispatcher {
         IllegalArgumentException.class);
   }
 
+  /**
+   * Queue the import of an entity missing from the entity store, if the imports run in the
+   * background.
+   *
+   * @param ident The identifier of the entity to import.
+   * @param parentIdent The identifier of the parent, whose write lock the entity is written under.
+   * @param loader Loads the entity to import from the catalog, or returns null if it is imported.
+   * @param <E> The type of the entity.
+   * @return True if the import is queued, false if the caller should import the entity itself.
+   */
+  protected <E extends Entity & HasIdentifier> boolean submitImport(
+      NameIdentifier ident, NameIdentifier parentIdent, Supplier<E> loader) {
+    EntityImporter entityImporter = GravitinoEnv.getInstance().entityImporter();
+    return entityImporter != null && entityImporter.submit(ident, parentIdent, loader);
+  }
+
+  /**
+   * Cancel the queued imports of an entity and of the entities under it, for an alteration or a
+   * drop of the entity. It is called within the write lock of the change.
+   *
+   * @param ident The identifier of the altered or dropped entity.
+   */
+  protected void cancelImports(NameIdentifier ident) {
+    EntityImporter entityImporter = GravitinoEnv.getInstance().entityImporter();
+    if (entityImporter != null) {
+      entityImporter.cancel(ident);
+    }
+  }
+
+  /**
+   * Run the queued import of an entity right away, for a write that needs the entity in the store.
+   *
+   * @param ident The identifier of the entity.
+   */
+  protected void importNowIfQueued(NameIdentifier ident) {
+    EntityImporter entityImporter = GravitinoEnv.getInstance().entityImporter();
+    if (entityImporter != null) {
+      entityImporter.importNow(ident);
+    }
+  }
+
   protected <E extends Entity & HasIdentifier> E getEntity(
       NameIdentifier ident, Entity.EntityType type, Class<E> entityClass) {
     try {
@@ -25,6 +25,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -51,6 +52,16 @@ public class SchemaNormalizeDispatcher implements SchemaDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifierPage listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    NameIdentifierPage page = dispatcher.listSchemas(namespace, pageToken, pageSize);
+    // Keep the next page token as returned by the underlying catalog, so that the keyset stays
+    // consistent with the order of the underlying catalog.
+    return NameIdentifierPage.of(
+        normalizeCaseSensitive(page.identifiers()), page.nextPageToken());
+  }
+
   @Override
   public boolean schemaExists(NameIdentifier ident) {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -27,6 +27,7 @@ import java.util.Map;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -83,6 +84,31 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
                 NoSuchCatalogException.class));
   }
 
+  /**
+   * Lists one page of the schemas within the specified namespace. The keyset pagination is pushed
+   * down to the underlying catalog, catalogs that cannot paginate natively will list all the
+   * schemas and cut the requested page out of them.
+   *
+   * @param namespace The namespace in which to list schemas.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of schemas to return.
+   * @return A page of NameIdentifier objects representing the schemas.
+   * @throws NoSuchCatalogException If the catalog namespace does not exist.
+   */
+  @Override
+  public NameIdentifierPage listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    NameIdentifierPage.checkPageSize(pageSize);
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithSchemaOps(s -> s.listSchemas(namespace, pageToken, pageSize)),
+                NoSuchCatalogException.class));
+  }
+
   /**
    * Creates a new schema.
    *
@@ -126,7 +152,9 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
           Schema schema =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.createSchema(ident, comment, updatedProperties)),
+                  c ->
+                      c.doWithSchemaWriteOps(
+                          s -> s.createSchema(ident, comment, updatedProperties), ident),
                   NoSuchCatalogException.class,
                   SchemaAlreadyExistsException.class);
 
@@ -188,9 +216,11 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     EntityCombinedSchema schema =
         TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadSchema(ident));
 
-    if (!schema.imported()) {
+    NameIdentifier catalogIdent = NameIdentifier.of(ident.namespace().levels());
+    if (!schema.imported()
+        && !submitImport(ident, catalogIdent, () -> loadSchemaEntityToImport(ident))) {
       TreeLockUtils.doWithTreeLock(
-          NameIdentifier.of(ident.namespace().levels()),
+          catalogIdent,
           LockType.WRITE,
           () -> {
             importSchema(ident);
@@ -221,11 +251,12 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         ident,
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           validateAlterProperties(ident, HasPropertyMetadata::schemaPropertiesMetadata, changes);
           Schema alteredSchema =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.alterSchema(ident, changes)),
+                  c -> c.doWithSchemaWriteOps(s -> s.alterSchema(ident, changes), ident),
                   NoSuchSchemaException.class);
 
           // If the Schema is maintained by the Gravitino's store, we don't have to alter again.
@@ -311,10 +342,11 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
         catalogIdent,
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithSchemaOps(s -> s.dropSchema(ident, cascade)),
+                  c -> c.doWithSchemaWriteOps(s -> s.dropSchema(ident, cascade), ident),
                   NonEmptySchemaException.class,
                   RuntimeException.class);
 
@@ -344,9 +376,35 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
   }
 
   private void importSchema(NameIdentifier identifier) {
+    SchemaEntity schemaEntity = loadSchemaEntityToImport(identifier);
+    if (schemaEntity == null) {
+      return;
+    }
+
+    try {
+      store.put(schemaEntity, true);
+    } catch (EntityAlreadyExistsException e) {
+      LOG.error(
+          "Failed to import schema {} with id {} to the store.", identifier, schemaEntity.id(), e);
+      throw new UnsupportedOperationException(
+          "Schema managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
+              + "To resolve: Remove all catalogs managing this schema, then recreate one catalog to ensure single-catalog management.");
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import schema entity to the store.", e);
+    }
+  }
+
+  /**
+   * Load a schema from the catalog and build the entity to import it with.
+   *
+   * @param identifier The identifier of the schema.
+   * @return The schema entity to import, or null if the schema is already imported.
+   */
+  private SchemaEntity loadSchemaEntityToImport(NameIdentifier identifier) {
     EntityCombinedSchema schema = internalLoadSchema(identifier);
     if (schema.imported()) {
-      return;
+      return null;
     }
 
     StringIdentifier stringId = null;
@@ -371,30 +429,18 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
       uid = idGenerator.nextId();
     }
 
-    SchemaEntity schemaEntity =
-        SchemaEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withAuditInfo(
-                AuditInfo.builder()
-                    .withCreator(schema.auditInfo().creator())
-                    .withCreateTime(schema.auditInfo().createTime())
-                    .withLastModifier(schema.auditInfo().lastModifier())
-                    .withLastModifiedTime(schema.auditInfo().lastModifiedTime())
-                    .build())
-            .build();
-    try {
-      store.put(schemaEntity, true);
-    } catch (EntityAlreadyExistsException e) {
-      LOG.error("Failed to import schema {} with id {} to the store.", identifier, uid, e);
-      throw new UnsupportedOperationException(
-          "Schema managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
-              + "To resolve: Remove all catalogs managing this schema, then recreate one catalog to ensure single-catalog management.");
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import schema entity to the store.", e);
-    }
+    return SchemaEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(schema.auditInfo().creator())
+                .withCreateTime(schema.auditInfo().createTime())
+                .withLastModifier(schema.auditInfo().lastModifier())
+                .withLastModifiedTime(schema.auditInfo().lastModifiedTime())
+                .build())
+        .build();
   }
 
   private EntityCombinedSchema internalLoadSchema(NameIdentifier ident) {
@@ -402,7 +448,7 @@ public class SchemaOperationDispatcher extends OperationDispatcher implements Sc
     Schema schema =
         doWithCatalog(
             catalogIdentifier,
-            c -> c.doWithSchemaOps(s -> s.loadSchema(ident)),
+            c -> c.loadSchema(ident),
             NoSuchSchemaException.class);
 
     // If the Schema is maintained by the entity store, we don't have to import.
@@ -25,6 +25,7 @@ import static org.apache.gravitino.catalog.CapabilityHelpers.getCapability;
 import java.util.Map;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.connector.capability.Capability;
 import org.apache.gravitino.exceptions.NoSuchSchemaException;
@@ -56,6 +57,17 @@ public class TableNormalizeDispatcher implements TableDispatcher {
     return normalizeCaseSensitive(identifiers);
   }
 
+  @Override
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    Namespace caseSensitiveNs = normalizeCaseSensitive(namespace);
+    NameIdentifierPage page = dispatcher.listTables(caseSensitiveNs, pageToken, pageSize);
+    // Keep the next page token as returned by the underlying catalog, so that the keyset stays
+    // consistent with the order of the underlying catalog.
+    return NameIdentifierPage.of(
+        normalizeCaseSensitive(page.identifiers()), page.nextPageToken());
+  }
+
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     // The constraints of the name spec may be more strict than underlying catalog,
@@ -40,6 +40,7 @@ import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.StringIdentifier;
 import org.apache.gravitino.connector.HasPropertyMetadata;
@@ -104,6 +105,31 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                 NoSuchSchemaException.class));
   }
 
+  /**
+   * Lists one page of the tables in a schema. The keyset pagination is pushed down to the
+   * underlying catalog, catalogs that cannot paginate natively will list all the tables and cut the
+   * requested page out of them.
+   *
+   * @param namespace The namespace of the schema containing the tables.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of tables to return.
+   * @return A page of {@link NameIdentifier} objects representing the tables.
+   * @throws NoSuchSchemaException If the specified schema does not exist.
+   */
+  @Override
+  public NameIdentifierPage listTables(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchSchemaException {
+    NameIdentifierPage.checkPageSize(pageSize);
+    return TreeLockUtils.doWithTreeLock(
+        NameIdentifier.of(namespace.levels()),
+        LockType.READ,
+        () ->
+            doWithCatalog(
+                getCatalogIdentifier(NameIdentifier.of(namespace.levels())),
+                c -> c.doWithTableOps(t -> t.listTables(namespace, pageToken, pageSize)),
+                NoSuchSchemaException.class));
+  }
+
   /**
    * Loads a table.
    *
@@ -114,7 +140,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
   @Override
   public Table loadTable(NameIdentifier ident) throws NoSuchTableException {
     EntityCombinedTable entityCombinedTable =
-        TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> internalLoadTable(ident));
+        TreeLockUtils.doWithOptimisticReadTreeLock(ident, () -> internalLoadTable(ident));
 
     if (!entityCombinedTable.imported()) {
       // Load the schema to make sure the schema is imported.
@@ -122,7 +148,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
       schemaDispatcher.loadSchema(schemaIdent);
 
-      // Import the table.
+      // Serve the table from the catalog, and import it in the background.
+      if (submitImport(ident, schemaIdent, () -> loadTableEntityToImport(ident))) {
+        return entityCombinedTable;
+      }
+
+      // Import the table, after the schema if its import is queued.
+      importNowIfQueued(schemaIdent);
       entityCombinedTable =
           TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> importTable(ident));
     }
@@ -165,10 +197,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       Index[] indexes)
       throws NoSuchSchemaException, TableAlreadyExistsException {
 
-    // Load the schema to make sure the schema exists.
+    // Load the schema to make sure the schema exists, and is imported before the table is stored.
     SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     schemaDispatcher.loadSchema(schemaIdent);
+    importNowIfQueued(schemaIdent);
 
     return TreeLockUtils.doWithTreeLock(
         NameIdentifier.of(ident.namespace().levels()),
@@ -222,17 +255,25 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       }
     }
 
+    // The alteration takes the distributed lock even with a read lock on the table, so that two
+    // servers don't alter the same table concurrently.
     return TreeLockUtils.doWithTreeLock(
         nameIdentifierForLock,
         nameIdentifierForLock.equals(ident) ? LockType.READ : LockType.WRITE,
+        true,
         () -> {
+          cancelImports(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           Table alteredTable =
               doWithCatalog(
                   catalogIdent,
-                  c ->
-                      c.doWithTableOps(
-                          t -> t.alterTable(ident, applyCapabilities(c.capabilities(), changes))),
+                  c -> {
+                    TableChange[] normalizedChanges = applyCapabilities(c.capabilities(), changes);
+                    return c.doWithTableWriteOps(
+                        t -> t.alterTable(ident, normalizedChanges),
+                        ident,
+                        getNewIdentifier(ident, normalizedChanges));
+                  },
                   NoSuchTableException.class,
                   IllegalArgumentException.class);
 
@@ -325,11 +366,12 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithTableOps(t -> t.dropTable(ident)),
+                  c -> c.doWithTableWriteOps(t -> t.dropTable(ident), ident),
                   RuntimeException.class);
 
           boolean isManagedTable = isManagedEntity(catalogIdent, Capability.Scope.TABLE);
@@ -378,10 +420,11 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         schemaIdentifier,
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
                   catalogIdent,
-                  c -> c.doWithTableOps(t -> t.purgeTable(ident)),
+                  c -> c.doWithTableWriteOps(t -> t.purgeTable(ident), ident),
                   RuntimeException.class,
                   UnsupportedOperationException.class);
 
@@ -410,6 +453,16 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         });
   }
 
+  private NameIdentifier getNewIdentifier(NameIdentifier tableIdent, TableChange... changes) {
+    String newName =
+        Arrays.stream(changes)
+            .filter(c -> c instanceof TableChange.RenameTable)
+            .map(c -> ((TableChange.RenameTable) c).getNewName())
+            .reduce((c1, c2) -> c2)
+            .orElse(tableIdent.name());
+    return NameIdentifier.of(getNewNamespace(tableIdent, changes), newName);
+  }
+
   private Namespace getNewNamespace(NameIdentifier tableIdent, TableChange... changes) {
     String schemaName = tableIdent.namespace().level(2);
     return Arrays.stream(changes)
@@ -435,6 +488,40 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
       return table;
     }
 
+    TableEntity tableEntity = toTableEntityToImport(identifier, table);
+    try {
+      store.put(tableEntity, true);
+    } catch (EntityAlreadyExistsException e) {
+      LOG.error(
+          "Failed to import table {} with id {} to the store.", identifier, tableEntity.id(), e);
+      throw new UnsupportedOperationException(
+          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
+              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import the table entity to the store.", e);
+    }
+
+    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
+        .withHiddenProperties(
+            getHiddenPropertyNames(
+                getCatalogIdentifier(identifier),
+                HasPropertyMetadata::tablePropertiesMetadata,
+                table.tableFromCatalog().properties()));
+  }
+
+  /**
+   * Load a table from the catalog and build the entity to import it with.
+   *
+   * @param identifier The identifier of the table.
+   * @return The table entity to import, or null if the table is already imported.
+   */
+  private TableEntity loadTableEntityToImport(NameIdentifier identifier) {
+    EntityCombinedTable table = internalLoadTable(identifier);
+    return table.imported() ? null : toTableEntityToImport(identifier, table);
+  }
+
+  private TableEntity toTableEntityToImport(NameIdentifier identifier, EntityCombinedTable table) {
     StringIdentifier stringId = null;
     try {
       stringId = table.stringIdentifier();
@@ -466,32 +553,13 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
             .build();
     List<ColumnEntity> columnEntityList =
         toColumnEntities(table.tableFromCatalog().columns(), audit);
-    TableEntity tableEntity =
-        TableEntity.builder()
-            .withId(uid)
-            .withName(identifier.name())
-            .withNamespace(identifier.namespace())
-            .withColumns(columnEntityList)
-            .withAuditInfo(audit)
-            .build();
-    try {
-      store.put(tableEntity, true);
-    } catch (EntityAlreadyExistsException e) {
-      LOG.error("Failed to import table {} with id {} to the store.", identifier, uid, e);
-      throw new UnsupportedOperationException(
-          "Table managed by multiple catalogs. This may cause unexpected issues such as privilege conflicts. "
-              + "To resolve: Remove all catalogs managing this table, then recreate one catalog to ensure single-catalog management.");
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import the table entity to the store.", e);
-    }
-
-    return EntityCombinedTable.of(table.tableFromCatalog(), tableEntity)
-        .withHiddenProperties(
-            getHiddenPropertyNames(
-                getCatalogIdentifier(identifier),
-                HasPropertyMetadata::tablePropertiesMetadata,
-                table.tableFromCatalog().properties()));
+    return TableEntity.builder()
+        .withId(uid)
+        .withName(identifier.name())
+        .withNamespace(identifier.namespace())
+        .withColumns(columnEntityList)
+        .withAuditInfo(audit)
+        .build();
   }
 
   private EntityCombinedTable internalLoadTable(NameIdentifier ident) {
@@ -499,7 +567,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
     Table table =
         doWithCatalog(
             catalogIdentifier,
-            c -> c.doWithTableOps(t -> t.loadTable(ident)),
+            c -> c.loadTable(ident),
             NoSuchTableException.class);
 
     boolean isManagedTable = isManagedEntity(catalogIdentifier, Capability.Scope.TABLE);
@@ -594,7 +662,7 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
         doWithCatalog(
             catalogIdent,
             c ->
-                c.doWithTableOps(
+                c.doWithTableWriteOps(
                     t ->
                         t.createTable(
                             ident,
@@ -604,7 +672,8 @@ public class TableOperationDispatcher extends OperationDispatcher implements Tab
                             partitions == null ? EMPTY_TRANSFORM : partitions,
                             distribution == null ? Distributions.NONE : distribution,
                             sortOrders == null ? new SortOrder[0] : sortOrders,
-                            indexes == null ? Indexes.EMPTY_INDEXES : indexes)),
+                            indexes == null ? Indexes.EMPTY_INDEXES : indexes),
+                    ident),
             NoSuchSchemaException.class,
             TableAlreadyExistsException.class);
 
@@ -102,14 +102,17 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
       NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
       schemaDispatcher.loadSchema(schemaIdent);
 
-      // Import the topic
-      TreeLockUtils.doWithTreeLock(
-          schemaIdent,
-          LockType.WRITE,
-          () -> {
-            importTopic(ident);
-            return null;
-          });
+      // Import the topic, in the background if enabled
+      if (!submitImport(ident, schemaIdent, () -> loadTopicEntityToImport(ident))) {
+        importNowIfQueued(schemaIdent);
+        TreeLockUtils.doWithTreeLock(
+            schemaIdent,
+            LockType.WRITE,
+            () -> {
+              importTopic(ident);
+              return null;
+            });
+      }
     }
 
     return topic;
@@ -133,10 +136,11 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
       NameIdentifier ident, String comment, DataLayout dataLayout, Map<String, String> properties)
       throws NoSuchSchemaException, TopicAlreadyExistsException {
 
-    // Load the schema to make sure the schema exists.
+    // Load the schema to make sure the schema exists, and is imported before the topic is stored.
     SchemaDispatcher schemaDispatcher = GravitinoEnv.getInstance().schemaDispatcher();
     NameIdentifier schemaIdent = NameIdentifier.of(ident.namespace().levels());
     schemaDispatcher.loadSchema(schemaIdent);
+    importNowIfQueued(schemaIdent);
 
     return TreeLockUtils.doWithTreeLock(
         NameIdentifier.of(ident.namespace().levels()),
@@ -164,6 +168,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
         ident,
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
 
           // we do not retrieve the topic again (to obtain some values generated by underlying
@@ -227,6 +232,7 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
         NameIdentifier.of(ident.namespace().levels()),
         LockType.WRITE,
         () -> {
+          cancelImports(ident);
           NameIdentifier catalogIdent = getCatalogIdentifier(ident);
           boolean droppedFromCatalog =
               doWithCatalog(
@@ -260,11 +266,29 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
   }
 
   private void importTopic(NameIdentifier identifier) {
+    TopicEntity topicEntity = loadTopicEntityToImport(identifier);
+    if (topicEntity == null) {
+      return;
+    }
 
-    EntityCombinedTopic topic = internalLoadTopic(identifier);
+    try {
+      store.put(topicEntity, true);
+    } catch (Exception e) {
+      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
+      throw new RuntimeException("Fail to import topic entity to store.", e);
+    }
+  }
 
+  /**
+   * Load a topic from the catalog and build the entity to import it with.
+   *
+   * @param identifier The identifier of the topic.
+   * @return The topic entity to import, or null if the topic is already imported.
+   */
+  private TopicEntity loadTopicEntityToImport(NameIdentifier identifier) {
+    EntityCombinedTopic topic = internalLoadTopic(identifier);
     if (topic.imported()) {
-      return;
+      return null;
     }
 
     StringIdentifier stringId = null;
@@ -288,27 +312,19 @@ public class TopicOperationDispatcher extends OperationDispatcher implements Top
       uid = idGenerator.nextId();
     }
 
-    TopicEntity topicEntity =
-        TopicEntity.builder()
-            .withId(uid)
-            .withName(topic.name())
-            .withComment(topic.comment())
-            .withNamespace(identifier.namespace())
-            .withAuditInfo(
-                AuditInfo.builder()
-                    .withCreator(topic.auditInfo().creator())
-                    .withCreateTime(topic.auditInfo().createTime())
-                    .withLastModifier(topic.auditInfo().lastModifier())
-                    .withLastModifiedTime(topic.auditInfo().lastModifiedTime())
-                    .build())
-            .build();
-
-    try {
-      store.put(topicEntity, true);
-    } catch (Exception e) {
-      LOG.error(FormattedErrorMessages.STORE_OP_FAILURE, "put", identifier, e);
-      throw new RuntimeException("Fail to import topic entity to store.", e);
-    }
+    return TopicEntity.builder()
+        .withId(uid)
+        .withName(topic.name())
+        .withComment(topic.comment())
+        .withNamespace(identifier.namespace())
+        .withAuditInfo(
+            AuditInfo.builder()
+                .withCreator(topic.auditInfo().creator())
+                .withCreateTime(topic.auditInfo().createTime())
+                .withLastModifier(topic.auditInfo().lastModifier())
+                .withLastModifiedTime(topic.auditInfo().lastModifiedTime())
+                .build())
+        .build();
   }
 
   private EntityCombinedTopic internalLoadTopic(NameIdentifier ident) {
@@ -30,8 +30,10 @@ import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Function;
 import org.apache.gravitino.Catalog;
 import org.apache.gravitino.annotation.Evolving;
+import org.apache.gravitino.catalog.CatalogMetadataCache;
 
 @Evolving
 public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetadata {
@@ -99,9 +101,66 @@ public abstract class BaseCatalogPropertiesMetadata extends BasePropertiesMetada
                   PROPERTY_METALAKE_IN_USE,
                   "The property indicating the metalake that holds the catalog is in use",
                   true /* default value */,
-                  true /* hidden */)),
+                  true /* hidden */),
+              PropertyEntry.booleanPropertyEntry(
+                  CatalogMetadataCache.METADATA_CACHE_ENABLED,
+                  "Whether to cache the schemas and tables loaded from the catalog on the server",
+                  false /* required */,
+                  false /* immutable */,
+                  false /* default value */,
+                  false /* hidden */,
+                  false /* reserved */),
+              positivePropertyEntry(
+                  CatalogMetadataCache.METADATA_CACHE_TTL_MS,
+                  "The time in milliseconds a cached schema or table stays valid",
+                  Long.class,
+                  CatalogMetadataCache.DEFAULT_METADATA_CACHE_TTL_MS,
+                  Long::parseLong),
+              positivePropertyEntry(
+                  CatalogMetadataCache.METADATA_CACHE_MAX_ENTRIES,
+                  "The maximum number of schemas and of tables cached for the catalog",
+                  Integer.class,
+                  CatalogMetadataCache.DEFAULT_METADATA_CACHE_MAX_ENTRIES,
+                  Integer::parseInt)),
           PropertyEntry::getName);
 
+  private static <T extends Number> PropertyEntry<T> positivePropertyEntry(
+      String name,
+      String description,
+      Class<T> javaType,
+      T defaultValue,
+      Function<String, T> parser) {
+    return new PropertyEntry.Builder<T>()
+        .withName(name)
+        .withDescription(description)
+        .withRequired(false)
+        .withImmutable(false)
+        .withJavaType(javaType)
+        .withDefaultValue(defaultValue)
+        .withDecoder(
+            value -> {
+              T number;
+              try {
+                number = parser.apply(value.trim());
+              } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(
+                    String.format(
+                        "Property %s must be a positive integer, but got '%s'", name, value),
+                    e);
+              }
+              Preconditions.checkArgument(
+                  number.longValue() > 0,
+                  "Property %s must be a positive integer, but got '%s'",
+                  name,
+                  value);
+              return number;
+            })
+        .withEncoder(String::valueOf)
+        .withHidden(false)
+        .withReserved(false)
+        .build();
+  }
+
   @Override
   public Map<String, PropertyEntry<?>> propertyEntries() {
     if (propertyEntries == null) {
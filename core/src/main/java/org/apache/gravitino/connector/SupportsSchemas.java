@@ -22,6 +22,7 @@ package org.apache.gravitino.connector;
 
 import java.util.Map;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -51,6 +52,23 @@ public interface SupportsSchemas {
    */
   NameIdentifier[] listSchemas(Namespace namespace) throws NoSuchCatalogException;
 
+  /**
+   * List one page of the schemas under a namespace. Schemas are ordered by name.
+   *
+   * <p>The default implementation lists all the schemas and then cuts the requested page out of
+   * them, catalogs that can paginate natively should override it.
+   *
+   * @param namespace The namespace to list.
+   * @param pageToken The token returned by the previous page, or null to fetch the first page.
+   * @param pageSize The maximum number of schemas to return, must be positive.
+   * @return A page of schema identifiers under the namespace.
+   * @throws NoSuchCatalogException If the catalog does not exist.
+   */
+  default NameIdentifierPage listSchemas(Namespace namespace, String pageToken, int pageSize)
+      throws NoSuchCatalogException {
+    return NameIdentifierPage.paginate(listSchemas(namespace), pageToken, pageSize);
+  }
+
   /**
    * Check if a schema exists.
    *
@@ -171,6 +171,11 @@ public class CatalogHookDispatcher implements CatalogDispatcher {
     dispatcher.disableCatalog(ident);
   }
 
+  @Override
+  public void refreshMetadataCache(NameIdentifier ident) throws NoSuchCatalogException {
+    dispatcher.refreshMetadataCache(ident);
+  }
+
   @Override
   public boolean catalogExists(NameIdentifier ident) {
     return dispatcher.catalogExists(ident);
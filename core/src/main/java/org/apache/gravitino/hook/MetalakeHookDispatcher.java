@@ -19,6 +19,7 @@
 package org.apache.gravitino.hook;
 
 import java.util.Map;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.Metalake;
@@ -127,4 +128,10 @@ public class MetalakeHookDispatcher implements MetalakeDispatcher {
   public boolean metalakeExists(NameIdentifier ident) {
     return dispatcher.metalakeExists(ident);
   }
+
+  @Override
+  public ChangeLogEntry[] listChanges(NameIdentifier ident, long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listChanges(ident, afterSequence, limit);
+  }
 }
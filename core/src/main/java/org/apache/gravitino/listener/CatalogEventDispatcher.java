@@ -201,4 +201,9 @@ public class CatalogEventDispatcher implements CatalogDispatcher {
     // todo: support disable catalog event
     dispatcher.disableCatalog(ident);
   }
+
+  @Override
+  public void refreshMetadataCache(NameIdentifier ident) throws NoSuchCatalogException {
+    dispatcher.refreshMetadataCache(ident);
+  }
 }
@@ -20,6 +20,7 @@
 package org.apache.gravitino.listener;
 
 import java.util.Map;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
@@ -170,4 +171,10 @@ public class MetalakeEventDispatcher implements MetalakeDispatcher {
     // todo: support disable metalake event
     dispatcher.disableMetalake(ident);
   }
+
+  @Override
+  public ChangeLogEntry[] listChanges(NameIdentifier ident, long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listChanges(ident, afterSequence, limit);
+  }
 }
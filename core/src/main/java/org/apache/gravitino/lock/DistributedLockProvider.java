@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.io.Closeable;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+
+/**
+ * A provider of locks shared by all the servers of a deployment. The tree locks of a {@link
+ * LockManager} only serialize the threads of one server, the write operations additionally take a
+ * distributed lock so that two servers don't write the same resource concurrently.
+ *
+ * <p>Distributed locks are coarse: an implementation may lock a whole subtree for an identifier.
+ */
+public interface DistributedLockProvider extends Closeable {
+
+  /**
+   * Acquire the distributed lock of the identifier. The lock is reentrant within a server.
+   *
+   * @param identifier The identifier of the resource to lock.
+   * @param timeoutMs The maximum time in milliseconds to wait for the lock, 0 to wait
+   *     indefinitely.
+   * @return The lease of the acquired lock, to release once the write is done.
+   * @throws LockTimeoutException If the lock couldn't be acquired within the timeout.
+   */
+  Lease acquire(NameIdentifier identifier, long timeoutMs);
+
+  /** A distributed lock held by the current thread. */
+  interface Lease {
+
+    /**
+     * Get the fencing token of the lease. The token increases every time the lock is acquired
+     * after having been released or having expired.
+     *
+     * @return The fencing token of the lease.
+     */
+    long fencingToken();
+
+    /** Release the lease, it must be called once by the thread that acquired it. */
+    void release();
+  }
+}
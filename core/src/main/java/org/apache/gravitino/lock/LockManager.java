@@ -22,20 +22,31 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
+import static org.apache.gravitino.Configs.TREE_LOCK_READ_TIMEOUT_MS;
+import static org.apache.gravitino.Configs.TREE_LOCK_WRITE_TIMEOUT_MS;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Lists;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.text.SimpleDateFormat;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.ObjIntConsumer;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.time.StopWatch;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.config.ConfigEntry;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -45,7 +56,8 @@ import org.slf4j.LoggerFactory;
  * TreeLock} and {@link TreeLockNode}.
  *
  * <p>It has two main functions: 1. Create the tree lock. 2. Clean up the stale tree lock nodes
- * shared by all tree lock instances.
+ * shared by all tree lock instances. It also exposes the threads holding and waiting for the lock
+ * nodes, and the metrics of the tree locks, to diagnose lock contention.
  */
 public class LockManager {
   private static final Logger LOG = LoggerFactory.getLogger(LockManager.class);
@@ -64,6 +76,16 @@ public class LockManager {
   // The interval in seconds to clean up the stale tree lock nodes.
   @VisibleForTesting long cleanTreeNodeIntervalInSecs;
 
+  // Whether the read locks can be replaced by optimistic reads, see TreeLockStamp.
+  @VisibleForTesting boolean optimisticReadEnabled;
+
+  // The maximum time in milliseconds to wait for the read and write tree locks, 0 for no limit.
+  @VisibleForTesting long readLockTimeoutMs;
+  @VisibleForTesting long writeLockTimeoutMs;
+
+  // The metrics of the tree locks created by this lock manager.
+  final TreeLockMetricsSource metricsSource = new TreeLockMetricsSource();
+
   private void initParameters(Config config) {
     long maxNodesInMemory = config.get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     if (maxNodesInMemory <= 0) {
@@ -99,9 +121,35 @@ public class LockManager {
     }
 
     this.cleanTreeNodeIntervalInSecs = cleanIntervalInSecs;
+    this.optimisticReadEnabled = isOptimisticReadEnabled(config);
+    initLockTimeouts(config);
+  }
+
+  void initLockTimeouts(Config config) {
+    this.readLockTimeoutMs = lockTimeoutMs(config, TREE_LOCK_READ_TIMEOUT_MS);
+    this.writeLockTimeoutMs = lockTimeoutMs(config, TREE_LOCK_WRITE_TIMEOUT_MS);
+  }
+
+  private static long lockTimeoutMs(Config config, ConfigEntry<Long> entry) {
+    Long timeoutMs = config.get(entry);
+    return timeoutMs == null ? 0L : timeoutMs;
+  }
+
+  /**
+   * Get the maximum time to wait for a tree lock of the given lock type.
+   *
+   * @param lockType The lock type of the tree lock.
+   * @return The timeout in milliseconds, 0 to wait indefinitely.
+   */
+  public long lockTimeoutMs(LockType lockType) {
+    return lockType == LockType.READ ? readLockTimeoutMs : writeLockTimeoutMs;
+  }
+
+  static boolean isOptimisticReadEnabled(Config config) {
+    return Boolean.TRUE.equals(config.get(TREE_LOCK_OPTIMISTIC_READ_ENABLED));
   }
 
-  private void startDeadLockChecker() {
+  void startDeadLockChecker() {
     ScheduledThreadPoolExecutor deadLockChecker =
         new ScheduledThreadPoolExecutor(
             1,
@@ -113,7 +161,7 @@ public class LockManager {
     deadLockChecker.scheduleAtFixedRate(
         () -> {
           LOG.debug("Start to check the dead lock...");
-          checkDeadLock(treeLockRootNode);
+          checkDeadLock();
           LOG.debug("Finish to check the dead lock...");
         },
         0,
@@ -121,6 +169,11 @@ public class LockManager {
         TimeUnit.SECONDS);
   }
 
+  /** Check the deadlock for all the lock nodes. */
+  void checkDeadLock() {
+    checkDeadLock(treeLockRootNode);
+  }
+
   /**
    * Check the deadlock for the given root node.
    *
@@ -180,8 +233,19 @@ public class LockManager {
         TimeUnit.SECONDS);
   }
 
+  /**
+   * Create a lock manager that doesn't keep a tree lock node per resource path, so it has no node
+   * limit to check nor stale node to clean up. For the subclasses that map the resource paths onto
+   * lock nodes of their own.
+   */
+  protected LockManager() {
+    treeLockRootNode = new TreeLockNode(ROOT.name());
+    registerMetrics();
+  }
+
   public LockManager(Config config) {
     treeLockRootNode = new TreeLockNode(ROOT.name());
+    registerMetrics();
 
     // Init the parameters.
     initParameters(config);
@@ -193,6 +257,67 @@ public class LockManager {
     startDeadLockChecker();
   }
 
+  private void registerMetrics() {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Get the threads currently holding a lock node, with the resource path they lock and since
+   * when. A thread holding a tree lock appears once per node of the path.
+   *
+   * @return The holders of the lock nodes, the longest held first.
+   */
+  public List<LockThreadInfo> getLockHolders() {
+    return collectLockThreads(TreeLockNode::getHoldingThreadTimestamp);
+  }
+
+  /**
+   * Get the threads currently blocked on a lock node, with the resource path they lock and since
+   * when.
+   *
+   * @return The waiters of the lock nodes, the longest waiting first.
+   */
+  public List<LockThreadInfo> getLockWaiters() {
+    return collectLockThreads(TreeLockNode::getWaitingThreadTimestamp);
+  }
+
+  private List<LockThreadInfo> collectLockThreads(
+      Function<TreeLockNode, Map<TreeLockNode.ThreadIdentifier, Long>> threadsOf) {
+    List<LockThreadInfo> threads = Lists.newArrayList();
+    forEachNode(
+        (node, depth) ->
+            threadsOf
+                .apply(node)
+                .forEach(
+                    (threadIdentifier, ts) ->
+                        threads.add(
+                            new LockThreadInfo(
+                                node.getName(),
+                                depth,
+                                threadIdentifier.getIdent(),
+                                threadIdentifier.getThread(),
+                                ts))));
+    threads.sort(Comparator.comparingLong(LockThreadInfo::sinceMillis));
+    return threads;
+  }
+
+  /**
+   * Visit all the lock nodes along with their depth, 0 being the root.
+   *
+   * @param visitor The visitor of the lock nodes.
+   */
+  void forEachNode(ObjIntConsumer<TreeLockNode> visitor) {
+    forEachNode(treeLockRootNode, 0, visitor);
+  }
+
+  private void forEachNode(TreeLockNode node, int depth, ObjIntConsumer<TreeLockNode> visitor) {
+    visitor.accept(node, depth);
+    node.childMap.values().forEach(child -> forEachNode(child, depth + 1, visitor));
+  }
+
   /**
    * Evict the stale nodes from the tree lock node.
    *
@@ -218,6 +343,7 @@ public class LockManager {
         // could not be changed.
         if (treeNode.getReference() == 0) {
           parent.removeChild(treeNode.getName());
+          treeNode.retire();
           long leftNodeCount = totalNodeCount.decrementAndGet();
           if (LOG.isTraceEnabled()) {
             LOG.trace(
@@ -250,7 +376,7 @@ public class LockManager {
       // Otherwise, there will be an unexpected result when using NameIdentifier.of("/").
       if (identifier == ROOT) {
         // The lock tree root node
-        return new TreeLock(treeLockNodes, identifier);
+        return new TreeLock(treeLockNodes, identifier, metricsSource);
       }
 
       String[] levels = identifier.namespace().levels();
@@ -270,7 +396,7 @@ public class LockManager {
         lockNode = child;
       }
 
-      return new TreeLock(treeLockNodes, identifier);
+      return new TreeLock(treeLockNodes, identifier, metricsSource);
     } catch (Exception e) {
       LOG.error("Failed to create tree lock {}", identifier, e);
       // Release reference if fails.
@@ -282,6 +408,40 @@ public class LockManager {
     }
   }
 
+  /**
+   * Take an optimistic read stamp of the given identifier. Unlike {@link #createTreeLock}, this
+   * neither creates nor references the tree lock nodes of the path.
+   *
+   * @param identifier The identifier of resource path to read.
+   * @return The stamp, or null if optimistic reads are disabled, if a node of the path doesn't
+   *     exist, or if one is write locked. The caller should take a read lock in that case.
+   */
+  @SuppressWarnings("ReferenceEquality")
+  TreeLockStamp tryOptimisticRead(NameIdentifier identifier) {
+    if (!optimisticReadEnabled) {
+      return null;
+    }
+
+    // Avoid to use value equality instead of reference equality here, see createTreeLock.
+    if (identifier == ROOT) {
+      return TreeLockStamp.of(new TreeLockNode[] {treeLockRootNode});
+    }
+
+    String[] levels = identifier.namespace().levels();
+    TreeLockNode[] nodes = new TreeLockNode[levels.length + 2];
+    nodes[0] = treeLockRootNode;
+    for (int i = 0; i <= levels.length; i++) {
+      String level = i < levels.length ? levels[i] : identifier.name();
+      TreeLockNode child = nodes[i].getChild(level);
+      if (child == null) {
+        return null;
+      }
+      nodes[i + 1] = child;
+    }
+
+    return TreeLockStamp.of(nodes);
+  }
+
   /**
    * Check if the total node count is greater than the maxTreeNodeInMemory, if so, we should throw
    * an exception.
@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableMap;
+import java.util.Locale;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+
+/** This class is responsible for creating the {@link LockManager} configured for the server. */
+public class LockManagerFactory {
+
+  public static final String TREE_LOCK_MANAGER = "tree";
+
+  public static final String STRIPED_LOCK_MANAGER = "striped";
+
+  // Register LockManager's short name to its full qualified class name in the map. So that user
+  // doesn't need to specify the full qualified class name when creating a LockManager.
+  private static final ImmutableMap<String, String> LOCK_MANAGERS =
+      ImmutableMap.of(
+          TREE_LOCK_MANAGER,
+          LockManager.class.getCanonicalName(),
+          STRIPED_LOCK_MANAGER,
+          StripedLockManager.class.getCanonicalName());
+
+  // Private constructor to prevent instantiation of this factory class.
+  private LockManagerFactory() {}
+
+  /**
+   * Creates an instance of LockManager based on the configuration settings.
+   *
+   * @param config The configuration object containing settings for LockManager.
+   * @return An instance of LockManager.
+   */
+  public static LockManager createLockManager(Config config) {
+    String name = config.get(Configs.TREE_LOCK_IMPLEMENTATION);
+    String className = LOCK_MANAGERS.getOrDefault(name.toLowerCase(Locale.ROOT), name);
+
+    try {
+      return (LockManager)
+          Class.forName(className).getDeclaredConstructor(Config.class).newInstance(config);
+    } catch (Exception e) {
+      throw new RuntimeException("Failed to create LockManager: " + name, e);
+    }
+  }
+
+  /**
+   * Creates the {@link DistributedLockProvider} of the server if distributed locks are enabled.
+   * The leases are kept in the relational entity store, which must be initialized before.
+   *
+   * @param config The configuration object containing settings for the distributed locks.
+   * @return An instance of DistributedLockProvider, or null if distributed locks are disabled.
+   */
+  public static DistributedLockProvider createDistributedLockProvider(Config config) {
+    if (!Boolean.TRUE.equals(config.get(Configs.DISTRIBUTED_LOCK_ENABLED))) {
+      return null;
+    }
+
+    Preconditions.checkArgument(
+        Configs.RELATIONAL_ENTITY_STORE.equals(config.get(Configs.ENTITY_STORE)),
+        "Distributed locks require the %s entity store",
+        Configs.RELATIONAL_ENTITY_STORE);
+    return new RelationalLeaseLockProvider(config);
+  }
+}
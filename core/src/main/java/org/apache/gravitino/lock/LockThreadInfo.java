@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * A snapshot of a thread holding or waiting for a lock node, as dumped by {@link
+ * LockManager#getLockHolders()} and {@link LockManager#getLockWaiters()} to diagnose lock
+ * contention.
+ */
+public class LockThreadInfo {
+  private final String nodeName;
+  private final int depth;
+  private final NameIdentifier identifier;
+  private final String threadName;
+  private final long threadId;
+  private final long sinceMillis;
+
+  LockThreadInfo(
+      String nodeName, int depth, NameIdentifier identifier, Thread thread, long sinceMillis) {
+    this.nodeName = nodeName;
+    this.depth = depth;
+    this.identifier = identifier;
+    this.threadName = thread.getName();
+    this.threadId = thread.getId();
+    this.sinceMillis = sinceMillis;
+  }
+
+  /**
+   * Get the name of the lock node.
+   *
+   * @return The name of the lock node.
+   */
+  public String nodeName() {
+    return nodeName;
+  }
+
+  /**
+   * Get the depth of the lock node in the resource path, 0 being the root.
+   *
+   * @return The depth of the lock node.
+   */
+  public int depth() {
+    return depth;
+  }
+
+  /**
+   * Get the identifier of the resource path the thread locks.
+   *
+   * @return The identifier of the resource path.
+   */
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  /**
+   * Get the name of the thread.
+   *
+   * @return The name of the thread.
+   */
+  public String threadName() {
+    return threadName;
+  }
+
+  /**
+   * Get the id of the thread.
+   *
+   * @return The id of the thread.
+   */
+  public long threadId() {
+    return threadId;
+  }
+
+  /**
+   * Get the time when the thread got the lock, or began to wait for it.
+   *
+   * @return The time in milliseconds since the epoch.
+   */
+  public long sinceMillis() {
+    return sinceMillis;
+  }
+
+  @Override
+  public String toString() {
+    return "LockThreadInfo{node="
+        + nodeName
+        + ", depth="
+        + depth
+        + ", ident="
+        + identifier
+        + ", thread="
+        + threadName
+        + ", since="
+        + sinceMillis
+        + '}';
+  }
+}
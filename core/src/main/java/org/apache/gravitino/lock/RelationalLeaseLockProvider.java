@@ -0,0 +1,334 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.DISTRIBUTED_LOCK_KEY_LEVEL;
+import static org.apache.gravitino.Configs.DISTRIBUTED_LOCK_LEASE_MS;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.hash.Hashing;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.apache.gravitino.storage.relational.service.TreeLockLeaseMetaService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link DistributedLockProvider} backed by a lease table of the relational entity store.
+ *
+ * <p>A lease is held by a server rather than by a thread: the threads of a server writing under the
+ * same lock key share its lease, they are already serialized by the local tree locks when they
+ * conflict. The lease is renewed in the background while it is held, and released when the last
+ * thread of the server releases it. A server that stops renewing, because it crashed or stalled,
+ * loses the lease once it expires.
+ *
+ * <p>Every acquisition increases the fencing token of the lease, and the mutations of the entity
+ * store check the token of the leases their thread holds within their transaction. A server that
+ * lost its lease therefore can't commit a write after another server took the lease over.
+ *
+ * <p>The lock key of an identifier is its ancestor at the configured level, so all the writes under
+ * a schema share one lease by default. Locks of different levels don't exclude each other across
+ * servers: a catalog write on one server, such as dropping a schema which locks the catalog, is not
+ * fenced against a table write under that catalog on another server. They remain serialized by the
+ * tree locks within a server only.
+ */
+public class RelationalLeaseLockProvider implements DistributedLockProvider {
+
+  private static final Logger LOG = LoggerFactory.getLogger(RelationalLeaseLockProvider.class);
+
+  @VisibleForTesting static final int MAX_LOCK_KEY_LENGTH = 512;
+
+  private static final long MIN_RETRY_INTERVAL_MS = 10;
+
+  private static final long MAX_RETRY_INTERVAL_MS = 500;
+
+  private final String owner;
+
+  private final long leaseMs;
+
+  private final int keyLevel;
+
+  private final TreeLockLeaseMetaService leaseService = TreeLockLeaseMetaService.getInstance();
+
+  private final Map<String, SharedLease> leases = new ConcurrentHashMap<>();
+
+  private final ScheduledThreadPoolExecutor renewer;
+
+  /**
+   * Create a lease lock provider for the server.
+   *
+   * @param config The configuration of the server.
+   */
+  public RelationalLeaseLockProvider(Config config) {
+    this(
+        UUID.randomUUID().toString(),
+        config.get(DISTRIBUTED_LOCK_LEASE_MS),
+        config.get(DISTRIBUTED_LOCK_KEY_LEVEL));
+  }
+
+  @VisibleForTesting
+  RelationalLeaseLockProvider(String owner, long leaseMs, int keyLevel) {
+    Preconditions.checkArgument(leaseMs > 0, "The lease time must be positive");
+    Preconditions.checkArgument(keyLevel > 0, "The lock key level must be positive");
+    this.owner = owner;
+    this.leaseMs = leaseMs;
+    this.keyLevel = keyLevel;
+
+    this.renewer =
+        new ScheduledThreadPoolExecutor(
+            1,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("tree-lock-lease-renewer-%d")
+                .build());
+    long renewIntervalMs = Math.max(1, leaseMs / 3);
+    renewer.scheduleWithFixedDelay(
+        this::renewLeases, renewIntervalMs, renewIntervalMs, TimeUnit.MILLISECONDS);
+  }
+
+  @Override
+  public Lease acquire(NameIdentifier identifier, long timeoutMs) {
+    String lockKey = lockKey(identifier);
+    long deadline =
+        timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : 0;
+    long retryIntervalMs = MIN_RETRY_INTERVAL_MS;
+
+    while (true) {
+      SharedLease lease = leases.computeIfAbsent(lockKey, SharedLease::new);
+      if (!lockWithin(lease.lock, deadline)) {
+        throw timeout(lockKey, timeoutMs);
+      }
+
+      try {
+        if (lease.released) {
+          // The lease has been released and removed meanwhile, take the new one.
+          continue;
+        }
+
+        if (lease.holders == 0 || lease.lost) {
+          Long fencingToken = tryAcquire(lease);
+          if (fencingToken != null) {
+            lease.fencingToken = fencingToken;
+            lease.lost = false;
+          }
+        }
+
+        if (!lease.lost && !lease.released) {
+          lease.holders++;
+          leaseService.addFence(lockKey, owner, lease.fencingToken);
+          return new HeldLease(lease, lease.fencingToken);
+        }
+      } finally {
+        lease.lock.unlock();
+      }
+
+      // The lease is held by another server, wait for it to be released or to expire.
+      long sleepMs = retryIntervalMs;
+      if (deadline != 0) {
+        long remainingMs = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        if (remainingMs <= 0) {
+          throw timeout(lockKey, timeoutMs);
+        }
+        sleepMs = Math.min(sleepMs, remainingMs);
+      }
+      try {
+        Thread.sleep(sleepMs);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw timeout(lockKey, timeoutMs);
+      }
+      retryIntervalMs = Math.min(retryIntervalMs * 2, MAX_RETRY_INTERVAL_MS);
+    }
+  }
+
+  @Override
+  public void close() {
+    renewer.shutdownNow();
+    for (SharedLease lease : leases.values()) {
+      lease.lock.lock();
+      try {
+        if (!lease.released && !lease.lost) {
+          releaseQuietly(lease);
+        }
+        lease.released = true;
+      } finally {
+        lease.lock.unlock();
+      }
+    }
+    leases.clear();
+  }
+
+  /**
+   * Get the lock key of an identifier, which is its ancestor at the configured key level. Names are
+   * joined with dots, two identifiers mapped to the same key only share their lease.
+   *
+   * @param identifier The identifier to lock.
+   * @return The lock key of the identifier.
+   */
+  @VisibleForTesting
+  String lockKey(NameIdentifier identifier) {
+    String[] levels =
+        LockManager.ROOT.equals(identifier)
+            ? new String[] {identifier.name()}
+            : ArrayUtils.add(identifier.namespace().levels(), identifier.name());
+    String lockKey =
+        String.join(".", Arrays.copyOfRange(levels, 0, Math.min(levels.length, keyLevel)));
+    if (lockKey.length() <= MAX_LOCK_KEY_LENGTH) {
+      return lockKey;
+    }
+
+    return Hashing.sha256().hashString(lockKey, StandardCharsets.UTF_8).toString();
+  }
+
+  @VisibleForTesting
+  void renewLeases() {
+    for (SharedLease lease : leases.values()) {
+      lease.lock.lock();
+      try {
+        if (lease.released || lease.lost || lease.holders == 0) {
+          continue;
+        }
+
+        if (!leaseService.renewLease(lease.lockKey, owner, lease.fencingToken, leaseMs)) {
+          lease.lost = true;
+          LOG.warn(
+              "The distributed lock lease of {} with fencing token {} has been taken over",
+              lease.lockKey,
+              lease.fencingToken);
+        }
+      } catch (Exception e) {
+        // The lease is still valid until it expires, it will be renewed again next time.
+        LOG.warn("Failed to renew the distributed lock lease of {}", lease.lockKey, e);
+      } finally {
+        lease.lock.unlock();
+      }
+    }
+  }
+
+  private Long tryAcquire(SharedLease lease) {
+    Long fencingToken = null;
+    try {
+      fencingToken = leaseService.tryAcquireLease(lease.lockKey, owner, leaseMs);
+      return fencingToken;
+    } finally {
+      // A lease nobody holds is dropped, the next acquisition starts over with a new one.
+      if (fencingToken == null && lease.holders == 0) {
+        lease.released = true;
+        leases.remove(lease.lockKey, lease);
+      }
+    }
+  }
+
+  private void release(SharedLease lease) {
+    lease.lock.lock();
+    try {
+      // A lease released by closing the provider is not released again.
+      if (--lease.holders > 0 || lease.released) {
+        return;
+      }
+
+      lease.released = true;
+      leases.remove(lease.lockKey, lease);
+      if (!lease.lost) {
+        releaseQuietly(lease);
+      }
+    } finally {
+      lease.lock.unlock();
+    }
+  }
+
+  private void releaseQuietly(SharedLease lease) {
+    try {
+      leaseService.releaseLease(lease.lockKey, owner, lease.fencingToken);
+    } catch (Exception e) {
+      // The lease expires on its own, it only delays the other servers until then.
+      LOG.warn("Failed to release the distributed lock lease of {}", lease.lockKey, e);
+    }
+  }
+
+  private static boolean lockWithin(ReentrantLock lock, long deadline) {
+    try {
+      if (deadline == 0) {
+        lock.lockInterruptibly();
+        return true;
+      }
+      return lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private static LockTimeoutException timeout(String lockKey, long timeoutMs) {
+    return new LockTimeoutException(
+        "Failed to acquire the distributed lock of %s within %s ms", lockKey, timeoutMs);
+  }
+
+  /** The lease of a lock key shared by the threads of this server. */
+  private static final class SharedLease {
+    private final String lockKey;
+    private final ReentrantLock lock = new ReentrantLock();
+    // All the fields below are guarded by the lock.
+    private int holders;
+    private long fencingToken;
+    private boolean lost;
+    private boolean released;
+
+    private SharedLease(String lockKey) {
+      this.lockKey = lockKey;
+    }
+  }
+
+  /** The share of a lease held by one thread. */
+  private final class HeldLease implements Lease {
+    private final SharedLease lease;
+    private final long fencingToken;
+    private boolean released;
+
+    private HeldLease(SharedLease lease, long fencingToken) {
+      this.lease = lease;
+      this.fencingToken = fencingToken;
+    }
+
+    @Override
+    public long fencingToken() {
+      return fencingToken;
+    }
+
+    @Override
+    public void release() {
+      Preconditions.checkState(!released, "The lease of %s is already released", lease.lockKey);
+      released = true;
+      leaseService.removeFence(lease.lockKey, owner, fencingToken);
+      RelationalLeaseLockProvider.this.release(lease);
+    }
+  }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_STRIPES;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import com.google.common.math.IntMath;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.ObjIntConsumer;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+
+/**
+ * StripedLockManager is a {@link LockManager} whose memory footprint doesn't depend on the number
+ * of resources. Instead of creating a tree lock node per resource path, it hashes each prefix of
+ * the path onto a fixed array of lock nodes, one array per level of the path, and the {@link
+ * TreeLock} locks these nodes from the root to the resource as it locks the nodes of the tree.
+ *
+ * <p>Assuming we need to drop the schema `metalake.catalog.db1` while loading the table
+ * `metalake.catalog.db1.table1`, the two tree locks lock the following:
+ *
+ * <pre>
+ *   level 0  /                                     readLock  readLock
+ *   level 1  stripe of metalake                    readLock  readLock
+ *   level 2  stripe of metalake.catalog            readLock  readLock
+ *   level 3  stripe of metalake.catalog.db1        writeLock readLock
+ *   level 4  stripe of metalake.catalog.db1.table1           readLock
+ * </pre>
+ *
+ * The same prefix always maps to the same node, so the hierarchical semantics are kept: a write
+ * lock of a schema excludes the reads of its tables. As the prefixes of a path are at different
+ * levels, a path never maps twice to the same node, and the nodes are locked in the order of the
+ * levels.
+ *
+ * <p>Different prefixes of the same level may share a node, in which case their locks exclude
+ * each other although the resources are unrelated. The more stripes, the less it happens. This
+ * breaks the order of the nodes when tree locks are nested: a thread that write locks a user and
+ * then reads a role may wait for the stripe of the role, held by a thread that waits for the stripe
+ * of the user. So a tree lock taken while the thread holds another one never blocks on a stripe,
+ * it backs off and retries until its timeout elapses, see {@link TreeLock}. For the same reason, a
+ * thread that holds a read tree lock can't take a write tree lock of a resource at a level it
+ * holds if the two share a node, which can't be upgraded from read to write.
+ */
+public class StripedLockManager extends LockManager {
+
+  // The maximum number of levels of a resource path, deeper than the columns of a table.
+  @VisibleForTesting static final int MAX_LEVELS = 8;
+
+  // The lock nodes of the levels of the resource paths, level 0 being the root.
+  private final TreeLockNode[][] stripesByLevel;
+
+  private final int stripeMask;
+
+  public StripedLockManager(Config config) {
+    super();
+    int stripes = IntMath.ceilingPowerOfTwo(config.get(TREE_LOCK_STRIPES));
+    this.stripeMask = stripes - 1;
+    this.stripesByLevel = new TreeLockNode[MAX_LEVELS + 1][];
+    stripesByLevel[0] = new TreeLockNode[] {treeLockRootNode};
+    for (int level = 1; level <= MAX_LEVELS; level++) {
+      stripesByLevel[level] = new TreeLockNode[stripes];
+      for (int i = 0; i < stripes; i++) {
+        stripesByLevel[level][i] = new TreeLockNode("level-" + level + "-stripe-" + i);
+      }
+    }
+    this.optimisticReadEnabled = isOptimisticReadEnabled(config);
+    initLockTimeouts(config);
+
+    startDeadLockChecker();
+  }
+
+  @Override
+  public TreeLock createTreeLock(NameIdentifier identifier) {
+    List<TreeLockNode> treeLockNodes = Arrays.asList(nodesOf(identifier));
+    // The references are not used to evict nodes here, but each unlock releases one.
+    treeLockNodes.forEach(TreeLockNode::addReference);
+    return new TreeLock(treeLockNodes, identifier, metricsSource, true);
+  }
+
+  @Override
+  TreeLockStamp tryOptimisticRead(NameIdentifier identifier) {
+    return optimisticReadEnabled ? TreeLockStamp.of(nodesOf(identifier)) : null;
+  }
+
+  @Override
+  void forEachNode(ObjIntConsumer<TreeLockNode> visitor) {
+    for (int level = 0; level < stripesByLevel.length; level++) {
+      for (TreeLockNode stripe : stripesByLevel[level]) {
+        visitor.accept(stripe, level);
+      }
+    }
+  }
+
+  @Override
+  void checkDeadLock() {
+    for (TreeLockNode[] stripes : stripesByLevel) {
+      for (TreeLockNode stripe : stripes) {
+        checkDeadLock(stripe);
+      }
+    }
+  }
+
+  /**
+   * Get the lock nodes of the given identifier, from the root to the resource.
+   *
+   * @param identifier The identifier of the resource path.
+   * @return The lock nodes, one per level of the resource path.
+   */
+  @VisibleForTesting
+  @SuppressWarnings("ReferenceEquality")
+  TreeLockNode[] nodesOf(NameIdentifier identifier) {
+    // Avoid to use value equality instead of reference equality here, see createTreeLock.
+    if (identifier == ROOT) {
+      return new TreeLockNode[] {treeLockRootNode};
+    }
+
+    String[] levels = identifier.namespace().levels();
+    int depth = levels.length + 1;
+    Preconditions.checkArgument(
+        depth <= MAX_LEVELS,
+        "The identifier %s has more than %s levels, which the striped lock manager doesn't support",
+        identifier,
+        MAX_LEVELS);
+
+    TreeLockNode[] nodes = new TreeLockNode[depth + 1];
+    nodes[0] = treeLockRootNode;
+    int hash = 0;
+    for (int level = 1; level <= depth; level++) {
+      String name = level <= levels.length ? levels[level - 1] : identifier.name();
+      // The hash of the prefix, computed level by level without building the prefix.
+      hash = 31 * hash + name.hashCode();
+      nodes[level] = stripesByLevel[level][(hash ^ (hash >>> 16)) & stripeMask];
+    }
+
+    return nodes;
+  }
+}
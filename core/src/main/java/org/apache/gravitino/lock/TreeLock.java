@@ -22,8 +22,12 @@ package org.apache.gravitino.lock;
 import java.util.Deque;
 import java.util.List;
 import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -69,10 +73,31 @@ import org.slf4j.LoggerFactory;
  * <p>The core of {@link TreeLock} is {@link TreeLockNode}. A TreeLock will hold several tree lock
  * nodes, all treeLock nodes shared by all tree lock instances will be stored in the {@link
  * LockManager} and can be reused later.
+ *
+ * <p>The threads that have to wait for a node are recorded in the node until they get the lock,
+ * and, if the lock manager provides a {@link TreeLockMetricsSource}, the time they wait and the
+ * time the tree lock is held are recorded per level of the resource path.
+ *
+ * <p>If the nodes are shared by unrelated resources, like the stripes of the {@link
+ * StripedLockManager}, a tree lock taken by a thread that already holds one doesn't block on its
+ * nodes. It tries each node for a short while, and if one is busy it releases the nodes it got,
+ * backs off and starts over, until its timeout elapses. The outer tree lock may hold a node that
+ * the nested one has to wait for in another thread, so the nested one must be able to give up.
  */
 public class TreeLock {
   public static final Logger LOG = LoggerFactory.getLogger(TreeLock.class);
 
+  // How long a nested tree lock on shared nodes waits for a node before starting over.
+  private static final long NESTED_ATTEMPT_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+  private static final long NESTED_MIN_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final long NESTED_MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+  // The timeout of a nested tree lock on shared nodes that is locked without a timeout.
+  private static final long NESTED_DEFAULT_TIMEOUT_MS = 60_000L;
+
+  // The number of tree locks on shared nodes held by the current thread.
+  private static final ThreadLocal<int[]> SHARED_NODE_TREE_LOCKS_HELD =
+      ThreadLocal.withInitial(() -> new int[1]);
+
   // The name identifier of the resource path.
   private final NameIdentifier identifier;
   // TreeLockNode to be locked
@@ -82,9 +107,36 @@ public class TreeLock {
   private final Deque<Pair<TreeLockNode, LockType>> heldLocks = new ConcurrentLinkedDeque<>();
   private LockType lockType;
 
+  // The metrics of the tree locks, null if they are not recorded.
+  private final TreeLockMetricsSource metricsSource;
+  // The time in nanoseconds when all the nodes were locked, 0 if the tree lock is not held.
+  private long lockedAtNanos;
+
+  // Whether the nodes may be shared by unrelated resources.
+  private final boolean sharedNodes;
+  // Whether the tree lock is counted in SHARED_NODE_TREE_LOCKS_HELD.
+  private boolean countedAsHeld;
+
   TreeLock(List<TreeLockNode> lockNodes, NameIdentifier identifier) {
+    this(lockNodes, identifier, null);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource) {
+    this(lockNodes, identifier, metricsSource, false);
+  }
+
+  TreeLock(
+      List<TreeLockNode> lockNodes,
+      NameIdentifier identifier,
+      TreeLockMetricsSource metricsSource,
+      boolean sharedNodes) {
     this.lockNodes = lockNodes;
     this.identifier = identifier;
+    this.metricsSource = metricsSource;
+    this.sharedNodes = sharedNodes;
   }
 
   /**
@@ -95,26 +147,77 @@ public class TreeLock {
    * @param lockType The lock type to lock the tree lock.
    */
   public void lock(LockType lockType) {
+    lock(lockType, 0L);
+  }
+
+  /**
+   * Lock the tree lock with the given lock type within the given timeout. If the nodes can't all be
+   * locked before the timeout elapses, the nodes that have been locked so far are unlocked, and a
+   * {@link LockTimeoutException} is thrown, so the operation can be retried later.
+   *
+   * @param lockType The lock type to lock the tree lock.
+   * @param timeoutMs The maximum time to wait for all the nodes in milliseconds, 0 to wait
+   *     indefinitely, or a minute for a nested tree lock on shared nodes.
+   * @throws LockTimeoutException If the timeout elapsed before all the nodes were locked.
+   */
+  public void lock(LockType lockType, long timeoutMs) {
     this.lockType = lockType;
+    int[] sharedNodeTreeLocksHeld = sharedNodes ? SHARED_NODE_TREE_LOCKS_HELD.get() : null;
+    if (sharedNodeTreeLocksHeld != null && sharedNodeTreeLocksHeld[0] > 0) {
+      lockNested(lockType, timeoutMs > 0 ? timeoutMs : NESTED_DEFAULT_TIMEOUT_MS);
+    } else {
+      lockInOrder(lockType, timeoutMs);
+    }
+
+    if (sharedNodeTreeLocksHeld != null) {
+      sharedNodeTreeLocksHeld[0]++;
+      countedAsHeld = true;
+    }
+
+    if (metricsSource != null) {
+      lockedAtNanos = System.nanoTime();
+    }
+
+    if (LOG.isTraceEnabled()) {
+      LOG.trace(
+          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
+          identifier,
+          lockNodes,
+          lockType);
+    }
+  }
+
+  /**
+   * Lock the nodes from the root to the leaf, waiting for each node until the deadline.
+   *
+   * @param lockType The lock type of the leaf node.
+   * @param timeoutMs The maximum time to wait for all the nodes, 0 to wait indefinitely.
+   */
+  private void lockInOrder(LockType lockType, long timeoutMs) {
+    long deadlineNanos =
+        timeoutMs > 0 ? System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs) : 0L;
 
     int length = lockNodes.size();
     for (int i = 0; i < length; i++) {
       TreeLockNode treeLockNode = lockNodes.get(i);
       LockType type = i == length - 1 ? lockType : LockType.READ;
+      boolean locked;
       try {
-        treeLockNode.lock(type);
-        heldLocks.push(Pair.of(treeLockNode, type));
-
-        treeLockNode.addHoldingThreadTimestamp(
-            Thread.currentThread(), identifier, System.currentTimeMillis());
-        if (LOG.isTraceEnabled()) {
-          LOG.trace(
-              "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
-              this,
-              type,
-              Thread.currentThread(),
-              identifier,
-              System.currentTimeMillis());
+        locked = lockNode(treeLockNode, type, i, deadlineNanos);
+        if (locked) {
+          heldLocks.push(Pair.of(treeLockNode, type));
+
+          treeLockNode.addHoldingThreadTimestamp(
+              Thread.currentThread(), identifier, System.currentTimeMillis());
+          if (LOG.isTraceEnabled()) {
+            LOG.trace(
+                "Node {} has been lock with '{}' lock, hold by {} with ident '{}' at {}",
+                this,
+                type,
+                Thread.currentThread(),
+                identifier,
+                System.currentTimeMillis());
+          }
         }
       } catch (Exception e) {
         LOG.error(
@@ -124,20 +227,146 @@ public class TreeLock {
             lockNodes,
             e);
         // unlock all nodes that have been locked when an exception occurs.
-        unlock();
+        if (!heldLocks.isEmpty()) {
+          unlock();
+        }
         throw e;
       }
+
+      if (!locked) {
+        failOnTimeout(i, timeoutMs);
+      }
     }
+  }
 
-    if (LOG.isTraceEnabled()) {
-      LOG.trace(
-          "Locked the tree lock, ident: {}, lockNodes: [{}], lock type: {}",
-          identifier,
-          lockNodes,
-          lockType);
+  /**
+   * Lock the nodes while the current thread holds another tree lock on shared nodes. The outer
+   * tree lock may hold a node that another thread holds while it waits for a node of this tree
+   * lock, so a node is never waited for long: if it can't be locked in a short while, the nodes
+   * locked so far are released, and all the nodes are tried again after a random backoff.
+   *
+   * @param lockType The lock type of the leaf node.
+   * @param timeoutMs The maximum time to try to lock all the nodes.
+   * @throws LockTimeoutException If the timeout elapsed before all the nodes were locked.
+   * @throws IllegalStateException If the leaf node is write locked while the current thread holds
+   *     its read lock, which can never succeed.
+   */
+  private void lockNested(LockType lockType, long timeoutMs) {
+    TreeLockNode leaf = lockNodes.get(lockNodes.size() - 1);
+    if (lockType == LockType.WRITE && leaf.isOnlyReadLockedByCurrentThread()) {
+      lockNodes.forEach(TreeLockNode::decReference);
+      throw new IllegalStateException(
+          String.format(
+              "Can't write lock '%s' as the current thread holds the read lock of %s, which may"
+                  + " be shared with another resource",
+              identifier, leaf));
+    }
+
+    long deadlineNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    long backoffNanos = NESTED_MIN_BACKOFF_NANOS;
+    while (true) {
+      int failedDepth = tryLockNodes(lockType, deadlineNanos);
+      if (failedDepth < 0) {
+        return;
+      }
+
+      long remainingNanos = deadlineNanos - System.nanoTime();
+      if (remainingNanos <= 0 || Thread.currentThread().isInterrupted()) {
+        failOnTimeout(failedDepth, timeoutMs);
+      }
+
+      releaseForRetry();
+      long sleepNanos =
+          Math.min(ThreadLocalRandom.current().nextLong(backoffNanos) + 1, remainingNanos);
+      try {
+        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      backoffNanos = Math.min(backoffNanos * 2, NESTED_MAX_BACKOFF_NANOS);
     }
   }
 
+  /**
+   * Try to lock the nodes from the root to the leaf, waiting a short while for each one.
+   *
+   * @param lockType The lock type of the leaf node.
+   * @param deadlineNanos The {@link System#nanoTime()} to lock the nodes before.
+   * @return -1 if all the nodes have been locked, otherwise the depth of the node that couldn't be
+   *     locked, the nodes above it being locked.
+   */
+  private int tryLockNodes(LockType lockType, long deadlineNanos) {
+    int length = lockNodes.size();
+    for (int i = 0; i < length; i++) {
+      TreeLockNode treeLockNode = lockNodes.get(i);
+      LockType type = i == length - 1 ? lockType : LockType.READ;
+      long attemptDeadlineNanos = System.nanoTime() + NESTED_ATTEMPT_NANOS;
+      if (attemptDeadlineNanos - deadlineNanos > 0) {
+        attemptDeadlineNanos = deadlineNanos;
+      }
+
+      boolean locked;
+      try {
+        locked = lockNode(treeLockNode, type, i, attemptDeadlineNanos);
+      } catch (Exception e) {
+        if (!heldLocks.isEmpty()) {
+          unlock();
+        }
+        throw e;
+      }
+      if (!locked) {
+        return i;
+      }
+
+      heldLocks.push(Pair.of(treeLockNode, type));
+      treeLockNode.addHoldingThreadTimestamp(
+          Thread.currentThread(), identifier, System.currentTimeMillis());
+    }
+    return -1;
+  }
+
+  /** Unlock the nodes locked so far to try them again, they are still referenced by this lock. */
+  private void releaseForRetry() {
+    while (!heldLocks.isEmpty()) {
+      Pair<TreeLockNode, LockType> pair = heldLocks.pop();
+      TreeLockNode current = pair.getLeft();
+      current.unlock(pair.getRight());
+      current.removeHoldingThreadTimestamp(Thread.currentThread(), identifier);
+      // Unlocking a node releases a reference, which is taken back for the next attempt.
+      current.addReference();
+    }
+  }
+
+  /**
+   * Release the tree lock after the node of the given depth couldn't be locked in time: unlock the
+   * ancestors that have been locked, and release the references of the nodes that haven't.
+   *
+   * @param depth The depth of the node that couldn't be locked.
+   * @param timeoutMs The timeout that elapsed, in milliseconds.
+   */
+  private void failOnTimeout(int depth, long timeoutMs) {
+    if (!heldLocks.isEmpty()) {
+      unlock();
+    }
+    for (int i = depth; i < lockNodes.size(); i++) {
+      lockNodes.get(i).decReference();
+    }
+
+    if (metricsSource != null) {
+      metricsSource.lockTimeouts(depth).inc();
+    }
+    LOG.warn(
+        "Failed to lock the tree lock of '{}' with '{}' lock within {} ms, node {} is held by {}",
+        identifier,
+        lockType,
+        timeoutMs,
+        lockNodes.get(depth),
+        lockNodes.get(depth).getHoldingThreadTimestamp().keySet());
+    throw new LockTimeoutException(
+        "Failed to lock '%s' within %d ms as other operations hold the lock, please retry later",
+        identifier, timeoutMs);
+  }
+
   /** Unlock the tree lock. */
   public void unlock() {
     if (lockType == null) {
@@ -147,6 +376,21 @@ public class TreeLock {
       throw new IllegalStateException("We must hold a lock before unlocking it.");
     }
 
+    if (countedAsHeld) {
+      countedAsHeld = false;
+      int[] sharedNodeTreeLocksHeld = SHARED_NODE_TREE_LOCKS_HELD.get();
+      if (--sharedNodeTreeLocksHeld[0] == 0) {
+        SHARED_NODE_TREE_LOCKS_HELD.remove();
+      }
+    }
+
+    if (lockedAtNanos != 0) {
+      metricsSource
+          .lockHold(lockNodes.size() - 1)
+          .update(System.nanoTime() - lockedAtNanos, TimeUnit.NANOSECONDS);
+      lockedAtNanos = 0;
+    }
+
     while (!heldLocks.isEmpty()) {
       Pair<TreeLockNode, LockType> pair = heldLocks.pop();
       TreeLockNode current = pair.getLeft();
@@ -176,4 +420,61 @@ public class TreeLock {
           lockType);
     }
   }
+
+  /**
+   * Lock a node of the tree lock. If the node is contended, the current thread is recorded as a
+   * waiter of the node until it gets the lock, and the wait is recorded in the metrics.
+   *
+   * @param node The node to lock.
+   * @param type The lock type to lock the node.
+   * @param depth The depth of the node in the resource path, 0 being the root.
+   * @param deadlineNanos The {@link System#nanoTime()} to lock the node before, 0 for no deadline.
+   * @return True if the node has been locked, false if the deadline passed first.
+   */
+  private boolean lockNode(TreeLockNode node, LockType type, int depth, long deadlineNanos) {
+    // Checking the state of the lock first keeps the uncontended path free of any recording.
+    if (!node.isContended(type)) {
+      if (deadlineNanos == 0L) {
+        node.lock(type);
+        return true;
+      }
+      // The lock may have been taken since, so it must not block without a deadline.
+      if (tryLockNode(node, type, 0L)) {
+        return true;
+      }
+    }
+
+    if (metricsSource != null && type == LockType.WRITE && node.isReadLocked()) {
+      metricsSource.writeBlockedByReaders(depth).inc();
+    }
+
+    Thread thread = Thread.currentThread();
+    node.addWaitingThreadTimestamp(thread, identifier, System.currentTimeMillis());
+    long startNanos = System.nanoTime();
+    boolean locked = true;
+    try {
+      if (deadlineNanos == 0L) {
+        node.lock(type);
+      } else {
+        locked = tryLockNode(node, type, deadlineNanos - startNanos);
+      }
+    } finally {
+      node.removeWaitingThreadTimestamp(thread, identifier);
+    }
+
+    if (metricsSource != null) {
+      metricsSource.lockWait(depth).update(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+    return locked;
+  }
+
+  private static boolean tryLockNode(TreeLockNode node, LockType type, long timeoutNanos) {
+    try {
+      return node.tryLock(type, timeoutNanos);
+    } catch (InterruptedException e) {
+      // Give up the lock like a timeout, and let the caller see the interruption.
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
 }
@@ -26,6 +26,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.commons.lang3.tuple.Pair;
@@ -47,12 +48,19 @@ public class TreeLockNode {
   @VisibleForTesting final Map<String, TreeLockNode> childMap;
 
   private final Map<ThreadIdentifier, Long> holdingThreadTimestamp = new ConcurrentHashMap<>();
+  // The threads blocked on the lock of this node, only recorded when the lock is contended.
+  private final Map<ThreadIdentifier, Long> waitingThreadTimestamp = new ConcurrentHashMap<>();
 
   // The reference count of this node. The reference count is used to track the number of the
   // TreeLocks that are using this node. If the reference count is 0, it means that no TreeLock is
   // using this node, and this node can be removed from the tree.
   private final AtomicLong referenceCount = new AtomicLong();
 
+  // The version of this node, which is odd while the node is write locked and once it has been
+  // evicted from the tree. Optimistic readers check that the versions of their nodes did not change
+  // instead of locking them, see TreeLockStamp.
+  private final AtomicLong version = new AtomicLong();
+
   /**
    * The identifier of a thread. This class is used to identify this tree lock node is held by which
    * thread and identifier because one thread can hold multiple tree lock nodes at the same time.
@@ -72,6 +80,14 @@ public class TreeLockNode {
       return new ThreadIdentifier(thread, identifier);
     }
 
+    Thread getThread() {
+      return thread;
+    }
+
+    NameIdentifier getIdent() {
+      return ident;
+    }
+
     @Override
     public boolean equals(Object o) {
       if (this == o) {
@@ -121,6 +137,18 @@ public class TreeLockNode {
     return holdingThreadTimestamp.remove(ThreadIdentifier.of(currentThread, identifier));
   }
 
+  Map<ThreadIdentifier, Long> getWaitingThreadTimestamp() {
+    return waitingThreadTimestamp;
+  }
+
+  void addWaitingThreadTimestamp(Thread currentThread, NameIdentifier identifier, long timestamp) {
+    waitingThreadTimestamp.put(ThreadIdentifier.of(currentThread, identifier), timestamp);
+  }
+
+  void removeWaitingThreadTimestamp(Thread currentThread, NameIdentifier identifier) {
+    waitingThreadTimestamp.remove(ThreadIdentifier.of(currentThread, identifier));
+  }
+
   /**
    * Increase the reference count of this node. The reference count should always be greater than or
    * equal to 0.
@@ -141,6 +169,56 @@ public class TreeLockNode {
     return referenceCount.get();
   }
 
+  long getVersion() {
+    return version.get();
+  }
+
+  /**
+   * Mark the node as evicted from the tree. The version stays odd from now on, so the optimistic
+   * reads that have seen this node fail their validation: a writer would lock the node that
+   * replaces it in the tree, not this one.
+   *
+   * <p>Note: This method should be called when the node is not locked nor referenced.
+   */
+  void retire() {
+    version.incrementAndGet();
+  }
+
+  /**
+   * Check whether locking the node with the given lock type is likely to block the current thread.
+   * This only reads the state of the lock, so it is cheap enough to decide whether to record the
+   * wait, but another thread may lock or unlock the node right after.
+   *
+   * @param lockType The lock type to lock the node.
+   * @return True if the node is write locked by another thread, if other threads are queued on it,
+   *     or if a write lock is requested while the node is read locked.
+   */
+  boolean isContended(LockType lockType) {
+    if (readWriteLock.isWriteLocked()) {
+      return !readWriteLock.isWriteLockedByCurrentThread();
+    }
+    return readWriteLock.hasQueuedThreads() || (lockType == LockType.WRITE && isReadLocked());
+  }
+
+  /**
+   * Check whether the node is read locked by any thread.
+   *
+   * @return True if the node is read locked.
+   */
+  boolean isReadLocked() {
+    return readWriteLock.getReadLockCount() > 0;
+  }
+
+  /**
+   * Check whether the current thread holds the read lock of the node but not its write lock, in
+   * which case it can't write lock the node.
+   *
+   * @return True if the node is only read locked by the current thread.
+   */
+  boolean isOnlyReadLockedByCurrentThread() {
+    return readWriteLock.getReadHoldCount() > 0 && !readWriteLock.isWriteLockedByCurrentThread();
+  }
+
   /**
    * Lock the node with the given lock type. This method should be followed by {@link
    * #unlock(LockType)}.
@@ -152,6 +230,35 @@ public class TreeLockNode {
       readWriteLock.readLock().lock();
     } else {
       readWriteLock.writeLock().lock();
+      onWriteLocked();
+    }
+  }
+
+  /**
+   * Lock the node with the given lock type if it can be done within the given timeout. If it
+   * succeeds, this method should be followed by {@link #unlock(LockType)}.
+   *
+   * @param lockType The lock type to lock the node.
+   * @param timeoutNanos The maximum time to wait for the lock, in nanoseconds.
+   * @return True if the node has been locked, false if the timeout elapsed first.
+   * @throws InterruptedException If the current thread is interrupted while waiting.
+   */
+  boolean tryLock(LockType lockType, long timeoutNanos) throws InterruptedException {
+    if (lockType == LockType.READ) {
+      return readWriteLock.readLock().tryLock(timeoutNanos, TimeUnit.NANOSECONDS);
+    }
+
+    if (!readWriteLock.writeLock().tryLock(timeoutNanos, TimeUnit.NANOSECONDS)) {
+      return false;
+    }
+    onWriteLocked();
+    return true;
+  }
+
+  private void onWriteLocked() {
+    // Only the outermost write lock of a thread changes the version.
+    if (readWriteLock.getWriteHoldCount() == 1) {
+      version.incrementAndGet();
     }
   }
 
@@ -166,12 +273,25 @@ public class TreeLockNode {
     if (lockType == LockType.READ) {
       readWriteLock.readLock().unlock();
     } else {
+      if (readWriteLock.getWriteHoldCount() == 1) {
+        version.incrementAndGet();
+      }
       readWriteLock.writeLock().unlock();
     }
 
     this.referenceCount.decrementAndGet();
   }
 
+  /**
+   * Get the child node by the given name without creating or referencing it.
+   *
+   * @param name The name of a resource such as entity or others.
+   * @return The child node, or null if it doesn't exist.
+   */
+  TreeLockNode getChild(String name) {
+    return childMap.get(name);
+  }
+
   /**
    * Get the tree lock node by the given name. If the node doesn't exist, create a new TreeNode.
    *
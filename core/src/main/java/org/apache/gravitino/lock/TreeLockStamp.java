@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import java.lang.invoke.VarHandle;
+
+/**
+ * TreeLockStamp is the optimistic counterpart of a {@link TreeLock} read lock, in the way of the
+ * optimistic reads of {@link java.util.concurrent.locks.StampedLock}. It records the versions of
+ * the tree lock nodes from the root to the resource path, without locking them, referencing them
+ * or recording the reading thread, so that a read takes no shared write on the ancestors.
+ *
+ * <p>A read done after the stamp is taken is consistent if {@link #validate()} returns true
+ * afterward: no node of the path has been write locked nor evicted in between. Otherwise, the read
+ * may have overlapped a write and should be done again under a {@link TreeLock} read lock.
+ */
+final class TreeLockStamp {
+
+  private final TreeLockNode[] nodes;
+
+  private final long[] versions;
+
+  private TreeLockStamp(TreeLockNode[] nodes, long[] versions) {
+    this.nodes = nodes;
+    this.versions = versions;
+  }
+
+  /**
+   * Take a stamp of the given tree lock nodes.
+   *
+   * @param nodes The tree lock nodes from the root to the resource path.
+   * @return The stamp, or null if one of the nodes is write locked or has been evicted.
+   */
+  static TreeLockStamp of(TreeLockNode[] nodes) {
+    long[] versions = new long[nodes.length];
+    for (int i = 0; i < nodes.length; i++) {
+      long version = nodes[i].getVersion();
+      if ((version & 1) != 0) {
+        return null;
+      }
+      versions[i] = version;
+    }
+
+    return new TreeLockStamp(nodes, versions);
+  }
+
+  /**
+   * Check that no node of the stamp has been write locked or evicted since the stamp was taken.
+   *
+   * @return True if the reads done since the stamp was taken are consistent, false otherwise.
+   */
+  boolean validate() {
+    // Keep the reads done under the stamp from being reordered after the validation.
+    VarHandle.acquireFence();
+    for (int i = 0; i < nodes.length; i++) {
+      if (nodes[i].getVersion() != versions[i]) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+}
@@ -19,8 +19,10 @@
 
 package org.apache.gravitino.lock;
 
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
 import org.apache.gravitino.utils.Executable;
 
 /** Utility class for tree locks. */
@@ -31,7 +33,11 @@ public class TreeLockUtils {
   }
 
   /**
-   * Execute the given executable with the given tree lock.
+   * Execute the given executable with the given tree lock. The lock is waited for at most the
+   * timeout of the lock type configured in the {@link LockManager}.
+   *
+   * <p>If distributed locks are enabled, a write also takes the distributed lock of the identifier
+   * after its tree lock, within what remains of the timeout. Reads only take the tree lock.
    *
    * @param identifier The identifier of resource path that the lock attempts to lock.
    * @param lockType The type of lock to use.
@@ -40,18 +46,104 @@ public class TreeLockUtils {
    * @param <R> The type of the result.
    * @param <E> The type of the exception.
    * @throws E If the executable throws an exception.
+   * @throws LockTimeoutException If the lock couldn't be taken within the timeout, the executable
+   *     is not executed then.
    */
   public static <R, E extends Exception> R doWithTreeLock(
       NameIdentifier identifier, LockType lockType, Executable<R, E> executable) throws E {
-    TreeLock lock = GravitinoEnv.getInstance().lockManager().createTreeLock(identifier);
+    return doWithTreeLock(identifier, lockType, lockType == LockType.WRITE, executable);
+  }
+
+  /**
+   * Execute the given executable with the given tree lock, and with the distributed lock of the
+   * identifier if requested. A write that only takes a read tree lock, such as altering a table
+   * without renaming it, requests the distributed lock explicitly so that it is still fenced
+   * against the writes of the other servers.
+   *
+   * @param identifier The identifier of resource path that the lock attempts to lock.
+   * @param lockType The type of lock to use.
+   * @param distributedLock Whether to also take the distributed lock of the identifier, if
+   *     distributed locks are enabled.
+   * @param executable The executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   * @throws LockTimeoutException If the locks couldn't be taken within the timeout, the executable
+   *     is not executed then.
+   */
+  public static <R, E extends Exception> R doWithTreeLock(
+      NameIdentifier identifier,
+      LockType lockType,
+      boolean distributedLock,
+      Executable<R, E> executable)
+      throws E {
+    LockManager lockManager = GravitinoEnv.getInstance().lockManager();
+    DistributedLockProvider distributedLockProvider =
+        distributedLock ? GravitinoEnv.getInstance().distributedLockProvider() : null;
+    long timeoutMs = lockManager.lockTimeoutMs(lockType);
+    long startNanos = System.nanoTime();
+    TreeLock lock = lockManager.createTreeLock(identifier);
+    // A lock that failed has already been released, so it is taken out of the try block.
+    lock.lock(lockType, timeoutMs);
     try {
-      lock.lock(lockType);
-      return executable.execute();
+      if (distributedLockProvider == null) {
+        return executable.execute();
+      }
+
+      DistributedLockProvider.Lease lease =
+          distributedLockProvider.acquire(identifier, remainingTimeoutMs(timeoutMs, startNanos));
+      try {
+        return executable.execute();
+      } finally {
+        lease.release();
+      }
     } finally {
       lock.unlock();
     }
   }
 
+  /**
+   * Execute the given read-only executable optimistically, without taking the tree lock of the
+   * identifier. If a write lock has been taken on the resource path meanwhile, the result is
+   * discarded and the executable is executed again with the read tree lock, so it must have no
+   * side effect and may be executed twice.
+   *
+   * <p>Reads through the entity store still fill the entity cache, and a write invalidates the
+   * cache before it commits, so an attempt overlapping a write can cache the entity as it was
+   * before the write. The optimistic reads are therefore disabled by default, see {@code
+   * gravitino.lock.optimisticRead.enabled}.
+   *
+   * @param identifier The identifier of resource path that the executable reads.
+   * @param executable The read-only executable to execute.
+   * @return The result of the executable.
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception.
+   * @throws E If the executable throws an exception.
+   */
+  public static <R, E extends Exception> R doWithOptimisticReadTreeLock(
+      NameIdentifier identifier, Executable<R, E> executable) throws E {
+    TreeLockStamp stamp = GravitinoEnv.getInstance().lockManager().tryOptimisticRead(identifier);
+    if (stamp != null) {
+      R result;
+      try {
+        result = executable.execute();
+      } catch (Exception e) {
+        // The failure may come from a write running concurrently, in which case it is retried.
+        if (stamp.validate()) {
+          throw e;
+        }
+        return doWithTreeLock(identifier, LockType.READ, executable);
+      }
+
+      if (stamp.validate()) {
+        return result;
+      }
+    }
+
+    return doWithTreeLock(identifier, LockType.READ, executable);
+  }
+
   /**
    * Execute the given executable with the root tree lock.
    *
@@ -66,4 +158,14 @@ public class TreeLockUtils {
       LockType lockType, Executable<R, E> executable) throws E {
     return doWithTreeLock(LockManager.ROOT, lockType, executable);
   }
+
+  private static long remainingTimeoutMs(long timeoutMs, long startNanos) {
+    if (timeoutMs == 0) {
+      return 0;
+    }
+
+    long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    // The distributed lock is still tried once if the tree lock took the whole timeout.
+    return Math.max(1, timeoutMs - elapsedMs);
+  }
 }
@@ -0,0 +1,109 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.meta;
+
+import com.google.common.base.Objects;
+import com.google.common.base.Preconditions;
+import lombok.ToString;
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+
+/** An entry of the entity change log, as read back from the entity store. */
+@ToString
+public final class EntityChangeLogEntry implements ChangeLogEntry {
+
+  private final long sequence;
+  private final Entity.EntityType entityType;
+  private final NameIdentifier identifier;
+  private final Operation operation;
+  private final long changeTime;
+
+  private EntityChangeLogEntry(
+      long sequence,
+      Entity.EntityType entityType,
+      NameIdentifier identifier,
+      Operation operation,
+      long changeTime) {
+    this.sequence = sequence;
+    this.entityType = entityType;
+    this.identifier = identifier;
+    this.operation = operation;
+    this.changeTime = changeTime;
+  }
+
+  public static EntityChangeLogEntry of(
+      long sequence,
+      Entity.EntityType entityType,
+      NameIdentifier identifier,
+      Operation operation,
+      long changeTime) {
+    Preconditions.checkArgument(entityType != null, "entityType cannot be null");
+    Preconditions.checkArgument(identifier != null, "identifier cannot be null");
+    Preconditions.checkArgument(operation != null, "operation cannot be null");
+    return new EntityChangeLogEntry(sequence, entityType, identifier, operation, changeTime);
+  }
+
+  @Override
+  public long sequence() {
+    return sequence;
+  }
+
+  @Override
+  public String entityType() {
+    return entityType.name();
+  }
+
+  @Override
+  public NameIdentifier identifier() {
+    return identifier;
+  }
+
+  @Override
+  public Operation operation() {
+    return operation;
+  }
+
+  @Override
+  public long changeTime() {
+    return changeTime;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (!(o instanceof EntityChangeLogEntry)) {
+      return false;
+    }
+
+    EntityChangeLogEntry that = (EntityChangeLogEntry) o;
+    return sequence == that.sequence
+        && changeTime == that.changeTime
+        && entityType == that.entityType
+        && Objects.equal(identifier, that.identifier)
+        && operation == that.operation;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hashCode(sequence, entityType, identifier, operation, changeTime);
+  }
+}
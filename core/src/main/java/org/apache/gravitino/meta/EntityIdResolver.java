@@ -18,8 +18,12 @@
  */
 package org.apache.gravitino.meta;
 
+import com.google.common.collect.Maps;
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
 
 /** Interface for resolving entity IDs based on NameIdentifiers and Entity types. */
 public interface EntityIdResolver {
@@ -41,4 +45,25 @@ public interface EntityIdResolver {
    * @return Entity ID corresponding to the NameIdentifier and Entity type.
    */
   Long getEntityId(NameIdentifier nameIdentifier, Entity.EntityType type);
+
+  /**
+   * Get EntityIds for the given NameIdentifiers of the same Entity type. The NameIdentifiers that
+   * do not match an existing entity are omitted from the result.
+   *
+   * @param nameIdentifiers NameIdentifiers of the entities.
+   * @param type Entity type.
+   * @return EntityIds keyed by the NameIdentifiers that are resolved.
+   */
+  default Map<NameIdentifier, NamespacedEntityId> getEntityIds(
+      List<NameIdentifier> nameIdentifiers, Entity.EntityType type) {
+    Map<NameIdentifier, NamespacedEntityId> result = Maps.newHashMap();
+    for (NameIdentifier nameIdentifier : nameIdentifiers) {
+      try {
+        result.put(nameIdentifier, getEntityIds(nameIdentifier, type));
+      } catch (NoSuchEntityException e) {
+        // Omit the missing entity.
+      }
+    }
+    return result;
+  }
 }
@@ -18,10 +18,12 @@
  */
 package org.apache.gravitino.meta;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.ToString;
 import org.apache.gravitino.Auditable;
 import org.apache.gravitino.Entity;
@@ -57,7 +59,8 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
 
   private AuditInfo auditInfo;
 
-  private Map<String, String> properties;
+  // Decoded on first access when loaded from the relational backend.
+  @ToString.Exclude private Supplier<Map<String, String>> properties = Suppliers.ofInstance(null);
 
   private ModelEntity() {}
 
@@ -68,7 +71,7 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
     fields.put(NAME, name);
     fields.put(COMMENT, comment);
     fields.put(LATEST_VERSION, latestVersion);
-    fields.put(PROPERTIES, properties);
+    fields.put(PROPERTIES, properties());
     fields.put(AUDIT_INFO, auditInfo);
 
     return Collections.unmodifiableMap(fields);
@@ -97,8 +100,9 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
     return latestVersion;
   }
 
+  @ToString.Include
   public Map<String, String> properties() {
-    return properties;
+    return properties.get();
   }
 
   @Override
@@ -126,13 +130,13 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
         && Objects.equals(name, that.name)
         && Objects.equals(comment, that.comment)
         && Objects.equals(latestVersion, that.latestVersion)
-        && Objects.equals(properties, that.properties)
+        && Objects.equals(properties(), that.properties())
         && Objects.equals(auditInfo, that.auditInfo);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, comment, latestVersion, properties, auditInfo);
+    return Objects.hash(id, name, comment, latestVersion, properties(), auditInfo);
   }
 
   public static Builder builder() {
@@ -142,6 +146,8 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
   public static class Builder {
     private final ModelEntity model;
 
+    private Supplier<Map<String, String>> lazyProperties;
+
     private Builder() {
       model = new ModelEntity();
     }
@@ -172,7 +178,14 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
     }
 
     public Builder withProperties(Map<String, String> properties) {
-      model.properties = properties;
+      model.properties = Suppliers.ofInstance(properties);
+      lazyProperties = null;
+      return this;
+    }
+
+    public Builder withLazyProperties(Supplier<Map<String, String>> properties) {
+      model.properties = Suppliers.ofInstance(null);
+      lazyProperties = properties;
       return this;
     }
 
@@ -183,6 +196,9 @@ public class ModelEntity implements Entity, Auditable, HasIdentifier {
 
     public ModelEntity build() {
       model.validate();
+      if (lazyProperties != null) {
+        model.properties = Suppliers.memoize(lazyProperties::get);
+      }
       return model;
     }
   }
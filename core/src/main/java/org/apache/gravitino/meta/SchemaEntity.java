@@ -19,9 +19,11 @@
 package org.apache.gravitino.meta;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.ToString;
 import org.apache.gravitino.Auditable;
 import org.apache.gravitino.Entity;
@@ -52,7 +54,8 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
 
   protected Namespace namespace;
 
-  private Map<String, String> properties;
+  // Decoded on first access when loaded from the relational backend.
+  @ToString.Exclude private Supplier<Map<String, String>> properties = Suppliers.ofInstance(null);
 
   private SchemaEntity() {}
 
@@ -72,7 +75,7 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
     fields.put(NAME, name);
     fields.put(AUDIT_INFO, auditInfo);
     fields.put(COMMENT, comment);
-    fields.put(PROPERTIES, properties);
+    fields.put(PROPERTIES, properties());
 
     return Collections.unmodifiableMap(fields);
   }
@@ -133,8 +136,9 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
    *
    * @return The properties of the schema.
    */
+  @ToString.Include
   public Map<String, String> properties() {
-    return properties;
+    return properties.get();
   }
 
   /**
@@ -161,13 +165,13 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
         && Objects.equal(name, schema.name)
         && Objects.equal(namespace, schema.namespace)
         && Objects.equal(comment, schema.comment)
-        && Objects.equal(properties, schema.properties)
+        && Objects.equal(properties(), schema.properties())
         && Objects.equal(auditInfo, schema.auditInfo);
   }
 
   @Override
   public int hashCode() {
-    return Objects.hashCode(id, name, auditInfo, comment, properties);
+    return Objects.hashCode(id, name, auditInfo, comment, properties());
   }
 
   /** A builder class for {@link SchemaEntity}. */
@@ -175,6 +179,8 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
 
     private final SchemaEntity schema;
 
+    private Supplier<Map<String, String>> lazyProperties;
+
     private Builder() {
       this.schema = new SchemaEntity();
     }
@@ -230,7 +236,21 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
      * @return The builder instance.
      */
     public Builder withProperties(Map<String, String> properties) {
-      schema.properties = properties;
+      schema.properties = Suppliers.ofInstance(properties);
+      lazyProperties = null;
+      return this;
+    }
+
+    /**
+     * Sets the properties of the schema to be computed on first access, the supplier is called at
+     * most once.
+     *
+     * @param properties The supplier of the properties of the schema.
+     * @return The builder instance.
+     */
+    public Builder withLazyProperties(Supplier<Map<String, String>> properties) {
+      schema.properties = Suppliers.ofInstance(null);
+      lazyProperties = properties;
       return this;
     }
 
@@ -252,6 +272,9 @@ public class SchemaEntity implements Entity, Auditable, HasIdentifier {
      */
     public SchemaEntity build() {
       schema.validate();
+      if (lazyProperties != null) {
+        schema.properties = Suppliers.memoize(lazyProperties::get);
+      }
       return schema;
     }
 
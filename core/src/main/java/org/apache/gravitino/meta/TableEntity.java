@@ -19,11 +19,13 @@
 package org.apache.gravitino.meta;
 
 import com.google.common.base.Objects;
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
@@ -74,25 +76,18 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
 
   private List<ColumnEntity> columns;
 
-  @Getter
-  @Accessors(fluent = true)
-  private Map<String, String> properties;
+  // The properties, partitioning, sort orders, distribution and indexes are stored as JSON in the
+  // relational backend. They can be decoded on first access, since listing tables and authorizing
+  // requests rarely read them.
+  @ToString.Exclude private Supplier<Map<String, String>> properties = Suppliers.ofInstance(null);
 
-  @Getter
-  @Accessors(fluent = true)
-  private Transform[] partitioning;
+  @ToString.Exclude private Supplier<Transform[]> partitioning = Suppliers.ofInstance(null);
 
-  @Getter
-  @Accessors(fluent = true)
-  private SortOrder[] sortOrders;
+  @ToString.Exclude private Supplier<SortOrder[]> sortOrders = Suppliers.ofInstance(null);
 
-  @Getter
-  @Accessors(fluent = true)
-  private Distribution distribution;
+  @ToString.Exclude private Supplier<Distribution> distribution = Suppliers.ofInstance(null);
 
-  @Getter
-  @Accessors(fluent = true)
-  private Index[] indexes;
+  @ToString.Exclude private Supplier<Index[]> indexes = Suppliers.ofInstance(null);
 
   @Getter
   @Accessors(fluent = true)
@@ -110,11 +105,11 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     fields.put(NAME, name);
     fields.put(AUDIT_INFO, auditInfo);
     fields.put(COLUMNS, columns);
-    fields.put(PROPERTIES, properties);
-    fields.put(PARTITIONING, partitioning);
-    fields.put(SORT_ORDERS, sortOrders);
-    fields.put(DISTRIBUTION, distribution);
-    fields.put(INDEXES, indexes);
+    fields.put(PROPERTIES, properties());
+    fields.put(PARTITIONING, partitioning());
+    fields.put(SORT_ORDERS, sortOrders());
+    fields.put(DISTRIBUTION, distribution());
+    fields.put(INDEXES, indexes());
     fields.put(COMMENT, comment);
 
     return fields;
@@ -174,6 +169,56 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     return columns;
   }
 
+  /**
+   * Returns the properties of the table.
+   *
+   * @return The properties of the table.
+   */
+  @ToString.Include
+  public Map<String, String> properties() {
+    return properties.get();
+  }
+
+  /**
+   * Returns the partitioning of the table.
+   *
+   * @return The partitioning of the table.
+   */
+  @ToString.Include
+  public Transform[] partitioning() {
+    return partitioning.get();
+  }
+
+  /**
+   * Returns the sort orders of the table.
+   *
+   * @return The sort orders of the table.
+   */
+  @ToString.Include
+  public SortOrder[] sortOrders() {
+    return sortOrders.get();
+  }
+
+  /**
+   * Returns the distribution of the table.
+   *
+   * @return The distribution of the table.
+   */
+  @ToString.Include
+  public Distribution distribution() {
+    return distribution.get();
+  }
+
+  /**
+   * Returns the indexes of the table.
+   *
+   * @return The indexes of the table.
+   */
+  @ToString.Include
+  public Index[] indexes() {
+    return indexes.get();
+  }
+
   @Override
   public boolean equals(Object o) {
     if (this == o) {
@@ -190,11 +235,11 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
         && Objects.equal(auditInfo, baseTable.auditInfo)
         && CollectionUtils.isEqualCollection(columns, baseTable.columns)
         // Please check the correctness of this comparison.
-        && Objects.equal(properties, baseTable.properties)
-        && Arrays.equals(partitioning, baseTable.partitioning)
-        && Arrays.equals(sortOrders, baseTable.sortOrders)
-        && Objects.equal(distribution, baseTable.distribution)
-        && Arrays.equals(indexes, baseTable.indexes)
+        && Objects.equal(properties(), baseTable.properties())
+        && Arrays.equals(partitioning(), baseTable.partitioning())
+        && Arrays.equals(sortOrders(), baseTable.sortOrders())
+        && Objects.equal(distribution(), baseTable.distribution())
+        && Arrays.equals(indexes(), baseTable.indexes())
         && Objects.equal(comment, baseTable.comment);
   }
 
@@ -206,12 +251,12 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
         auditInfo,
         columns,
         namespace,
-        properties,
-        Arrays.hashCode(partitioning),
-        Arrays.hashCode(sortOrders),
-        distribution,
-        distribution,
-        Arrays.hashCode(indexes),
+        properties(),
+        Arrays.hashCode(partitioning()),
+        Arrays.hashCode(sortOrders()),
+        distribution(),
+        distribution(),
+        Arrays.hashCode(indexes()),
         comment);
   }
 
@@ -219,6 +264,16 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
 
     private final TableEntity tableEntity;
 
+    private Supplier<Map<String, String>> lazyProperties;
+
+    private Supplier<Transform[]> lazyPartitioning;
+
+    private Supplier<SortOrder[]> lazySortOrders;
+
+    private Supplier<Distribution> lazyDistribution;
+
+    private Supplier<Index[]> lazyIndexes;
+
     private Builder() {
       this.tableEntity = new TableEntity();
     }
@@ -249,27 +304,92 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     }
 
     public Builder withProperties(Map<String, String> properties) {
-      tableEntity.properties = properties;
+      tableEntity.properties = Suppliers.ofInstance(properties);
+      lazyProperties = null;
+      return this;
+    }
+
+    /**
+     * Sets the properties to be computed on first access, the supplier is called at most once.
+     *
+     * @param properties The supplier of the properties.
+     * @return The builder instance.
+     */
+    public Builder withLazyProperties(Supplier<Map<String, String>> properties) {
+      tableEntity.properties = Suppliers.ofInstance(null);
+      lazyProperties = properties;
       return this;
     }
 
     public Builder withPartitioning(Transform[] partitioning) {
-      tableEntity.partitioning = partitioning;
+      tableEntity.partitioning = Suppliers.ofInstance(partitioning);
+      lazyPartitioning = null;
+      return this;
+    }
+
+    /**
+     * Sets the partitioning to be computed on first access, the supplier is called at most once.
+     *
+     * @param partitioning The supplier of the partitioning.
+     * @return The builder instance.
+     */
+    public Builder withLazyPartitioning(Supplier<Transform[]> partitioning) {
+      tableEntity.partitioning = Suppliers.ofInstance(null);
+      lazyPartitioning = partitioning;
       return this;
     }
 
     public Builder withSortOrders(SortOrder[] sortOrders) {
-      tableEntity.sortOrders = sortOrders;
+      tableEntity.sortOrders = Suppliers.ofInstance(sortOrders);
+      lazySortOrders = null;
+      return this;
+    }
+
+    /**
+     * Sets the sort orders to be computed on first access, the supplier is called at most once.
+     *
+     * @param sortOrders The supplier of the sort orders.
+     * @return The builder instance.
+     */
+    public Builder withLazySortOrders(Supplier<SortOrder[]> sortOrders) {
+      tableEntity.sortOrders = Suppliers.ofInstance(null);
+      lazySortOrders = sortOrders;
       return this;
     }
 
     public Builder withDistribution(Distribution distribution) {
-      tableEntity.distribution = distribution;
+      tableEntity.distribution = Suppliers.ofInstance(distribution);
+      lazyDistribution = null;
+      return this;
+    }
+
+    /**
+     * Sets the distribution to be computed on first access, the supplier is called at most once.
+     *
+     * @param distribution The supplier of the distribution.
+     * @return The builder instance.
+     */
+    public Builder withLazyDistribution(Supplier<Distribution> distribution) {
+      tableEntity.distribution = Suppliers.ofInstance(null);
+      lazyDistribution = distribution;
       return this;
     }
 
     public Builder withIndexes(Index[] indexes) {
-      tableEntity.indexes = indexes;
+      tableEntity.indexes = Suppliers.ofInstance(indexes);
+      lazyIndexes = null;
+      return this;
+    }
+
+    /**
+     * Sets the indexes to be computed on first access, the supplier is called at most once.
+     *
+     * @param indexes The supplier of the indexes.
+     * @return The builder instance.
+     */
+    public Builder withLazyIndexes(Supplier<Index[]> indexes) {
+      tableEntity.indexes = Suppliers.ofInstance(null);
+      lazyIndexes = indexes;
       return this;
     }
 
@@ -279,23 +399,37 @@ public class TableEntity implements Entity, Auditable, HasIdentifier {
     }
 
     public TableEntity build() {
+      // The lazy fields are not set yet, so validating does not compute them.
       tableEntity.validate();
 
       tableEntity.columns =
           tableEntity.columns == null ? Collections.emptyList() : tableEntity.columns;
       tableEntity.properties =
-          tableEntity.properties == null ? Collections.emptyMap() : tableEntity.properties;
-      tableEntity.indexes =
-          tableEntity.indexes == null ? Indexes.EMPTY_INDEXES : tableEntity.indexes;
+          withDefault(tableEntity.properties, lazyProperties, Collections.emptyMap());
+      tableEntity.indexes = withDefault(tableEntity.indexes, lazyIndexes, Indexes.EMPTY_INDEXES);
       tableEntity.partitioning =
-          tableEntity.partitioning == null ? Transforms.EMPTY_TRANSFORM : tableEntity.partitioning;
+          withDefault(tableEntity.partitioning, lazyPartitioning, Transforms.EMPTY_TRANSFORM);
       tableEntity.sortOrders =
-          tableEntity.sortOrders == null ? new SortOrder[0] : tableEntity.sortOrders;
+          withDefault(tableEntity.sortOrders, lazySortOrders, new SortOrder[0]);
       tableEntity.distribution =
-          tableEntity.distribution == null ? Distributions.NONE : tableEntity.distribution;
+          withDefault(tableEntity.distribution, lazyDistribution, Distributions.NONE);
 
       return tableEntity;
     }
+
+    private static <T> Supplier<T> withDefault(
+        Supplier<T> value, Supplier<T> lazyValue, T defaultValue) {
+      if (lazyValue == null) {
+        T v = value.get();
+        return Suppliers.ofInstance(v == null ? defaultValue : v);
+      }
+
+      return Suppliers.memoize(
+          () -> {
+            T v = lazyValue.get();
+            return v == null ? defaultValue : v;
+          });
+    }
   }
 
   /**
@@ -18,10 +18,12 @@
  */
 package org.apache.gravitino.meta;
 
+import com.google.common.base.Suppliers;
 import com.google.common.collect.Maps;
 import java.util.Collections;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import lombok.ToString;
 import org.apache.gravitino.Auditable;
 import org.apache.gravitino.Entity;
@@ -52,7 +54,8 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
   private Namespace namespace;
   private String comment;
   private AuditInfo auditInfo;
-  private Map<String, String> properties;
+  // Decoded on first access when loaded from the relational backend.
+  @ToString.Exclude private Supplier<Map<String, String>> properties = Suppliers.ofInstance(null);
 
   private TopicEntity() {}
 
@@ -68,7 +71,7 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
     fields.put(NAME, name);
     fields.put(COMMENT, comment);
     fields.put(AUDIT_INFO, auditInfo);
-    fields.put(PROPERTIES, properties);
+    fields.put(PROPERTIES, properties());
 
     return Collections.unmodifiableMap(fields);
   }
@@ -137,8 +140,9 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
    *
    * @return The properties of the topic entity.
    */
+  @ToString.Include
   public Map<String, String> properties() {
-    return properties;
+    return properties.get();
   }
 
   @Override
@@ -152,17 +156,19 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
         && Objects.equals(namespace, that.namespace)
         && Objects.equals(comment, that.comment)
         && Objects.equals(auditInfo, that.auditInfo)
-        && Objects.equals(properties, that.properties);
+        && Objects.equals(properties(), that.properties());
   }
 
   @Override
   public int hashCode() {
-    return Objects.hash(id, name, comment, auditInfo, properties);
+    return Objects.hash(id, name, comment, auditInfo, properties());
   }
 
   public static class Builder {
     private final TopicEntity topic;
 
+    private Supplier<Map<String, String>> lazyProperties;
+
     private Builder() {
       topic = new TopicEntity();
     }
@@ -229,7 +235,21 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
      * @return The builder instance.
      */
     public TopicEntity.Builder withProperties(Map<String, String> properties) {
-      topic.properties = properties;
+      topic.properties = Suppliers.ofInstance(properties);
+      lazyProperties = null;
+      return this;
+    }
+
+    /**
+     * Sets the properties of the topic entity to be computed on first access, the supplier is
+     * called at most once.
+     *
+     * @param properties The supplier of the properties of the topic entity.
+     * @return The builder instance.
+     */
+    public TopicEntity.Builder withLazyProperties(Supplier<Map<String, String>> properties) {
+      topic.properties = Suppliers.ofInstance(null);
+      lazyProperties = properties;
       return this;
     }
 
@@ -240,6 +260,9 @@ public class TopicEntity implements Entity, Auditable, HasIdentifier {
      */
     public TopicEntity build() {
       topic.validate();
+      if (lazyProperties != null) {
+        topic.properties = Suppliers.memoize(lazyProperties::get);
+      }
       return topic;
     }
   }
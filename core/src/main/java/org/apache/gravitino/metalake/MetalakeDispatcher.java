@@ -19,10 +19,28 @@
 
 package org.apache.gravitino.metalake;
 
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.NoSuchMetalakeException;
+
 /**
  * {@code MetalakeDispatcher} interface acts as a specialization of the {@link SupportsMetalakes}
  * interface. This interface is designed to potentially add custom behaviors or operations related
  * to dispatching or handling metalake-related events or actions that are not covered by the
  * standard {@code SupportsMetalakes} operations.
  */
-public interface MetalakeDispatcher extends SupportsMetalakes {}
+public interface MetalakeDispatcher extends SupportsMetalakes {
+
+  /**
+   * List the change log entries of the metalake written after the given sequence number, ordered
+   * by sequence.
+   *
+   * @param ident The identifier of the metalake.
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return, must be positive.
+   * @return The change log entries.
+   * @throws NoSuchMetalakeException If the metalake does not exist.
+   */
+  ChangeLogEntry[] listChanges(NameIdentifier ident, long afterSequence, int limit)
+      throws NoSuchMetalakeException;
+}
@@ -20,6 +20,7 @@ package org.apache.gravitino.metalake;
 
 import static org.apache.gravitino.Metalake.PROPERTY_IN_USE;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import java.io.Closeable;
@@ -30,6 +31,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.EntityStore;
@@ -63,6 +65,9 @@ public class MetalakeManager implements MetalakeDispatcher, Closeable {
 
   private static final String METALAKE_DOES_NOT_EXIST_MSG = "Metalake %s does not exist";
 
+  // The largest page of change log entries read from the store in one call.
+  private static final int MAX_CHANGE_LOG_LIMIT = 1_000;
+
   private static final Logger LOG = LoggerFactory.getLogger(MetalakeManager.class);
 
   private final EntityStore store;
@@ -211,6 +216,34 @@ public class MetalakeManager implements MetalakeDispatcher, Closeable {
         });
   }
 
+  /**
+   * Lists the change log entries of a Metalake written after the given sequence number.
+   *
+   * @param ident The identifier of the Metalake.
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return, must be positive. Values larger than
+   *     1000 are lowered to 1000.
+   * @return The change log entries, ordered by sequence.
+   * @throws NoSuchMetalakeException If the Metalake with the given identifier does not exist.
+   * @throws RuntimeException If listing the changes encounters storage issues.
+   */
+  @Override
+  public ChangeLogEntry[] listChanges(NameIdentifier ident, long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    Preconditions.checkArgument(limit > 0, "limit must be positive, but got %s", limit);
+    // The change log is append-only, so it is read without taking the tree lock. The metalake is
+    // only looked up to reject unknown names.
+    metalakeInUse(store, ident);
+    try {
+      return store
+          .listChanges(ident.name(), afterSequence, Math.min(limit, MAX_CHANGE_LOG_LIMIT))
+          .toArray(new ChangeLogEntry[0]);
+    } catch (IOException ioe) {
+      LOG.error("Listing changes of Metalake {} failed due to storage issues", ident, ioe);
+      throw new RuntimeException(ioe);
+    }
+  }
+
   private BaseMetalake newMetalakeWithResolvedProperties(BaseMetalake metalakeEntity) {
     Map<String, String> newProps =
         metalakeEntity.properties() == null
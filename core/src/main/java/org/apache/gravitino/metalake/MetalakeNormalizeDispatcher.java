@@ -29,6 +29,7 @@ import java.util.Arrays;
 import java.util.Map;
 import java.util.Set;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
@@ -121,6 +122,12 @@ public class MetalakeNormalizeDispatcher implements MetalakeDispatcher {
     dispatcher.disableMetalake(ident);
   }
 
+  @Override
+  public ChangeLogEntry[] listChanges(NameIdentifier ident, long afterSequence, int limit)
+      throws NoSuchMetalakeException {
+    return dispatcher.listChanges(ident, afterSequence, limit);
+  }
+
   private void validateMetalakeName(String name) {
     if (RESERVED_WORDS.contains(name)) {
       throw new IllegalArgumentException("The metalake name '" + name + "' is reserved.");
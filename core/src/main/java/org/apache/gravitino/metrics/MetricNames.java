@@ -24,6 +24,46 @@ public class MetricNames {
   public static final String DATASOURCE_ACTIVE_CONNECTIONS = "datasource.active-connections";
   public static final String DATASOURCE_IDLE_CONNECTIONS = "datasource.idle-connections";
   public static final String DATASOURCE_MAX_CONNECTIONS = "datasource.max-connections";
+  public static final String DATASOURCE_REPLICA_ACTIVE_CONNECTIONS =
+      "datasource.replica.active-connections";
+  public static final String DATASOURCE_REPLICA_IDLE_CONNECTIONS =
+      "datasource.replica.idle-connections";
+  public static final String DATASOURCE_REPLICA_MAX_CONNECTIONS =
+      "datasource.replica.max-connections";
+  public static final String DATASOURCE_REPLICA_LAG_MS = "datasource.replica.lag-ms";
+  public static final String DATASOURCE_READS_ROUTED_TO_REPLICA = "datasource.reads.replica";
+  public static final String DATASOURCE_READS_ROUTED_TO_PRIMARY = "datasource.reads.primary";
+  public static final String GC_ROWS_PURGED = "rows-purged";
+  public static final String GC_BACKLOG_ESTIMATE = "backlog-estimate";
+  public static final String GC_BATCH_SIZE = "batch-size";
+  public static final String GC_PASS_DURATION = "pass-duration";
+  public static final String GC_CHANGE_LOG_ROWS_PURGED = "change-log-rows-purged";
+  public static final String CACHE_INVALIDATIONS_APPLIED = "invalidations-applied";
+  public static final String CACHE_INVALIDATION_POLL_FAILURES = "poll-failures";
+  public static final String CACHE_INVALIDATION_FULL_CLEARS = "full-clears";
+  public static final String CACHE_INVALIDATION_LAG_MS = "lag-ms";
+  public static final String CACHE_INVALIDATION_LAST_SEQUENCE = "last-sequence";
+  public static final String CACHE_WARMUP_ENTITIES_LOADED = "entities-loaded";
+  public static final String CACHE_WARMUP_FAILURES = "failures";
+  public static final String CACHE_WARMUP_PENDING_TASKS = "pending-tasks";
+  public static final String CACHE_WARMUP_DURATION_MS = "duration-ms";
+  public static final String CACHE_WARMUP_STATE = "state";
+  public static final String CACHE_HIT_COUNT = "hit-count";
+  public static final String CACHE_MISS_COUNT = "miss-count";
+  public static final String CACHE_HIT_RATE = "hit-rate";
+  public static final String CACHE_EVICTION_COUNT = "eviction-count";
+  public static final String CACHE_REFRESH_COUNT = "refresh-count";
+  public static final String CACHE_WEIGHTED_SIZE = "weighted-size";
+  public static final String CACHE_LOAD = "load";
+  public static final String CACHE_NEGATIVE_TIER_HIT_RATE = "negative-tier-hit-rate";
+  public static final String CACHE_NEGATIVE_TIER_SIZE = "negative-tier-size";
+  public static final String CACHE_SECOND_TIER_HIT_RATE = "second-tier-hit-rate";
+  public static final String CACHE_SECOND_TIER_SIZE = "second-tier-size";
+  public static final String CACHE_SECOND_TIER_BYTES = "second-tier-bytes";
+  public static final String TREE_LOCK_WAIT = "lock-wait";
+  public static final String TREE_LOCK_HOLD = "lock-hold";
+  public static final String TREE_LOCK_WRITE_BLOCKED_BY_READERS = "write-blocked-by-readers";
+  public static final String TREE_LOCK_TIMEOUT = "lock-timeout";
   public static final String FILESYSTEM_CACHE = "filesystem-cache";
   public static final String SERVER_BUSY_THREAD_NUM = "http-server.busy-thread.num";
   public static final String SERVER_IDLE_THREAD_NUM = "http-server.idle-thread.num";
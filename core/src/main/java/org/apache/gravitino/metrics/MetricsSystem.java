@@ -210,7 +210,19 @@ public class MetricsSystem implements Closeable {
         new MapperConfig(
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + ".*.*",
             MetricsSource.GRAVITINO_SERVER_METRIC_NAME + "_${1}",
-            ImmutableMap.of("operation", "${0}")));
+            ImmutableMap.of("operation", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME + ".*.*",
+            MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME + "_${1}",
+            ImmutableMap.of("entity_type", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME + ".*.*",
+            MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME + "_${1}",
+            ImmutableMap.of("entity_type", "${0}")),
+        new MapperConfig(
+            MetricsSource.GRAVITINO_TREE_LOCK_METRIC_NAME + ".*.*",
+            MetricsSource.GRAVITINO_TREE_LOCK_METRIC_NAME + "_${1}",
+            ImmutableMap.of("level", "${0}")));
   }
 
   private void registerMetricsToPrometheusRegistry() {
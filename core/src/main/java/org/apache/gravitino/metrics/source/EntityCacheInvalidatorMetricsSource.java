@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Metrics of the entity cache invalidator, which applies the changes made by the other nodes. */
+public class EntityCacheInvalidatorMetricsSource extends MetricsSource {
+
+  public EntityCacheInvalidatorMetricsSource() {
+    super(MetricsSource.GRAVITINO_ENTITY_CACHE_INVALIDATOR_METRIC_NAME);
+  }
+
+  /**
+   * Get the counter of the change log entries applied to the cache.
+   *
+   * @return The counter of the invalidations applied.
+   */
+  public Counter invalidationsApplied() {
+    return getCounter(MetricNames.CACHE_INVALIDATIONS_APPLIED);
+  }
+
+  /**
+   * Get the counter of the failed polls of the change log.
+   *
+   * @return The counter of the failed polls.
+   */
+  public Counter pollFailures() {
+    return getCounter(MetricNames.CACHE_INVALIDATION_POLL_FAILURES);
+  }
+
+  /**
+   * Get the counter of the full cache clears, caused by exceeding the maximum staleness or by a
+   * change log sequence jump too large to track.
+   *
+   * @return The counter of the full clears.
+   */
+  public Counter fullClears() {
+    return getCounter(MetricNames.CACHE_INVALIDATION_FULL_CLEARS);
+  }
+
+  /**
+   * Register the gauges of the invalidator.
+   *
+   * @param lagMillis The gauge of the time since the last successful poll, in milliseconds.
+   * @param lastSequence The gauge of the greatest change log sequence read.
+   */
+  public void registerGauges(Gauge<Long> lagMillis, Gauge<Long> lastSequence) {
+    registerGauge(MetricNames.CACHE_INVALIDATION_LAG_MS, lagMillis);
+    registerGauge(MetricNames.CACHE_INVALIDATION_LAST_SEQUENCE, lastSequence);
+  }
+}
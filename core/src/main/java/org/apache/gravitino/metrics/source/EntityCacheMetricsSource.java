@@ -0,0 +1,130 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.Locale;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the entity cache. The per entity type metrics are named "{entityType}.{name}", and are
+ * exported to Prometheus with an {@code entity_type} label.
+ */
+public class EntityCacheMetricsSource extends MetricsSource {
+
+  public EntityCacheMetricsSource() {
+    super(MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME);
+  }
+
+  /**
+   * Get the counter of the cache hits for the entity type.
+   *
+   * @param entityType The entity type.
+   * @return The counter of the hits.
+   */
+  public Counter hits(Entity.EntityType entityType) {
+    return getCounter(metricName(entityType, MetricNames.CACHE_HIT_COUNT));
+  }
+
+  /**
+   * Get the counter of the cache misses for the entity type.
+   *
+   * @param entityType The entity type.
+   * @return The counter of the misses.
+   */
+  public Counter misses(Entity.EntityType entityType) {
+    return getCounter(metricName(entityType, MetricNames.CACHE_MISS_COUNT));
+  }
+
+  /**
+   * Get the counter of the entries of the entity type evicted for size or expiration.
+   *
+   * @param entityType The entity type.
+   * @return The counter of the evictions.
+   */
+  public Counter evictions(Entity.EntityType entityType) {
+    return getCounter(metricName(entityType, MetricNames.CACHE_EVICTION_COUNT));
+  }
+
+  /**
+   * Get the counter of the entries of the entity type reloaded in the background before they
+   * expired.
+   *
+   * @param entityType The entity type.
+   * @return The counter of the refreshes.
+   */
+  public Counter refreshes(Entity.EntityType entityType) {
+    return getCounter(metricName(entityType, MetricNames.CACHE_REFRESH_COUNT));
+  }
+
+  /**
+   * Get the timer of the entity store loads after a cache miss for the entity type.
+   *
+   * @param entityType The entity type.
+   * @return The timer of the loads.
+   */
+  public Timer loads(Entity.EntityType entityType) {
+    return getTimer(metricName(entityType, MetricNames.CACHE_LOAD));
+  }
+
+  /**
+   * Register the gauges of the entity type.
+   *
+   * @param entityType The entity type.
+   * @param hitRate The gauge of the ratio of the lookups that hit the cache.
+   * @param weightedSize The gauge of the weight of the cached entries, the number of entries if the
+   *     weigher is disabled.
+   */
+  public void registerEntityTypeGauges(
+      Entity.EntityType entityType, Gauge<Double> hitRate, Gauge<Long> weightedSize) {
+    registerGauge(metricName(entityType, MetricNames.CACHE_HIT_RATE), hitRate);
+    registerGauge(metricName(entityType, MetricNames.CACHE_WEIGHTED_SIZE), weightedSize);
+  }
+
+  /**
+   * Register the gauges of the negative tier.
+   *
+   * @param hitRate The gauge of the ratio of the lookups that found the entity recorded missing.
+   * @param size The gauge of the number of the missing entities recorded.
+   */
+  public void registerNegativeTierGauges(Gauge<Double> hitRate, Gauge<Long> size) {
+    registerGauge(MetricNames.CACHE_NEGATIVE_TIER_HIT_RATE, hitRate);
+    registerGauge(MetricNames.CACHE_NEGATIVE_TIER_SIZE, size);
+  }
+
+  /**
+   * Register the gauges of the serialized second tier.
+   *
+   * @param hitRate The gauge of the ratio of the lookups that found the entity in the tier.
+   * @param size The gauge of the number of the entities in the tier.
+   * @param bytes The gauge of the weight of the entities in the tier, in bytes.
+   */
+  public void registerSecondTierGauges(Gauge<Double> hitRate, Gauge<Long> size, Gauge<Long> bytes) {
+    registerGauge(MetricNames.CACHE_SECOND_TIER_HIT_RATE, hitRate);
+    registerGauge(MetricNames.CACHE_SECOND_TIER_SIZE, size);
+    registerGauge(MetricNames.CACHE_SECOND_TIER_BYTES, bytes);
+  }
+
+  private static String metricName(Entity.EntityType entityType, String name) {
+    return entityType.name().toLowerCase(Locale.ROOT) + "." + name;
+  }
+}
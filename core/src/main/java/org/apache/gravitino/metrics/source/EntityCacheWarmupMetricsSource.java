@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import org.apache.gravitino.metrics.MetricNames;
+
+/** Metrics of the entity cache warm-up, which preloads the cache when the server starts. */
+public class EntityCacheWarmupMetricsSource extends MetricsSource {
+
+  public EntityCacheWarmupMetricsSource() {
+    super(MetricsSource.GRAVITINO_ENTITY_CACHE_WARMUP_METRIC_NAME);
+  }
+
+  /**
+   * Get the counter of the entities loaded into the cache.
+   *
+   * @return The counter of the entities loaded.
+   */
+  public Counter entitiesLoaded() {
+    return getCounter(MetricNames.CACHE_WARMUP_ENTITIES_LOADED);
+  }
+
+  /**
+   * Get the counter of the warm-up reads that failed.
+   *
+   * @return The counter of the failed reads.
+   */
+  public Counter failures() {
+    return getCounter(MetricNames.CACHE_WARMUP_FAILURES);
+  }
+
+  /**
+   * Register the gauges of the warm-up.
+   *
+   * @param pendingTasks The gauge of the warm-up reads not done yet.
+   * @param durationMillis The gauge of the time spent in the warm-up, in milliseconds.
+   * @param state The gauge of the state of the warm-up: 0 not started, 1 running, 2 completed and
+   *     3 timed out.
+   */
+  public void registerGauges(
+      Gauge<Integer> pendingTasks, Gauge<Long> durationMillis, Gauge<Integer> state) {
+    registerGauge(MetricNames.CACHE_WARMUP_PENDING_TASKS, pendingTasks);
+    registerGauge(MetricNames.CACHE_WARMUP_DURATION_MS, durationMillis);
+    registerGauge(MetricNames.CACHE_WARMUP_STATE, state);
+  }
+}
@@ -43,6 +43,14 @@ public abstract class MetricsSource {
   public static final String LANCE_REST_SERVER_METRIC_NAME = "lance-rest-server";
   public static final String GRAVITINO_SERVER_METRIC_NAME = "gravitino-server";
   public static final String GRAVITINO_RELATIONAL_STORE_METRIC_NAME = "gravitino-relational-store";
+  public static final String GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME =
+      "gravitino-relational-garbage-collector";
+  public static final String GRAVITINO_ENTITY_CACHE_METRIC_NAME = "gravitino-entity-cache";
+  public static final String GRAVITINO_ENTITY_CACHE_INVALIDATOR_METRIC_NAME =
+      "gravitino-entity-cache-invalidator";
+  public static final String GRAVITINO_ENTITY_CACHE_WARMUP_METRIC_NAME =
+      "gravitino-entity-cache-warmup";
+  public static final String GRAVITINO_TREE_LOCK_METRIC_NAME = "gravitino-tree-lock";
   public static final String GRAVITINO_CATALOG_METRIC_PREFIX = "gravitino-catalog";
   public static final String JVM_METRIC_NAME = "jvm";
   private final MetricRegistry metricRegistry;
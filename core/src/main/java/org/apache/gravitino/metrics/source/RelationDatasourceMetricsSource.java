@@ -20,16 +20,44 @@
 package org.apache.gravitino.metrics.source;
 
 import com.codahale.metrics.Gauge;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.storage.relational.session.ReadReplicaRouter;
 
 public class RelationDatasourceMetricsSource extends MetricsSource {
 
   public RelationDatasourceMetricsSource(BasicDataSource dataSource) {
+    this(dataSource, null);
+  }
+
+  public RelationDatasourceMetricsSource(
+      BasicDataSource dataSource, @Nullable ReadReplicaRouter readReplicaRouter) {
     super(MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME);
     registerGauge(
         MetricNames.DATASOURCE_ACTIVE_CONNECTIONS, (Gauge<Integer>) dataSource::getNumActive);
     registerGauge(MetricNames.DATASOURCE_IDLE_CONNECTIONS, (Gauge<Integer>) dataSource::getNumIdle);
     registerGauge(MetricNames.DATASOURCE_MAX_CONNECTIONS, (Gauge<Integer>) dataSource::getMaxTotal);
+
+    if (readReplicaRouter != null) {
+      BasicDataSource replicaDataSource = readReplicaRouter.getReplicaDataSource();
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_ACTIVE_CONNECTIONS,
+          (Gauge<Integer>) replicaDataSource::getNumActive);
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_IDLE_CONNECTIONS,
+          (Gauge<Integer>) replicaDataSource::getNumIdle);
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_MAX_CONNECTIONS,
+          (Gauge<Integer>) replicaDataSource::getMaxTotal);
+      registerGauge(
+          MetricNames.DATASOURCE_REPLICA_LAG_MS, (Gauge<Long>) readReplicaRouter::getReplicaLagMs);
+      registerGauge(
+          MetricNames.DATASOURCE_READS_ROUTED_TO_REPLICA,
+          (Gauge<Long>) readReplicaRouter::getReplicaReads);
+      registerGauge(
+          MetricNames.DATASOURCE_READS_ROUTED_TO_PRIMARY,
+          (Gauge<Long>) readReplicaRouter::getPrimaryReads);
+    }
   }
 }
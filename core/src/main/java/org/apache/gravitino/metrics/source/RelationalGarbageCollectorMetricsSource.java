@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Gauge;
+import com.codahale.metrics.Timer;
+import java.util.Locale;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the relational garbage collector. The per entity type metrics are named
+ * "{entityType}.{name}", and are exported to Prometheus with an {@code entity_type} label.
+ */
+public class RelationalGarbageCollectorMetricsSource extends MetricsSource {
+
+  public RelationalGarbageCollectorMetricsSource() {
+    super(MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME);
+  }
+
+  /**
+   * Get the counter of the rows purged for the entity type.
+   *
+   * @param entityType The entity type.
+   * @return The counter of the rows purged.
+   */
+  public Counter rowsPurged(Entity.EntityType entityType) {
+    return getCounter(metricName(entityType, MetricNames.GC_ROWS_PURGED));
+  }
+
+  /**
+   * Get the counter of the change log entries purged.
+   *
+   * @return The counter of the change log entries purged.
+   */
+  public Counter changeLogRowsPurged() {
+    return getCounter(MetricNames.GC_CHANGE_LOG_ROWS_PURGED);
+  }
+
+  /**
+   * Get the timer of the garbage collection passes.
+   *
+   * @return The timer of the passes.
+   */
+  public Timer passDuration() {
+    return getTimer(MetricNames.GC_PASS_DURATION);
+  }
+
+  /**
+   * Register the gauges of the entity type.
+   *
+   * @param entityType The entity type.
+   * @param backlogEstimate The gauge of the legacy rows the last pass found waiting to be purged.
+   * @param batchSize The gauge of the current delete batch size.
+   */
+  public void registerEntityTypeGauges(
+      Entity.EntityType entityType, Gauge<Long> backlogEstimate, Gauge<Integer> batchSize) {
+    registerGauge(metricName(entityType, MetricNames.GC_BACKLOG_ESTIMATE), backlogEstimate);
+    registerGauge(metricName(entityType, MetricNames.GC_BATCH_SIZE), batchSize);
+  }
+
+  private static String metricName(Entity.EntityType entityType, String name) {
+    return entityType.name().toLowerCase(Locale.ROOT) + "." + name;
+  }
+}
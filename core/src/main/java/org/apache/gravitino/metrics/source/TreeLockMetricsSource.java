@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.metrics.source;
+
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
+import org.apache.gravitino.metrics.MetricNames;
+
+/**
+ * Metrics of the tree locks. The metrics are named "{level}.{name}", where the level is the depth
+ * of the lock node in the resource path: root, metalake, catalog, schema, or leaf for the deeper
+ * ones, and are exported to Prometheus with a {@code level} label.
+ */
+public class TreeLockMetricsSource extends MetricsSource {
+
+  private static final String[] LEVELS = {"root", "metalake", "catalog", "schema", "leaf"};
+
+  // The metrics are looked up once per level, as they are updated while locking.
+  private final Timer[] waits = new Timer[LEVELS.length];
+  private final Timer[] holds = new Timer[LEVELS.length];
+  private final Counter[] writesBlockedByReaders = new Counter[LEVELS.length];
+  private final Counter[] timeouts = new Counter[LEVELS.length];
+
+  public TreeLockMetricsSource() {
+    super(MetricsSource.GRAVITINO_TREE_LOCK_METRIC_NAME);
+    for (int i = 0; i < LEVELS.length; i++) {
+      waits[i] = getTimer(LEVELS[i] + "." + MetricNames.TREE_LOCK_WAIT);
+      holds[i] = getTimer(LEVELS[i] + "." + MetricNames.TREE_LOCK_HOLD);
+      writesBlockedByReaders[i] =
+          getCounter(LEVELS[i] + "." + MetricNames.TREE_LOCK_WRITE_BLOCKED_BY_READERS);
+      timeouts[i] = getCounter(LEVELS[i] + "." + MetricNames.TREE_LOCK_TIMEOUT);
+    }
+  }
+
+  /**
+   * Get the name of the level of the given depth.
+   *
+   * @param depth The depth of the lock node, 0 being the root.
+   * @return The name of the level.
+   */
+  public static String levelOf(int depth) {
+    return LEVELS[Math.min(depth, LEVELS.length - 1)];
+  }
+
+  /**
+   * Get the timer of the time waited for a lock node of the given depth, only the acquisitions that
+   * had to wait are recorded.
+   *
+   * @param depth The depth of the lock node, 0 being the root.
+   * @return The timer of the waits.
+   */
+  public Timer lockWait(int depth) {
+    return waits[Math.min(depth, LEVELS.length - 1)];
+  }
+
+  /**
+   * Get the timer of the time tree locks of the given depth are held, from the lock of the root to
+   * the unlock.
+   *
+   * @param depth The depth of the resource path of the tree lock, 0 being the root.
+   * @return The timer of the holds.
+   */
+  public Timer lockHold(int depth) {
+    return holds[Math.min(depth, LEVELS.length - 1)];
+  }
+
+  /**
+   * Get the counter of the write locks of a lock node of the given depth that had to wait for the
+   * readers of the node.
+   *
+   * @param depth The depth of the lock node, 0 being the root.
+   * @return The counter of the blocked writes.
+   */
+  public Counter writeBlockedByReaders(int depth) {
+    return writesBlockedByReaders[Math.min(depth, LEVELS.length - 1)];
+  }
+
+  /**
+   * Get the counter of the tree locks that failed because a lock node of the given depth couldn't
+   * be locked before their timeout.
+   *
+   * @param depth The depth of the lock node, 0 being the root.
+   * @return The counter of the timeouts.
+   */
+  public Counter lockTimeouts(int depth) {
+    return timeouts[Math.min(depth, LEVELS.length - 1)];
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.ImmutableMap;
+import java.lang.management.ManagementFactory;
+import java.net.InetAddress;
+import java.util.Locale;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/** This class is responsible for creating the {@link IdGenerator} configured for the server. */
+public class IdGeneratorFactory {
+
+  private static final Logger LOG = LoggerFactory.getLogger(IdGeneratorFactory.class);
+
+  public static final String RANDOM_ID_GENERATOR = "random";
+
+  public static final String TIME_ORDERED_ID_GENERATOR = "timeOrdered";
+
+  // Register IdGenerator's short name to its full qualified class name in the map. So that user
+  // doesn't need to specify the full qualified class name when creating an IdGenerator.
+  private static final ImmutableMap<String, String> ID_GENERATORS =
+      ImmutableMap.of(
+          RANDOM_ID_GENERATOR.toLowerCase(Locale.ROOT),
+          RandomIdGenerator.class.getCanonicalName(),
+          TIME_ORDERED_ID_GENERATOR.toLowerCase(Locale.ROOT),
+          TimeOrderedIdGenerator.class.getCanonicalName());
+
+  // Private constructor to prevent instantiation of this factory class.
+  private IdGeneratorFactory() {}
+
+  /**
+   * Creates an instance of IdGenerator based on the configuration settings.
+   *
+   * @param config The configuration object containing settings for IdGenerator.
+   * @return An instance of IdGenerator.
+   */
+  public static IdGenerator createIdGenerator(Config config) {
+    String name = config.get(Configs.ENTITY_STORE_ID_GENERATOR);
+    String className = ID_GENERATORS.getOrDefault(name.toLowerCase(Locale.ROOT), name);
+
+    if (TimeOrderedIdGenerator.class.getCanonicalName().equals(className)) {
+      int nodeId = config.get(Configs.ENTITY_STORE_ID_GENERATOR_NODE_ID);
+      if (nodeId < 0) {
+        nodeId = defaultNodeId();
+        LOG.warn(
+            "{} is not set, use node id {} derived from the host and process. Please set a "
+                + "unique node id for each server sharing the same entity store.",
+            Configs.ENTITY_STORE_ID_GENERATOR_NODE_ID.getKey(),
+            nodeId);
+      }
+      LOG.info("Use time ordered id generator with node id {}", nodeId);
+      return new TimeOrderedIdGenerator(nodeId);
+    }
+
+    try {
+      return (IdGenerator) Class.forName(className).getDeclaredConstructor().newInstance();
+    } catch (Exception e) {
+      LOG.error("Failed to create IdGenerator by name {}.", name, e);
+      throw new RuntimeException("Failed to create IdGenerator: " + name, e);
+    }
+  }
+
+  private static int defaultNodeId() {
+    String host;
+    try {
+      host = InetAddress.getLocalHost().getHostAddress();
+    } catch (Exception e) {
+      host = "localhost";
+    }
+    // The JVM name is in the format of "pid@hostname".
+    String seed = host + "/" + ManagementFactory.getRuntimeMXBean().getName();
+    return Math.floorMod(seed.hashCode(), TimeOrderedIdGenerator.MAX_NODE_ID + 1);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Preconditions;
+import java.util.function.LongSupplier;
+
+/**
+ * Time ordered id generator. The generated ids are positive longs composed of the following parts,
+ * from the most significant bit to the least significant bit:
+ *
+ * <pre>
+ * | 1 bit, always 0 | 41 bits, milliseconds since EPOCH | 10 bits, node id | 12 bits, sequence |
+ * </pre>
+ *
+ * <p>Ids generated by one node are strictly increasing, so new rows are appended to the right-most
+ * leaf of the primary key index instead of landing at a random position like the ids of {@link
+ * RandomIdGenerator}. Ids generated by different nodes can only be unique if every node uses a
+ * different node id.
+ *
+ * <p>If the clock goes backwards, or the 4096 ids of one millisecond are exhausted, the generator
+ * keeps counting from the last timestamp it used rather than waiting for the clock.
+ */
+public class TimeOrderedIdGenerator implements IdGenerator {
+
+  /** The custom epoch of the timestamp part, 2024-01-01T00:00:00Z. */
+  public static final long EPOCH_MS = 1704067200000L;
+
+  private static final int NODE_ID_BITS = 10;
+
+  private static final int SEQUENCE_BITS = 12;
+
+  private static final int TIMESTAMP_SHIFT = NODE_ID_BITS + SEQUENCE_BITS;
+
+  private static final long MAX_TIMESTAMP = (1L << 41) - 1;
+
+  private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+  public static final int MAX_NODE_ID = (1 << NODE_ID_BITS) - 1;
+
+  private final long nodeId;
+
+  private final LongSupplier clock;
+
+  private long lastTimestamp = -1L;
+
+  private long sequence = 0L;
+
+  /**
+   * Create a time ordered id generator.
+   *
+   * @param nodeId The id of this node, must be unique among the nodes sharing the same entity store
+   *     and between 0 and {@link #MAX_NODE_ID}.
+   */
+  public TimeOrderedIdGenerator(int nodeId) {
+    this(nodeId, System::currentTimeMillis);
+  }
+
+  @VisibleForTesting
+  TimeOrderedIdGenerator(int nodeId, LongSupplier clock) {
+    Preconditions.checkArgument(
+        nodeId >= 0 && nodeId <= MAX_NODE_ID,
+        "Node id must be between 0 and %s, but got %s",
+        MAX_NODE_ID,
+        nodeId);
+    this.nodeId = nodeId;
+    this.clock = clock;
+  }
+
+  @Override
+  public synchronized long nextId() {
+    long timestamp = Math.max(clock.getAsLong() - EPOCH_MS, lastTimestamp);
+    Preconditions.checkState(timestamp >= 0, "Clock is before the id generator epoch");
+
+    if (timestamp == lastTimestamp) {
+      sequence = (sequence + 1) & MAX_SEQUENCE;
+      if (sequence == 0) {
+        // The sequence of this millisecond is exhausted, move on to the next one.
+        timestamp++;
+      }
+    } else {
+      sequence = 0;
+    }
+
+    Preconditions.checkState(
+        timestamp <= MAX_TIMESTAMP, "Timestamp overflow, the id generator can't generate new ids");
+    lastTimestamp = timestamp;
+    return (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+  }
+
+  /**
+   * Get the node id encoded in the given id.
+   *
+   * @param id The id generated by a {@link TimeOrderedIdGenerator}.
+   * @return The node id of the generator.
+   */
+  public static int nodeIdOf(long id) {
+    return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+  }
+
+  /**
+   * Get the creation time encoded in the given id.
+   *
+   * @param id The id generated by a {@link TimeOrderedIdGenerator}.
+   * @return The creation time of the id in milliseconds since the Unix epoch.
+   */
+  public static long timestampOf(long id) {
+    return (id >>> TIMESTAMP_SHIFT) + EPOCH_MS;
+  }
+}
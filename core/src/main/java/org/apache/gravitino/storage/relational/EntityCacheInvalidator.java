@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_MAX_STALENESS_MS;
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityCacheInvalidatorMetricsSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Keeps the local entity cache coherent with the changes made by the other Gravitino servers that
+ * share the relational store. It tails the entity change log and invalidates every changed entity,
+ * which also drops the cached children, relations and reverse index entries of the entity.
+ *
+ * <p>A change log sequence is allocated when its row is inserted but becomes visible when its
+ * transaction commits, so a sequence can show up after a greater one. The sequences skipped over
+ * are remembered as gaps and read again by the next polls, until they show up or are older than
+ * the maximum staleness. A jump too large to track clears the whole cache instead.
+ *
+ * <p>The staleness is bounded: a separate task checks the time of the last successful poll, and
+ * when the change log has not been read successfully for longer than the maximum staleness, the
+ * whole cache is cleared on every check until a poll succeeds again. It does not wait for the poll,
+ * so a poll hanging on the store also leads to the clears.
+ */
+public final class EntityCacheInvalidator implements Closeable {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityCacheInvalidator.class);
+
+  // The number of change log entries read by one query.
+  @VisibleForTesting static final int POLL_BATCH_SIZE = 1_000;
+
+  // Larger jumps of the sequence are not tracked as gaps, as each tracked sequence is re-read by
+  // every poll until it shows up. The skipped entries could still commit, so the cache is cleared.
+  @VisibleForTesting static final int MAX_TRACKED_GAP = 1_000;
+
+  private final RelationalBackend backend;
+  private final EntityCache cache;
+  private final long pollIntervalMillis;
+  private final long maxStalenessMillis;
+
+  // The sequences skipped over, mapped to the time they were first skipped. Guarded by poll().
+  private final TreeMap<Long, Long> gaps = new TreeMap<>();
+
+  private volatile long lastSequence;
+  private volatile long lastSuccessfulPollMillis;
+
+  private final EntityCacheInvalidatorMetricsSource metricsSource =
+      new EntityCacheInvalidatorMetricsSource();
+
+  @VisibleForTesting
+  final ScheduledExecutorService invalidatorPool =
+      new ScheduledThreadPoolExecutor(
+          2,
+          r -> {
+            Thread t = new Thread(r, "RelationalBackend-Cache-Invalidator");
+            t.setDaemon(true);
+            return t;
+          },
+          new ThreadPoolExecutor.AbortPolicy());
+
+  public EntityCacheInvalidator(RelationalBackend backend, EntityCache cache, Config config) {
+    this.backend = backend;
+    this.cache = cache;
+    this.pollIntervalMillis = Config.getOrDefault(config, CACHE_INVALIDATION_POLL_INTERVAL_MS);
+    this.maxStalenessMillis = Config.getOrDefault(config, CACHE_INVALIDATION_MAX_STALENESS_MS);
+
+    // The changes made before this server started are already in the store, there is nothing
+    // cached to invalidate for them.
+    try {
+      this.lastSequence = backend.maxChangeSequence();
+    } catch (IOException e) {
+      throw new RuntimeException("Failed to read the entity change log sequence", e);
+    }
+    this.lastSuccessfulPollMillis = System.currentTimeMillis();
+
+    metricsSource.registerGauges(
+        () -> System.currentTimeMillis() - lastSuccessfulPollMillis, () -> lastSequence);
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  public void start() {
+    invalidatorPool.scheduleWithFixedDelay(
+        this::poll, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+    // On its own thread, so that it keeps running while a poll hangs.
+    invalidatorPool.scheduleWithFixedDelay(
+        this::checkStaleness, pollIntervalMillis, pollIntervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /** Reads the change log entries not applied yet and invalidates their entities in the cache. */
+  @VisibleForTesting
+  synchronized void poll() {
+    long now = System.currentTimeMillis();
+    try {
+      gaps.values().removeIf(firstSkippedMillis -> now - firstSkippedMillis > maxStalenessMillis);
+
+      long afterSequence = gaps.isEmpty() ? lastSequence : gaps.firstKey() - 1;
+      List<EntityChangeLogEntry> entries;
+      do {
+        entries = backend.listAllChanges(afterSequence, POLL_BATCH_SIZE);
+        for (EntityChangeLogEntry entry : entries) {
+          apply(entry, now);
+          afterSequence = entry.sequence();
+        }
+      } while (entries.size() == POLL_BATCH_SIZE);
+
+      lastSuccessfulPollMillis = now;
+    } catch (Exception e) {
+      metricsSource.pollFailures().inc();
+      LOG.warn("Failed to poll the entity change log after sequence {}", lastSequence, e);
+    }
+  }
+
+  /** Clears the whole cache if no poll has succeeded within the maximum staleness. */
+  @VisibleForTesting
+  void checkStaleness() {
+    long staleMillis = System.currentTimeMillis() - lastSuccessfulPollMillis;
+    if (staleMillis > maxStalenessMillis) {
+      LOG.warn(
+          "No successful poll of the entity change log for {} ms, clearing the entity cache",
+          staleMillis);
+      clearCache();
+    }
+  }
+
+  private void apply(EntityChangeLogEntry entry, long now) {
+    long sequence = entry.sequence();
+    if (sequence > lastSequence) {
+      long skippedCount = sequence - lastSequence - 1;
+      if (skippedCount <= MAX_TRACKED_GAP) {
+        for (long skipped = lastSequence + 1; skipped < sequence; skipped++) {
+          gaps.put(skipped, now);
+        }
+      } else {
+        LOG.warn(
+            "Skipped {} entity change log sequences after {}, clearing the entity cache",
+            skippedCount,
+            lastSequence);
+        clearCache();
+      }
+      lastSequence = sequence;
+    } else if (gaps.remove(sequence) == null) {
+      // Applied by a previous poll, read again because of an older gap.
+      return;
+    }
+
+    cache.invalidate(entry.identifier(), Entity.EntityType.valueOf(entry.entityType()));
+    metricsSource.invalidationsApplied().inc();
+  }
+
+  private void clearCache() {
+    cache.clear();
+    metricsSource.fullClears().inc();
+  }
+
+  @VisibleForTesting
+  long lastSequence() {
+    return lastSequence;
+  }
+
+  @VisibleForTesting
+  Map<Long, Long> gaps() {
+    return gaps;
+  }
+
+  @Override
+  public void close() throws IOException {
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    invalidatorPool.shutdown();
+    try {
+      if (!invalidatorPool.awaitTermination(5, TimeUnit.SECONDS)) {
+        invalidatorPool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      invalidatorPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+}
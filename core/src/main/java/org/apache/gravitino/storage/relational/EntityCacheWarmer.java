@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_WARMUP_PARALLELISM;
+import static org.apache.gravitino.Configs.CACHE_WARMUP_TIMEOUT_MS;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.EntityCacheWarmupMetricsSource;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Preloads the entity cache when the server starts, so that the first requests after a restart,
+ * and the authorization checks in particular, do not all go to the entity store. It loads the
+ * metalakes, catalogs, schemas, users, and roles with their securable objects.
+ *
+ * <p>The entities are listed with a bounded number of concurrent reads, and the warm-up gives up
+ * after a time budget, leaving the entities not loaded by then to be loaded on demand. {@link
+ * #run()} returns only when the warm-up has completed or timed out, so a server that warms up its
+ * cache while it initializes is reported ready afterward.
+ */
+public final class EntityCacheWarmer {
+
+  private static final Logger LOG = LoggerFactory.getLogger(EntityCacheWarmer.class);
+
+  // The number of roles loaded by one batch get, their securable objects are loaded with them.
+  @VisibleForTesting static final int ROLE_BATCH_SIZE = 100;
+
+  /** The state of the warm-up, the ordinal is reported as a metric. */
+  enum State {
+    NOT_STARTED,
+    RUNNING,
+    COMPLETED,
+    TIMED_OUT
+  }
+
+  @FunctionalInterface
+  private interface WarmupTask {
+    void run() throws IOException;
+  }
+
+  private final RelationalBackend backend;
+  private final EntityCache cache;
+  private final int parallelism;
+  private final long timeoutMillis;
+
+  // The reads submitted and not done yet, guarded by itself for the waits.
+  private final AtomicInteger pendingTasks = new AtomicInteger();
+
+  private final EntityCacheWarmupMetricsSource metricsSource =
+      new EntityCacheWarmupMetricsSource();
+
+  private volatile State state = State.NOT_STARTED;
+  private volatile long startMillis;
+  private volatile long durationMillis;
+  private volatile long deadlineMillis;
+  private ExecutorService warmupPool;
+
+  public EntityCacheWarmer(RelationalBackend backend, EntityCache cache, Config config) {
+    this.backend = backend;
+    this.cache = cache;
+    this.parallelism = Config.getOrDefault(config, CACHE_WARMUP_PARALLELISM);
+    this.timeoutMillis = Config.getOrDefault(config, CACHE_WARMUP_TIMEOUT_MS);
+
+    metricsSource.registerGauges(
+        pendingTasks::get,
+        () -> state == State.RUNNING ? System.currentTimeMillis() - startMillis : durationMillis,
+        () -> state.ordinal());
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
+  }
+
+  /**
+   * Loads the entities into the cache, and returns when all of them are loaded or the time budget
+   * is exceeded. A failed read is logged and skipped, it does not fail the warm-up.
+   */
+  public void run() {
+    startMillis = System.currentTimeMillis();
+    deadlineMillis = startMillis + timeoutMillis;
+    state = State.RUNNING;
+    warmupPool =
+        new ThreadPoolExecutor(
+            parallelism,
+            parallelism,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
+            r -> {
+              Thread t = new Thread(r, "RelationalBackend-Cache-Warmer");
+              t.setDaemon(true);
+              return t;
+            });
+
+    try {
+      LOG.info(
+          "Warming up the entity cache with {} threads in at most {} ms",
+          parallelism,
+          timeoutMillis);
+      submit("metalakes", this::warmUpMetalakes);
+      boolean completed = awaitTasks();
+      state = completed ? State.COMPLETED : State.TIMED_OUT;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      state = State.TIMED_OUT;
+    } finally {
+      warmupPool.shutdownNow();
+      durationMillis = System.currentTimeMillis() - startMillis;
+    }
+
+    if (state == State.COMPLETED) {
+      LOG.info(
+          "Warmed up the entity cache with {} entities in {} ms",
+          metricsSource.entitiesLoaded().getCount(),
+          durationMillis);
+    } else {
+      LOG.warn(
+          "Gave up warming up the entity cache after {} ms with {} entities loaded and {} reads "
+              + "pending, the other entities are loaded on demand",
+          durationMillis,
+          metricsSource.entitiesLoaded().getCount(),
+          pendingTasks.get());
+    }
+  }
+
+  @VisibleForTesting
+  State state() {
+    return state;
+  }
+
+  private void warmUpMetalakes() throws IOException {
+    List<BaseMetalake> metalakes =
+        backend.list(NamespaceUtil.ofMetalake(), Entity.EntityType.METALAKE, true);
+    putAll(metalakes);
+
+    for (BaseMetalake metalake : metalakes) {
+      String metalakeName = metalake.name();
+      submit("catalogs of " + metalakeName, () -> warmUpCatalogs(metalakeName));
+      submit("users of " + metalakeName, () -> warmUpUsers(metalakeName));
+      submit("roles of " + metalakeName, () -> warmUpRoles(metalakeName));
+    }
+  }
+
+  private void warmUpCatalogs(String metalakeName) throws IOException {
+    List<CatalogEntity> catalogs =
+        backend.list(NamespaceUtil.ofCatalog(metalakeName), Entity.EntityType.CATALOG, true);
+    putAll(catalogs);
+
+    for (CatalogEntity catalog : catalogs) {
+      String catalogName = catalog.name();
+      submit(
+          "schemas of " + metalakeName + "." + catalogName,
+          () -> {
+            List<SchemaEntity> schemas =
+                backend.list(
+                    NamespaceUtil.ofSchema(metalakeName, catalogName),
+                    Entity.EntityType.SCHEMA,
+                    true);
+            putAll(schemas);
+          });
+    }
+  }
+
+  private void warmUpUsers(String metalakeName) throws IOException {
+    List<UserEntity> users =
+        backend.list(NamespaceUtil.ofUser(metalakeName), Entity.EntityType.USER, true);
+    putAll(users);
+  }
+
+  private void warmUpRoles(String metalakeName) throws IOException {
+    // The roles are listed without their securable objects, the batch gets load them.
+    List<RoleEntity> roles =
+        backend.list(NamespaceUtil.ofRole(metalakeName), Entity.EntityType.ROLE, true);
+    List<NameIdentifier> roleIdents =
+        roles.stream().map(RoleEntity::nameIdentifier).collect(Collectors.toList());
+
+    for (List<NameIdentifier> batch : Lists.partition(roleIdents, ROLE_BATCH_SIZE)) {
+      List<NameIdentifier> idents = ImmutableList.copyOf(batch);
+      submit(
+          "roles of " + metalakeName,
+          () -> {
+            List<RoleEntity> rolesWithObjects = backend.batchGet(idents, Entity.EntityType.ROLE);
+            putAll(rolesWithObjects);
+          });
+    }
+  }
+
+  private <E extends Entity & HasIdentifier> void putAll(List<E> entities) {
+    for (E entity : entities) {
+      cache.put(entity);
+    }
+    metricsSource.entitiesLoaded().inc(entities.size());
+  }
+
+  private void submit(String description, WarmupTask task) {
+    if (System.currentTimeMillis() >= deadlineMillis) {
+      return;
+    }
+
+    pendingTasks.incrementAndGet();
+    try {
+      warmupPool.execute(
+          () -> {
+            try {
+              if (System.currentTimeMillis() < deadlineMillis) {
+                task.run();
+              }
+            } catch (Exception e) {
+              metricsSource.failures().inc();
+              LOG.warn("Failed to warm up the entity cache with the {}", description, e);
+            } finally {
+              taskDone();
+            }
+          });
+    } catch (RejectedExecutionException e) {
+      // The warm-up has timed out and the pool is shut down.
+      taskDone();
+    }
+  }
+
+  private void taskDone() {
+    synchronized (pendingTasks) {
+      if (pendingTasks.decrementAndGet() == 0) {
+        pendingTasks.notifyAll();
+      }
+    }
+  }
+
+  private boolean awaitTasks() throws InterruptedException {
+    synchronized (pendingTasks) {
+      long remainingMillis = deadlineMillis - System.currentTimeMillis();
+      while (pendingTasks.get() > 0 && remainingMillis > 0) {
+        pendingTasks.wait(remainingMillis);
+        remainingMillis = deadlineMillis - System.currentTimeMillis();
+      }
+      return pendingTasks.get() == 0;
+    }
+  }
+}
@@ -19,18 +19,20 @@
 
 package org.apache.gravitino.storage.relational;
 
-import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
 import static org.apache.gravitino.Entity.EntityType.TABLE;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Lists;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
@@ -43,6 +45,7 @@ import org.apache.gravitino.UnsupportedEntityTypeException;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.BaseMetalake;
 import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
 import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.FunctionEntity;
 import org.apache.gravitino.meta.GenericEntity;
@@ -62,6 +65,7 @@ import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.storage.relational.converters.SQLExceptionConverterFactory;
 import org.apache.gravitino.storage.relational.database.H2Database;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.EntityChangeLogMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.FunctionMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
@@ -79,9 +83,11 @@ import org.apache.gravitino.storage.relational.service.TableColumnMetaService;
 import org.apache.gravitino.storage.relational.service.TableMetaService;
 import org.apache.gravitino.storage.relational.service.TagMetaService;
 import org.apache.gravitino.storage.relational.service.TopicMetaService;
+import org.apache.gravitino.storage.relational.service.TreeLockLeaseMetaService;
 import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.service.ViewMetaService;
 import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -101,17 +107,35 @@ public class JDBCBackend implements RelationalBackend {
   // Database instance of this JDBCBackend.
   private JDBCDatabase jdbcDatabase;
 
+  // The maximum number of entities written in one transaction by batchPut.
+  private int batchWriteChunkSize =
+      Configs.ENTITY_RELATIONAL_BATCH_WRITE_CHUNK_SIZE.getDefaultValue();
+
   /** Initialize the jdbc backend instance. */
   @Override
   public void initialize(Config config) {
     jdbcDatabase = startJDBCDatabaseIfNecessary(config);
     SqlSessionFactoryHelper.getInstance().init(config);
     SQLExceptionConverterFactory.initConverter(config);
+
+    batchWriteChunkSize =
+        Config.getOrDefault(config, Configs.ENTITY_RELATIONAL_BATCH_WRITE_CHUNK_SIZE);
+    TableColumnMetaService.getInstance()
+        .setSnapshotInterval(
+            Config.getOrDefault(config, Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_INTERVAL));
+    EntityChangeLogMetaService.getInstance()
+        .setCommitLagMs(
+            Config.getOrDefault(config, Configs.ENTITY_RELATIONAL_CHANGE_LOG_COMMIT_LAG_MS));
   }
 
   @Override
   public <E extends Entity & HasIdentifier> List<E> list(
       Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
+    return SessionUtils.doReadOnly(() -> listEntities(namespace, entityType, allFields));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntities(
+      Namespace namespace, Entity.EntityType entityType, boolean allFields) throws IOException {
     switch (entityType) {
       case METALAKE:
         return (List<E>) MetalakeMetaService.getInstance().listMetalakes();
@@ -160,6 +184,30 @@ public class JDBCBackend implements RelationalBackend {
     }
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    return SessionUtils.doReadOnly(() -> listEntities(namespace, entityType, afterName, limit));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntities(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws IOException {
+    switch (entityType) {
+      case SCHEMA:
+        return (List<E>)
+            SchemaMetaService.getInstance().listSchemasByNamespace(namespace, afterName, limit);
+      case TABLE:
+        return (List<E>)
+            TableMetaService.getInstance().listTablesByNamespace(namespace, afterName, limit);
+      default:
+        // The other entity types are small or have one row per version, fall back to filter the
+        // full list in memory.
+        return RelationalBackend.super.list(namespace, entityType, afterName, limit);
+    }
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     try {
@@ -173,6 +221,18 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> void insert(E e, boolean overwritten)
       throws EntityAlreadyExistsException, IOException {
+    doMutation(
+        () -> {
+          insertEntity(e, overwritten);
+          EntityChangeLogMetaService.getInstance()
+              .insertChangeLogs(
+                  e.type(), ImmutableList.of(e.nameIdentifier()), ChangeLogEntry.Operation.CREATE);
+          return null;
+        });
+  }
+
+  private <E extends Entity & HasIdentifier> void insertEntity(E e, boolean overwritten)
+      throws IOException {
     if (e instanceof BaseMetalake) {
       MetalakeMetaService.getInstance().insertMetalake((BaseMetalake) e, overwritten);
     } else if (e instanceof CatalogEntity) {
@@ -228,6 +288,23 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> E update(
       NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
+    return doMutation(
+        () -> {
+          E updatedEntity = updateEntity(ident, entityType, updater);
+          // A rename is recorded under both names, so readers of either one see the change.
+          List<NameIdentifier> changedIdents =
+              ident.equals(updatedEntity.nameIdentifier())
+                  ? ImmutableList.of(ident)
+                  : ImmutableList.of(ident, updatedEntity.nameIdentifier());
+          EntityChangeLogMetaService.getInstance()
+              .insertChangeLogs(entityType, changedIdents, ChangeLogEntry.Operation.ALTER);
+          return updatedEntity;
+        });
+  }
+
+  private <E extends Entity & HasIdentifier> E updateEntity(
+      NameIdentifier ident, Entity.EntityType entityType, Function<E, E> updater)
+      throws IOException {
     switch (entityType) {
       case METALAKE:
         return (E) MetalakeMetaService.getInstance().updateMetalake(ident, updater);
@@ -271,6 +348,11 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> E get(
       NameIdentifier ident, Entity.EntityType entityType)
       throws NoSuchEntityException, IOException {
+    return SessionUtils.doReadOnly(() -> getEntity(ident, entityType));
+  }
+
+  private <E extends Entity & HasIdentifier> E getEntity(
+      NameIdentifier ident, Entity.EntityType entityType) throws IOException {
     switch (entityType) {
       case METALAKE:
         return (E) MetalakeMetaService.getInstance().getMetalakeByIdentifier(ident);
@@ -315,18 +397,57 @@ public class JDBCBackend implements RelationalBackend {
   @Override
   public <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> identifiers, Entity.EntityType entityType) {
+    return SessionUtils.doReadOnly(() -> batchGetEntities(identifiers, entityType));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> batchGetEntities(
+      List<NameIdentifier> identifiers, Entity.EntityType entityType) {
     switch (entityType) {
       case TABLE:
         return (List<E>) TableMetaService.getInstance().batchGetTableByIdentifier(identifiers);
+      case FILESET:
+        return (List<E>) FilesetMetaService.getInstance().batchGetFilesetByIdentifier(identifiers);
+      case TOPIC:
+        return (List<E>) TopicMetaService.getInstance().batchGetTopicByIdentifier(identifiers);
+      case MODEL:
+        return (List<E>) ModelMetaService.getInstance().batchGetModelByIdentifier(identifiers);
+      case FUNCTION:
+        return (List<E>)
+            FunctionMetaService.getInstance().batchGetFunctionByIdentifier(identifiers);
+      case VIEW:
+        return (List<E>) ViewMetaService.getInstance().batchGetViewByIdentifier(identifiers);
+      case USER:
+        return (List<E>) UserMetaService.getInstance().batchGetUserByIdentifier(identifiers);
+      case ROLE:
+        return (List<E>) RoleMetaService.getInstance().batchGetRoleByIdentifier(identifiers);
+      case TAG:
+        return (List<E>) TagMetaService.getInstance().batchGetTagByIdentifier(identifiers);
+      case POLICY:
+        return (List<E>) PolicyMetaService.getInstance().batchGetPolicyByIdentifier(identifiers);
       default:
         throw new UnsupportedEntityTypeException(
-            "Unsupported entity type: %s for get operation", entityType);
+            "Unsupported entity type: %s for batch get operation", entityType);
     }
   }
 
   @Override
   public boolean delete(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
       throws IOException {
+    return doMutation(
+        () -> {
+          boolean deleted = deleteEntity(ident, entityType, cascade);
+          // A cascade delete is only recorded for the entity it is called on, not its children.
+          if (deleted) {
+            EntityChangeLogMetaService.getInstance()
+                .insertChangeLogs(
+                    entityType, ImmutableList.of(ident), ChangeLogEntry.Operation.DROP);
+          }
+          return deleted;
+        });
+  }
+
+  private boolean deleteEntity(NameIdentifier ident, Entity.EntityType entityType, boolean cascade)
+      throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance().deleteMetalake(ident, cascade);
@@ -369,83 +490,64 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+  public int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
       throws IOException {
     switch (entityType) {
       case METALAKE:
         return MetalakeMetaService.getInstance()
-            .deleteMetalakeMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteMetalakeMetasByLegacyTimeline(legacyTimeline, limit);
       case CATALOG:
         return CatalogMetaService.getInstance()
-            .deleteCatalogMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteCatalogMetasByLegacyTimeline(legacyTimeline, limit);
       case SCHEMA:
         return SchemaMetaService.getInstance()
-            .deleteSchemaMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteSchemaMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE:
         return TableMetaService.getInstance()
-            .deleteTableMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTableMetasByLegacyTimeline(legacyTimeline, limit);
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case TOPIC:
         return TopicMetaService.getInstance()
-            .deleteTopicMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
       case USER:
         return UserMetaService.getInstance()
-            .deleteUserMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteUserMetasByLegacyTimeline(legacyTimeline, limit);
       case GROUP:
         return GroupMetaService.getInstance()
-            .deleteGroupMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteGroupMetasByLegacyTimeline(legacyTimeline, limit);
       case ROLE:
         return RoleMetaService.getInstance()
-            .deleteRoleMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteRoleMetasByLegacyTimeline(legacyTimeline, limit);
       case TAG:
-        return TagMetaService.getInstance()
-            .deleteTagMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return TagMetaService.getInstance().deleteTagMetasByLegacyTimeline(legacyTimeline, limit);
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyAndVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyAndVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case COLUMN:
         return TableColumnMetaService.getInstance()
-            .deleteColumnsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteColumnsByLegacyTimeline(legacyTimeline, limit);
       case MODEL:
         return ModelMetaService.getInstance()
-            .deleteModelMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelMetasByLegacyTimeline(legacyTimeline, limit);
       case MODEL_VERSION:
         return ModelVersionMetaService.getInstance()
-            .deleteModelVersionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteModelVersionMetasByLegacyTimeline(legacyTimeline, limit);
       case FUNCTION:
         return FunctionMetaService.getInstance()
-            .deleteFunctionMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFunctionMetasByLegacyTimeline(legacyTimeline, limit);
       case TABLE_STATISTIC:
         return StatisticMetaService.getInstance()
-            .deleteStatisticsByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteStatisticsByLegacyTimeline(legacyTimeline, limit);
       case JOB_TEMPLATE:
         return JobTemplateMetaService.getInstance()
-            .deleteJobTemplatesByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteJobTemplatesByLegacyTimeline(legacyTimeline, limit);
       case JOB:
-        return JobMetaService.getInstance()
-            .deleteJobsByLegacyTimeline(legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+        return JobMetaService.getInstance().deleteJobsByLegacyTimeline(legacyTimeline, limit);
       case VIEW:
         return ViewMetaService.getInstance()
-            .deleteViewMetasByLegacyTimeline(
-                legacyTimeline, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteViewMetasByLegacyTimeline(legacyTimeline, limit);
       case AUDIT:
         return 0;
         // TODO: Implement hard delete logic for these entity types.
@@ -457,8 +559,31 @@ public class JDBCBackend implements RelationalBackend {
   }
 
   @Override
-  public int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  public int deleteLegacyChangeLogs(long legacyTimeline, int limit) throws IOException {
+    return EntityChangeLogMetaService.getInstance()
+        .deleteChangeLogsByLegacyTimeline(legacyTimeline, limit);
+  }
+
+  @Override
+  public List<EntityChangeLogEntry> listChanges(String metalake, long afterSequence, int limit)
+      throws IOException {
+    return EntityChangeLogMetaService.getInstance().listChangeLogs(metalake, afterSequence, limit);
+  }
+
+  @Override
+  public List<EntityChangeLogEntry> listAllChanges(long afterSequence, int limit)
       throws IOException {
+    return EntityChangeLogMetaService.getInstance().listAllChangeLogs(afterSequence, limit);
+  }
+
+  @Override
+  public long maxChangeSequence() throws IOException {
+    return EntityChangeLogMetaService.getInstance().getMaxChangeLogSequence();
+  }
+
+  @Override
+  public int deleteOldVersionData(
+      Entity.EntityType entityType, long versionRetentionCount, int limit) throws IOException {
     switch (entityType) {
       case METALAKE:
       case CATALOG:
@@ -482,18 +607,15 @@ public class JDBCBackend implements RelationalBackend {
 
       case FILESET:
         return FilesetMetaService.getInstance()
-            .deleteFilesetVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFilesetVersionsByRetentionCount(versionRetentionCount, limit);
 
       case POLICY:
         return PolicyMetaService.getInstance()
-            .deletePolicyVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deletePolicyVersionsByRetentionCount(versionRetentionCount, limit);
 
       case FUNCTION:
         return FunctionMetaService.getInstance()
-            .deleteFunctionVersionsByRetentionCount(
-                versionRetentionCount, GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+            .deleteFunctionVersionsByRetentionCount(versionRetentionCount, limit);
 
       default:
         throw new IllegalArgumentException(
@@ -575,6 +697,43 @@ public class JDBCBackend implements RelationalBackend {
                 NameIdentifier.parse(statisticEntities.get(0).namespace().toString()),
                 Entity.EntityType.TABLE);
         break;
+      case TABLE:
+        // Each chunk is committed in its own transaction, so a failure only rolls back the
+        // chunk it happens in, the chunks committed before it are kept.
+        List<TableEntity> tableEntities =
+            entities.stream().map(e -> (TableEntity) e).collect(Collectors.toList());
+        for (List<TableEntity> chunk : Lists.partition(tableEntities, batchWriteChunkSize)) {
+          doMutation(
+              () -> {
+                TableMetaService.getInstance().batchInsertTables(chunk, overwritten);
+                EntityChangeLogMetaService.getInstance()
+                    .insertChangeLogs(
+                        TABLE,
+                        chunk.stream()
+                            .map(TableEntity::nameIdentifier)
+                            .collect(Collectors.toList()),
+                        ChangeLogEntry.Operation.CREATE);
+                return null;
+              });
+        }
+        break;
+      case SCHEMA:
+      case TOPIC:
+        // These are inserted one by one, but each chunk is still written in one transaction.
+        for (List<E> chunk : Lists.partition(entities, batchWriteChunkSize)) {
+          doMutation(
+              () -> {
+                List<NameIdentifier> idents = new ArrayList<>(chunk.size());
+                for (E entity : chunk) {
+                  insertEntity(entity, overwritten);
+                  idents.add(entity.nameIdentifier());
+                }
+                EntityChangeLogMetaService.getInstance()
+                    .insertChangeLogs(entityType, idents, ChangeLogEntry.Operation.CREATE);
+                return null;
+              });
+        }
+        break;
       default:
         throw new IllegalArgumentException(
             String.format("Batch put is not supported for entity type %s", entityType.name()));
@@ -585,6 +744,13 @@ public class JDBCBackend implements RelationalBackend {
   public <E extends Entity & HasIdentifier> List<E> listEntitiesByRelation(
       Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
       throws IOException {
+    return SessionUtils.doReadOnly(
+        () -> listEntitiesByRelationInternal(relType, nameIdentifier, identType, allFields));
+  }
+
+  private <E extends Entity & HasIdentifier> List<E> listEntitiesByRelationInternal(
+      Type relType, NameIdentifier nameIdentifier, Entity.EntityType identType, boolean allFields)
+      throws IOException {
     switch (relType) {
       case OWNER_REL:
         List<E> list = Lists.newArrayList();
@@ -647,7 +813,15 @@ public class JDBCBackend implements RelationalBackend {
       boolean override) {
     switch (relType) {
       case OWNER_REL:
-        OwnerMetaService.getInstance().setOwner(srcIdentifier, srcType, dstIdentifier, dstType);
+        // Both ends are logged, so that the other nodes drop the cached relations of either one.
+        doMutation(
+            () -> {
+              OwnerMetaService.getInstance()
+                  .setOwner(srcIdentifier, srcType, dstIdentifier, dstType);
+              logRelationChange(srcType, ImmutableList.of(srcIdentifier));
+              logRelationChange(dstType, ImmutableList.of(dstIdentifier));
+              return null;
+            });
         break;
       default:
         throw new IllegalArgumentException(
@@ -665,21 +839,83 @@ public class JDBCBackend implements RelationalBackend {
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     switch (relType) {
       case POLICY_METADATA_OBJECT_REL:
-        return (List<E>)
-            PolicyMetaService.getInstance()
-                .associatePoliciesWithMetadataObject(
-                    srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+        return doMutation(
+            () -> {
+              List<E> policies =
+                  (List<E>)
+                      PolicyMetaService.getInstance()
+                          .associatePoliciesWithMetadataObject(
+                              srcEntityIdent,
+                              srcEntityType,
+                              destEntitiesToAdd,
+                              destEntitiesToRemove);
+              logEntityRelationsChange(
+                  srcEntityIdent,
+                  srcEntityType,
+                  Entity.EntityType.POLICY,
+                  destEntitiesToAdd,
+                  destEntitiesToRemove);
+              return policies;
+            });
       case TAG_METADATA_OBJECT_REL:
-        return (List<E>)
-            TagMetaService.getInstance()
-                .associateTagsWithMetadataObject(
-                    srcEntityIdent, srcEntityType, destEntitiesToAdd, destEntitiesToRemove);
+        return doMutation(
+            () -> {
+              List<E> tags =
+                  (List<E>)
+                      TagMetaService.getInstance()
+                          .associateTagsWithMetadataObject(
+                              srcEntityIdent,
+                              srcEntityType,
+                              destEntitiesToAdd,
+                              destEntitiesToRemove);
+              logEntityRelationsChange(
+                  srcEntityIdent,
+                  srcEntityType,
+                  Entity.EntityType.TAG,
+                  destEntitiesToAdd,
+                  destEntitiesToRemove);
+              return tags;
+            });
       default:
         throw new IllegalArgumentException(
             String.format("Doesn't support the relation type %s", relType));
     }
   }
 
+  private void logEntityRelationsChange(
+      NameIdentifier srcEntityIdent,
+      Entity.EntityType srcEntityType,
+      Entity.EntityType destEntityType,
+      NameIdentifier[] destEntitiesToAdd,
+      NameIdentifier[] destEntitiesToRemove) {
+    logRelationChange(srcEntityType, ImmutableList.of(srcEntityIdent));
+    logRelationChange(
+        destEntityType,
+        ImmutableList.<NameIdentifier>builder()
+            .add(destEntitiesToAdd)
+            .add(destEntitiesToRemove)
+            .build());
+  }
+
+  // Every mutation that is recorded in the change log runs through here. The distributed lock
+  // leases held by the current thread are checked first in the same transaction, so the mutation
+  // is rolled back if one of them has been taken over by another server.
+  private static <R, E extends Exception> R doMutation(SessionUtils.WriteOperation<R, E> operation)
+      throws E {
+    return SessionUtils.doMultipleWithCommitAndFetchResult(
+        () -> {
+          TreeLockLeaseMetaService.getInstance().checkFences();
+          return operation.get();
+        });
+  }
+
+  // A relation change is recorded as an alteration of its ends, it carries no entity content but
+  // lets the readers of the change log know that the relations of these entities are stale.
+  private void logRelationChange(Entity.EntityType entityType, List<NameIdentifier> idents) {
+    EntityChangeLogMetaService.getInstance()
+        .insertChangeLogs(entityType, idents, ChangeLogEntry.Operation.ALTER);
+  }
+
   @Override
   public <E extends Entity & HasIdentifier> E getEntityByRelation(
       Type relType,
@@ -687,6 +923,16 @@ public class JDBCBackend implements RelationalBackend {
       Entity.EntityType srcType,
       NameIdentifier destEntityIdent)
       throws IOException, NoSuchEntityException {
+    return SessionUtils.doReadOnly(
+        () -> getEntityByRelationInternal(relType, srcIdentifier, srcType, destEntityIdent));
+  }
+
+  private <E extends Entity & HasIdentifier> E getEntityByRelationInternal(
+      Type relType,
+      NameIdentifier srcIdentifier,
+      Entity.EntityType srcType,
+      NameIdentifier destEntityIdent)
+      throws IOException {
     switch (relType) {
       case POLICY_METADATA_OBJECT_REL:
         return (E)
@@ -20,10 +20,13 @@ package org.apache.gravitino.storage.relational;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Comparator;
 import java.util.List;
 import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
 import org.apache.gravitino.HasIdentifier;
@@ -31,6 +34,7 @@ import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.SupportsRelationOperations;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
 
 /** Interface defining the operations for a Relation Backend. */
 public interface RelationalBackend extends Closeable, SupportsRelationOperations {
@@ -62,6 +66,35 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
       Namespace namespace, Entity.EntityType entityType, boolean allFields)
       throws NoSuchEntityException, IOException;
 
+  /**
+   * Lists one page of the entities associated with the given parent namespace and entityType. The
+   * entities are ordered by name and only those whose name is strictly greater than {@code
+   * afterName} are returned.
+   *
+   * <p>The default implementation filters the full list in memory, implementations should push the
+   * keyset condition down to the storage where it is possible.
+   *
+   * @param <E> The entity type.
+   * @param namespace The parent namespace of these entities.
+   * @param entityType The type of these entities.
+   * @param afterName The name to start after, null to start from the beginning.
+   * @param limit The maximum number of entities to return.
+   * @return The list of entities ordered by name.
+   * @throws NoSuchEntityException If the corresponding parent entity of these list entities cannot
+   *     be found.
+   * @throws IOException If the store operation fails
+   */
+  default <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace, Entity.EntityType entityType, String afterName, int limit)
+      throws NoSuchEntityException, IOException {
+    List<E> entities = list(namespace, entityType, false);
+    return entities.stream()
+        .filter(e -> afterName == null || e.name().compareTo(afterName) > 0)
+        .sorted(Comparator.comparing(HasIdentifier::name))
+        .limit(limit)
+        .collect(Collectors.toList());
+  }
+
   /**
    * Checks the entity associated with the given identifier and entityType whether exists.
    *
@@ -119,8 +152,8 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    * @param <E> The type of the entity returned.
    * @param identifiers The identifiers of the entities.
    * @param entityType The type of the entity.
-   * @return The entities associated with the identifiers and the entity type, or null if the key
-   *     does not exist.
+   * @return The entities associated with the identifiers and the entity type, the identifiers
+   *     whose entity does not exist are omitted from the result.
    */
   <E extends Entity & HasIdentifier> List<E> batchGet(
       List<NameIdentifier> identifiers, Entity.EntityType entityType);
@@ -169,7 +202,24 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline) throws IOException;
+  default int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline)
+      throws IOException {
+    return hardDeleteLegacyData(
+        entityType, legacyTimeline, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Permanently deletes at most {@code limit} rows per underlying table of the legacy data that has
+   * been marked as deleted before the given legacy timeline.
+   *
+   * @param entityType The type of the entity.
+   * @param legacyTimeline The time before which the data has been marked as deleted.
+   * @param limit The maximum number of rows to delete from each underlying table.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int hardDeleteLegacyData(Entity.EntityType entityType, long legacyTimeline, int limit)
+      throws IOException;
 
   /**
    * Soft deletes the old version data that is older than or equal to the given version retention
@@ -180,6 +230,66 @@ public interface RelationalBackend extends Closeable, SupportsRelationOperations
    * @return The count of the deleted data.
    * @throws IOException If the store operation fails
    */
-  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+  default int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount)
+      throws IOException {
+    return deleteOldVersionData(
+        entityType, versionRetentionCount, Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT);
+  }
+
+  /**
+   * Soft deletes at most {@code limit} rows of the old version data that is older than or equal to
+   * the given version retention count.
+   *
+   * @param entityType The type of the entity.
+   * @param versionRetentionCount The count of versions to retain.
+   * @param limit The maximum number of rows to delete.
+   * @return The count of the deleted data.
+   * @throws IOException If the store operation fails
+   */
+  int deleteOldVersionData(Entity.EntityType entityType, long versionRetentionCount, int limit)
       throws IOException;
+
+  /**
+   * Lists the change log entries of the metalake written after the given sequence number, ordered
+   * by sequence. Every insert, update and delete of an entity appends an entry in the transaction
+   * of the mutation, and a relation change appends an alter entry for each end of the relation.
+   *
+   * @param metalake The name of the metalake.
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return.
+   * @return The change log entries.
+   * @throws IOException If the store operation fails
+   */
+  List<EntityChangeLogEntry> listChanges(String metalake, long afterSequence, int limit)
+      throws IOException;
+
+  /**
+   * Lists the change log entries of all the metalakes written after the given sequence number,
+   * ordered by sequence.
+   *
+   * @param afterSequence Only the entries whose sequence is greater than this are returned.
+   * @param limit The maximum number of entries to return.
+   * @return The change log entries.
+   * @throws IOException If the store operation fails
+   */
+  List<EntityChangeLogEntry> listAllChanges(long afterSequence, int limit) throws IOException;
+
+  /**
+   * Gets the greatest sequence number of the change log, or 0 if the change log is empty.
+   *
+   * @return The greatest sequence number of the change log.
+   * @throws IOException If the store operation fails
+   */
+  long maxChangeSequence() throws IOException;
+
+  /**
+   * Permanently deletes at most {@code limit} change log entries written before the given legacy
+   * timeline.
+   *
+   * @param legacyTimeline The time before which the entries have been written.
+   * @param limit The maximum number of entries to delete.
+   * @return The count of the deleted entries.
+   * @throws IOException If the store operation fails
+   */
+  int deleteLegacyChangeLogs(long legacyTimeline, int limit) throws IOException;
 }
@@ -0,0 +1,329 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.base.Preconditions;
+import com.google.common.collect.ImmutableSet;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.cache.EntityCodec;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.storage.relational.po.ColumnPO;
+import org.apache.gravitino.storage.relational.po.ModelPO;
+import org.apache.gravitino.storage.relational.po.SchemaPO;
+import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.po.TopicPO;
+import org.apache.gravitino.storage.relational.utils.POConverters;
+
+/**
+ * Encodes entities as the text columns of their persistent objects, so that the entities decoded
+ * from the serialized tier of the entity cache are the same as the ones read from the store, and
+ * their JSON columns are decoded lazily in the same way.
+ *
+ * <p>Only the entities without relations to other entities in the cache are supported: schemas,
+ * tables with their columns, topics and models. The ids of the parents of an entity are not kept.
+ */
+public class RelationalEntityCodec implements EntityCodec {
+
+  private static final byte FORMAT_VERSION = 1;
+
+  // The ids of the parents are required by the builders of the persistent objects, but they are
+  // not part of the entities.
+  private static final long NO_PARENT_ID = 0L;
+
+  private static final Set<Entity.EntityType> SUPPORTED_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.SCHEMA,
+          Entity.EntityType.TABLE,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL);
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean supports(Entity.EntityType type) {
+    return SUPPORTED_TYPES.contains(type);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public byte[] encode(Entity entity) throws IOException {
+    Preconditions.checkArgument(
+        supports(entity.type()), "Unsupported entity type: %s", entity.type());
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeByte(FORMAT_VERSION);
+      switch (entity.type()) {
+        case SCHEMA:
+          writeSchema(out, (SchemaEntity) entity);
+          break;
+        case TABLE:
+          writeTable(out, (TableEntity) entity);
+          break;
+        case TOPIC:
+          writeTopic(out, (TopicEntity) entity);
+          break;
+        case MODEL:
+          writeModel(out, (ModelEntity) entity);
+          break;
+        default:
+          throw new IllegalArgumentException("Unsupported entity type: " + entity.type());
+      }
+    }
+    return bytes.toByteArray();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public Entity decode(NameIdentifier ident, Entity.EntityType type, byte[] bytes)
+      throws IOException {
+    Preconditions.checkArgument(supports(type), "Unsupported entity type: %s", type);
+
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+      byte version = in.readByte();
+      if (version != FORMAT_VERSION) {
+        throw new IOException("Unsupported format version " + version + " of entity " + ident);
+      }
+
+      switch (type) {
+        case SCHEMA:
+          return POConverters.fromSchemaPO(readSchema(in), ident.namespace());
+        case TABLE:
+          TablePO tablePO = readTable(in);
+          return POConverters.fromTableAndColumnPOs(
+              tablePO, readColumns(in, tablePO), ident.namespace());
+        case TOPIC:
+          return POConverters.fromTopicPO(readTopic(in), ident.namespace());
+        case MODEL:
+          return POConverters.fromModelPO(readModel(in), ident.namespace());
+        default:
+          throw new IllegalArgumentException("Unsupported entity type: " + type);
+      }
+    }
+  }
+
+  private static void writeSchema(DataOutputStream out, SchemaEntity schema) throws IOException {
+    SchemaPO schemaPO =
+        POConverters.initializeSchemaPOWithVersion(
+            schema, SchemaPO.builder().withMetalakeId(NO_PARENT_ID).withCatalogId(NO_PARENT_ID));
+    out.writeLong(schemaPO.getSchemaId());
+    writeString(out, schemaPO.getSchemaName());
+    writeString(out, schemaPO.getSchemaComment());
+    writeString(out, schemaPO.getProperties());
+    writeString(out, schemaPO.getAuditInfo());
+  }
+
+  private static SchemaPO readSchema(DataInputStream in) throws IOException {
+    return SchemaPO.builder()
+        .withSchemaId(in.readLong())
+        .withSchemaName(readString(in))
+        .withSchemaComment(readString(in))
+        .withProperties(readString(in))
+        .withAuditInfo(readString(in))
+        .withMetalakeId(NO_PARENT_ID)
+        .withCatalogId(NO_PARENT_ID)
+        .withCurrentVersion(POConverters.INIT_VERSION)
+        .withLastVersion(POConverters.INIT_VERSION)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  private static void writeTable(DataOutputStream out, TableEntity table) throws IOException {
+    TablePO tablePO =
+        POConverters.initializeTablePOWithVersion(
+            table,
+            TablePO.builder()
+                .withMetalakeId(NO_PARENT_ID)
+                .withCatalogId(NO_PARENT_ID)
+                .withSchemaId(NO_PARENT_ID));
+    out.writeLong(tablePO.getTableId());
+    writeString(out, tablePO.getTableName());
+    writeString(out, tablePO.getComment());
+    writeString(out, tablePO.getFormat());
+    writeString(out, tablePO.getProperties());
+    writeString(out, tablePO.getPartitions());
+    writeString(out, tablePO.getSortOrders());
+    writeString(out, tablePO.getDistribution());
+    writeString(out, tablePO.getIndexes());
+    writeString(out, tablePO.getAuditInfo());
+
+    List<ColumnEntity> columns =
+        table.columns() == null ? Collections.emptyList() : table.columns();
+    List<ColumnPO> columnPOs =
+        POConverters.initializeColumnPOs(tablePO, columns, ColumnPO.ColumnOpType.CREATE);
+    out.writeInt(columnPOs.size());
+    for (ColumnPO columnPO : columnPOs) {
+      out.writeLong(columnPO.getColumnId());
+      writeString(out, columnPO.getColumnName());
+      out.writeInt(columnPO.getColumnPosition());
+      writeString(out, columnPO.getColumnType());
+      writeString(out, columnPO.getColumnComment());
+      out.writeByte(columnPO.getNullable());
+      out.writeByte(columnPO.getAutoIncrement());
+      writeString(out, columnPO.getDefaultValue());
+      writeString(out, columnPO.getAuditInfo());
+    }
+  }
+
+  private static TablePO readTable(DataInputStream in) throws IOException {
+    return TablePO.builder()
+        .withTableId(in.readLong())
+        .withTableName(readString(in))
+        .withComment(readString(in))
+        .withFormat(readString(in))
+        .withProperties(readString(in))
+        .withPartitions(readString(in))
+        .withSortOrders(readString(in))
+        .withDistribution(readString(in))
+        .withIndexes(readString(in))
+        .withAuditInfo(readString(in))
+        .withMetalakeId(NO_PARENT_ID)
+        .withCatalogId(NO_PARENT_ID)
+        .withSchemaId(NO_PARENT_ID)
+        .withCurrentVersion(POConverters.INIT_VERSION)
+        .withLastVersion(POConverters.INIT_VERSION)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  private static List<ColumnPO> readColumns(DataInputStream in, TablePO tablePO)
+      throws IOException {
+    int count = in.readInt();
+    List<ColumnPO> columnPOs = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      columnPOs.add(
+          ColumnPO.builder()
+              .withColumnId(in.readLong())
+              .withColumnName(readString(in))
+              .withColumnPosition(in.readInt())
+              .withColumnType(readString(in))
+              .withColumnComment(readString(in))
+              .withNullable(in.readByte())
+              .withAutoIncrement(in.readByte())
+              .withDefaultValue(readString(in))
+              .withAuditInfo(readString(in))
+              .withMetalakeId(tablePO.getMetalakeId())
+              .withCatalogId(tablePO.getCatalogId())
+              .withSchemaId(tablePO.getSchemaId())
+              .withTableId(tablePO.getTableId())
+              .withTableVersion(tablePO.getCurrentVersion())
+              .withColumnOpType(ColumnPO.ColumnOpType.CREATE.value())
+              .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+              .build());
+    }
+    return columnPOs;
+  }
+
+  private static void writeTopic(DataOutputStream out, TopicEntity topic) throws IOException {
+    TopicPO topicPO =
+        POConverters.initializeTopicPOWithVersion(
+            topic,
+            TopicPO.builder()
+                .withMetalakeId(NO_PARENT_ID)
+                .withCatalogId(NO_PARENT_ID)
+                .withSchemaId(NO_PARENT_ID));
+    out.writeLong(topicPO.getTopicId());
+    writeString(out, topicPO.getTopicName());
+    writeString(out, topicPO.getComment());
+    writeString(out, topicPO.getProperties());
+    writeString(out, topicPO.getAuditInfo());
+  }
+
+  private static TopicPO readTopic(DataInputStream in) throws IOException {
+    return TopicPO.builder()
+        .withTopicId(in.readLong())
+        .withTopicName(readString(in))
+        .withComment(readString(in))
+        .withProperties(readString(in))
+        .withAuditInfo(readString(in))
+        .withMetalakeId(NO_PARENT_ID)
+        .withCatalogId(NO_PARENT_ID)
+        .withSchemaId(NO_PARENT_ID)
+        .withCurrentVersion(POConverters.INIT_VERSION)
+        .withLastVersion(POConverters.INIT_VERSION)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  private static void writeModel(DataOutputStream out, ModelEntity model) throws IOException {
+    ModelPO modelPO =
+        POConverters.initializeModelPO(
+            model,
+            ModelPO.builder()
+                .withMetalakeId(NO_PARENT_ID)
+                .withCatalogId(NO_PARENT_ID)
+                .withSchemaId(NO_PARENT_ID));
+    out.writeLong(modelPO.getModelId());
+    writeString(out, modelPO.getModelName());
+    writeString(out, modelPO.getModelComment());
+    out.writeInt(modelPO.getModelLatestVersion());
+    writeString(out, modelPO.getModelProperties());
+    writeString(out, modelPO.getAuditInfo());
+  }
+
+  private static ModelPO readModel(DataInputStream in) throws IOException {
+    return ModelPO.builder()
+        .withModelId(in.readLong())
+        .withModelName(readString(in))
+        .withModelComment(readString(in))
+        .withModelLatestVersion(in.readInt())
+        .withModelProperties(readString(in))
+        .withAuditInfo(readString(in))
+        .withMetalakeId(NO_PARENT_ID)
+        .withCatalogId(NO_PARENT_ID)
+        .withSchemaId(NO_PARENT_ID)
+        .withDeletedAt(POConverters.DEFAULT_DELETED_AT)
+        .build();
+  }
+
+  // The text columns may be longer than the 64KB limit of DataOutput#writeUTF.
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    if (value == null) {
+      out.writeInt(-1);
+      return;
+    }
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0) {
+      return null;
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+}
@@ -43,6 +43,7 @@ import org.apache.gravitino.cache.EntityCache;
 import org.apache.gravitino.cache.EntityCacheRelationKey;
 import org.apache.gravitino.cache.NoOpsCache;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
 import org.apache.gravitino.storage.relational.service.EntityIdService;
 import org.apache.gravitino.utils.Executable;
 import org.slf4j.Logger;
@@ -60,6 +61,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
           Configs.DEFAULT_ENTITY_RELATIONAL_STORE, JDBCBackend.class.getCanonicalName());
   private RelationalBackend backend;
   private RelationalGarbageCollector garbageCollector;
+  private EntityCacheInvalidator cacheInvalidator;
   private EntityCache cache;
 
   @VisibleForTesting
@@ -70,7 +72,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   @Override
   public void initialize(Config config) throws RuntimeException {
     if (config.get(Configs.CACHE_ENABLED)) {
-      this.cache = CacheFactory.getEntityCache(config);
+      this.cache = CacheFactory.getEntityCache(config, new RelationalEntityCodec());
       EntityIdService.initialize(
           new CachedEntityIdResolver(cache, new RelationalEntityStoreIdResolver()));
     } else {
@@ -79,8 +81,24 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     }
 
     this.backend = createRelationalEntityBackend(config);
+    this.cache.setRefreshLoader((ident, entityType) -> backend.get(ident, entityType));
     this.garbageCollector = new RelationalGarbageCollector(backend, config);
     this.garbageCollector.start();
+
+    // Only a real cache can hold entries changed by the other servers.
+    if (config.get(Configs.CACHE_ENABLED)
+        && Config.getOrDefault(config, Configs.CACHE_INVALIDATION_ENABLED)) {
+      this.cacheInvalidator = new EntityCacheInvalidator(backend, cache, config);
+      this.cacheInvalidator.start();
+    }
+
+    // The warm-up runs after the invalidator has started, so most changes made by the other
+    // servers while it loads the cache are applied to it. A change applied just before its entity
+    // is loaded is bounded by the cache expiration.
+    if (config.get(Configs.CACHE_ENABLED)
+        && Config.getOrDefault(config, Configs.CACHE_WARMUP_ENABLED)) {
+      new EntityCacheWarmer(backend, cache, config).run();
+    }
   }
 
   private RelationalBackend createRelationalEntityBackend(Config config) {
@@ -115,10 +133,41 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     return backend.list(namespace, entityType, allFields);
   }
 
+  @Override
+  public <E extends Entity & HasIdentifier> List<E> list(
+      Namespace namespace,
+      Class<E> type,
+      Entity.EntityType entityType,
+      String afterName,
+      int limit)
+      throws IOException {
+    return backend.list(namespace, entityType, afterName, limit);
+  }
+
   @Override
   public boolean exists(NameIdentifier ident, Entity.EntityType entityType) throws IOException {
-    boolean existsInCache = cache.contains(ident, entityType);
-    return existsInCache || backend.exists(ident, entityType);
+    if (cache.contains(ident, entityType)) {
+      return true;
+    }
+
+    // The lock only keeps a missing entity from being recorded after a concurrent put of it.
+    if (!cache.isNotFoundCacheEnabled()) {
+      return backend.exists(ident, entityType);
+    }
+
+    return cache.withCacheLock(
+        EntityCacheRelationKey.of(ident, entityType),
+        () -> {
+          if (cache.isNotFound(ident, entityType)) {
+            return false;
+          }
+
+          boolean exists = backend.exists(ident, entityType);
+          if (!exists) {
+            cache.putNotFound(ident, entityType);
+          }
+          return exists;
+        });
   }
 
   @Override
@@ -133,7 +182,10 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
       NameIdentifier ident, Class<E> type, Entity.EntityType entityType, Function<E, E> updater)
       throws IOException, NoSuchEntityException, EntityAlreadyExistsException {
     cache.invalidate(ident, entityType);
-    return backend.update(ident, entityType, updater);
+    E updatedEntity = backend.update(ident, entityType, updater);
+    // A rename may reuse a name recorded as missing.
+    cache.invalidateOnKeyChange(updatedEntity);
+    return updatedEntity;
   }
 
   @Override
@@ -148,7 +200,23 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
             return entityFromCache.get();
           }
 
-          E entity = backend.get(ident, entityType);
+          if (cache.isNotFound(ident, entityType)) {
+            throw new NoSuchEntityException(
+                NoSuchEntityException.NO_SUCH_ENTITY_MESSAGE,
+                entityType.name().toLowerCase(),
+                ident);
+          }
+
+          E entity;
+          long start = System.nanoTime();
+          try {
+            entity = backend.get(ident, entityType);
+          } catch (NoSuchEntityException e) {
+            cache.putNotFound(ident, entityType);
+            throw e;
+          } finally {
+            cache.recordLoad(entityType, System.nanoTime() - start);
+          }
           cache.put(entity);
           return entity;
         });
@@ -160,6 +228,7 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     List<E> allEntities = new ArrayList<>();
     List<NameIdentifier> noCacheIdents =
         idents.stream()
+            .distinct()
             .filter(
                 ident -> {
                   Optional<E> entity = cache.getIfPresent(ident, entityType);
@@ -167,7 +236,14 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
                   return entity.isEmpty();
                 })
             .toList();
+    if (noCacheIdents.isEmpty()) {
+      return allEntities;
+    }
+
+    // The cache misses are loaded with a few IN-list queries instead of one query per identifier.
+    long start = System.nanoTime();
     List<E> fetchEntities = backend.batchGet(noCacheIdents, entityType);
+    cache.recordLoad(entityType, System.nanoTime() - start);
     for (E entity : fetchEntities) {
       cache.put(entity);
       allEntities.add(entity);
@@ -186,6 +262,12 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
     }
   }
 
+  @Override
+  public List<EntityChangeLogEntry> listChanges(String metalake, long afterSequence, int limit)
+      throws IOException {
+    return backend.listChanges(metalake, afterSequence, limit);
+  }
+
   @Override
   public <R, E extends Exception> R executeInTransaction(Executable<R, E> executable) {
     throw new UnsupportedOperationException("Unsupported operation in relational entity store.");
@@ -194,6 +276,9 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   @Override
   public void close() throws IOException {
     cache.clear();
+    if (cacheInvalidator != null) {
+      cacheInvalidator.close();
+    }
     garbageCollector.close();
     backend.close();
   }
@@ -216,8 +301,10 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
           }
 
           // Use allFields=true to cache complete entities
+          long start = System.nanoTime();
           List<E> backendEntities =
               backend.listEntitiesByRelation(relType, nameIdentifier, identType, true);
+          cache.recordLoad(identType, System.nanoTime() - start);
 
           cache.put(nameIdentifier, identType, relType, backendEntities);
 
@@ -247,8 +334,10 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
           }
 
           // Use allFields=true to cache complete entities
+          long start = System.nanoTime();
           List<E> backendEntities =
               backend.listEntitiesByRelation(relType, srcIdentifier, srcType, true);
+          cache.recordLoad(srcType, System.nanoTime() - start);
 
           E r =
               backendEntities.stream()
@@ -317,5 +406,6 @@ public class RelationalEntityStore implements EntityStore, SupportsRelationOpera
   public <E extends Entity & HasIdentifier> void batchPut(List<E> entities, boolean overwritten)
       throws IOException, EntityAlreadyExistsException {
     backend.batchPut(entities, overwritten);
+    entities.forEach(e -> cache.invalidate(e.nameIdentifier(), e.type()));
   }
 }
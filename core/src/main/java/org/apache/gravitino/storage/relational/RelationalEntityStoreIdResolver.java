@@ -19,6 +19,9 @@
 package org.apache.gravitino.storage.relational;
 
 import com.google.common.collect.ImmutableSet;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
@@ -28,6 +31,7 @@ import org.apache.gravitino.meta.NamespacedEntityId;
 import org.apache.gravitino.storage.relational.helper.CatalogIds;
 import org.apache.gravitino.storage.relational.helper.SchemaIds;
 import org.apache.gravitino.storage.relational.service.CatalogMetaService;
+import org.apache.gravitino.storage.relational.service.EntityIdMetaService;
 import org.apache.gravitino.storage.relational.service.FilesetMetaService;
 import org.apache.gravitino.storage.relational.service.GroupMetaService;
 import org.apache.gravitino.storage.relational.service.JobTemplateMetaService;
@@ -44,6 +48,11 @@ import org.apache.gravitino.storage.relational.service.UserMetaService;
 import org.apache.gravitino.storage.relational.service.ViewMetaService;
 import org.apache.gravitino.utils.NameIdentifierUtil;
 
+/**
+ * Resolves entity ids from the relational store. Names are resolved with one joined statement per
+ * entity type, and a name that is not found is resolved again level by level so that the exception
+ * names the first missing level.
+ */
 public class RelationalEntityStoreIdResolver implements EntityIdResolver {
   private static final Set<Entity.EntityType> ENTITY_TYPES_REQUIRING_METALAKE_ID =
       ImmutableSet.of(
@@ -71,6 +80,38 @@ public class RelationalEntityStoreIdResolver implements EntityIdResolver {
 
   @Override
   public NamespacedEntityId getEntityIds(NameIdentifier nameIdentifier, Entity.EntityType type) {
+    if (EntityIdMetaService.getInstance().isSupported(type)) {
+      NamespacedEntityId entityIds =
+          EntityIdMetaService.getInstance()
+              .batchGetEntityIds(Collections.singletonList(nameIdentifier), type)
+              .get(nameIdentifier);
+      if (entityIds != null) {
+        return entityIds;
+      }
+    }
+
+    // Resolve level by level, either because the type is not supported by the joined lookup or
+    // to throw the exception of the first missing level.
+    return getEntityIdsLevelByLevel(nameIdentifier, type);
+  }
+
+  @Override
+  public Long getEntityId(NameIdentifier nameIdentifier, Entity.EntityType type) {
+    return getEntityIds(nameIdentifier, type).entityId();
+  }
+
+  @Override
+  public Map<NameIdentifier, NamespacedEntityId> getEntityIds(
+      List<NameIdentifier> nameIdentifiers, Entity.EntityType type) {
+    if (!EntityIdMetaService.getInstance().isSupported(type)) {
+      return EntityIdResolver.super.getEntityIds(nameIdentifiers, type);
+    }
+
+    return EntityIdMetaService.getInstance().batchGetEntityIds(nameIdentifiers, type);
+  }
+
+  private NamespacedEntityId getEntityIdsLevelByLevel(
+      NameIdentifier nameIdentifier, Entity.EntityType type) {
     if (ENTITY_TYPES_REQUIRING_METALAKE_ID.contains(type)) {
       return getEntityIdsRequiringMetalakeId(nameIdentifier, type);
 
@@ -90,26 +131,6 @@ public class RelationalEntityStoreIdResolver implements EntityIdResolver {
     }
   }
 
-  @Override
-  public Long getEntityId(NameIdentifier nameIdentifier, Entity.EntityType type) {
-    if (ENTITY_TYPES_REQUIRING_METALAKE_ID.contains(type)) {
-      return getEntityIdsRequiringMetalakeId(nameIdentifier, type).entityId();
-
-    } else if (ENTITY_TYPES_REQUIRING_CATALOG_IDS.contains(type)) {
-      return CatalogMetaService.getInstance()
-          .getCatalogIdByMetalakeAndCatalogName(
-              NameIdentifierUtil.getMetalake(nameIdentifier),
-              NameIdentifierUtil.getCatalogIdentifier(nameIdentifier).name())
-          .getCatalogId();
-
-    } else if (ENTITY_TYPES_REQUIRING_SCHEMA_IDS.contains(type)) {
-      return getEntityIdsRequiringSchemaIds(nameIdentifier, type).entityId();
-
-    } else {
-      throw new IllegalArgumentException("Unsupported entity type: " + type);
-    }
-  }
-
   private NamespacedEntityId getEntityIdsRequiringMetalakeId(
       NameIdentifier nameIdentifier, Entity.EntityType type) {
     long metalakeId =
@@ -19,29 +19,77 @@
 
 package org.apache.gravitino.storage.relational;
 
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_TARGET_BATCH_LATENCY_MS;
 import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
 import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
 
+import com.codahale.metrics.Counter;
+import com.codahale.metrics.Timer;
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.RateLimiter;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Entity;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.metrics.MetricsSystem;
+import org.apache.gravitino.metrics.source.RelationalGarbageCollectorMetricsSource;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+/**
+ * Purges the legacy data of the relational entity store: rows soft-deleted longer than the
+ * retention time are physically deleted, and versions over the retention count are soft-deleted.
+ *
+ * <p>Each pass runs one worker per entity type on a pool of {@code gc.parallelism} threads. All the
+ * workers share a deletes-per-second budget, so a large backlog is drained at a steady rate instead
+ * of in one burst. Every entity type keeps its own batch size, which grows while the deletes are
+ * faster than the target latency and shrinks when they are slower.
+ *
+ * <p>The entity change log is pruned in the same pass, entries older than the retention time are
+ * deleted.
+ */
 public final class RelationalGarbageCollector implements Closeable {
 
   private static final Logger LOG = LoggerFactory.getLogger(RelationalGarbageCollector.class);
+
+  // The batch size never goes below this, so a slow database still makes progress.
+  @VisibleForTesting static final int MIN_BATCH_SIZE = 10;
+
+  // The batch size never goes above this, whatever the deletes-per-second budget is.
+  @VisibleForTesting static final int MAX_BATCH_SIZE = 10_000;
+
   private final RelationalBackend backend;
 
   private final long storeDeleteAfterTimeMillis;
   private final long versionRetentionCount;
 
+  private final RateLimiter deleteRateLimiter;
+
+  private final Map<Entity.EntityType, EntityTypeState> entityTypeStates =
+      new EnumMap<>(Entity.EntityType.class);
+
+  private final EntityTypeState changeLogState;
+
+  private final RelationalGarbageCollectorMetricsSource metricsSource =
+      new RelationalGarbageCollectorMetricsSource();
+
   @VisibleForTesting
   final ScheduledExecutorService garbageCollectorPool =
       new ScheduledThreadPoolExecutor(
@@ -53,10 +101,53 @@ public final class RelationalGarbageCollector implements Closeable {
           },
           new ThreadPoolExecutor.AbortPolicy());
 
+  private final ExecutorService workerPool;
+
   public RelationalGarbageCollector(RelationalBackend backend, Config config) {
     this.backend = backend;
     storeDeleteAfterTimeMillis = config.get(STORE_DELETE_AFTER_TIME);
     versionRetentionCount = config.get(VERSION_RETENTION_COUNT);
+
+    int parallelism = Config.getOrDefault(config, GARBAGE_COLLECTOR_PARALLELISM);
+    int maxDeletesPerSecond = Config.getOrDefault(config, GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND);
+    long targetBatchLatencyMillis =
+        Config.getOrDefault(config, GARBAGE_COLLECTOR_TARGET_BATCH_LATENCY_MS);
+
+    this.deleteRateLimiter = RateLimiter.create(maxDeletesPerSecond);
+    // A single batch should not take more than one second of the budget.
+    int maxBatchSize = Math.max(MIN_BATCH_SIZE, Math.min(MAX_BATCH_SIZE, maxDeletesPerSecond));
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      EntityTypeState state =
+          new EntityTypeState(
+              new AdaptiveBatchSize(
+                  Math.min(GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT, maxBatchSize),
+                  MIN_BATCH_SIZE,
+                  maxBatchSize,
+                  targetBatchLatencyMillis));
+      entityTypeStates.put(entityType, state);
+      metricsSource.registerEntityTypeGauges(
+          entityType, state.backlogEstimate::get, state.batchSize::get);
+    }
+    this.changeLogState =
+        new EntityTypeState(
+            new AdaptiveBatchSize(
+                Math.min(GARBAGE_COLLECTOR_SINGLE_DELETION_LIMIT, maxBatchSize),
+                MIN_BATCH_SIZE,
+                maxBatchSize,
+                targetBatchLatencyMillis));
+
+    this.workerPool =
+        Executors.newFixedThreadPool(
+            parallelism,
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("RelationalBackend-Garbage-Collector-Worker-%d")
+                .build());
+
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.register(metricsSource);
+    }
   }
 
   public void start() {
@@ -73,39 +164,27 @@ public final class RelationalGarbageCollector implements Closeable {
     long threadId = Thread.currentThread().getId();
     LOG.debug("Thread {} start to collect garbage...", threadId);
 
-    try {
-      LOG.debug("Start to collect and delete legacy data by thread {}", threadId);
-      long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to physically delete {} legacy data that has been marked deleted before {}",
-            entityType,
-            legacyTimeline);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.hardDeleteLegacyData(entityType, legacyTimeline);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
-        }
-      }
+    long legacyTimeline = System.currentTimeMillis() - storeDeleteAfterTimeMillis;
+    List<Callable<Void>> workers = new ArrayList<>();
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      workers.add(
+          () -> {
+            collectAndClean(entityType, legacyTimeline);
+            return null;
+          });
+    }
+    workers.add(
+        () -> {
+          collectAndCleanChangeLogs(legacyTimeline);
+          return null;
+        });
 
-      LOG.info("Start to collect and delete old version data by thread {}", threadId);
-      for (Entity.EntityType entityType : Entity.EntityType.values()) {
-        long deletedCount = Long.MAX_VALUE;
-        LOG.debug(
-            "Try to softly delete {} old version data that has been over retention count {}",
-            entityType,
-            versionRetentionCount);
-        try {
-          while (deletedCount > 0) {
-            deletedCount = backend.deleteOldVersionData(entityType, versionRetentionCount);
-          }
-        } catch (RuntimeException e) {
-          LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
-        }
-      }
+    try (Timer.Context ignored = metricsSource.passDuration().time()) {
+      // The workers catch their own failures, so this only returns early when interrupted.
+      workerPool.invokeAll(workers);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      LOG.warn("Thread {} is interrupted while collecting garbage.", threadId);
     } catch (Exception e) {
       LOG.error("Thread {} failed to collect and clean garbage.", threadId, e);
     } finally {
@@ -113,16 +192,140 @@ public final class RelationalGarbageCollector implements Closeable {
     }
   }
 
+  private void collectAndClean(Entity.EntityType entityType, long legacyTimeline) {
+    EntityTypeState state = entityTypeStates.get(entityType);
+
+    LOG.debug(
+        "Try to physically delete {} legacy data that has been marked deleted before {}",
+        entityType,
+        legacyTimeline);
+    try {
+      // The hard delete runs on every pass, since it also purges the secondary tables of the entity
+      // type, and each of its deletes is bounded by the batch size. A pass deletes the whole
+      // backlog, so the rows it deletes are the backlog it found.
+      long backlog =
+          purge(
+              state,
+              metricsSource.rowsPurged(entityType),
+              limit -> backend.hardDeleteLegacyData(entityType, legacyTimeline, limit));
+      state.backlogEstimate.set(backlog);
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to physically delete type of " + entityType + "'s legacy data: ", e);
+    }
+
+    LOG.debug(
+        "Try to softly delete {} old version data that has been over retention count {}",
+        entityType,
+        versionRetentionCount);
+    try {
+      purge(
+          state,
+          metricsSource.rowsPurged(entityType),
+          limit -> backend.deleteOldVersionData(entityType, versionRetentionCount, limit));
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to softly delete type of " + entityType + "'s old version data: ", e);
+    }
+  }
+
+  private void collectAndCleanChangeLogs(long legacyTimeline) {
+    LOG.debug("Try to delete the change log entries written before {}", legacyTimeline);
+    try {
+      purge(
+          changeLogState,
+          metricsSource.changeLogRowsPurged(),
+          limit -> backend.deleteLegacyChangeLogs(legacyTimeline, limit));
+    } catch (IOException | RuntimeException e) {
+      LOG.error("Failed to delete the legacy change log entries: ", e);
+    }
+  }
+
+  private long purge(EntityTypeState state, Counter rowsPurged, BatchDeletion deletion)
+      throws IOException {
+    long totalDeleted = 0;
+    while (true) {
+      int limit = state.batchSize.get();
+      long startNanos = System.nanoTime();
+      int deletedCount = deletion.delete(limit);
+      state.batchSize.update(
+          deletedCount, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+      if (deletedCount <= 0) {
+        return totalDeleted;
+      }
+
+      totalDeleted += deletedCount;
+      rowsPurged.inc(deletedCount);
+      // Pay for the rows just deleted, this blocks the next batch of every worker until the
+      // budget allows it.
+      deleteRateLimiter.acquire(deletedCount);
+    }
+  }
+
   @Override
   public void close() throws IOException {
-    this.garbageCollectorPool.shutdown();
+    MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
+    if (metricsSystem != null) {
+      metricsSystem.unregister(metricsSource);
+    }
+
+    shutdown(garbageCollectorPool);
+    shutdown(workerPool);
+  }
+
+  private static void shutdown(ExecutorService pool) {
+    pool.shutdown();
     try {
-      if (!this.garbageCollectorPool.awaitTermination(5, TimeUnit.SECONDS)) {
-        this.garbageCollectorPool.shutdownNow();
+      if (!pool.awaitTermination(5, TimeUnit.SECONDS)) {
+        pool.shutdownNow();
       }
     } catch (InterruptedException ex) {
-      this.garbageCollectorPool.shutdownNow();
+      pool.shutdownNow();
       Thread.currentThread().interrupt();
     }
   }
+
+  @FunctionalInterface
+  private interface BatchDeletion {
+    int delete(int limit) throws IOException;
+  }
+
+  /** The state kept across passes for one entity type, or for the change log. */
+  private static final class EntityTypeState {
+    private final AdaptiveBatchSize batchSize;
+    private final AtomicLong backlogEstimate = new AtomicLong();
+
+    private EntityTypeState(AdaptiveBatchSize batchSize) {
+      this.batchSize = batchSize;
+    }
+  }
+
+  /**
+   * A batch size that adapts to the observed delete latency. It doubles after a full batch that
+   * took less than half the target latency, and halves after a batch slower than the target.
+   */
+  @VisibleForTesting
+  static final class AdaptiveBatchSize {
+    private final int minSize;
+    private final int maxSize;
+    private final long targetLatencyMillis;
+    private volatile int size;
+
+    AdaptiveBatchSize(int initialSize, int minSize, int maxSize, long targetLatencyMillis) {
+      this.minSize = minSize;
+      this.maxSize = maxSize;
+      this.targetLatencyMillis = targetLatencyMillis;
+      this.size = Math.max(minSize, Math.min(maxSize, initialSize));
+    }
+
+    int get() {
+      return size;
+    }
+
+    void update(int deletedCount, long latencyMillis) {
+      if (latencyMillis > targetLatencyMillis) {
+        size = Math.max(minSize, size / 2);
+      } else if (deletedCount >= size && latencyMillis * 2 < targetLatencyMillis) {
+        size = Math.min(maxSize, size * 2);
+      }
+    }
+  }
 }
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.DeleteProvider;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper for the entity change log. The auto increment id of the table is the sequence
+ * number of the change log entries.
+ */
+public interface EntityChangeLogMapper {
+  String TABLE_NAME = "entity_change_log";
+
+  @InsertProvider(type = EntityChangeLogSQLProviderFactory.class, method = "batchInsertChangeLogs")
+  void batchInsertChangeLogs(@Param("changeLogs") List<EntityChangeLogPO> changeLogs);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "listChangeLogsAfterSequence")
+  List<EntityChangeLogPO> listChangeLogsAfterSequence(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterSequence") long afterSequence,
+      @Param("limit") int limit);
+
+  @SelectProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "listAllChangeLogsAfterSequence")
+  List<EntityChangeLogPO> listAllChangeLogsAfterSequence(
+      @Param("afterSequence") long afterSequence, @Param("limit") int limit);
+
+  @SelectProvider(type = EntityChangeLogSQLProviderFactory.class, method = "selectMaxSequence")
+  long selectMaxSequence();
+
+  @DeleteProvider(
+      type = EntityChangeLogSQLProviderFactory.class,
+      method = "deleteChangeLogsByLegacyTimeline")
+  Integer deleteChangeLogsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+}
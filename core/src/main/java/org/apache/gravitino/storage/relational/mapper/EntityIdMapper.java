@@ -0,0 +1,36 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import java.util.List;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.storage.relational.po.EntityIdPO;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+
+/**
+ * A MyBatis Mapper that resolves the names of entities into their ids and the ids of their
+ * parents, joining all the levels of the name in one statement.
+ */
+public interface EntityIdMapper {
+
+  @SelectProvider(type = EntityIdSQLProviderFactory.class, method = "listEntityIdsByNames")
+  List<EntityIdPO> listEntityIdsByNames(
+      @Param("entityType") Entity.EntityType entityType, @Param("names") List<EntityIdPO> names);
+}
@@ -0,0 +1,60 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.provider.base.EntityIdBaseSQLProvider;
+import org.apache.gravitino.storage.relational.po.EntityIdPO;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityIdSQLProviderFactory {
+
+  private static final Map<JDBCBackendType, EntityIdBaseSQLProvider> ENTITY_ID_SQL_PROVIDER_MAP =
+      ImmutableMap.of(
+          JDBCBackendType.MYSQL, new EntityIdMySQLProvider(),
+          JDBCBackendType.H2, new EntityIdH2Provider(),
+          JDBCBackendType.POSTGRESQL, new EntityIdPostgreSQLProvider());
+
+  public static EntityIdBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackendType jdbcBackendType = JDBCBackendType.fromString(databaseId);
+    return ENTITY_ID_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  static class EntityIdMySQLProvider extends EntityIdBaseSQLProvider {}
+
+  static class EntityIdH2Provider extends EntityIdBaseSQLProvider {}
+
+  static class EntityIdPostgreSQLProvider extends EntityIdBaseSQLProvider {}
+
+  public static String listEntityIdsByNames(
+      @Param("entityType") Entity.EntityType entityType, @Param("names") List<EntityIdPO> names) {
+    return getProvider().listEntityIdsByNames(entityType, names);
+  }
+}
@@ -125,4 +125,9 @@ public class FilesetMetaSQLProviderFactory {
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteFilesetMetasByLegacyTimeline(legacyTimeline, limit);
   }
+
+  public static String batchSelectFilesetByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("filesetNames") List<String> filesetNames) {
+    return getProvider().batchSelectFilesetByIdentifier(schemaId, filesetNames);
+  }
 }
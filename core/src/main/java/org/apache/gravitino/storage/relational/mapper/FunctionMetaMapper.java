@@ -162,4 +162,11 @@ public interface FunctionMetaMapper {
   Integer updateFunctionMeta(
       @Param("newFunctionMeta") FunctionPO newFunctionPO,
       @Param("oldFunctionMeta") FunctionPO oldFunctionPO);
+
+  @ResultMap("functionPOResultMap")
+  @SelectProvider(
+      type = FunctionMetaSQLProviderFactory.class,
+      method = "batchSelectFunctionByIdentifier")
+  List<FunctionPO> batchSelectFunctionByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("functionNames") List<String> functionNames);
 }
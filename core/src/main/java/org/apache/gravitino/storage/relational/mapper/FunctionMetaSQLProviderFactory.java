@@ -19,6 +19,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.FunctionMetaBaseSQLProvider;
@@ -111,4 +112,9 @@ public class FunctionMetaSQLProviderFactory {
       @Param("oldFunctionMeta") FunctionPO oldFunctionPO) {
     return getProvider().updateFunctionMeta(newFunctionPO, oldFunctionPO);
   }
+
+  public static String batchSelectFunctionByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("functionNames") List<String> functionNames) {
+    return getProvider().batchSelectFunctionByIdentifier(schemaId, functionNames);
+  }
 }
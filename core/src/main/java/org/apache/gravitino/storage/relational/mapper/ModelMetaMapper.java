@@ -108,4 +108,8 @@ public interface ModelMetaMapper {
   @UpdateProvider(type = ModelMetaSQLProviderFactory.class, method = "updateModelMeta")
   Integer updateModelMeta(
       @Param("newModelMeta") ModelPO newModelPO, @Param("oldModelMeta") ModelPO oldModelPO);
+
+  @SelectProvider(type = ModelMetaSQLProviderFactory.class, method = "batchSelectModelByIdentifier")
+  List<ModelPO> batchSelectModelByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames);
 }
@@ -127,4 +127,9 @@ public class ModelMetaSQLProviderFactory {
       @Param("newModelMeta") ModelPO newModelPO, @Param("oldModelMeta") ModelPO oldModelPO) {
     return getProvider().updateModelMeta(newModelPO, oldModelPO);
   }
+
+  public static String batchSelectModelByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames) {
+    return getProvider().batchSelectModelByIdentifier(schemaId, modelNames);
+  }
 }
@@ -93,4 +93,8 @@ public interface RoleMetaMapper {
       method = "deleteRoleMetasByLegacyTimeline")
   Integer deleteRoleMetasByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @SelectProvider(type = RoleMetaSQLProviderFactory.class, method = "batchSelectRoleByIdentifier")
+  List<RolePO> batchSelectRoleByIdentifier(
+      @Param("metalakeId") Long metalakeId, @Param("roleNames") List<String> roleNames);
 }
@@ -41,6 +41,14 @@ public interface TableMetaMapper {
   @SelectProvider(type = TableMetaSQLProviderFactory.class, method = "listTablePOsBySchemaId")
   List<TablePO> listTablePOsBySchemaId(@Param("schemaId") Long schemaId);
 
+  @SelectProvider(
+      type = TableMetaSQLProviderFactory.class,
+      method = "listTablePOsBySchemaIdAfterName")
+  List<TablePO> listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit);
+
   @SelectProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "listTablePOsByFullQualifiedName")
@@ -76,6 +84,9 @@ public interface TableMetaMapper {
   @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "insertTableMeta")
   void insertTableMeta(@Param("tableMeta") TablePO tablePO);
 
+  @InsertProvider(type = TableMetaSQLProviderFactory.class, method = "batchInsertTableMetas")
+  void batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs);
+
   @InsertProvider(
       type = TableMetaSQLProviderFactory.class,
       method = "insertTableMetaOnDuplicateKeyUpdate")
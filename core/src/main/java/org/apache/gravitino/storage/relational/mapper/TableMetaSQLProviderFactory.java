@@ -55,6 +55,13 @@ public class TableMetaSQLProviderFactory {
     return getProvider().listTablePOsBySchemaId(schemaId);
   }
 
+  public static String listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return getProvider().listTablePOsBySchemaIdAfterName(schemaId, afterName, limit);
+  }
+
   public static String listTablePOsByTableIds(@Param("tableIds") List<Long> tableIds) {
     return getProvider().listTablePOsByTableIds(tableIds);
   }
@@ -93,6 +100,10 @@ public class TableMetaSQLProviderFactory {
     return getProvider().insertTableMeta(tablePO);
   }
 
+  public static String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableMetas(tablePOs);
+  }
+
   public static String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return getProvider().insertTableMetaOnDuplicateKeyUpdate(tablePO);
   }
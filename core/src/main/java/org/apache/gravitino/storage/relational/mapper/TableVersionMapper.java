@@ -19,6 +19,7 @@
 
 package org.apache.gravitino.storage.relational.mapper;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.DeleteProvider;
 import org.apache.ibatis.annotations.InsertProvider;
@@ -31,6 +32,9 @@ public interface TableVersionMapper {
   @InsertProvider(type = TableVersionSQLProviderFactory.class, method = "insertTableVersion")
   void insertTableVersion(@Param("tablePO") TablePO tablePO);
 
+  @InsertProvider(type = TableVersionSQLProviderFactory.class, method = "batchInsertTableVersions")
+  void batchInsertTableVersions(@Param("tablePOs") List<TablePO> tablePOs);
+
   @InsertProvider(
       type = TableVersionSQLProviderFactory.class,
       method = "insertTableVersionOnDuplicateKeyUpdate")
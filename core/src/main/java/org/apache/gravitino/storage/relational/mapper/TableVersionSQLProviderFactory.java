@@ -20,6 +20,7 @@
 package org.apache.gravitino.storage.relational.mapper;
 
 import com.google.common.collect.ImmutableMap;
+import java.util.List;
 import java.util.Map;
 import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
 import org.apache.gravitino.storage.relational.mapper.provider.base.TableVersionBaseSQLProvider;
@@ -56,6 +57,10 @@ public class TableVersionSQLProviderFactory {
     return getProvider().insertTableVersion(tablePO);
   }
 
+  public static String batchInsertTableVersions(@Param("tablePOs") List<TablePO> tablePOs) {
+    return getProvider().batchInsertTableVersions(tablePOs);
+  }
+
   public static String insertTableVersionOnDuplicateKeyUpdate(@Param("tablePO") TablePO tablePO) {
     return getProvider().insertTableVersionOnDuplicateKeyUpdate(tablePO);
   }
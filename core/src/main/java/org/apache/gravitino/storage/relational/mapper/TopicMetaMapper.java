@@ -104,4 +104,8 @@ public interface TopicMetaMapper {
       method = "deleteTopicMetasByLegacyTimeline")
   Integer deleteTopicMetasByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @SelectProvider(type = TopicMetaSQLProviderFactory.class, method = "batchSelectTopicByIdentifier")
+  List<TopicPO> batchSelectTopicByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames);
 }
@@ -123,4 +123,9 @@ public class TopicMetaSQLProviderFactory {
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteTopicMetasByLegacyTimeline(legacyTimeline, limit);
   }
+
+  public static String batchSelectTopicByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames) {
+    return getProvider().batchSelectTopicByIdentifier(schemaId, topicNames);
+  }
 }
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import org.apache.gravitino.storage.relational.po.TreeLockLeasePO;
+import org.apache.ibatis.annotations.InsertProvider;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.SelectProvider;
+import org.apache.ibatis.annotations.UpdateProvider;
+
+/**
+ * A MyBatis Mapper for the distributed tree lock leases. A lease row is kept once created, a
+ * released lease only gets expired, so that the fencing token of a lock never goes backwards.
+ */
+public interface TreeLockLeaseMapper {
+  String TABLE_NAME = "tree_lock_lease";
+
+  @InsertProvider(type = TreeLockLeaseSQLProviderFactory.class, method = "insertLeaseIfAbsent")
+  void insertLeaseIfAbsent(@Param("lockKey") String lockKey);
+
+  @UpdateProvider(type = TreeLockLeaseSQLProviderFactory.class, method = "acquireExpiredLease")
+  Integer acquireExpiredLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("leaseExpireAt") long leaseExpireAt);
+
+  @SelectProvider(type = TreeLockLeaseSQLProviderFactory.class, method = "selectLease")
+  TreeLockLeasePO selectLease(@Param("lockKey") String lockKey);
+
+  @SelectProvider(
+      type = TreeLockLeaseSQLProviderFactory.class,
+      method = "selectFencingTokenForShare")
+  Long selectFencingTokenForShare(
+      @Param("lockKey") String lockKey, @Param("owner") String owner);
+
+  @UpdateProvider(type = TreeLockLeaseSQLProviderFactory.class, method = "renewLease")
+  Integer renewLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken,
+      @Param("leaseExpireAt") long leaseExpireAt);
+
+  @UpdateProvider(type = TreeLockLeaseSQLProviderFactory.class, method = "releaseLease")
+  Integer releaseLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken);
+}
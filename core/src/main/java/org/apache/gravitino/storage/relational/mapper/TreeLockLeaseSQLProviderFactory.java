@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.Map;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.gravitino.storage.relational.mapper.provider.base.TreeLockLeaseBaseSQLProvider;
+import org.apache.gravitino.storage.relational.mapper.provider.postgresql.TreeLockLeasePostgreSQLProvider;
+import org.apache.gravitino.storage.relational.session.SqlSessionFactoryHelper;
+import org.apache.ibatis.annotations.Param;
+
+public class TreeLockLeaseSQLProviderFactory {
+
+  private static final Map<JDBCBackendType, TreeLockLeaseBaseSQLProvider>
+      TREE_LOCK_LEASE_SQL_PROVIDER_MAP =
+          ImmutableMap.of(
+              JDBCBackendType.MYSQL, new TreeLockLeaseMySQLProvider(),
+              JDBCBackendType.H2, new TreeLockLeaseH2Provider(),
+              JDBCBackendType.POSTGRESQL, new TreeLockLeasePostgreSQLProvider());
+
+  public static TreeLockLeaseBaseSQLProvider getProvider() {
+    String databaseId =
+        SqlSessionFactoryHelper.getInstance()
+            .getSqlSessionFactory()
+            .getConfiguration()
+            .getDatabaseId();
+
+    JDBCBackendType jdbcBackendType = JDBCBackendType.fromString(databaseId);
+    return TREE_LOCK_LEASE_SQL_PROVIDER_MAP.get(jdbcBackendType);
+  }
+
+  static class TreeLockLeaseMySQLProvider extends TreeLockLeaseBaseSQLProvider {}
+
+  static class TreeLockLeaseH2Provider extends TreeLockLeaseBaseSQLProvider {
+    // H2 has no shared row locks. The embedded database is never shared by several servers, so
+    // no other server can take a lease over while the mutation runs.
+    @Override
+    public String selectFencingTokenForShare(
+        @Param("lockKey") String lockKey, @Param("owner") String owner) {
+      return "SELECT fencing_token FROM "
+          + TreeLockLeaseMapper.TABLE_NAME
+          + " WHERE lock_key = #{lockKey} AND owner = #{owner}";
+    }
+  }
+
+  public static String insertLeaseIfAbsent(@Param("lockKey") String lockKey) {
+    return getProvider().insertLeaseIfAbsent(lockKey);
+  }
+
+  public static String acquireExpiredLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return getProvider().acquireExpiredLease(lockKey, owner, now, leaseExpireAt);
+  }
+
+  public static String selectLease(@Param("lockKey") String lockKey) {
+    return getProvider().selectLease(lockKey);
+  }
+
+  public static String selectFencingTokenForShare(
+      @Param("lockKey") String lockKey, @Param("owner") String owner) {
+    return getProvider().selectFencingTokenForShare(lockKey, owner);
+  }
+
+  public static String renewLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return getProvider().renewLease(lockKey, owner, fencingToken, leaseExpireAt);
+  }
+
+  public static String releaseLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken) {
+    return getProvider().releaseLease(lockKey, owner, fencingToken);
+  }
+}
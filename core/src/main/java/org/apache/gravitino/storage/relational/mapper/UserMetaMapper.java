@@ -88,4 +88,8 @@ public interface UserMetaMapper {
       method = "deleteUserMetasByLegacyTimeline")
   Integer deleteUserMetasByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @SelectProvider(type = UserMetaSQLProviderFactory.class, method = "batchSelectUserByIdentifier")
+  List<ExtendedUserPO> batchSelectUserByIdentifier(
+      @Param("metalakeId") Long metalakeId, @Param("userNames") List<String> userNames);
 }
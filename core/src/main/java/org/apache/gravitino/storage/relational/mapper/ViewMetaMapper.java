@@ -102,4 +102,8 @@ public interface ViewMetaMapper {
       method = "deleteViewMetasByLegacyTimeline")
   Integer deleteViewMetasByLegacyTimeline(
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit);
+
+  @SelectProvider(type = ViewMetaSQLProviderFactory.class, method = "batchSelectViewByIdentifier")
+  List<ViewPO> batchSelectViewByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("viewNames") List<String> viewNames);
 }
@@ -118,4 +118,9 @@ public class ViewMetaSQLProviderFactory {
       @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
     return getProvider().deleteViewMetasByLegacyTimeline(legacyTimeline, limit);
   }
+
+  public static String batchSelectViewByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("viewNames") List<String> viewNames) {
+    return getProvider().batchSelectViewByIdentifier(schemaId, viewNames);
+  }
 }
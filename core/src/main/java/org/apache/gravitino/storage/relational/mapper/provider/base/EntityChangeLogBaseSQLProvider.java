@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper.TABLE_NAME;
+
+import java.util.List;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityChangeLogBaseSQLProvider {
+
+  public String batchInsertChangeLogs(@Param("changeLogs") List<EntityChangeLogPO> changeLogs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (metalake_name, entity_type, identifier, operate_type, created_at)"
+        + " VALUES "
+        + "<foreach collection='changeLogs' item='item' separator=','>"
+        + "(#{item.metalakeName}, #{item.entityType}, #{item.identifier},"
+        + " #{item.operateType}, #{item.createdAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
+  public String listChangeLogsAfterSequence(
+      @Param("metalakeName") String metalakeName,
+      @Param("afterSequence") long afterSequence,
+      @Param("limit") int limit) {
+    return "SELECT id, metalake_name AS metalakeName, entity_type AS entityType,"
+        + " identifier, operate_type AS operateType, created_at AS createdAt FROM "
+        + TABLE_NAME
+        + " WHERE metalake_name = #{metalakeName} AND id > #{afterSequence}"
+        + " ORDER BY id LIMIT #{limit}";
+  }
+
+  public String listAllChangeLogsAfterSequence(
+      @Param("afterSequence") long afterSequence, @Param("limit") int limit) {
+    return "SELECT id, metalake_name AS metalakeName, entity_type AS entityType,"
+        + " identifier, operate_type AS operateType, created_at AS createdAt FROM "
+        + TABLE_NAME
+        + " WHERE id > #{afterSequence}"
+        + " ORDER BY id LIMIT #{limit}";
+  }
+
+  public String selectMaxSequence() {
+    return "SELECT COALESCE(MAX(id), 0) FROM " + TABLE_NAME;
+  }
+
+  public String deleteChangeLogsByLegacyTimeline(
+      @Param("legacyTimeline") Long legacyTimeline, @Param("limit") int limit) {
+    return "DELETE FROM " + TABLE_NAME + " WHERE created_at < #{legacyTimeline} LIMIT #{limit}";
+  }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.FilesetMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.GroupMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.JobTemplateMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ModelMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.PolicyMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.RoleMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
+import org.apache.gravitino.storage.relational.mapper.TableMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TagMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.UserMetaMapper;
+import org.apache.gravitino.storage.relational.mapper.ViewMetaMapper;
+import org.apache.gravitino.storage.relational.po.EntityIdPO;
+import org.apache.ibatis.annotations.Param;
+
+public class EntityIdBaseSQLProvider {
+
+  // The table and the column prefix of the leaf entity, the levels above it are joined from the
+  // metalake, catalog and schema tables.
+  private static final Map<Entity.EntityType, String[]> METALAKE_SCOPED_ENTITIES =
+      ImmutableMap.<Entity.EntityType, String[]>builder()
+          .put(Entity.EntityType.ROLE, new String[] {RoleMetaMapper.ROLE_TABLE_NAME, "role"})
+          .put(Entity.EntityType.USER, new String[] {UserMetaMapper.USER_TABLE_NAME, "user"})
+          .put(Entity.EntityType.GROUP, new String[] {GroupMetaMapper.GROUP_TABLE_NAME, "group"})
+          .put(Entity.EntityType.TAG, new String[] {TagMetaMapper.TAG_TABLE_NAME, "tag"})
+          .put(
+              Entity.EntityType.POLICY,
+              new String[] {PolicyMetaMapper.POLICY_META_TABLE_NAME, "policy"})
+          .put(
+              Entity.EntityType.JOB_TEMPLATE,
+              new String[] {JobTemplateMetaMapper.TABLE_NAME, "job_template"})
+          .build();
+
+  private static final Map<Entity.EntityType, String[]> SCHEMA_SCOPED_ENTITIES =
+      ImmutableMap.<Entity.EntityType, String[]>builder()
+          .put(Entity.EntityType.TABLE, new String[] {TableMetaMapper.TABLE_NAME, "table"})
+          .put(
+              Entity.EntityType.FILESET,
+              new String[] {FilesetMetaMapper.META_TABLE_NAME, "fileset"})
+          .put(Entity.EntityType.TOPIC, new String[] {TopicMetaMapper.TABLE_NAME, "topic"})
+          .put(Entity.EntityType.MODEL, new String[] {ModelMetaMapper.TABLE_NAME, "model"})
+          .put(Entity.EntityType.VIEW, new String[] {ViewMetaMapper.TABLE_NAME, "view"})
+          .build();
+
+  public String listEntityIdsByNames(
+      @Param("entityType") Entity.EntityType entityType, @Param("names") List<EntityIdPO> names) {
+    StringBuilder select =
+        new StringBuilder("SELECT mm.metalake_id AS metalakeId, mm.metalake_name AS metalakeName");
+    StringBuilder from = new StringBuilder(" FROM " + MetalakeMetaMapper.TABLE_NAME + " mm");
+    StringBuilder match = new StringBuilder("(mm.metalake_name = #{item.metalakeName}");
+
+    if (entityType == Entity.EntityType.METALAKE) {
+      // The metalake itself is the entity, nothing more to join.
+
+    } else if (METALAKE_SCOPED_ENTITIES.containsKey(entityType)) {
+      String[] leaf = METALAKE_SCOPED_ENTITIES.get(entityType);
+      joinLeaf(select, from, match, leaf[0], leaf[1], "e.metalake_id = mm.metalake_id");
+
+    } else {
+      select.append(", cm.catalog_id AS catalogId, cm.catalog_name AS catalogName");
+      from.append(" INNER JOIN ")
+          .append(CatalogMetaMapper.TABLE_NAME)
+          .append(" cm ON cm.metalake_id = mm.metalake_id AND cm.deleted_at = 0");
+      match.append(" AND cm.catalog_name = #{item.catalogName}");
+
+      if (entityType != Entity.EntityType.CATALOG) {
+        select.append(", sm.schema_id AS schemaId, sm.schema_name AS schemaName");
+        from.append(" INNER JOIN ")
+            .append(SchemaMetaMapper.TABLE_NAME)
+            .append(" sm ON sm.catalog_id = cm.catalog_id AND sm.deleted_at = 0");
+        match.append(" AND sm.schema_name = #{item.schemaName}");
+      }
+
+      if (entityType == Entity.EntityType.COLUMN) {
+        select.append(", tm.table_id AS tableId, tm.table_name AS tableName");
+        from.append(" INNER JOIN ")
+            .append(TableMetaMapper.TABLE_NAME)
+            .append(" tm ON tm.schema_id = sm.schema_id AND tm.deleted_at = 0");
+        match.append(" AND tm.table_name = #{item.tableName}");
+        // Only the latest version of a column tells if it is still alive, the same rule as
+        // TableColumnBaseSQLProvider#selectColumnIdByTableIdAndName.
+        joinLeaf(
+            select,
+            from,
+            match,
+            TableColumnMapper.COLUMN_TABLE_NAME,
+            "column",
+            "e.table_id = tm.table_id AND e.column_op_type != 3 AND e.table_version ="
+                + " (SELECT MAX(c.table_version) FROM "
+                + TableColumnMapper.COLUMN_TABLE_NAME
+                + " c WHERE c.table_id = e.table_id AND c.column_name = e.column_name"
+                + " AND c.deleted_at = 0)");
+
+      } else if (SCHEMA_SCOPED_ENTITIES.containsKey(entityType)) {
+        String[] leaf = SCHEMA_SCOPED_ENTITIES.get(entityType);
+        joinLeaf(select, from, match, leaf[0], leaf[1], "e.schema_id = sm.schema_id");
+
+      } else if (entityType != Entity.EntityType.CATALOG
+          && entityType != Entity.EntityType.SCHEMA) {
+        throw new IllegalArgumentException("Unsupported entity type: " + entityType);
+      }
+    }
+
+    return "<script>"
+        + select
+        + from
+        + " WHERE mm.deleted_at = 0 AND ("
+        + "<foreach collection='names' item='item' separator=' OR '>"
+        + match
+        + ")</foreach>)"
+        + "</script>";
+  }
+
+  private static void joinLeaf(
+      StringBuilder select,
+      StringBuilder from,
+      StringBuilder match,
+      String tableName,
+      String columnPrefix,
+      String joinCondition) {
+    select
+        .append(", e.")
+        .append(columnPrefix)
+        .append("_id AS entityId, e.")
+        .append(columnPrefix)
+        .append("_name AS entityName");
+    from.append(" INNER JOIN ")
+        .append(tableName)
+        .append(" e ON ")
+        .append(joinCondition)
+        .append(" AND e.deleted_at = 0");
+    match.append(" AND e.").append(columnPrefix).append("_name = #{item.entityName}");
+  }
+}
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 import static org.apache.gravitino.storage.relational.mapper.FunctionMetaMapper.TABLE_NAME;
 import static org.apache.gravitino.storage.relational.mapper.FunctionMetaMapper.VERSION_TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.mapper.CatalogMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.MetalakeMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.SchemaMetaMapper;
@@ -284,4 +285,29 @@ public class FunctionMetaBaseSQLProvider {
         + " AND audit_info = #{oldFunctionMeta.auditInfo}"
         + " AND deleted_at = 0";
   }
+
+  public String batchSelectFunctionByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("functionNames") List<String> functionNames) {
+    return "<script>"
+        + "SELECT fm.function_id, fm.function_name, fm.metalake_id, fm.catalog_id, fm.schema_id,"
+        + " fm.function_type, fm.`deterministic`,"
+        + " fm.function_current_version, fm.function_latest_version,"
+        + " fm.audit_info, fm.deleted_at,"
+        + " vi.id, vi.metalake_id as version_metalake_id, vi.catalog_id as version_catalog_id,"
+        + " vi.schema_id as version_schema_id, vi.function_id as version_function_id,"
+        + " vi.version, vi.function_comment, vi.definitions,"
+        + " vi.audit_info as version_audit_info, vi.deleted_at as version_deleted_at"
+        + " FROM "
+        + TABLE_NAME
+        + " fm INNER JOIN "
+        + VERSION_TABLE_NAME
+        + " vi ON fm.function_id = vi.function_id AND fm.function_current_version = vi.version"
+        + " WHERE fm.schema_id = #{schemaId} AND fm.function_name IN"
+        + " <foreach collection='functionNames' item='functionName' open='(' separator=','"
+        + " close=')'>"
+        + "#{functionName}"
+        + "</foreach>"
+        + " AND fm.deleted_at = 0 AND vi.deleted_at = 0"
+        + "</script>";
+  }
 }
@@ -270,4 +270,21 @@ public class ModelMetaBaseSQLProvider {
         + " AND audit_info = #{oldModelMeta.auditInfo}"
         + " AND deleted_at = 0";
   }
+
+  public String batchSelectModelByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("modelNames") List<String> modelNames) {
+    return "<script>"
+        + "SELECT model_id AS modelId, model_name AS modelName, metalake_id AS metalakeId,"
+        + " catalog_id AS catalogId, schema_id AS schemaId, model_comment AS modelComment,"
+        + " model_properties AS modelProperties, model_latest_version AS"
+        + " modelLatestVersion, audit_info AS auditInfo, deleted_at AS deletedAt"
+        + " FROM "
+        + ModelMetaMapper.TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND model_name IN"
+        + " <foreach collection='modelNames' item='modelName' open='(' separator=',' close=')'>"
+        + "#{modelName}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
 }
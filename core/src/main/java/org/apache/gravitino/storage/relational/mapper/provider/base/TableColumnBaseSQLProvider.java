@@ -27,6 +27,8 @@ public class TableColumnBaseSQLProvider {
 
   public String listColumnPOsByTableIdAndVersion(
       @Param("tableId") Long tableId, @Param("tableVersion") Long tableVersion) {
+    // The latest snapshot at or before the version holds every live column, so only the rows
+    // written since then are scanned to find the latest row of each column.
     return "SELECT t1.column_id AS columnId, t1.column_name AS columnName,"
         + " t1.column_position AS columnPosition,"
         + " t1.metalake_id AS metalakeId, t1.catalog_id AS catalogId,"
@@ -43,6 +45,12 @@ public class TableColumnBaseSQLProvider {
         + " FROM "
         + TableColumnMapper.COLUMN_TABLE_NAME
         + " WHERE table_id = #{tableId} AND table_version <= #{tableVersion} AND deleted_at = 0"
+        + " AND table_version >= ("
+        + " SELECT COALESCE(MAX(table_version), 0) FROM "
+        + TableColumnMapper.COLUMN_TABLE_NAME
+        + " WHERE table_id = #{tableId} AND column_op_type = "
+        + ColumnPO.ColumnOpType.SNAPSHOT.value()
+        + " AND table_version <= #{tableVersion} AND deleted_at = 0)"
         + " GROUP BY column_id) t2"
         + " ON t1.column_id = t2.column_id AND t1.table_version = t2.max_table_version"
         + " AND t1.table_id = #{tableId}";
@@ -50,6 +50,31 @@ public class TableMetaBaseSQLProvider {
         + " WHERE tm.schema_id = #{schemaId} AND tm.deleted_at = 0";
   }
 
+  public String listTablePOsBySchemaIdAfterName(
+      @Param("schemaId") Long schemaId,
+      @Param("afterName") String afterName,
+      @Param("limit") int limit) {
+    return "SELECT tm.table_id as tableId, tm.table_name as tableName,"
+        + " tm.metalake_id as metalakeId, tm.catalog_id as catalogId,"
+        + " tm.schema_id as schemaId, tm.audit_info as auditInfo,"
+        + " tm.current_version as currentVersion, tm.last_version as lastVersion,"
+        + " tm.deleted_at as deletedAt,"
+        + " tv.format as format, "
+        + " tv.properties as properties,"
+        + " tv.partitioning as partitions, tv.sort_orders as sortOrders,"
+        + " tv.distribution as distribution, tv.indexes as indexes,"
+        + " tv.comment as comment"
+        + " FROM "
+        + TABLE_NAME
+        + " tm LEFT JOIN "
+        + TableVersionMapper.TABLE_NAME
+        + " tv ON tm.table_id = tv.table_id AND tm.current_version = tv.version"
+        + " AND tv.deleted_at = 0"
+        + " WHERE tm.schema_id = #{schemaId} AND tm.deleted_at = 0"
+        + (afterName == null ? "" : " AND tm.table_name > #{afterName}")
+        + " ORDER BY tm.table_name LIMIT #{limit}";
+  }
+
   public String listTablePOsByTableIds(List<Long> tableIds) {
     return "<script>"
         + "SELECT tm.table_id as tableId, tm.table_name as tableName,"
@@ -197,6 +222,28 @@ public class TableMetaBaseSQLProvider {
         + " )";
   }
 
+  public String batchInsertTableMetas(@Param("tableMetas") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, table_name, metalake_id,"
+        + " catalog_id, schema_id, audit_info,"
+        + " current_version, last_version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tableMetas' item='item' separator=','>"
+        + " (#{item.tableId},"
+        + " #{item.tableName},"
+        + " #{item.metalakeId},"
+        + " #{item.catalogId},"
+        + " #{item.schemaId},"
+        + " #{item.auditInfo},"
+        + " #{item.currentVersion},"
+        + " #{item.lastVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
   public String insertTableMetaOnDuplicateKeyUpdate(@Param("tableMeta") TablePO tablePO) {
     return "INSERT INTO "
         + TABLE_NAME
@@ -21,6 +21,7 @@ package org.apache.gravitino.storage.relational.mapper.provider.base;
 
 import static org.apache.gravitino.storage.relational.mapper.TableVersionMapper.TABLE_NAME;
 
+import java.util.List;
 import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.ibatis.annotations.Param;
 
@@ -46,6 +47,29 @@ public class TableVersionBaseSQLProvider {
         + " )";
   }
 
+  public String batchInsertTableVersions(@Param("tablePOs") List<TablePO> tablePOs) {
+    return "<script>"
+        + "INSERT INTO "
+        + TABLE_NAME
+        + " (table_id, format, properties, partitioning,"
+        + " distribution, sort_orders, indexes, comment,"
+        + " version, deleted_at)"
+        + " VALUES "
+        + "<foreach collection='tablePOs' item='item' separator=','>"
+        + " (#{item.tableId},"
+        + " #{item.format},"
+        + " #{item.properties},"
+        + " #{item.partitions},"
+        + " #{item.distribution},"
+        + " #{item.sortOrders},"
+        + " #{item.indexes},"
+        + " #{item.comment},"
+        + " #{item.currentVersion},"
+        + " #{item.deletedAt})"
+        + "</foreach>"
+        + "</script>";
+  }
+
   public String insertTableVersionOnDuplicateKeyUpdate(@Param("tablePO") TablePO tablePO) {
     return "INSERT INTO "
         + TABLE_NAME
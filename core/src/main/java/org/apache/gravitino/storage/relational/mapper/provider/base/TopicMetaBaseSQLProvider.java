@@ -293,4 +293,22 @@ public class TopicMetaBaseSQLProvider {
         + TABLE_NAME
         + " WHERE deleted_at != 0 AND deleted_at < #{legacyTimeline} LIMIT #{limit}";
   }
+
+  public String batchSelectTopicByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("topicNames") List<String> topicNames) {
+    return "<script>"
+        + "SELECT topic_id as topicId, topic_name as topicName, metalake_id as metalakeId,"
+        + " catalog_id as catalogId, schema_id as schemaId,"
+        + " comment as comment, properties as properties, audit_info as auditInfo,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND topic_name IN"
+        + " <foreach collection='topicNames' item='topicName' open='(' separator=',' close=')'>"
+        + "#{topicName}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
 }
@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.base;
+
+import static org.apache.gravitino.storage.relational.mapper.TreeLockLeaseMapper.TABLE_NAME;
+
+import org.apache.ibatis.annotations.Param;
+
+public class TreeLockLeaseBaseSQLProvider {
+
+  public String insertLeaseIfAbsent(@Param("lockKey") String lockKey) {
+    return "INSERT INTO "
+        + TABLE_NAME
+        + " (lock_key, owner, fencing_token, lease_expire_at)"
+        + " VALUES (#{lockKey}, '', 0, 0)"
+        + " ON DUPLICATE KEY UPDATE fencing_token = fencing_token";
+  }
+
+  public String acquireExpiredLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("now") long now,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return "UPDATE "
+        + TABLE_NAME
+        + " SET owner = #{owner}, fencing_token = fencing_token + 1,"
+        + " lease_expire_at = #{leaseExpireAt}"
+        + " WHERE lock_key = #{lockKey} AND lease_expire_at < #{now}";
+  }
+
+  public String selectLease(@Param("lockKey") String lockKey) {
+    return "SELECT lock_key AS lockKey, owner, fencing_token AS fencingToken,"
+        + " lease_expire_at AS leaseExpireAt FROM "
+        + TABLE_NAME
+        + " WHERE lock_key = #{lockKey}";
+  }
+
+  public String selectFencingTokenForShare(
+      @Param("lockKey") String lockKey, @Param("owner") String owner) {
+    return "SELECT fencing_token FROM "
+        + TABLE_NAME
+        + " WHERE lock_key = #{lockKey} AND owner = #{owner} LOCK IN SHARE MODE";
+  }
+
+  public String renewLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken,
+      @Param("leaseExpireAt") long leaseExpireAt) {
+    return "UPDATE "
+        + TABLE_NAME
+        + " SET lease_expire_at = #{leaseExpireAt}"
+        + " WHERE lock_key = #{lockKey} AND owner = #{owner}"
+        + " AND fencing_token = #{fencingToken}";
+  }
+
+  public String releaseLease(
+      @Param("lockKey") String lockKey,
+      @Param("owner") String owner,
+      @Param("fencingToken") long fencingToken) {
+    return "UPDATE "
+        + TABLE_NAME
+        + " SET lease_expire_at = 0"
+        + " WHERE lock_key = #{lockKey} AND owner = #{owner}"
+        + " AND fencing_token = #{fencingToken}";
+  }
+}
@@ -248,4 +248,22 @@ public class ViewMetaBaseSQLProvider {
             SchemaMetaMapper.TABLE_NAME,
             TABLE_NAME);
   }
+
+  public String batchSelectViewByIdentifier(
+      @Param("schemaId") Long schemaId, @Param("viewNames") List<String> viewNames) {
+    return "<script>"
+        + "SELECT view_id as viewId, view_name as viewName,"
+        + " metalake_id as metalakeId, catalog_id as catalogId,"
+        + " schema_id as schemaId,"
+        + " current_version as currentVersion, last_version as lastVersion,"
+        + " deleted_at as deletedAt"
+        + " FROM "
+        + TABLE_NAME
+        + " WHERE schema_id = #{schemaId} AND view_name IN"
+        + " <foreach collection='viewNames' item='viewName' open='(' separator=',' close=')'>"
+        + "#{viewName}"
+        + "</foreach>"
+        + " AND deleted_at = 0"
+        + "</script>";
+  }
 }
@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.mapper.provider.postgresql;
+
+import static org.apache.gravitino.storage.relational.mapper.TreeLockLeaseMapper.TABLE_NAME;
+
+import org.apache.gravitino.storage.relational.mapper.provider.base.TreeLockLeaseBaseSQLProvider;
+import org.apache.ibatis.annotations.Param;
+
+public class TreeLockLeasePostgreSQLProvider extends TreeLockLeaseBaseSQLProvider {
+
+  @Override
+  public String insertLeaseIfAbsent(@Param("lockKey") String lockKey) {
+    return "INSERT INTO "
+        + TABLE_NAME
+        + " (lock_key, owner, fencing_token, lease_expire_at)"
+        + " VALUES (#{lockKey}, '', 0, 0)"
+        + " ON CONFLICT (lock_key) DO NOTHING";
+  }
+
+  @Override
+  public String selectFencingTokenForShare(
+      @Param("lockKey") String lockKey, @Param("owner") String owner) {
+    return "SELECT fencing_token FROM "
+        + TABLE_NAME
+        + " WHERE lock_key = #{lockKey} AND owner = #{owner} FOR SHARE";
+  }
+}
@@ -30,7 +30,10 @@ public class ColumnPO {
   public enum ColumnOpType {
     CREATE((byte) 1),
     UPDATE((byte) 2),
-    DELETE((byte) 3);
+    DELETE((byte) 3),
+    // A full copy of a live column, written for every column of the table at a snapshot version.
+    // The rows before the latest snapshot are not needed to rebuild the columns of a later version.
+    SNAPSHOT((byte) 4);
 
     private final byte value;
 
@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of an entity change log entry. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class EntityChangeLogPO {
+
+  private Long id;
+  private String metalakeName;
+  private String entityType;
+  private String identifier;
+  private String operateType;
+  private Long createdAt;
+
+  private EntityChangeLogPO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final EntityChangeLogPO changeLogPO;
+
+    private Builder() {
+      this.changeLogPO = new EntityChangeLogPO();
+    }
+
+    public Builder withId(Long id) {
+      changeLogPO.id = id;
+      return this;
+    }
+
+    public Builder withMetalakeName(String metalakeName) {
+      changeLogPO.metalakeName = metalakeName;
+      return this;
+    }
+
+    public Builder withEntityType(String entityType) {
+      changeLogPO.entityType = entityType;
+      return this;
+    }
+
+    public Builder withIdentifier(String identifier) {
+      changeLogPO.identifier = identifier;
+      return this;
+    }
+
+    public Builder withOperateType(String operateType) {
+      changeLogPO.operateType = operateType;
+      return this;
+    }
+
+    public Builder withCreatedAt(Long createdAt) {
+      changeLogPO.createdAt = createdAt;
+      return this;
+    }
+
+    public EntityChangeLogPO build() {
+      validate();
+      return changeLogPO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.metalakeName), "Metalake name is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.entityType), "Entity type is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.identifier), "Identifier is required");
+      Preconditions.checkArgument(
+          StringUtils.isNotBlank(changeLogPO.operateType), "Operate type is required");
+      Preconditions.checkArgument(changeLogPO.createdAt != null, "Created at is required");
+    }
+  }
+}
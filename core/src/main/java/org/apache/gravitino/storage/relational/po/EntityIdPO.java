@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * The names and ids of an entity and of all its parents, for example the metalake, catalog and
+ * schema of a table. It is both the lookup key and the result of resolving names to ids in one
+ * statement. The table name and id are only set for columns, and the levels above the entity type
+ * are left null.
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class EntityIdPO {
+
+  private String metalakeName;
+  private String catalogName;
+  private String schemaName;
+  private String tableName;
+  private String entityName;
+  private Long metalakeId;
+  private Long catalogId;
+  private Long schemaId;
+  private Long tableId;
+  private Long entityId;
+
+  private EntityIdPO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final EntityIdPO entityIdPO;
+
+    private Builder() {
+      this.entityIdPO = new EntityIdPO();
+    }
+
+    public Builder withMetalakeName(String metalakeName) {
+      entityIdPO.metalakeName = metalakeName;
+      return this;
+    }
+
+    public Builder withCatalogName(String catalogName) {
+      entityIdPO.catalogName = catalogName;
+      return this;
+    }
+
+    public Builder withSchemaName(String schemaName) {
+      entityIdPO.schemaName = schemaName;
+      return this;
+    }
+
+    public Builder withTableName(String tableName) {
+      entityIdPO.tableName = tableName;
+      return this;
+    }
+
+    public Builder withEntityName(String entityName) {
+      entityIdPO.entityName = entityName;
+      return this;
+    }
+
+    public EntityIdPO build() {
+      return entityIdPO;
+    }
+  }
+}
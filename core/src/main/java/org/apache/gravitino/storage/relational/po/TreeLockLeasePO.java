@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.po;
+
+import com.google.common.base.Preconditions;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+import org.apache.commons.lang3.StringUtils;
+
+/** This class is the persistent object of a distributed tree lock lease. */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class TreeLockLeasePO {
+
+  private String lockKey;
+  private String owner;
+  private Long fencingToken;
+  private Long leaseExpireAt;
+
+  private TreeLockLeasePO() {}
+
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  public static class Builder {
+    private final TreeLockLeasePO leasePO;
+
+    private Builder() {
+      this.leasePO = new TreeLockLeasePO();
+    }
+
+    public Builder withLockKey(String lockKey) {
+      leasePO.lockKey = lockKey;
+      return this;
+    }
+
+    public Builder withOwner(String owner) {
+      leasePO.owner = owner;
+      return this;
+    }
+
+    public Builder withFencingToken(Long fencingToken) {
+      leasePO.fencingToken = fencingToken;
+      return this;
+    }
+
+    public Builder withLeaseExpireAt(Long leaseExpireAt) {
+      leasePO.leaseExpireAt = leaseExpireAt;
+      return this;
+    }
+
+    public TreeLockLeasePO build() {
+      validate();
+      return leasePO;
+    }
+
+    private void validate() {
+      Preconditions.checkArgument(StringUtils.isNotBlank(leasePO.lockKey), "Lock key is required");
+      Preconditions.checkArgument(leasePO.owner != null, "Owner is required");
+      Preconditions.checkArgument(leasePO.fencingToken != null, "Fencing token is required");
+      Preconditions.checkArgument(leasePO.leaseExpireAt != null, "Lease expire at is required");
+    }
+  }
+}
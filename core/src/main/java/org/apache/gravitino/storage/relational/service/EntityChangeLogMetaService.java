@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.json.JsonUtils;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
+import org.apache.gravitino.metrics.Monitored;
+import org.apache.gravitino.storage.relational.mapper.EntityChangeLogMapper;
+import org.apache.gravitino.storage.relational.po.EntityChangeLogPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the entity change log. Entries are appended without a commit, so they
+ * become visible together with the entity mutation of the enclosing transaction.
+ *
+ * <p>The sequence number is the auto increment id of the log table. Ids are allocated when a row
+ * is inserted but become visible when its transaction commits, so under concurrent writes an entry
+ * can show up after an entry with a greater sequence has already been read. {@link
+ * #listChangeLogs} therefore stops at the first entry younger than {@code commitLagMs}, so a reader
+ * paging by sequence only passes entries whose transactions have had time to commit.
+ */
+public class EntityChangeLogMetaService {
+  private static final EntityChangeLogMetaService INSTANCE = new EntityChangeLogMetaService();
+
+  private static final TypeReference<String[]> LEVELS_TYPE = new TypeReference<String[]>() {};
+
+  private volatile long commitLagMs =
+      Configs.ENTITY_RELATIONAL_CHANGE_LOG_COMMIT_LAG_MS.getDefaultValue();
+
+  public static EntityChangeLogMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityChangeLogMetaService() {}
+
+  /**
+   * Set the age an entry must reach before {@link #listChangeLogs} returns it.
+   *
+   * @param commitLagMs The commit lag in milliseconds, must not be negative.
+   */
+  public void setCommitLagMs(long commitLagMs) {
+    Preconditions.checkArgument(
+        commitLagMs >= 0, "commitLagMs must not be negative, but got %s", commitLagMs);
+    this.commitLagMs = commitLagMs;
+  }
+
+  /**
+   * Appends one entry per identifier to the change log, in the order of the identifiers. This does
+   * not commit, so it must be called within the transaction of the mutation it records.
+   *
+   * @param entityType The type of the changed entities.
+   * @param identifiers The identifiers of the changed entities.
+   * @param operation The operation applied to the entities.
+   */
+  public void insertChangeLogs(
+      Entity.EntityType entityType,
+      List<NameIdentifier> identifiers,
+      ChangeLogEntry.Operation operation) {
+    long changeTime = System.currentTimeMillis();
+    List<EntityChangeLogPO> changeLogPOs =
+        identifiers.stream()
+            .map(
+                ident ->
+                    EntityChangeLogPO.builder()
+                        .withMetalakeName(metalakeName(ident))
+                        .withEntityType(entityType.name())
+                        .withIdentifier(serializeIdentifier(ident))
+                        .withOperateType(operation.name())
+                        .withCreatedAt(changeTime)
+                        .build())
+            .collect(Collectors.toList());
+
+    SessionUtils.doBatchWithoutCommit(
+        EntityChangeLogMapper.class,
+        changeLogPOs,
+        EntityChangeLogMapper::batchInsertChangeLogs);
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listChangeLogs")
+  public List<EntityChangeLogEntry> listChangeLogs(
+      String metalakeName, long afterSequence, int limit) {
+    List<EntityChangeLogPO> changeLogPOs =
+        SessionUtils.getReadOnly(
+            EntityChangeLogMapper.class,
+            mapper -> mapper.listChangeLogsAfterSequence(metalakeName, afterSequence, limit));
+
+    // Stop before the first recent entry. An entry with a smaller sequence may still be in an
+    // uncommitted transaction, and the caller would page past it.
+    long visibleBefore = System.currentTimeMillis() - commitLagMs;
+    int end = 0;
+    while (end < changeLogPOs.size() && changeLogPOs.get(end).getCreatedAt() <= visibleBefore) {
+      end++;
+    }
+    return toChangeLogEntries(changeLogPOs.subList(0, end));
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listAllChangeLogs")
+  public List<EntityChangeLogEntry> listAllChangeLogs(long afterSequence, int limit) {
+    List<EntityChangeLogPO> changeLogPOs =
+        SessionUtils.getReadOnly(
+            EntityChangeLogMapper.class,
+            mapper -> mapper.listAllChangeLogsAfterSequence(afterSequence, limit));
+
+    return toChangeLogEntries(changeLogPOs);
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "getMaxChangeLogSequence")
+  public long getMaxChangeLogSequence() {
+    return SessionUtils.getReadOnly(
+        EntityChangeLogMapper.class, EntityChangeLogMapper::selectMaxSequence);
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "deleteChangeLogsByLegacyTimeline")
+  public int deleteChangeLogsByLegacyTimeline(long legacyTimeline, int limit) {
+    return SessionUtils.doWithCommitAndFetchResult(
+        EntityChangeLogMapper.class,
+        mapper -> mapper.deleteChangeLogsByLegacyTimeline(legacyTimeline, limit));
+  }
+
+  private static List<EntityChangeLogEntry> toChangeLogEntries(
+      List<EntityChangeLogPO> changeLogPOs) {
+    return changeLogPOs.stream()
+        .map(
+            po ->
+                EntityChangeLogEntry.of(
+                    po.getId(),
+                    Entity.EntityType.valueOf(po.getEntityType()),
+                    deserializeIdentifier(po.getIdentifier()),
+                    ChangeLogEntry.Operation.valueOf(po.getOperateType()),
+                    po.getCreatedAt()))
+        .collect(Collectors.toList());
+  }
+
+  private static String metalakeName(NameIdentifier ident) {
+    // A metalake identifier has an empty namespace, all the others start with the metalake.
+    return ident.hasNamespace() ? ident.namespace().level(0) : ident.name();
+  }
+
+  // The levels are stored as a JSON array, so names containing dots round-trip unchanged.
+  private static String serializeIdentifier(NameIdentifier ident) {
+    try {
+      return JsonUtils.anyFieldMapper()
+          .writeValueAsString(ArrayUtils.add(ident.namespace().levels(), ident.name()));
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to serialize json object:", e);
+    }
+  }
+
+  private static NameIdentifier deserializeIdentifier(String identifier) {
+    try {
+      String[] levels = JsonUtils.anyFieldMapper().readValue(identifier, LEVELS_TYPE);
+      return NameIdentifier.of(levels);
+    } catch (JsonProcessingException e) {
+      throw new RuntimeException("Failed to deserialize json object:", e);
+    }
+  }
+}
@@ -0,0 +1,203 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.NamespacedEntityId;
+import org.apache.gravitino.metrics.Monitored;
+import org.apache.gravitino.storage.relational.mapper.EntityIdMapper;
+import org.apache.gravitino.storage.relational.po.EntityIdPO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+
+/**
+ * The service class to resolve the names of entities into ids. All the levels of a name, from the
+ * metalake down to the entity, are joined in one statement instead of being looked up level by
+ * level, and a batch of names of the same type is resolved together.
+ */
+public class EntityIdMetaService {
+  private static final EntityIdMetaService INSTANCE = new EntityIdMetaService();
+
+  // Bounds the number of OR-ed name predicates in one statement.
+  private static final int BATCH_SIZE = 100;
+
+  private static final Set<Entity.EntityType> METALAKE_SCOPED_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.ROLE,
+          Entity.EntityType.USER,
+          Entity.EntityType.GROUP,
+          Entity.EntityType.TAG,
+          Entity.EntityType.POLICY,
+          Entity.EntityType.JOB_TEMPLATE);
+
+  private static final Set<Entity.EntityType> SCHEMA_SCOPED_TYPES =
+      ImmutableSet.of(
+          Entity.EntityType.TABLE,
+          Entity.EntityType.FILESET,
+          Entity.EntityType.TOPIC,
+          Entity.EntityType.MODEL,
+          Entity.EntityType.VIEW);
+
+  public static EntityIdMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private EntityIdMetaService() {}
+
+  /**
+   * Checks if the names of the given entity type can be resolved by this service.
+   *
+   * @param type The entity type.
+   * @return True if the entity type is supported, false otherwise.
+   */
+  public boolean isSupported(Entity.EntityType type) {
+    return type == Entity.EntityType.METALAKE
+        || type == Entity.EntityType.CATALOG
+        || type == Entity.EntityType.SCHEMA
+        || type == Entity.EntityType.COLUMN
+        || METALAKE_SCOPED_TYPES.contains(type)
+        || SCHEMA_SCOPED_TYPES.contains(type);
+  }
+
+  /**
+   * Resolves the ids of the given entities and of their parents. The identifiers that do not match
+   * an existing entity are omitted from the result.
+   *
+   * @param identifiers The identifiers of the entities, all of the given type.
+   * @param type The entity type.
+   * @return The resolved ids keyed by the identifiers.
+   */
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetEntityIds")
+  public Map<NameIdentifier, NamespacedEntityId> batchGetEntityIds(
+      List<NameIdentifier> identifiers, Entity.EntityType type) {
+    if (!isSupported(type)) {
+      throw new IllegalArgumentException("Unsupported entity type: " + type);
+    }
+
+    Map<EntityIdPO, NameIdentifier> identifiersByNames = Maps.newHashMap();
+    identifiers.forEach(ident -> identifiersByNames.put(toEntityIdPO(ident, type), ident));
+
+    Map<NameIdentifier, NamespacedEntityId> result = Maps.newHashMap();
+    for (List<EntityIdPO> names :
+        Lists.partition(Lists.newArrayList(identifiersByNames.keySet()), BATCH_SIZE)) {
+      List<EntityIdPO> entityIdPOs =
+          SessionUtils.getWithoutCommit(
+              EntityIdMapper.class, mapper -> mapper.listEntityIdsByNames(type, names));
+
+      for (EntityIdPO entityIdPO : entityIdPOs) {
+        // The names are read back from the tables, so the identifier is only found when the
+        // stored names match the requested ones exactly.
+        NameIdentifier ident = identifiersByNames.get(namesOf(entityIdPO));
+        if (ident != null) {
+          result.put(ident, toNamespacedEntityId(entityIdPO, type));
+        }
+      }
+    }
+
+    return result;
+  }
+
+  private static EntityIdPO toEntityIdPO(NameIdentifier ident, Entity.EntityType type) {
+    EntityIdPO.Builder builder =
+        EntityIdPO.builder().withMetalakeName(NameIdentifierUtil.getMetalake(ident));
+    switch (type) {
+      case METALAKE:
+        return builder.build();
+
+      case CATALOG:
+        return builder.withCatalogName(ident.name()).build();
+
+      case SCHEMA:
+        return builder
+            .withCatalogName(NameIdentifierUtil.getCatalogIdentifier(ident).name())
+            .withSchemaName(ident.name())
+            .build();
+
+      case COLUMN:
+        return builder
+            .withCatalogName(NameIdentifierUtil.getCatalogIdentifier(ident).name())
+            .withSchemaName(NameIdentifierUtil.getSchemaIdentifier(ident).name())
+            .withTableName(NameIdentifier.of(ident.namespace().levels()).name())
+            .withEntityName(ident.name())
+            .build();
+
+      default:
+        if (SCHEMA_SCOPED_TYPES.contains(type)) {
+          builder
+              .withCatalogName(NameIdentifierUtil.getCatalogIdentifier(ident).name())
+              .withSchemaName(NameIdentifierUtil.getSchemaIdentifier(ident).name());
+        }
+        return builder.withEntityName(ident.name()).build();
+    }
+  }
+
+  private static EntityIdPO namesOf(EntityIdPO entityIdPO) {
+    return EntityIdPO.builder()
+        .withMetalakeName(entityIdPO.getMetalakeName())
+        .withCatalogName(entityIdPO.getCatalogName())
+        .withSchemaName(entityIdPO.getSchemaName())
+        .withTableName(entityIdPO.getTableName())
+        .withEntityName(entityIdPO.getEntityName())
+        .build();
+  }
+
+  private static NamespacedEntityId toNamespacedEntityId(
+      EntityIdPO entityIdPO, Entity.EntityType type) {
+    switch (type) {
+      case METALAKE:
+        return new NamespacedEntityId(entityIdPO.getMetalakeId());
+
+      case CATALOG:
+        return new NamespacedEntityId(entityIdPO.getCatalogId(), entityIdPO.getMetalakeId());
+
+      case SCHEMA:
+        return new NamespacedEntityId(
+            entityIdPO.getSchemaId(), entityIdPO.getMetalakeId(), entityIdPO.getCatalogId());
+
+      case COLUMN:
+        return new NamespacedEntityId(
+            entityIdPO.getEntityId(),
+            entityIdPO.getMetalakeId(),
+            entityIdPO.getCatalogId(),
+            entityIdPO.getSchemaId(),
+            entityIdPO.getTableId());
+
+      default:
+        if (SCHEMA_SCOPED_TYPES.contains(type)) {
+          return new NamespacedEntityId(
+              entityIdPO.getEntityId(),
+              entityIdPO.getMetalakeId(),
+              entityIdPO.getCatalogId(),
+              entityIdPO.getSchemaId());
+        }
+        return new NamespacedEntityId(entityIdPO.getEntityId(), entityIdPO.getMetalakeId());
+    }
+  }
+}
@@ -20,6 +20,8 @@
 package org.apache.gravitino.storage.relational.service;
 
 import com.google.common.base.Preconditions;
+import java.util.List;
+import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.meta.EntityIdResolver;
@@ -47,4 +49,14 @@ public class EntityIdService {
     Preconditions.checkArgument(entityIdResolver != null, "EntityIdService is not initialized");
     return entityIdResolver.getEntityIds(identifier, type);
   }
+
+  public static Map<NameIdentifier, NamespacedEntityId> getEntityIds(
+      List<NameIdentifier> identifiers, Entity.EntityType type) {
+    Preconditions.checkArgument(entityIdResolver != null, "EntityIdService is not initialized");
+    return entityIdResolver.getEntityIds(identifiers, type);
+  }
+
+  public static boolean isInitialized() {
+    return entityIdResolver != null;
+  }
 }
@@ -45,6 +45,7 @@ import org.apache.gravitino.storage.relational.mapper.StatisticMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.FilesetMaxVersionPO;
 import org.apache.gravitino.storage.relational.po.FilesetPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -112,6 +113,26 @@ public class FilesetMetaService {
     return POConverters.fromFilesetPO(filesetPO, identifier.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetFilesetByIdentifier")
+  public List<FilesetEntity> batchGetFilesetByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, filesetNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<FilesetPO> filesetPOs =
+              SessionUtils.getWithoutCommit(
+                  FilesetMetaMapper.class,
+                  mapper -> mapper.batchSelectFilesetByIdentifier(schemaId, filesetNames));
+          return filesetPOs.stream()
+              .map(po -> POConverters.fromFilesetPO(po, namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "listFilesetsByNamespace")
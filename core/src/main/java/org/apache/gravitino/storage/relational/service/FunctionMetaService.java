@@ -45,6 +45,7 @@ import org.apache.gravitino.storage.relational.mapper.FunctionMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.FunctionVersionMetaMapper;
 import org.apache.gravitino.storage.relational.po.FunctionMaxVersionPO;
 import org.apache.gravitino.storage.relational.po.FunctionPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -80,6 +81,26 @@ public class FunctionMetaService {
     return fromFunctionPO(functionPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetFunctionByIdentifier")
+  public List<FunctionEntity> batchGetFunctionByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, functionNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<FunctionPO> functionPOs =
+              SessionUtils.getWithoutCommit(
+                  FunctionMetaMapper.class,
+                  mapper -> mapper.batchSelectFunctionByIdentifier(schemaId, functionNames));
+          return functionPOs.stream()
+              .map(po -> fromFunctionPO(po, namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "insertFunction")
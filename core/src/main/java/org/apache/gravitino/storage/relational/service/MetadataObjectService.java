@@ -99,7 +99,7 @@ public class MetadataObjectService {
             Collectors.toMap(
                 policyId -> policyId,
                 policyId ->
-                    SessionUtils.getWithoutCommit(
+                    SessionUtils.getReadOnly(
                         PolicyMetaMapper.class,
                         policyMetaMapper ->
                             policyMetaMapper.selectPolicyByPolicyId(policyId).getPolicyName())));
@@ -124,7 +124,7 @@ public class MetadataObjectService {
             Collectors.toMap(
                 jobTemplateId -> jobTemplateId,
                 jobTemplateId ->
-                    SessionUtils.getWithoutCommit(
+                    SessionUtils.getReadOnly(
                         JobTemplateMetaMapper.class,
                         jobTemplateMetaMapper ->
                             jobTemplateMetaMapper
@@ -141,7 +141,7 @@ public class MetadataObjectService {
             Collectors.toMap(
                 tagId -> tagId,
                 tagId ->
-                    SessionUtils.getWithoutCommit(
+                    SessionUtils.getReadOnly(
                         TagMetaMapper.class,
                         tagMetaMapper -> tagMetaMapper.selectTagByTagId(tagId).getTagName())));
   }
@@ -197,7 +197,7 @@ public class MetadataObjectService {
       baseMetricName = "getMetalakeObjectsFullName")
   public static Map<Long, String> getMetalakeObjectsFullName(List<Long> metalakeIds) {
     List<MetalakePO> metalakePOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             MetalakeMetaMapper.class, mapper -> mapper.listMetalakePOsByMetalakeIds(metalakeIds));
 
     if (metalakePOs == null || metalakePOs.isEmpty()) {
@@ -227,7 +227,7 @@ public class MetadataObjectService {
       baseMetricName = "getFilesetObjectsFullName")
   public static Map<Long, String> getFilesetObjectsFullName(List<Long> filesetIds) {
     List<FilesetPO> filesetPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             FilesetMetaMapper.class, mapper -> mapper.listFilesetPOsByFilesetIds(filesetIds));
 
     if (filesetPOs == null || filesetPOs.isEmpty()) {
@@ -273,7 +273,7 @@ public class MetadataObjectService {
       baseMetricName = "getModelObjectsFullName")
   public static Map<Long, String> getModelObjectsFullName(List<Long> modelIds) {
     List<ModelPO> modelPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             ModelMetaMapper.class, mapper -> mapper.listModelPOsByModelIds(modelIds));
 
     if (modelPOs == null || modelPOs.isEmpty()) {
@@ -318,7 +318,7 @@ public class MetadataObjectService {
       baseMetricName = "getTableObjectsFullName")
   public static Map<Long, String> getTableObjectsFullName(List<Long> tableIds) {
     List<TablePO> tablePOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             TableMetaMapper.class, mapper -> mapper.listTablePOsByTableIds(tableIds));
 
     if (tablePOs == null || tablePOs.isEmpty()) {
@@ -364,7 +364,7 @@ public class MetadataObjectService {
       baseMetricName = "getColumnObjectsFullName")
   public static Map<Long, String> getColumnObjectsFullName(List<Long> columnsIds) {
     List<ColumnPO> columnPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             TableColumnMapper.class, mapper -> mapper.listColumnPOsByColumnIds(columnsIds));
 
     if (columnPOs == null || columnPOs.isEmpty()) {
@@ -412,7 +412,7 @@ public class MetadataObjectService {
       baseMetricName = "getTopicObjectsFullName")
   public static Map<Long, String> getTopicObjectsFullName(List<Long> topicIds) {
     List<TopicPO> topicPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             TopicMetaMapper.class, mapper -> mapper.listTopicPOsByTopicIds(topicIds));
 
     if (topicPOs == null || topicPOs.isEmpty()) {
@@ -457,7 +457,7 @@ public class MetadataObjectService {
       baseMetricName = "getViewObjectsFullName")
   public static Map<Long, String> getViewObjectsFullName(List<Long> viewIds) {
     List<ViewPO> viewPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             ViewMetaMapper.class, mapper -> mapper.listViewPOsByViewIds(viewIds));
     if (viewPOs == null || viewPOs.isEmpty()) {
       return new HashMap<>();
@@ -495,7 +495,7 @@ public class MetadataObjectService {
       baseMetricName = "getCatalogObjectsFullName")
   public static Map<Long, String> getCatalogObjectsFullName(List<Long> catalogIds) {
     List<CatalogPO> catalogPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             CatalogMetaMapper.class, mapper -> mapper.listCatalogPOsByCatalogIds(catalogIds));
 
     if (catalogPOs == null || catalogPOs.isEmpty()) {
@@ -524,7 +524,7 @@ public class MetadataObjectService {
       baseMetricName = "getSchemaObjectsFullName")
   public static Map<Long, String> getSchemaObjectsFullName(List<Long> schemaIds) {
     List<SchemaPO> schemaPOs =
-        SessionUtils.getWithoutCommit(
+        SessionUtils.getReadOnly(
             SchemaMetaMapper.class, mapper -> mapper.listSchemaPOsBySchemaIds(schemaIds));
 
     if (schemaPOs == null || schemaPOs.isEmpty()) {
@@ -48,6 +48,7 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.StatisticMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.ModelPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -86,6 +87,26 @@ public class ModelMetaService {
     return POConverters.fromModelPO(modelPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetModelByIdentifier")
+  public List<ModelEntity> batchGetModelByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, modelNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<ModelPO> modelPOs =
+              SessionUtils.getWithoutCommit(
+                  ModelMetaMapper.class,
+                  mapper -> mapper.batchSelectModelByIdentifier(schemaId, modelNames));
+          return modelPOs.stream()
+              .map(po -> POConverters.fromModelPO(po, namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "insertModel")
   public void insertModel(ModelEntity modelEntity, boolean overwrite) throws IOException {
     NameIdentifierUtil.checkModel(modelEntity.nameIdentifier());
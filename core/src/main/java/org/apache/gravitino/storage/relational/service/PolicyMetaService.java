@@ -44,6 +44,7 @@ import org.apache.gravitino.storage.relational.mapper.PolicyVersionMapper;
 import org.apache.gravitino.storage.relational.po.PolicyMaxVersionPO;
 import org.apache.gravitino.storage.relational.po.PolicyMetadataObjectRelPO;
 import org.apache.gravitino.storage.relational.po.PolicyPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -85,6 +86,18 @@ public class PolicyMetaService {
     return POConverters.fromPolicyPO(policyPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetPolicyByIdentifier")
+  public List<PolicyEntity> batchGetPolicyByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, policyNames) ->
+            getPolicyPOsByMetalakeAndNames(namespace.level(0), policyNames).stream()
+                .map(po -> POConverters.fromPolicyPO(po, namespace))
+                .collect(Collectors.toList()));
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "insertPolicy")
@@ -351,9 +364,10 @@ public class PolicyMetaService {
                                 metadataObjectId,
                                 metadataObject.type().toString()))
                     .collect(Collectors.toList());
-            SessionUtils.doWithoutCommit(
+            SessionUtils.doBatchWithoutCommit(
                 PolicyMetadataObjectRelMapper.class,
-                mapper -> mapper.batchInsertPolicyMetadataObjectRels(policyRelsToAdd));
+                policyRelsToAdd,
+                PolicyMetadataObjectRelMapper::batchInsertPolicyMetadataObjectRels);
           },
           () -> {
             // Remove the policy metadata object relations.
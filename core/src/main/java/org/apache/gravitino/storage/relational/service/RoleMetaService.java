@@ -51,6 +51,7 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.UserRoleRelMapper;
 import org.apache.gravitino.storage.relational.po.RolePO;
 import org.apache.gravitino.storage.relational.po.SecurableObjectPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -169,17 +170,18 @@ public class RoleMetaService {
       }
 
       SessionUtils.doMultipleWithCommit(
-          () ->
+          () -> {
+            if (overwritten) {
               SessionUtils.doWithoutCommit(
                   SecurableObjectMapper.class,
-                  mapper -> {
-                    if (overwritten) {
-                      mapper.softDeleteSecurableObjectsByRoleId(rolePO.getRoleId());
-                    }
-                    if (!securableObjectPOs.isEmpty()) {
-                      mapper.batchInsertSecurableObjects(securableObjectPOs);
-                    }
-                  }),
+                  mapper -> mapper.softDeleteSecurableObjectsByRoleId(rolePO.getRoleId()));
+            }
+          },
+          () ->
+              SessionUtils.doBatchWithoutCommit(
+                  SecurableObjectMapper.class,
+                  securableObjectPOs,
+                  SecurableObjectMapper::batchInsertSecurableObjects),
           () ->
               SessionUtils.doWithoutCommit(
                   RoleMetaMapper.class,
@@ -256,9 +258,10 @@ public class RoleMetaService {
               return;
             }
 
-            SessionUtils.doWithoutCommit(
+            SessionUtils.doBatchWithoutCommit(
                 SecurableObjectMapper.class,
-                mapper -> mapper.batchInsertSecurableObjects(insertSecurableObjectPOs));
+                insertSecurableObjectPOs,
+                SecurableObjectMapper::batchInsertSecurableObjects);
           });
 
       return newRoleEntity;
@@ -299,6 +302,29 @@ public class RoleMetaService {
     return POConverters.fromRolePO(rolePO, securableObjects, identifier.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetRoleByIdentifier")
+  public List<RoleEntity> batchGetRoleByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkRole);
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, roleNames) -> {
+          long metalakeId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.level(0)), Entity.EntityType.METALAKE);
+          List<RolePO> rolePOs =
+              SessionUtils.getWithoutCommit(
+                  RoleMetaMapper.class,
+                  mapper -> mapper.batchSelectRoleByIdentifier(metalakeId, roleNames));
+          // The securable objects are still loaded per role, their names are resolved from the
+          // metadata object ids one by one.
+          return rolePOs.stream()
+              .map(po -> POConverters.fromRolePO(po, listSecurableObjects(po), namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "deleteRole")
   public boolean deleteRole(NameIdentifier identifier) {
     AuthorizationUtils.checkRole(identifier);
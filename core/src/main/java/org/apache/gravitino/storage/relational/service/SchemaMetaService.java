@@ -153,6 +153,23 @@ public class SchemaMetaService {
     return POConverters.fromSchemaPOs(schemaPOs, namespace);
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listSchemasByNamespaceAfterName")
+  public List<SchemaEntity> listSchemasByNamespace(
+      Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkSchema(namespace);
+
+    Long catalogId =
+        EntityIdService.getEntityId(
+            NameIdentifier.of(namespace.levels()), Entity.EntityType.CATALOG);
+    List<SchemaPO> schemaPOs =
+        SessionUtils.getWithoutCommit(
+            SchemaMetaMapper.class,
+            mapper -> mapper.listSchemaPOsByCatalogIdAfterName(catalogId, afterName, limit));
+    return POConverters.fromSchemaPOs(schemaPOs, namespace);
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "insertSchema")
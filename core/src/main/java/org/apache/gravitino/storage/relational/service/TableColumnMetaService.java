@@ -20,6 +20,7 @@ package org.apache.gravitino.storage.relational.service;
 
 import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATIONAL_STORE_METRIC_NAME;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import java.util.Collections;
 import java.util.List;
@@ -27,6 +28,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.ColumnEntity;
@@ -38,16 +40,36 @@ import org.apache.gravitino.storage.relational.po.TablePO;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 
+/**
+ * The service class for the columns of a table. Each table version only stores the columns it
+ * creates, updates or deletes, and every {@code snapshotInterval}-th version stores a snapshot of
+ * all the live columns instead, so rebuilding the columns of a version never reads the rows
+ * written before the latest snapshot.
+ */
 public class TableColumnMetaService {
 
   private static final TableColumnMetaService INSTANCE = new TableColumnMetaService();
 
+  private volatile int snapshotInterval =
+      Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_INTERVAL.getDefaultValue();
+
   private TableColumnMetaService() {}
 
   public static TableColumnMetaService getInstance() {
     return INSTANCE;
   }
 
+  /**
+   * Set the number of table versions between two column snapshots.
+   *
+   * @param snapshotInterval The snapshot interval, must be positive.
+   */
+  public void setSnapshotInterval(int snapshotInterval) {
+    Preconditions.checkArgument(
+        snapshotInterval > 0, "snapshotInterval must be positive, but got %s", snapshotInterval);
+    this.snapshotInterval = snapshotInterval;
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "getColumnsByTableIdAndVersion")
@@ -108,8 +130,28 @@ public class TableColumnMetaService {
         POConverters.initializeColumnPOs(tablePO, columnEntities, ColumnPO.ColumnOpType.CREATE);
 
     // insertColumnPOs will be done in insertTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOs));
+    SessionUtils.doBatchWithoutCommit(
+        TableColumnMapper.class, columnPOs, TableColumnMapper::insertColumnPOs);
+  }
+
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchInsertColumnPOs")
+  void batchInsertColumnPOs(List<TablePO> tablePOs, List<TableEntity> tableEntities) {
+    List<ColumnPO> columnPOs = Lists.newArrayList();
+    for (int i = 0; i < tablePOs.size(); i++) {
+      List<ColumnEntity> columnEntities = tableEntities.get(i).columns();
+      if (columnEntities != null && !columnEntities.isEmpty()) {
+        columnPOs.addAll(
+            POConverters.initializeColumnPOs(
+                tablePOs.get(i), columnEntities, ColumnPO.ColumnOpType.CREATE));
+      }
+    }
+
+    // batchInsertColumnPOs will be done in batchInsertTables transaction, so we don't do commit
+    // here.
+    SessionUtils.doBatchWithoutCommit(
+        TableColumnMapper.class, columnPOs, TableColumnMapper::insertColumnPOs);
   }
 
   @Monitored(
@@ -165,21 +207,26 @@ public class TableColumnMetaService {
                 .collect(Collectors.toMap(ColumnEntity::id, Function.identity()));
 
     List<ColumnPO> columnPOsToInsert = Lists.newArrayList();
-    for (ColumnEntity newColumn : newColumns.values()) {
-      ColumnEntity oldColumn = oldColumns.get(newColumn.id());
-      // If the column is not existed in old columns, or if the column is updated, mark it as UPDATE
-      if (oldColumn == null || !oldColumn.equals(newColumn)) {
+    if (!newColumns.isEmpty() && newTablePO.getCurrentVersion() % snapshotInterval == 0) {
+      // Write all the live columns instead of the diff. The deleted columns still get a DELETE row,
+      // the lookups of a single column only read its latest row.
+      for (ColumnEntity newColumn : newColumns.values()) {
         columnPOsToInsert.add(
-            POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.UPDATE));
+            POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.SNAPSHOT));
       }
-    }
-
-    // Mark the columns to DELETE if they are not existed in new columns.
-    for (ColumnEntity oldColumn : oldColumns.values()) {
-      if (!newColumns.containsKey(oldColumn.id())) {
-        columnPOsToInsert.add(
-            POConverters.initializeColumnPO(newTablePO, oldColumn, ColumnPO.ColumnOpType.DELETE));
+      addDeletedColumnPOs(oldColumns, newColumns, newTablePO, columnPOsToInsert);
+    } else {
+      for (ColumnEntity newColumn : newColumns.values()) {
+        ColumnEntity oldColumn = oldColumns.get(newColumn.id());
+        // If the column is not existed in old columns, or if the column is updated, mark it as
+        // UPDATE
+        if (oldColumn == null || !oldColumn.equals(newColumn)) {
+          columnPOsToInsert.add(
+              POConverters.initializeColumnPO(newTablePO, newColumn, ColumnPO.ColumnOpType.UPDATE));
+        }
       }
+
+      addDeletedColumnPOs(oldColumns, newColumns, newTablePO, columnPOsToInsert);
     }
 
     // If there is no change, directly return
@@ -195,7 +242,21 @@ public class TableColumnMetaService {
     }
 
     // updateColumns will be done in updateTable transaction, so we don't do commit here.
-    SessionUtils.doWithoutCommit(
-        TableColumnMapper.class, mapper -> mapper.insertColumnPOs(columnPOsToInsert));
+    SessionUtils.doBatchWithoutCommit(
+        TableColumnMapper.class, columnPOsToInsert, TableColumnMapper::insertColumnPOs);
+  }
+
+  private static void addDeletedColumnPOs(
+      Map<Long, ColumnEntity> oldColumns,
+      Map<Long, ColumnEntity> newColumns,
+      TablePO newTablePO,
+      List<ColumnPO> columnPOsToInsert) {
+    // Mark the columns to DELETE if they are not existed in new columns.
+    for (ColumnEntity oldColumn : oldColumns.values()) {
+      if (!newColumns.containsKey(oldColumn.id())) {
+        columnPOsToInsert.add(
+            POConverters.initializeColumnPO(newTablePO, oldColumn, ColumnPO.ColumnOpType.DELETE));
+      }
+    }
   }
 }
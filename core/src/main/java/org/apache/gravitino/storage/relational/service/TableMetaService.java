@@ -23,14 +23,14 @@ import static org.apache.gravitino.metrics.source.MetricsSource.GRAVITINO_RELATI
 import com.google.common.base.Preconditions;
 import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import org.apache.commons.collections4.CollectionUtils;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.GravitinoEnv;
@@ -51,6 +51,7 @@ import org.apache.gravitino.storage.relational.mapper.TableVersionMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.po.TablePO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -108,6 +109,22 @@ public class TableMetaService {
     return POConverters.fromTablePOs(tablePOs, namespace);
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "listTablesByNamespaceAfterName")
+  public List<TableEntity> listTablesByNamespace(Namespace namespace, String afterName, int limit) {
+    NamespaceUtil.checkTable(namespace);
+
+    Long schemaId =
+        EntityIdService.getEntityId(
+            NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+    List<TablePO> tablePOs =
+        SessionUtils.getWithoutCommit(
+            TableMetaMapper.class,
+            mapper -> mapper.listTablePOsBySchemaIdAfterName(schemaId, afterName, limit));
+    return POConverters.fromTablePOs(tablePOs, namespace);
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "insertTable")
   public void insertTable(TableEntity tableEntity, boolean overwrite) throws IOException {
     try {
@@ -161,6 +178,84 @@ public class TableMetaService {
     }
   }
 
+  /**
+   * Inserts a batch of tables in a single transaction. The table, version and column rows are
+   * written with multi-row INSERT statements instead of one statement per table.
+   *
+   * @param tableEntities the tables to insert
+   * @param overwrite whether to overwrite the existing tables with the same identifier
+   * @throws IOException if the insertion fails
+   */
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchInsertTables")
+  public void batchInsertTables(List<TableEntity> tableEntities, boolean overwrite)
+      throws IOException {
+    if (tableEntities.isEmpty()) {
+      return;
+    }
+
+    try {
+      // Tables of a batch usually share the same schema, so resolve the parent ids only once per
+      // namespace.
+      Map<Namespace, NamespacedEntityId> parentEntityIds = new HashMap<>();
+      List<TablePO> tablePOs = new ArrayList<>(tableEntities.size());
+      for (TableEntity tableEntity : tableEntities) {
+        NameIdentifierUtil.checkTable(tableEntity.nameIdentifier());
+
+        TablePO.Builder builder = TablePO.builder();
+        fillTablePOBuilderParentEntityId(
+            builder,
+            parentEntityIds.computeIfAbsent(tableEntity.namespace(), this::getParentEntityIds));
+        tablePOs.add(POConverters.initializeTablePOWithVersion(tableEntity, builder));
+      }
+
+      if (overwrite) {
+        // Upserts are not portable as multi-row statements, so they are issued per table, but
+        // still within a single transaction.
+        SessionUtils.doMultipleWithCommit(
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableMetaMapper.class,
+                    mapper -> tablePOs.forEach(mapper::insertTableMetaOnDuplicateKeyUpdate)),
+            () ->
+                SessionUtils.doWithoutCommit(
+                    TableVersionMapper.class,
+                    mapper -> tablePOs.forEach(mapper::insertTableVersionOnDuplicateKeyUpdate)),
+            () ->
+                tablePOs.forEach(
+                    po ->
+                        TableColumnMetaService.getInstance()
+                            .deleteColumnsByTableId(po.getTableId())),
+            () ->
+                TableColumnMetaService.getInstance()
+                    .batchInsertColumnPOs(tablePOs, tableEntities));
+      } else {
+        SessionUtils.doMultipleWithCommit(
+            () ->
+                SessionUtils.doBatchWithoutCommit(
+                    TableMetaMapper.class, tablePOs, TableMetaMapper::batchInsertTableMetas),
+            () ->
+                SessionUtils.doBatchWithoutCommit(
+                    TableVersionMapper.class,
+                    tablePOs,
+                    TableVersionMapper::batchInsertTableVersions),
+            () ->
+                TableColumnMetaService.getInstance()
+                    .batchInsertColumnPOs(tablePOs, tableEntities));
+      }
+
+    } catch (RuntimeException re) {
+      ExceptionUtils.checkSQLException(
+          re,
+          Entity.EntityType.TABLE,
+          tableEntities.stream()
+              .map(tableEntity -> tableEntity.nameIdentifier().toString())
+              .collect(Collectors.joining(",")));
+      throw re;
+    }
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "updateTable")
   public <E extends Entity & HasIdentifier> TableEntity updateTable(
       NameIdentifier identifier, Function<E, E> updater) throws IOException {
@@ -297,38 +392,37 @@ public class TableMetaService {
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "batchGetTableByIdentifier")
   public List<TableEntity> batchGetTableByIdentifier(List<NameIdentifier> identifiers) {
-    if (CollectionUtils.isEmpty(identifiers)) {
-      return Collections.emptyList();
-    }
-    NameIdentifier firstIdent = identifiers.get(0);
-    NameIdentifier schemaIdent = NameIdentifierUtil.getSchemaIdentifier(firstIdent);
-    List<String> tableNames = new ArrayList<>(identifiers.size());
-    tableNames.add(identifiers.get(0).name());
-    for (int i = 1; i < identifiers.size(); i++) {
-      NameIdentifier ident = identifiers.get(i);
-      Preconditions.checkArgument(
-          Objects.equals(schemaIdent, NameIdentifierUtil.getSchemaIdentifier(ident)));
-      tableNames.add(ident.name());
-    }
-    Long schemaId = EntityIdService.getEntityId(schemaIdent, Entity.EntityType.SCHEMA);
-    return SessionUtils.doWithCommitAndFetchResult(
-        TableMetaMapper.class,
-        mapper -> {
-          List<TablePO> tableList = mapper.batchSelectTableByIdentifier(schemaId, tableNames);
-          return POConverters.fromTablePOs(tableList, firstIdent.namespace());
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, tableNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<TablePO> tablePOs =
+              SessionUtils.getWithoutCommit(
+                  TableMetaMapper.class,
+                  mapper -> mapper.batchSelectTableByIdentifier(schemaId, tableNames));
+          return POConverters.fromTablePOs(tablePOs, namespace);
         });
   }
 
   private void fillTablePOBuilderParentEntityId(TablePO.Builder builder, Namespace namespace) {
-    NamespaceUtil.checkTable(namespace);
-    NamespacedEntityId namespacedEntityId =
-        EntityIdService.getEntityIds(
-            NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+    fillTablePOBuilderParentEntityId(builder, getParentEntityIds(namespace));
+  }
+
+  private void fillTablePOBuilderParentEntityId(
+      TablePO.Builder builder, NamespacedEntityId namespacedEntityId) {
     builder.withMetalakeId(namespacedEntityId.namespaceIds()[0]);
     builder.withCatalogId(namespacedEntityId.namespaceIds()[1]);
     builder.withSchemaId(namespacedEntityId.entityId());
   }
 
+  private NamespacedEntityId getParentEntityIds(Namespace namespace) {
+    NamespaceUtil.checkTable(namespace);
+    return EntityIdService.getEntityIds(
+        NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+  }
+
   private TablePO getTablePOByIdentifier(NameIdentifier identifier) {
     NameIdentifierUtil.checkTable(identifier);
 
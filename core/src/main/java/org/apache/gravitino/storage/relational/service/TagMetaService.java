@@ -45,6 +45,7 @@ import org.apache.gravitino.storage.relational.mapper.TagMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.po.TagMetadataObjectRelPO;
 import org.apache.gravitino.storage.relational.po.TagPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -83,6 +84,18 @@ public class TagMetaService {
     return POConverters.fromTagPO(tagPO, ident.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetTagByIdentifier")
+  public List<TagEntity> batchGetTagByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, tagNames) ->
+            getTagPOsByMetalakeAndNames(namespace.level(0), tagNames).stream()
+                .map(po -> POConverters.fromTagPO(po, namespace))
+                .collect(Collectors.toList()));
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "insertTag")
   public void insertTag(TagEntity tagEntity, boolean overwritten) throws IOException {
     Namespace ns = tagEntity.namespace();
@@ -335,9 +348,10 @@ public class TagMetaService {
                                 metadataObjectId,
                                 metadataObject.type().toString()))
                     .collect(Collectors.toList());
-            SessionUtils.doWithoutCommit(
+            SessionUtils.doBatchWithoutCommit(
                 TagMetadataObjectRelMapper.class,
-                mapper -> mapper.batchInsertTagMetadataObjectRels(tagRelsToAdd));
+                tagRelsToAdd,
+                TagMetadataObjectRelMapper::batchInsertTagMetadataObjectRels);
           },
           () -> {
             // Remove the tag metadata object relations.
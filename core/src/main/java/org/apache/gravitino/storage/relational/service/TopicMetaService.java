@@ -43,6 +43,7 @@ import org.apache.gravitino.storage.relational.mapper.StatisticMetaMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.TopicMetaMapper;
 import org.apache.gravitino.storage.relational.po.TopicPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -252,6 +253,26 @@ public class TopicMetaService {
     return POConverters.fromTopicPO(topicPO, identifier.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetTopicByIdentifier")
+  public List<TopicEntity> batchGetTopicByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, topicNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<TopicPO> topicPOs =
+              SessionUtils.getWithoutCommit(
+                  TopicMetaMapper.class,
+                  mapper -> mapper.batchSelectTopicByIdentifier(schemaId, topicNames));
+          return topicPOs.stream()
+              .map(po -> POConverters.fromTopicPO(po, namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME, baseMetricName = "deleteTopic")
   public boolean deleteTopic(NameIdentifier identifier) {
     TopicPO topicPO = getTopicPOByIdentifier(identifier);
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.apache.gravitino.storage.relational.mapper.TreeLockLeaseMapper;
+import org.apache.gravitino.storage.relational.po.TreeLockLeasePO;
+import org.apache.gravitino.storage.relational.utils.SessionUtils;
+
+/**
+ * The service class for the distributed tree lock leases. A lease is held by one owner until it
+ * expires, every acquisition increases its fencing token.
+ *
+ * <p>The leases held by a thread are registered as fences. Every mutation checks the fences of its
+ * thread within its transaction, a mutation whose lease has been taken over by another owner is
+ * then rolled back instead of overwriting the writes of the new owner.
+ */
+public class TreeLockLeaseMetaService {
+  private static final TreeLockLeaseMetaService INSTANCE = new TreeLockLeaseMetaService();
+
+  private static final ThreadLocal<Deque<TreeLockLeasePO>> FENCES =
+      ThreadLocal.withInitial(ArrayDeque::new);
+
+  public static TreeLockLeaseMetaService getInstance() {
+    return INSTANCE;
+  }
+
+  private TreeLockLeaseMetaService() {}
+
+  /**
+   * Try to acquire the lease of the lock key. The lease is acquired only if it has never been taken
+   * or if it has expired, whoever held it before.
+   *
+   * @param lockKey The key of the lock.
+   * @param owner The owner acquiring the lease.
+   * @param leaseMs The time in milliseconds the lease lasts without being renewed.
+   * @return The fencing token of the acquired lease, or null if the lease is held by another owner.
+   */
+  public Long tryAcquireLease(String lockKey, String owner, long leaseMs) {
+    long now = System.currentTimeMillis();
+    return SessionUtils.doMultipleWithCommitAndFetchResult(
+        () -> {
+          if (acquireExpiredLease(lockKey, owner, now, now + leaseMs) == 0) {
+            // The lease row is created on the first acquisition of the lock.
+            SessionUtils.doWithoutCommit(
+                TreeLockLeaseMapper.class, mapper -> mapper.insertLeaseIfAbsent(lockKey));
+            if (acquireExpiredLease(lockKey, owner, now, now + leaseMs) == 0) {
+              return null;
+            }
+          }
+
+          return SessionUtils.getWithoutCommit(
+                  TreeLockLeaseMapper.class, mapper -> mapper.selectLease(lockKey))
+              .getFencingToken();
+        });
+  }
+
+  /**
+   * Renew the lease of the lock key, if it is still held with the given fencing token.
+   *
+   * @param lockKey The key of the lock.
+   * @param owner The owner of the lease.
+   * @param fencingToken The fencing token of the lease.
+   * @param leaseMs The time in milliseconds the lease lasts from now.
+   * @return True if the lease is renewed, false if it has been taken over by another owner.
+   */
+  public boolean renewLease(String lockKey, String owner, long fencingToken, long leaseMs) {
+    long leaseExpireAt = System.currentTimeMillis() + leaseMs;
+    return SessionUtils.doWithCommitAndFetchResult(
+            TreeLockLeaseMapper.class,
+            mapper -> mapper.renewLease(lockKey, owner, fencingToken, leaseExpireAt))
+        > 0;
+  }
+
+  /**
+   * Release the lease of the lock key, if it is still held with the given fencing token.
+   *
+   * @param lockKey The key of the lock.
+   * @param owner The owner of the lease.
+   * @param fencingToken The fencing token of the lease.
+   * @return True if the lease is released, false if it has been taken over by another owner.
+   */
+  public boolean releaseLease(String lockKey, String owner, long fencingToken) {
+    return SessionUtils.doWithCommitAndFetchResult(
+            TreeLockLeaseMapper.class,
+            mapper -> mapper.releaseLease(lockKey, owner, fencingToken))
+        > 0;
+  }
+
+  /**
+   * Get the lease of the lock key.
+   *
+   * @param lockKey The key of the lock.
+   * @return The lease, or null if the lock has never been taken.
+   */
+  public TreeLockLeasePO getLease(String lockKey) {
+    return SessionUtils.getWithoutCommit(
+        TreeLockLeaseMapper.class, mapper -> mapper.selectLease(lockKey));
+  }
+
+  /**
+   * Register a lease held by the current thread as a fence of its mutations, until {@link
+   * #removeFence} is called with the same lease.
+   *
+   * @param lockKey The key of the lock.
+   * @param owner The owner of the lease.
+   * @param fencingToken The fencing token of the lease.
+   */
+  public void addFence(String lockKey, String owner, long fencingToken) {
+    FENCES
+        .get()
+        .push(
+            TreeLockLeasePO.builder()
+                .withLockKey(lockKey)
+                .withOwner(owner)
+                .withFencingToken(fencingToken)
+                .withLeaseExpireAt(0L)
+                .build());
+  }
+
+  /**
+   * Remove a fence registered by the current thread, the one registered last if the lease has been
+   * registered several times.
+   *
+   * @param lockKey The key of the lock.
+   * @param owner The owner of the lease.
+   * @param fencingToken The fencing token of the lease.
+   */
+  public void removeFence(String lockKey, String owner, long fencingToken) {
+    Deque<TreeLockLeasePO> fences = FENCES.get();
+    // The fences are pushed, so the iteration starts from the one registered last.
+    Iterator<TreeLockLeasePO> iterator = fences.iterator();
+    while (iterator.hasNext()) {
+      TreeLockLeasePO fence = iterator.next();
+      if (fence.getLockKey().equals(lockKey)
+          && fence.getOwner().equals(owner)
+          && fence.getFencingToken() == fencingToken) {
+        iterator.remove();
+        break;
+      }
+    }
+    if (fences.isEmpty()) {
+      FENCES.remove();
+    }
+  }
+
+  /**
+   * Check that the leases registered as fences by the current thread are still held. This does not
+   * commit, so it must be called within the transaction of the mutation it guards. The lease rows
+   * are share locked until the transaction ends, so a lease can't be taken over before the
+   * mutation is committed or rolled back, while the mutations fenced by the same lease don't wait
+   * for each other.
+   *
+   * @throws LockTimeoutException If a lease has been taken over by another owner.
+   */
+  public void checkFences() {
+    Deque<TreeLockLeasePO> fences = FENCES.get();
+    if (fences.isEmpty()) {
+      FENCES.remove();
+      return;
+    }
+
+    for (TreeLockLeasePO fence : fences) {
+      Long fencingToken =
+          SessionUtils.getWithoutCommit(
+              TreeLockLeaseMapper.class,
+              mapper -> mapper.selectFencingTokenForShare(fence.getLockKey(), fence.getOwner()));
+      if (fencingToken == null || fencingToken.longValue() != fence.getFencingToken()) {
+        throw new LockTimeoutException(
+            "The distributed lock lease of %s has expired and been taken over",
+            fence.getLockKey());
+      }
+    }
+  }
+
+  private int acquireExpiredLease(String lockKey, String owner, long now, long leaseExpireAt) {
+    return SessionUtils.getWithoutCommit(
+        TreeLockLeaseMapper.class,
+        mapper -> mapper.acquireExpiredLease(lockKey, owner, now, leaseExpireAt));
+  }
+}
@@ -47,6 +47,7 @@ import org.apache.gravitino.storage.relational.po.ExtendedUserPO;
 import org.apache.gravitino.storage.relational.po.RolePO;
 import org.apache.gravitino.storage.relational.po.UserPO;
 import org.apache.gravitino.storage.relational.po.UserRoleRelPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
@@ -108,6 +109,28 @@ public class UserMetaService {
     return POConverters.fromUserPO(userPO, rolePOs, identifier.namespace());
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetUserByIdentifier")
+  public List<UserEntity> batchGetUserByIdentifier(List<NameIdentifier> identifiers) {
+    identifiers.forEach(AuthorizationUtils::checkUser);
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, userNames) -> {
+          long metalakeId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.level(0)), Entity.EntityType.METALAKE);
+          // The role names and ids are aggregated into the user rows, no query per user.
+          List<ExtendedUserPO> userPOs =
+              SessionUtils.getWithoutCommit(
+                  UserMetaMapper.class,
+                  mapper -> mapper.batchSelectUserByIdentifier(metalakeId, userNames));
+          return userPOs.stream()
+              .map(po -> POConverters.fromExtendedUserPO(po, namespace))
+              .collect(Collectors.toList());
+        });
+  }
+
   @Monitored(
       metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
       baseMetricName = "listUsersByRoleIdent")
@@ -41,6 +41,7 @@ import org.apache.gravitino.storage.relational.mapper.SecurableObjectMapper;
 import org.apache.gravitino.storage.relational.mapper.TagMetadataObjectRelMapper;
 import org.apache.gravitino.storage.relational.mapper.ViewMetaMapper;
 import org.apache.gravitino.storage.relational.po.ViewPO;
+import org.apache.gravitino.storage.relational.utils.BatchGetUtils;
 import org.apache.gravitino.storage.relational.utils.ExceptionUtils;
 import org.apache.gravitino.storage.relational.utils.SessionUtils;
 import org.apache.gravitino.utils.NameIdentifierUtil;
@@ -145,6 +146,32 @@ public class ViewMetaService {
         .build();
   }
 
+  @Monitored(
+      metricsSource = GRAVITINO_RELATIONAL_STORE_METRIC_NAME,
+      baseMetricName = "batchGetViewByIdentifier")
+  public List<GenericEntity> batchGetViewByIdentifier(List<NameIdentifier> identifiers) {
+    return BatchGetUtils.batchGetByNamespace(
+        identifiers,
+        (namespace, viewNames) -> {
+          Long schemaId =
+              EntityIdService.getEntityId(
+                  NameIdentifier.of(namespace.levels()), Entity.EntityType.SCHEMA);
+          List<ViewPO> viewPOs =
+              SessionUtils.getWithoutCommit(
+                  ViewMetaMapper.class,
+                  mapper -> mapper.batchSelectViewByIdentifier(schemaId, viewNames));
+          return viewPOs.stream()
+              .map(
+                  viewPO ->
+                      GenericEntity.builder()
+                          .withId(viewPO.getViewId())
+                          .withName(viewPO.getViewName())
+                          .withEntityType(Entity.EntityType.VIEW)
+                          .build())
+              .collect(Collectors.toList());
+        });
+  }
+
   /**
    * Insert a view from GenericEntity.
    *
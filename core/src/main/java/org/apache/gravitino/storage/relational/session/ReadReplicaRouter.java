@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.session;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.gravitino.storage.relational.JDBCBackend.JDBCBackendType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * ReadReplicaRouter decides whether a read-only {@link org.apache.ibatis.session.SqlSession} can be
+ * opened against the read replica of the relational entity store.
+ *
+ * <p>A read goes to the replica only if the replication lag measured in the background is known and
+ * not larger than {@code maxLagMs}, and no write has been committed by this server within the last
+ * {@code maxLagMs}. The latter keeps the reads following a write, from the same request or from
+ * another one populating the entity cache, on the primary database until the replica has caught
+ * up.
+ */
+public class ReadReplicaRouter implements AutoCloseable {
+  private static final Logger LOG = LoggerFactory.getLogger(ReadReplicaRouter.class);
+
+  @VisibleForTesting static final long UNKNOWN_LAG = -1L;
+
+  private static final long LAG_CHECK_INTERVAL_MS = 1000L;
+
+  private final SqlSessionFactory replicaSqlSessionFactory;
+  private final BasicDataSource replicaDataSource;
+  private final JDBCBackendType jdbcType;
+  private final long maxLagMs;
+  private final ScheduledExecutorService lagChecker;
+
+  private volatile long replicaLagMs = UNKNOWN_LAG;
+  private final AtomicLong lastWriteTimeMs = new AtomicLong(0L);
+  private final AtomicLong replicaReads = new AtomicLong(0L);
+  private final AtomicLong primaryReads = new AtomicLong(0L);
+
+  ReadReplicaRouter(
+      SqlSessionFactory replicaSqlSessionFactory,
+      BasicDataSource replicaDataSource,
+      JDBCBackendType jdbcType,
+      long maxLagMs) {
+    this.replicaSqlSessionFactory = replicaSqlSessionFactory;
+    this.replicaDataSource = replicaDataSource;
+    this.jdbcType = jdbcType;
+    this.maxLagMs = maxLagMs;
+    this.lagChecker =
+        Executors.newSingleThreadScheduledExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("read-replica-lag-checker-%d")
+                .build());
+  }
+
+  void start() {
+    lagChecker.scheduleWithFixedDelay(
+        this::checkLag, 0, LAG_CHECK_INTERVAL_MS, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Decide whether the next read-only session should be opened against the replica.
+   *
+   * @return true if the read should go to the replica, false if it should go to the primary.
+   */
+  boolean routeToReplica() {
+    long lag = replicaLagMs;
+    boolean toReplica =
+        lag != UNKNOWN_LAG
+            && lag <= maxLagMs
+            && System.currentTimeMillis() - lastWriteTimeMs.get() > maxLagMs;
+    (toReplica ? replicaReads : primaryReads).incrementAndGet();
+    return toReplica;
+  }
+
+  /** Record that a write has been committed to the primary database by this server. */
+  void markWrite() {
+    lastWriteTimeMs.set(System.currentTimeMillis());
+  }
+
+  SqlSessionFactory getReplicaSqlSessionFactory() {
+    return replicaSqlSessionFactory;
+  }
+
+  public BasicDataSource getReplicaDataSource() {
+    return replicaDataSource;
+  }
+
+  /**
+   * Get the last measured replication lag of the replica.
+   *
+   * @return The lag in milliseconds, or -1 if it is unknown.
+   */
+  public long getReplicaLagMs() {
+    return replicaLagMs;
+  }
+
+  /**
+   * Get the number of read-only sessions opened against the replica.
+   *
+   * @return The number of sessions.
+   */
+  public long getReplicaReads() {
+    return replicaReads.get();
+  }
+
+  /**
+   * Get the number of read-only sessions routed to the primary database.
+   *
+   * @return The number of sessions.
+   */
+  public long getPrimaryReads() {
+    return primaryReads.get();
+  }
+
+  @VisibleForTesting
+  void setReplicaLagMs(long replicaLagMs) {
+    this.replicaLagMs = replicaLagMs;
+  }
+
+  @VisibleForTesting
+  void checkLag() {
+    try (Connection connection = replicaDataSource.getConnection()) {
+      replicaLagMs = queryLagMs(connection);
+    } catch (Exception e) {
+      replicaLagMs = UNKNOWN_LAG;
+      LOG.warn("Failed to check the replication lag of the read replica", e);
+    }
+  }
+
+  private long queryLagMs(Connection connection) throws SQLException {
+    switch (jdbcType) {
+      case MYSQL:
+        return queryMySQLLagMs(connection);
+      case POSTGRESQL:
+        try (Statement statement = connection.createStatement();
+            ResultSet rs =
+                statement.executeQuery(
+                    "SELECT CASE WHEN NOT pg_is_in_recovery()"
+                        + " OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0"
+                        + " ELSE CAST(EXTRACT(EPOCH FROM (now() - pg_last_xact_replay_timestamp()))"
+                        + " * 1000 AS BIGINT) END")) {
+          if (!rs.next()) {
+            return UNKNOWN_LAG;
+          }
+          long lag = rs.getLong(1);
+          return rs.wasNull() ? UNKNOWN_LAG : Math.max(lag, 0L);
+        }
+      default:
+        // The embedded database has no replication, the replica is the database itself.
+        return 0L;
+    }
+  }
+
+  private long queryMySQLLagMs(Connection connection) throws SQLException {
+    // "SHOW REPLICA STATUS" is available since MySQL 8.0.22, fall back to the legacy statement.
+    try (Statement statement = connection.createStatement();
+        ResultSet rs = statement.executeQuery("SHOW REPLICA STATUS")) {
+      return readMySQLLagMs(rs, "Seconds_Behind_Source");
+    } catch (SQLException e) {
+      try (Statement statement = connection.createStatement();
+          ResultSet rs = statement.executeQuery("SHOW SLAVE STATUS")) {
+        return readMySQLLagMs(rs, "Seconds_Behind_Master");
+      }
+    }
+  }
+
+  private long readMySQLLagMs(ResultSet rs, String lagColumn) throws SQLException {
+    if (!rs.next()) {
+      // The replication is not configured on the replica, or the account lacks the privilege to
+      // see it. Its lag can't be told, so keep the reads on the primary.
+      return UNKNOWN_LAG;
+    }
+    long lagSeconds = rs.getLong(lagColumn);
+    // The lag is NULL if the replication is stopped.
+    return rs.wasNull() ? UNKNOWN_LAG : lagSeconds * 1000L;
+  }
+
+  @Override
+  public void close() {
+    lagChecker.shutdownNow();
+    try {
+      replicaDataSource.close();
+    } catch (SQLException e) {
+      // silently ignore the error report
+    }
+  }
+}
@@ -22,8 +22,11 @@ package org.apache.gravitino.storage.relational.session;
 import com.google.common.base.Preconditions;
 import java.sql.SQLException;
 import java.time.Duration;
+import java.util.Optional;
 import java.util.ServiceLoader;
+import javax.annotation.Nullable;
 import org.apache.commons.dbcp2.BasicDataSource;
+import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.pool2.impl.BaseObjectPoolConfig;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
@@ -47,6 +50,7 @@ import org.apache.ibatis.transaction.jdbc.JdbcTransactionFactory;
  */
 public class SqlSessionFactoryHelper {
   private static volatile SqlSessionFactory sqlSessionFactory;
+  private static volatile ReadReplicaRouter readReplicaRouter;
   private static final SqlSessionFactoryHelper INSTANCE = new SqlSessionFactoryHelper();
 
   public static SqlSessionFactoryHelper getInstance() {
@@ -60,7 +64,6 @@ public class SqlSessionFactoryHelper {
    *
    * @param config Config object to get the jdbc connection details from the config.
    */
-  @SuppressWarnings("deprecation")
   public void init(Config config) {
     // Create the SqlSessionFactory object, it is a singleton object
     if (sqlSessionFactory != null) {
@@ -73,58 +76,111 @@ public class SqlSessionFactoryHelper {
       }
 
       // Initialize the data source
-      BasicDataSource dataSource = new BasicDataSource();
       String jdbcUrl = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL);
       String driverClass = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_DRIVER);
       JdbcUrlUtils.validateJdbcConfig(driverClass, jdbcUrl, config.getAllConfig());
 
       JDBCBackendType jdbcType = JDBCBackendType.fromURI(jdbcUrl);
-      dataSource.setUrl(jdbcUrl);
-      dataSource.setDriverClassName(driverClass);
-      dataSource.setUsername(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER));
-      dataSource.setPassword(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD));
-      // Close the auto commit, so that we can control the transaction manual commit
-      dataSource.setDefaultAutoCommit(false);
-      dataSource.setMaxWaitMillis(
-          config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
-      dataSource.setMaxTotal(config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS));
-      dataSource.setMaxIdle(5);
-      dataSource.setMinIdle(0);
-      dataSource.setLogAbandoned(true);
-      dataSource.setRemoveAbandonedOnBorrow(true);
-      dataSource.setRemoveAbandonedTimeout(60);
-      dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
-      dataSource.setTestOnBorrow(true);
-      dataSource.setTestWhileIdle(true);
-      dataSource.setMinEvictableIdleTimeMillis(1000);
-      dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
-      dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
-      dataSource.setSoftMinEvictableIdleTimeMillis(
-          BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
-      dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
-
-      // Create the transaction factory and env
-      TransactionFactory transactionFactory = new JdbcTransactionFactory();
-      Environment environment = new Environment("development", transactionFactory, dataSource);
-
-      // Initialize the configuration
-      Configuration configuration = new Configuration(environment);
-      configuration.setDatabaseId(jdbcType.name().toLowerCase());
-      ServiceLoader<MapperPackageProvider> loader = ServiceLoader.load(MapperPackageProvider.class);
-      for (MapperPackageProvider provider : loader) {
-        provider.getMapperClasses().forEach(configuration::addMapper);
+      String username = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER);
+      String password = config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWORD);
+      BasicDataSource dataSource =
+          createDataSource(
+              jdbcUrl,
+              driverClass,
+              username,
+              password,
+              config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_MAX_CONNECTIONS),
+              config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
+
+      // Initialize the read replica if it is configured, it must be the same kind of database
+      Optional<String> replicaUrl =
+          Config.getOrDefault(config, Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL);
+      if (replicaUrl.filter(StringUtils::isNotBlank).isPresent()) {
+        JdbcUrlUtils.validateJdbcConfig(driverClass, replicaUrl.get(), config.getAllConfig());
+        Preconditions.checkArgument(
+            JDBCBackendType.fromURI(replicaUrl.get()) == jdbcType,
+            "The read replica must be the same type of database as %s",
+            jdbcUrl);
+
+        BasicDataSource replicaDataSource =
+            createDataSource(
+                replicaUrl.get(),
+                driverClass,
+                config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER).orElse(username),
+                config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD).orElse(password),
+                config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_MAX_CONNECTIONS),
+                config.get(Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS));
+        // Fail fast if a write is sent to the replica by mistake
+        replicaDataSource.setDefaultReadOnly(true);
+        readReplicaRouter =
+            new ReadReplicaRouter(
+                createSqlSessionFactory(replicaDataSource, jdbcType),
+                replicaDataSource,
+                jdbcType,
+                config.get(Configs.ENTITY_RELATIONAL_READ_REPLICA_MAX_LAG_MS));
+        readReplicaRouter.start();
       }
 
       MetricsSystem metricsSystem = GravitinoEnv.getInstance().metricsSystem();
-      // Add null check to avoid NPE when metrics system is not initialized in test environments
       if (metricsSystem != null) {
         // Register connection pool metrics when metrics system is available
-        metricsSystem.register(new RelationDatasourceMetricsSource(dataSource));
+        metricsSystem.register(new RelationDatasourceMetricsSource(dataSource, readReplicaRouter));
       }
 
       // Create the SqlSessionFactory object, it is a singleton object
-      sqlSessionFactory = new SqlSessionFactoryBuilder().build(configuration);
+      sqlSessionFactory = createSqlSessionFactory(dataSource, jdbcType);
+    }
+  }
+
+  @SuppressWarnings("deprecation")
+  private static BasicDataSource createDataSource(
+      String jdbcUrl,
+      String driverClass,
+      String username,
+      String password,
+      int maxConnections,
+      long maxWaitMillis) {
+    BasicDataSource dataSource = new BasicDataSource();
+    dataSource.setUrl(jdbcUrl);
+    dataSource.setDriverClassName(driverClass);
+    dataSource.setUsername(username);
+    dataSource.setPassword(password);
+    // Close the auto commit, so that we can control the transaction manual commit
+    dataSource.setDefaultAutoCommit(false);
+    dataSource.setMaxWaitMillis(maxWaitMillis);
+    dataSource.setMaxTotal(maxConnections);
+    dataSource.setMaxIdle(5);
+    dataSource.setMinIdle(0);
+    dataSource.setLogAbandoned(true);
+    dataSource.setRemoveAbandonedOnBorrow(true);
+    dataSource.setRemoveAbandonedTimeout(60);
+    dataSource.setTimeBetweenEvictionRunsMillis(Duration.ofMillis(10 * 60 * 1000L).toMillis());
+    dataSource.setTestOnBorrow(true);
+    dataSource.setTestWhileIdle(true);
+    dataSource.setMinEvictableIdleTimeMillis(1000);
+    dataSource.setNumTestsPerEvictionRun(BaseObjectPoolConfig.DEFAULT_NUM_TESTS_PER_EVICTION_RUN);
+    dataSource.setTestOnReturn(BaseObjectPoolConfig.DEFAULT_TEST_ON_RETURN);
+    dataSource.setSoftMinEvictableIdleTimeMillis(
+        BaseObjectPoolConfig.DEFAULT_SOFT_MIN_EVICTABLE_IDLE_TIME.toMillis());
+    dataSource.setLifo(BaseObjectPoolConfig.DEFAULT_LIFO);
+    return dataSource;
+  }
+
+  private static SqlSessionFactory createSqlSessionFactory(
+      BasicDataSource dataSource, JDBCBackendType jdbcType) {
+    // Create the transaction factory and env
+    TransactionFactory transactionFactory = new JdbcTransactionFactory();
+    Environment environment = new Environment("development", transactionFactory, dataSource);
+
+    // Initialize the configuration
+    Configuration configuration = new Configuration(environment);
+    configuration.setDatabaseId(jdbcType.name().toLowerCase());
+    ServiceLoader<MapperPackageProvider> loader = ServiceLoader.load(MapperPackageProvider.class);
+    for (MapperPackageProvider provider : loader) {
+      provider.getMapperClasses().forEach(configuration::addMapper);
     }
+
+    return new SqlSessionFactoryBuilder().build(configuration);
   }
 
   public SqlSessionFactory getSqlSessionFactory() {
@@ -132,6 +188,16 @@ public class SqlSessionFactoryHelper {
     return sqlSessionFactory;
   }
 
+  /**
+   * Get the router of the read replica.
+   *
+   * @return The router, or null if no read replica is configured.
+   */
+  @Nullable
+  public ReadReplicaRouter getReadReplicaRouter() {
+    return readReplicaRouter;
+  }
+
   public void close() {
     if (sqlSessionFactory != null) {
       synchronized (SqlSessionFactoryHelper.class) {
@@ -145,6 +211,11 @@ public class SqlSessionFactoryHelper {
             // silently ignore the error report
           }
           sqlSessionFactory = null;
+
+          if (readReplicaRouter != null) {
+            readReplicaRouter.close();
+            readReplicaRouter = null;
+          }
         }
       }
     }
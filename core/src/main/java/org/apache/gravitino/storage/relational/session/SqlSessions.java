@@ -36,6 +36,9 @@ public final class SqlSessions {
   private static final ThreadLocal<SqlSession> sessions = new ThreadLocal<>();
   private static final ThreadLocal<AtomicInteger> sessionCount =
       ThreadLocal.withInitial(() -> new AtomicInteger(0));
+  // Whether the session of the current thread is opened against the read replica.
+  private static final ThreadLocal<Boolean> replicaSessions =
+      ThreadLocal.withInitial(() -> Boolean.FALSE);
 
   private SqlSessions() {}
 
@@ -69,6 +72,34 @@ public final class SqlSessions {
     return sqlSession;
   }
 
+  /**
+   * Get the SqlSession object for read-only operations. If the SqlSession object is not present in
+   * the thread local, then create a new one against the read replica when {@link ReadReplicaRouter}
+   * allows it, or against the primary database otherwise. If a SqlSession object is already
+   * present, it is reused so the reads of a transaction see its own writes. This method also
+   * increments the session count.
+   *
+   * @return SqlSession object from the thread local storage.
+   */
+  public static SqlSession getReadOnlySqlSession() {
+    if (sessions.get() == null) {
+      ReadReplicaRouter router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+      if (router != null && router.routeToReplica()) {
+        sessions.set(
+            router
+                .getReplicaSqlSessionFactory()
+                .openSession(TransactionIsolationLevel.READ_COMMITTED));
+        replicaSessions.set(Boolean.TRUE);
+      }
+    }
+    return getSqlSession();
+  }
+
+  @VisibleForTesting
+  static boolean isReplicaSession() {
+    return replicaSessions.get();
+  }
+
   /**
    * Commit the SqlSession object and close it. It also removes the SqlSession object from the
    * thread local storage.
@@ -114,6 +145,9 @@ public final class SqlSessions {
       try {
         if (commit) {
           sqlSession.commit();
+          if (!replicaSessions.get()) {
+            markWriteCommitted();
+          }
         } else if (rollback) {
           sqlSession.rollback();
         }
@@ -125,6 +159,7 @@ public final class SqlSessions {
           // Ensure ThreadLocal is always cleaned up
           sessions.remove();
           sessionCount.remove();
+          replicaSessions.remove();
         }
       }
     } else if (count < 0) {
@@ -134,6 +169,14 @@ public final class SqlSessions {
           "Session count is negative: {}. Resetting session count and removing session.", count);
       sessions.remove();
       sessionCount.remove();
+      replicaSessions.remove();
+    }
+  }
+
+  private static void markWriteCommitted() {
+    ReadReplicaRouter router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+    if (router != null) {
+      router.markWrite();
     }
   }
 }
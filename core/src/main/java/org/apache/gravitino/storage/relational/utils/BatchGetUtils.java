@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.utils;
+
+import com.google.common.collect.Lists;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+
+/**
+ * This class provides utility methods to get entities by a batch of identifiers, with one IN list
+ * query per namespace instead of one query per identifier.
+ */
+public class BatchGetUtils {
+
+  /** The maximum number of names bound in the IN list of a single query. */
+  public static final int MAX_NAMES_PER_STATEMENT = 500;
+
+  private BatchGetUtils() {}
+
+  /**
+   * Groups the identifiers by namespace and fetches the entities of each namespace in chunks of at
+   * most {@link #MAX_NAMES_PER_STATEMENT} names. Identifiers whose entity or parent entity does not
+   * exist are omitted from the result.
+   *
+   * @param identifiers The identifiers of the entities to get.
+   * @param fetcher Fetches the entities of the given names under the given namespace.
+   * @param <E> The type of the entities.
+   * @return The entities found, grouped by namespace in the order of the identifiers.
+   */
+  public static <E> List<E> batchGetByNamespace(
+      List<NameIdentifier> identifiers, BiFunction<Namespace, List<String>, List<E>> fetcher) {
+    Map<Namespace, Set<String>> namesByNamespace = new LinkedHashMap<>();
+    for (NameIdentifier identifier : identifiers) {
+      namesByNamespace
+          .computeIfAbsent(identifier.namespace(), k -> new LinkedHashSet<>())
+          .add(identifier.name());
+    }
+
+    List<E> entities = new ArrayList<>(identifiers.size());
+    for (Map.Entry<Namespace, Set<String>> entry : namesByNamespace.entrySet()) {
+      List<String> allNames = new ArrayList<>(entry.getValue());
+      try {
+        for (List<String> names : Lists.partition(allNames, MAX_NAMES_PER_STATEMENT)) {
+          entities.addAll(fetcher.apply(entry.getKey(), names));
+        }
+      } catch (NoSuchEntityException e) {
+        // The parent of the namespace does not exist, so none of its entities do.
+      }
+    }
+    return entities;
+  }
+}
@@ -27,6 +27,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.gravitino.Catalog;
@@ -363,7 +364,9 @@ public class POConverters {
           .withName(schemaPO.getSchemaName())
           .withNamespace(namespace)
           .withComment(schemaPO.getSchemaComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class))
+          .withLazyProperties(
+              lazyDecode(
+                  () -> JsonUtils.anyFieldMapper().readValue(schemaPO.getProperties(), Map.class)))
           .withAuditInfo(
               JsonUtils.anyFieldMapper().readValue(schemaPO.getAuditInfo(), AuditInfo.class))
           .build();
@@ -515,14 +518,6 @@ public class POConverters {
   public static TableEntity fromTableAndColumnPOs(
       TablePO tablePO, List<ColumnPO> columnPOs, Namespace namespace) {
     try {
-      Map<String, String> properties =
-          StringUtils.isBlank(tablePO.getProperties())
-              ? Maps.newHashMap()
-              : JsonUtils.anyFieldMapper().readValue(tablePO.getProperties(), Map.class);
-      if (StringUtils.isNotBlank(tablePO.getFormat())) {
-        properties.put(Table.PROPERTY_TABLE_FORMAT, tablePO.getFormat());
-      }
-
       return TableEntity.builder()
           .withId(tablePO.getTableId())
           .withName(tablePO.getTableName())
@@ -530,31 +525,40 @@ public class POConverters {
           .withColumns(fromColumnPOs(columnPOs))
           .withAuditInfo(
               JsonUtils.anyFieldMapper().readValue(tablePO.getAuditInfo(), AuditInfo.class))
-          .withDistribution(
-              StringUtils.isBlank(tablePO.getDistribution())
-                  ? null
-                  : DTOConverters.fromDTO(
-                      JsonUtils.anyFieldMapper()
-                          .readValue(tablePO.getDistribution(), DistributionDTO.class)))
-          .withSortOrders(
-              StringUtils.isBlank(tablePO.getSortOrders())
-                  ? null
-                  : DTOConverters.fromDTOs(
-                      JsonUtils.anyFieldMapper()
-                          .readValue(tablePO.getSortOrders(), SortOrderDTO[].class)))
-          .withIndexes(
-              StringUtils.isBlank(tablePO.getIndexes())
-                  ? null
-                  : DTOConverters.fromDTOs(
-                      JsonUtils.anyFieldMapper().readValue(tablePO.getIndexes(), IndexDTO[].class)))
+          .withLazyDistribution(
+              lazyDecode(
+                  () ->
+                      StringUtils.isBlank(tablePO.getDistribution())
+                          ? null
+                          : DTOConverters.fromDTO(
+                              JsonUtils.anyFieldMapper()
+                                  .readValue(tablePO.getDistribution(), DistributionDTO.class))))
+          .withLazySortOrders(
+              lazyDecode(
+                  () ->
+                      StringUtils.isBlank(tablePO.getSortOrders())
+                          ? null
+                          : DTOConverters.fromDTOs(
+                              JsonUtils.anyFieldMapper()
+                                  .readValue(tablePO.getSortOrders(), SortOrderDTO[].class))))
+          .withLazyIndexes(
+              lazyDecode(
+                  () ->
+                      StringUtils.isBlank(tablePO.getIndexes())
+                          ? null
+                          : DTOConverters.fromDTOs(
+                              JsonUtils.anyFieldMapper()
+                                  .readValue(tablePO.getIndexes(), IndexDTO[].class))))
           // TODO add field partition, distribution and sort order;
-          .withPartitioning(
-              StringUtils.isBlank(tablePO.getPartitions())
-                  ? null
-                  : JsonUtils.anyFieldMapper()
-                      .readValue(tablePO.getPartitions(), Partitioning[].class))
+          .withLazyPartitioning(
+              lazyDecode(
+                  () ->
+                      StringUtils.isBlank(tablePO.getPartitions())
+                          ? null
+                          : JsonUtils.anyFieldMapper()
+                              .readValue(tablePO.getPartitions(), Partitioning[].class)))
           .withComment(tablePO.getComment())
-          .withProperties(properties)
+          .withLazyProperties(lazyDecode(() -> fromTablePOProperties(tablePO)))
           .withColumns(fromColumnPOs(columnPOs))
           .build();
     } catch (JsonProcessingException e) {
@@ -562,6 +566,18 @@ public class POConverters {
     }
   }
 
+  private static Map<String, String> fromTablePOProperties(TablePO tablePO)
+      throws JsonProcessingException {
+    Map<String, String> properties =
+        StringUtils.isBlank(tablePO.getProperties())
+            ? Maps.newHashMap()
+            : JsonUtils.anyFieldMapper().readValue(tablePO.getProperties(), Map.class);
+    if (StringUtils.isNotBlank(tablePO.getFormat())) {
+      properties.put(Table.PROPERTY_TABLE_FORMAT, tablePO.getFormat());
+    }
+    return properties;
+  }
+
   public static ColumnEntity fromColumnPO(ColumnPO columnPO) {
     try {
       return ColumnEntity.builder()
@@ -872,7 +888,9 @@ public class POConverters {
           .withName(topicPO.getTopicName())
           .withNamespace(namespace)
           .withComment(topicPO.getComment())
-          .withProperties(JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class))
+          .withLazyProperties(
+              lazyDecode(
+                  () -> JsonUtils.anyFieldMapper().readValue(topicPO.getProperties(), Map.class)))
           .withAuditInfo(
               JsonUtils.anyFieldMapper().readValue(topicPO.getAuditInfo(), AuditInfo.class))
           .build();
@@ -1575,8 +1593,11 @@ public class POConverters {
           .withNamespace(namespace)
           .withComment(modelPO.getModelComment())
           .withLatestVersion(modelPO.getModelLatestVersion())
-          .withProperties(
-              JsonUtils.anyFieldMapper().readValue(modelPO.getModelProperties(), Map.class))
+          .withLazyProperties(
+              lazyDecode(
+                  () ->
+                      JsonUtils.anyFieldMapper()
+                          .readValue(modelPO.getModelProperties(), Map.class)))
           .withAuditInfo(
               JsonUtils.anyFieldMapper().readValue(modelPO.getAuditInfo(), AuditInfo.class))
           .build();
@@ -1781,4 +1802,24 @@ public class POConverters {
         .withDeletedAt(DEFAULT_DELETED_AT)
         .build();
   }
+
+  /**
+   * Wraps the decoding of a JSON column into a supplier, so that the entity decodes the column on
+   * first access instead of when it is loaded. Most list and authorization paths never read the
+   * properties, partitioning or sort orders of the entities they load.
+   */
+  private static <T> Supplier<T> lazyDecode(JsonDecoder<T> decoder) {
+    return () -> {
+      try {
+        return decoder.decode();
+      } catch (JsonProcessingException e) {
+        throw new RuntimeException("Failed to deserialize json object:", e);
+      }
+    };
+  }
+
+  @FunctionalInterface
+  private interface JsonDecoder<T> {
+    T decode() throws JsonProcessingException;
+  }
 }
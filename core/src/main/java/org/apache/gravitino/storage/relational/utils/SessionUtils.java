@@ -19,7 +19,10 @@
 
 package org.apache.gravitino.storage.relational.utils;
 
+import com.google.common.collect.Lists;
 import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
@@ -29,6 +32,13 @@ import org.apache.gravitino.storage.relational.session.SqlSessions;
  * SqlSession.
  */
 public class SessionUtils {
+
+  /**
+   * The maximum number of rows written by a single multi-row INSERT statement. Longer lists are
+   * split into several statements to stay within the bind parameter limit of the JDBC drivers.
+   */
+  public static final int MAX_ROWS_PER_STATEMENT = 1000;
+
   private SessionUtils() {}
 
   /**
@@ -76,6 +86,37 @@ public class SessionUtils {
     }
   }
 
+  /**
+   * Performs a read-only database operation without a commit. Unlike {@link #getWithoutCommit}, a
+   * standalone call may be served by the read replica if one is configured. When nested within
+   * other transactions, it reuses their session and sees their uncommitted writes.
+   */
+  public static <T, R> R getReadOnly(Class<T> mapperClazz, Function<T, R> func) {
+    try {
+      T mapper = SqlSessions.getReadOnlySqlSession().getMapper(mapperClazz);
+      return func.apply(mapper);
+    } finally {
+      // This will decrement the counter, the session is closed only when the counter is 0.
+      SqlSessions.closeSqlSession();
+    }
+  }
+
+  /**
+   * Performs a group of read-only database operations in one session. A standalone call may be
+   * served by the read replica if one is configured, all the nested operations then share the
+   * replica session. When nested within other transactions, it reuses their session and sees their
+   * uncommitted writes.
+   */
+  public static <R, E extends Exception> R doReadOnly(ReadOnlyOperation<R, E> operation) throws E {
+    SqlSessions.getReadOnlySqlSession();
+    try {
+      return operation.get();
+    } finally {
+      // This will decrement the counter, the session is closed only when the counter is 0.
+      SqlSessions.closeSqlSession();
+    }
+  }
+
   /**
    * Performs a database operation without a commit. Can be used standalone or nested within other
    * transactions. This method is for operations that do not return a result.
@@ -90,6 +131,24 @@ public class SessionUtils {
     }
   }
 
+  /**
+   * Performs a multi-row write without a commit, splitting the rows into statements of at most
+   * {@link #MAX_ROWS_PER_STATEMENT} rows. Can be used standalone or nested within other
+   * transactions. Empty lists are ignored.
+   */
+  public static <T, R> void doBatchWithoutCommit(
+      Class<T> mapperClazz, List<R> rows, BiConsumer<T, List<R>> consumer) {
+    if (rows == null || rows.isEmpty()) {
+      return;
+    }
+
+    doWithoutCommit(
+        mapperClazz,
+        mapper ->
+            Lists.partition(rows, MAX_ROWS_PER_STATEMENT)
+                .forEach(chunk -> consumer.accept(mapper, chunk)));
+  }
+
   /**
    * Performs multiple database operations within a single commit. Manages the full transaction
    * lifecycle.
@@ -107,6 +166,24 @@ public class SessionUtils {
     }
   }
 
+  /**
+   * Performs a group of database operations within a single commit and fetches a result. Unlike
+   * {@link #doMultipleWithCommit}, the operations may throw checked exceptions. Manages the full
+   * transaction lifecycle. Can be nested within other transactions.
+   */
+  public static <R, E extends Exception> R doMultipleWithCommitAndFetchResult(
+      WriteOperation<R, E> operation) throws E {
+    SqlSessions.getSqlSession();
+    try {
+      R result = operation.get();
+      SqlSessions.commitAndCloseSqlSession();
+      return result;
+    } catch (Exception e) {
+      SqlSessions.rollbackAndCloseSqlSession();
+      throw e;
+    }
+  }
+
   public static void beginTransaction() {
     SqlSessions.getSqlSession();
   }
@@ -118,4 +195,26 @@ public class SessionUtils {
   public static void rollbackTransaction() {
     SqlSessions.rollbackAndCloseSqlSession();
   }
+
+  /**
+   * A read-only operation run by {@link #doReadOnly}.
+   *
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the operation.
+   */
+  @FunctionalInterface
+  public interface ReadOnlyOperation<R, E extends Exception> {
+    R get() throws E;
+  }
+
+  /**
+   * A write operation run by {@link #doMultipleWithCommitAndFetchResult}.
+   *
+   * @param <R> The type of the result.
+   * @param <E> The type of the exception thrown by the operation.
+   */
+  @FunctionalInterface
+  public interface WriteOperation<R, E extends Exception> {
+    R get() throws E;
+  }
 }
@@ -32,6 +32,7 @@ import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 public class TestConfig {
 
@@ -153,6 +154,28 @@ public class TestConfig {
     Assertions.assertEquals(Optional.of(2), intValue);
   }
 
+  @Test
+  public void testGetOrDefault() {
+    ConfigEntry<Integer> intConf =
+        new ConfigBuilder("gravitino.test.test-int").intConf().createWithDefault(10);
+    ConfigEntry<Optional<String>> optionalConf =
+        new ConfigBuilder("gravitino.test.test-optional").stringConf().createWithOptional();
+    ConfigEntry<String> stringConf = new ConfigBuilder("test").stringConf();
+
+    DummyConfig config = new DummyConfig(true);
+    Assertions.assertEquals(1, Config.getOrDefault(config, intConf));
+
+    // A mocked config returns null for the entries it doesn't stub
+    Config mockConfig = Mockito.mock(Config.class);
+    Assertions.assertEquals(10, Config.getOrDefault(mockConfig, intConf));
+    Assertions.assertEquals(Optional.empty(), Config.getOrDefault(mockConfig, optionalConf));
+    Assertions.assertThrows(
+        NoSuchElementException.class, () -> Config.getOrDefault(mockConfig, stringConf));
+
+    Mockito.when(mockConfig.get(intConf)).thenReturn(5);
+    Assertions.assertEquals(5, Config.getOrDefault(mockConfig, intConf));
+  }
+
   @Test
   public void testTrimmedValues() {
     Map<String, String> props = new HashMap<>();
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Sets;
+import java.util.Set;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.SupportsRelationOperations;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCacheKeyTrie {
+  private EntityCacheKeyTrie<EntityCacheKey> trie;
+
+  private EntityCacheKey metalake;
+  private EntityCacheKey catalog1;
+  private EntityCacheKey catalog10;
+  private EntityCacheKey schema1;
+  private EntityCacheKey table1;
+  private EntityCacheKey table10;
+
+  @BeforeEach
+  void setUp() {
+    trie = new EntityCacheKeyTrie<>();
+
+    metalake = EntityCacheKey.of(NameIdentifier.of("metalake"), Entity.EntityType.METALAKE);
+    catalog1 =
+        EntityCacheKey.of(NameIdentifier.of("metalake", "catalog1"), Entity.EntityType.CATALOG);
+    catalog10 =
+        EntityCacheKey.of(NameIdentifier.of("metalake", "catalog10"), Entity.EntityType.CATALOG);
+    schema1 =
+        EntityCacheKey.of(
+            NameIdentifier.of("metalake", "catalog1", "schema1"), Entity.EntityType.SCHEMA);
+    table1 =
+        EntityCacheKey.of(
+            NameIdentifier.of("metalake", "catalog1", "schema1", "table1"),
+            Entity.EntityType.TABLE);
+    table10 =
+        EntityCacheKey.of(
+            NameIdentifier.of("metalake", "catalog10", "schema1", "table1"),
+            Entity.EntityType.TABLE);
+
+    ImmutableSet.of(metalake, catalog1, catalog10, schema1, table1, table10)
+        .forEach(key -> trie.put(key, key));
+  }
+
+  @Test
+  void testPutAndGet() {
+    Assertions.assertEquals(6, trie.size());
+    Assertions.assertEquals(table1, trie.get(table1));
+    Assertions.assertNull(
+        trie.get(EntityCacheKey.of(table1.identifier(), Entity.EntityType.FILESET)));
+    Assertions.assertNull(
+        trie.get(
+            EntityCacheKey.of(
+                NameIdentifier.of("metalake", "catalog1", "schema1", "table2"),
+                Entity.EntityType.TABLE)));
+
+    Assertions.assertEquals(table1, trie.put(table1, table10));
+    Assertions.assertEquals(table10, trie.get(table1));
+    Assertions.assertEquals(6, trie.size());
+  }
+
+  @Test
+  void testValuesUnder() {
+    Assertions.assertEquals(
+        ImmutableSet.of(catalog1, schema1, table1),
+        Sets.newHashSet(trie.valuesUnder(catalog1.identifier())));
+    Assertions.assertEquals(
+        ImmutableSet.of(catalog10, table10),
+        Sets.newHashSet(trie.valuesUnder(catalog10.identifier())));
+    Assertions.assertEquals(6, trie.valuesUnder(metalake.identifier()).size());
+    Assertions.assertTrue(trie.valuesUnder(NameIdentifier.of("metalake", "catalog")).isEmpty());
+  }
+
+  @Test
+  void testRelationKeysDoNotReplaceEntityKeys() {
+    EntityCacheRelationKey relationKey =
+        EntityCacheRelationKey.of(
+            catalog1.identifier(),
+            Entity.EntityType.CATALOG,
+            SupportsRelationOperations.Type.ROLE_USER_REL);
+    trie.put(relationKey, relationKey);
+
+    Assertions.assertEquals(7, trie.size());
+    Assertions.assertEquals(catalog1, trie.get(catalog1));
+    Assertions.assertEquals(relationKey, trie.get(relationKey));
+    Assertions.assertTrue(trie.valuesUnder(catalog1.identifier()).contains(relationKey));
+
+    Assertions.assertEquals(relationKey, trie.remove(relationKey));
+    Assertions.assertEquals(catalog1, trie.get(catalog1));
+  }
+
+  @Test
+  void testRemovePrunesEmptyNodes() {
+    Assertions.assertEquals(table1, trie.remove(table1));
+    Assertions.assertNull(trie.remove(table1));
+    Assertions.assertNull(trie.get(table1));
+    Assertions.assertEquals(5, trie.size());
+
+    trie.remove(schema1);
+    trie.remove(catalog1);
+    Assertions.assertTrue(trie.valuesUnder(catalog1.identifier()).isEmpty());
+    Assertions.assertEquals(ImmutableSet.of(metalake, catalog10, table10), collectKeys());
+
+    trie.put(table1, table1);
+    Assertions.assertEquals(table1, trie.get(table1));
+    Assertions.assertEquals(
+        ImmutableSet.of(table1), Sets.newHashSet(trie.valuesUnder(catalog1.identifier())));
+  }
+
+  @Test
+  void testClear() {
+    trie.clear();
+
+    Assertions.assertEquals(0, trie.size());
+    Assertions.assertTrue(collectKeys().isEmpty());
+    Assertions.assertNull(trie.get(metalake));
+  }
+
+  private Set<EntityCacheKey> collectKeys() {
+    Set<EntityCacheKey> keys = Sets.newHashSet();
+    trie.forEach((key, value) -> keys.add(key));
+    return keys;
+  }
+}
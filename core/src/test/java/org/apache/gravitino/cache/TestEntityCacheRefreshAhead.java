@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TableEntity;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCacheRefreshAhead {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testAgingEntryIsRefreshedInBackground() {
+    CaffeineEntityCache cache = newCache(true);
+    TableEntity table = table(ImmutableMap.of("version", "1"));
+    TableEntity reloaded = table(ImmutableMap.of("version", "2"));
+    AtomicInteger loads = new AtomicInteger();
+    cache.setRefreshLoader(
+        (ident, type) -> {
+          loads.incrementAndGet();
+          return reloaded;
+        });
+    cache.put(table);
+
+    // The entry read after the refresh age is served while it is reloaded.
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () -> {
+              Optional<TableEntity> cached = getTable(cache, table);
+              Assertions.assertTrue(cached.isPresent());
+              return loads.get() > 0;
+            });
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> getTable(cache, table).equals(Optional.of(reloaded)));
+  }
+
+  @Test
+  void testRefreshDoesNotResurrectInvalidatedEntry() throws InterruptedException {
+    CaffeineEntityCache cache = newCache(true);
+    TableEntity table = table(ImmutableMap.of("version", "1"));
+    CountDownLatch loadStarted = new CountDownLatch(1);
+    CountDownLatch writeDone = new CountDownLatch(1);
+    CountDownLatch refreshDone = new CountDownLatch(1);
+    cache.setRefreshLoader(
+        (ident, type) -> {
+          loadStarted.countDown();
+          try {
+            writeDone.await();
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+          }
+          refreshDone.countDown();
+          return table(ImmutableMap.of("version", "stale"));
+        });
+    cache.put(table);
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () -> {
+              getTable(cache, table);
+              return loadStarted.getCount() == 0;
+            });
+
+    // A concurrent write invalidates the entry while the stale value is being loaded.
+    cache.invalidate(table.nameIdentifier(), Entity.EntityType.TABLE);
+    writeDone.countDown();
+    Assertions.assertTrue(refreshDone.await(5, TimeUnit.SECONDS));
+
+    Awaitility.await()
+        .during(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> !cache.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testEntryDeletedFromStoreIsDropped() {
+    CaffeineEntityCache cache = newCache(true);
+    TableEntity table = table(ImmutableMap.of("version", "1"));
+    cache.setRefreshLoader(
+        (ident, type) -> {
+          throw new NoSuchEntityException("No such entity %s", ident);
+        });
+    cache.put(table);
+
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> getTable(cache, table).isEmpty());
+  }
+
+  @Test
+  void testRefreshAheadDisabled() {
+    CaffeineEntityCache cache = newCache(false);
+    TableEntity table = table(ImmutableMap.of("version", "1"));
+    AtomicInteger loads = new AtomicInteger();
+    cache.setRefreshLoader(
+        (ident, type) -> {
+          loads.incrementAndGet();
+          return table;
+        });
+    cache.put(table);
+
+    Awaitility.await()
+        .pollDelay(Duration.ofMillis(300))
+        .atMost(Duration.ofSeconds(5))
+        .until(() -> getTable(cache, table).isPresent());
+    Assertions.assertEquals(0, loads.get());
+  }
+
+  private CaffeineEntityCache newCache(boolean refreshAheadEnabled) {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_EXPIRATION_TIME, 60_000L);
+    config.set(Configs.CACHE_REFRESH_AHEAD_ENABLED, refreshAheadEnabled);
+    // Entries are refreshed when read after 60 ms.
+    config.set(Configs.CACHE_REFRESH_AHEAD_FACTOR, 0.001);
+    return new CaffeineEntityCache(config);
+  }
+
+  private static Optional<TableEntity> getTable(CaffeineEntityCache cache, TableEntity table) {
+    return cache.getIfPresent(table.nameIdentifier(), Entity.EntityType.TABLE);
+  }
+
+  private TableEntity table(ImmutableMap<String, String> properties) {
+    return TableEntity.builder()
+        .withId(1L)
+        .withName("table1")
+        .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+        .withProperties(properties)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
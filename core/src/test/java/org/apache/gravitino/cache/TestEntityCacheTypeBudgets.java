@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.codahale.metrics.Gauge;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.EntityCacheMetricsSource;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityCacheTypeBudgets {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  @Test
+  void testBurstOfTablesDoesNotEvictUsers() {
+    CaffeineEntityCache cache = newCache(false);
+    for (int i = 0; i < 3; i++) {
+      cache.put(user(i, "user" + i));
+    }
+    for (int i = 0; i < 20; i++) {
+      cache.put(table(100 + i, "table" + i));
+    }
+    cache.getCacheData().cleanUp();
+    cache.getCacheData(Entity.EntityType.USER).cleanUp();
+
+    Assertions.assertEquals(2, cache.getCacheData().estimatedSize());
+    Assertions.assertEquals(3, cache.getCacheData(Entity.EntityType.USER).estimatedSize());
+    for (int i = 0; i < 3; i++) {
+      Assertions.assertTrue(
+          cache.contains(user(i, "user" + i).nameIdentifier(), Entity.EntityType.USER));
+    }
+
+    // The partitions are invalidated together with the main budget.
+    cache.clear();
+    Assertions.assertEquals(0, cache.getCacheData(Entity.EntityType.USER).estimatedSize());
+  }
+
+  @Test
+  void testEntityTypeStatistics() {
+    Assertions.assertNull(newCache(false).getMetricsSource());
+
+    CaffeineEntityCache cache = newCache(true);
+    EntityCacheMetricsSource metricsSource = cache.getMetricsSource();
+    UserEntity user = user(1L, "user1");
+    cache.put(user);
+    cache.getIfPresent(user.nameIdentifier(), Entity.EntityType.USER);
+    cache.getIfPresent(user(2L, "user2").nameIdentifier(), Entity.EntityType.USER);
+    cache.recordLoad(Entity.EntityType.USER, Duration.ofMillis(5).toNanos());
+
+    Assertions.assertEquals(1, metricsSource.hits(Entity.EntityType.USER).getCount());
+    Assertions.assertEquals(1, metricsSource.misses(Entity.EntityType.USER).getCount());
+    Assertions.assertEquals(1, metricsSource.loads(Entity.EntityType.USER).getCount());
+    Assertions.assertEquals(0, metricsSource.hits(Entity.EntityType.TABLE).getCount());
+    Assertions.assertEquals(0.5, gauge(metricsSource, "user." + MetricNames.CACHE_HIT_RATE));
+    Assertions.assertEquals(1L, gauge(metricsSource, "user." + MetricNames.CACHE_WEIGHTED_SIZE));
+
+    // The tables beyond the main budget are evicted and counted for their own type.
+    for (int i = 0; i < 5; i++) {
+      cache.put(table(100 + i, "table" + i));
+    }
+    cache.getCacheData().cleanUp();
+    Assertions.assertEquals(3, metricsSource.evictions(Entity.EntityType.TABLE).getCount());
+    Assertions.assertEquals(0, metricsSource.evictions(Entity.EntityType.USER).getCount());
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                Long.valueOf(2L)
+                    .equals(gauge(metricsSource, "table." + MetricNames.CACHE_WEIGHTED_SIZE)));
+
+    cache.invalidate(user.nameIdentifier(), Entity.EntityType.USER);
+    Awaitility.await()
+        .atMost(Duration.ofSeconds(5))
+        .until(
+            () ->
+                Long.valueOf(0L)
+                    .equals(gauge(metricsSource, "user." + MetricNames.CACHE_WEIGHTED_SIZE)));
+  }
+
+  private CaffeineEntityCache newCache(boolean statsEnabled) {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 2);
+    config.set(Configs.CACHE_STATS_ENABLED, statsEnabled);
+    config.set(Configs.CACHE_ENTITY_TYPE_MAX_ENTRIES, Lists.newArrayList("USER:10"));
+    return new CaffeineEntityCache(config);
+  }
+
+  private static Object gauge(EntityCacheMetricsSource metricsSource, String name) {
+    Gauge<?> gauge = metricsSource.getMetricRegistry().getGauges().get(name);
+    return gauge.getValue();
+  }
+
+  private UserEntity user(long id, String name) {
+    return UserEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(NamespaceUtil.ofUser("metalake"))
+        .withRoleNames(Collections.emptyList())
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private TableEntity table(long id, String name) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+        .withProperties(ImmutableMap.of("key", "value"))
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import java.time.Instant;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestNegativeEntityCache {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private final NameIdentifier schemaIdent = NameIdentifier.of("metalake", "catalog", "schema");
+  private final NameIdentifier tableIdent =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  @Test
+  void testPutClearsNotFound() {
+    CaffeineEntityCache cache = new CaffeineEntityCache(negativeCacheEnabledConfig());
+    Assertions.assertTrue(cache.isNotFoundCacheEnabled());
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+
+    cache.putNotFound(tableIdent, Entity.EntityType.TABLE);
+    Assertions.assertTrue(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+    // The record is per entity type.
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TOPIC));
+
+    cache.put(table(tableIdent.name()));
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+
+    // The hits and misses of the negative tier are counted apart.
+    Assertions.assertEquals(1, cache.getNegativeCacheStats().hitCount());
+    Assertions.assertEquals(3, cache.getNegativeCacheStats().missCount());
+  }
+
+  @Test
+  void testRenamedParentClearsNotFoundChildren() {
+    CaffeineEntityCache cache = new CaffeineEntityCache(negativeCacheEnabledConfig());
+    cache.putNotFound(schemaIdent, Entity.EntityType.SCHEMA);
+    cache.putNotFound(tableIdent, Entity.EntityType.TABLE);
+    NameIdentifier otherTableIdent = NameIdentifier.of("metalake", "catalog", "other", "table");
+    cache.putNotFound(otherTableIdent, Entity.EntityType.TABLE);
+
+    // A schema renamed to this name brings its tables along.
+    cache.invalidateOnKeyChange(
+        SchemaEntity.builder()
+            .withId(1L)
+            .withName(schemaIdent.name())
+            .withNamespace(schemaIdent.namespace())
+            .withAuditInfo(AUDIT_INFO)
+            .build());
+    Assertions.assertFalse(cache.isNotFound(schemaIdent, Entity.EntityType.SCHEMA));
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+    Assertions.assertTrue(cache.isNotFound(otherTableIdent, Entity.EntityType.TABLE));
+
+    cache.invalidate(otherTableIdent, Entity.EntityType.TABLE);
+    Assertions.assertFalse(cache.isNotFound(otherTableIdent, Entity.EntityType.TABLE));
+
+    cache.putNotFound(tableIdent, Entity.EntityType.TABLE);
+    cache.clear();
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testNotFoundExpires() throws InterruptedException {
+    NegativeEntityCache negativeCache = new NegativeEntityCache(2, 50);
+    negativeCache.put(tableIdent, Entity.EntityType.TABLE);
+    Assertions.assertTrue(negativeCache.contains(tableIdent, Entity.EntityType.TABLE));
+
+    Thread.sleep(100);
+    Assertions.assertFalse(negativeCache.contains(tableIdent, Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testNegativeCacheDisabled() {
+    // The negative cache is disabled by default.
+    CaffeineEntityCache cache = new CaffeineEntityCache(new Config(false) {});
+    Assertions.assertFalse(cache.isNotFoundCacheEnabled());
+
+    cache.putNotFound(tableIdent, Entity.EntityType.TABLE);
+    Assertions.assertFalse(cache.isNotFound(tableIdent, Entity.EntityType.TABLE));
+    Assertions.assertEquals(0, cache.getNegativeCacheStats().requestCount());
+  }
+
+  private static Config negativeCacheEnabledConfig() {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_NEGATIVE_ENABLED, true);
+    return config;
+  }
+
+  private TableEntity table(String name) {
+    return TableEntity.builder()
+        .withId(2L)
+        .withName(name)
+        .withNamespace(tableIdent.namespace())
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.cache;
+
+import com.google.common.collect.ImmutableMap;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.relational.RelationalEntityCodec;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestSerializedEntityCache {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private final NameIdentifier schemaIdent = NameIdentifier.of("metalake", "catalog", "schema");
+
+  @Test
+  void testEvictedEntityIsPromotedBack() {
+    CaffeineEntityCache cache = newCache(true);
+    TableEntity table1 = table(1L, "table1");
+    TableEntity table2 = table(2L, "table2");
+    cache.put(table1);
+    cache.put(table2);
+    awaitDemotion(cache);
+
+    // One of the tables is evicted to the second tier, and both can still be read.
+    Assertions.assertEquals(1, cache.getCacheData().estimatedSize());
+    Assertions.assertEquals(1, cache.getSecondTier().size());
+    Assertions.assertTrue(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertTrue(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+
+    for (TableEntity table : new TableEntity[] {table1, table2}) {
+      Optional<TableEntity> cached =
+          cache.getIfPresent(table.nameIdentifier(), Entity.EntityType.TABLE);
+      Assertions.assertTrue(cached.isPresent());
+      Assertions.assertEquals(table, cached.get());
+      awaitDemotion(cache);
+    }
+    Assertions.assertTrue(cache.getSecondTier().stats().hitCount() >= 1);
+    Assertions.assertTrue(cache.getSecondTier().weightedSize() > 0);
+
+    // A promoted entity is indexed again, so it is invalidated with its schema.
+    cache.invalidate(schemaIdent, Entity.EntityType.SCHEMA);
+    Assertions.assertFalse(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertEquals(0, cache.getSecondTier().size());
+  }
+
+  @Test
+  void testPutAndClearDropSecondTier() {
+    CaffeineEntityCache cache = newCache(true);
+    TableEntity table1 = table(1L, "table1");
+    TableEntity table2 = table(2L, "table2");
+    cache.put(table1);
+    cache.put(table2);
+    awaitDemotion(cache);
+    Assertions.assertEquals(1, cache.getSecondTier().size());
+
+    cache.clear();
+    Assertions.assertEquals(0, cache.getSecondTier().size());
+    Assertions.assertFalse(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+
+    // Roles are not supported by the codec, they are dropped when evicted.
+    cache.put(role(3L, "role1"));
+    cache.put(role(4L, "role2"));
+    cache.getCacheData().cleanUp();
+    Assertions.assertEquals(1, cache.getCacheData().estimatedSize());
+    Assertions.assertEquals(0, cache.getSecondTier().size());
+  }
+
+  @Test
+  void testLoadTimeIsKeptAcrossTiers() throws InterruptedException {
+    CaffeineEntityCache cache = newCache(true, 1_000L);
+    TableEntity table1 = table(1L, "table1");
+    TableEntity table2 = table(2L, "table2");
+    cache.put(table1);
+    cache.put(table2);
+    awaitDemotion(cache);
+
+    // 600 ms after they were loaded, the tables are read, and moved between the tiers again.
+    Thread.sleep(600);
+    for (TableEntity table : new TableEntity[] {table1, table2}) {
+      Assertions.assertTrue(
+          cache.getIfPresent(table.nameIdentifier(), Entity.EntityType.TABLE).isPresent());
+      awaitDemotion(cache);
+    }
+
+    // Moving between the tiers didn't restart their expiration.
+    Thread.sleep(600);
+    Assertions.assertFalse(cache.contains(table1.nameIdentifier(), Entity.EntityType.TABLE));
+    Assertions.assertFalse(cache.contains(table2.nameIdentifier(), Entity.EntityType.TABLE));
+  }
+
+  @Test
+  void testSecondTierDisabled() {
+    Assertions.assertNull(newCache(false).getSecondTier());
+    Assertions.assertNull(new CaffeineEntityCache(new Config(false) {}).getSecondTier());
+  }
+
+  // The evicted entities are encoded into the second tier on another thread.
+  private void awaitDemotion(CaffeineEntityCache cache) {
+    cache.getCacheData().cleanUp();
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> cache.getSecondTier().size() == 1);
+  }
+
+  private CaffeineEntityCache newCache(boolean secondTierEnabled) {
+    return newCache(secondTierEnabled, Configs.CACHE_EXPIRATION_TIME.getDefaultValue());
+  }
+
+  private CaffeineEntityCache newCache(boolean secondTierEnabled, long expireTimeMillis) {
+    Config config = new Config(false) {};
+    config.set(Configs.CACHE_EXPIRATION_TIME, expireTimeMillis);
+    config.set(Configs.CACHE_WEIGHER_ENABLED, false);
+    config.set(Configs.CACHE_MAX_ENTRIES, 1);
+    config.set(Configs.CACHE_SECOND_TIER_ENABLED, secondTierEnabled);
+    config.set(Configs.CACHE_ENTITY_TYPE_MAX_ENTRIES, Collections.emptyList());
+    return new CaffeineEntityCache(config, new RelationalEntityCodec());
+  }
+
+  private TableEntity table(long id, String name) {
+    return TableEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake", "catalog", "schema"))
+        .withProperties(ImmutableMap.of("key", "value"))
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private RoleEntity role(long id, String name) {
+    return RoleEntity.builder()
+        .withId(id)
+        .withName(name)
+        .withNamespace(Namespace.of("metalake", "system", "role"))
+        .withProperties(null)
+        .withAuditInfo(AUDIT_INFO)
+        .withSecurableObjects(Collections.emptyList())
+        .build();
+  }
+}
@@ -0,0 +1,181 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Schema;
+import org.apache.gravitino.rel.Table;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestCatalogMetadataCache {
+
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+
+  private static final NameIdentifier TABLE =
+      NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+  @Test
+  public void testCreate() {
+    Assertions.assertNull(CatalogMetadataCache.create(null));
+    Assertions.assertNull(CatalogMetadataCache.create(ImmutableMap.of()));
+    Assertions.assertNull(
+        CatalogMetadataCache.create(
+            ImmutableMap.of(CatalogMetadataCache.METADATA_CACHE_ENABLED, "false")));
+    Assertions.assertNotNull(
+        CatalogMetadataCache.create(
+            ImmutableMap.of(CatalogMetadataCache.METADATA_CACHE_ENABLED, "true")));
+
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CatalogMetadataCache.create(
+                ImmutableMap.of(
+                    CatalogMetadataCache.METADATA_CACHE_ENABLED,
+                    "true",
+                    CatalogMetadataCache.METADATA_CACHE_TTL_MS,
+                    "0")));
+    IllegalArgumentException e =
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () ->
+                CatalogMetadataCache.create(
+                    ImmutableMap.of(
+                        CatalogMetadataCache.METADATA_CACHE_ENABLED,
+                        "true",
+                        CatalogMetadataCache.METADATA_CACHE_MAX_ENTRIES,
+                        "10k")));
+    Assertions.assertEquals(
+        "Property metadata-cache.max-entries must be a positive integer, but got '10k'",
+        e.getMessage());
+
+    // The cached metadata is shared by all the users, a catalog impersonating them can't use it.
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            CatalogMetadataCache.create(
+                ImmutableMap.of(
+                    CatalogMetadataCache.METADATA_CACHE_ENABLED,
+                    "true",
+                    "authentication.impersonation-enable",
+                    "true")));
+    Assertions.assertNotNull(
+        CatalogMetadataCache.create(
+            ImmutableMap.of(
+                CatalogMetadataCache.METADATA_CACHE_ENABLED,
+                "true",
+                "impersonation-enable",
+                "false")));
+  }
+
+  @Test
+  public void testLoadOnce() throws Exception {
+    CatalogMetadataCache cache = new CatalogMetadataCache(60_000L, 10);
+    Table table = Mockito.mock(Table.class);
+    AtomicInteger loads = new AtomicInteger();
+
+    for (int i = 0; i < 3; i++) {
+      Table loaded =
+          cache.getTable(
+              TABLE,
+              () -> {
+                loads.incrementAndGet();
+                return table;
+              });
+      Assertions.assertSame(table, loaded);
+    }
+    Assertions.assertEquals(1, loads.get());
+
+    // A failed load is not cached
+    Assertions.assertThrows(
+        RuntimeException.class,
+        () ->
+            cache.getSchema(
+                SCHEMA,
+                () -> {
+                  throw new RuntimeException("mock error");
+                }));
+    Assertions.assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void testInvalidate() throws Exception {
+    CatalogMetadataCache cache = new CatalogMetadataCache(60_000L, 10);
+    Schema schema = Mockito.mock(Schema.class);
+    Table table = Mockito.mock(Table.class);
+    NameIdentifier otherTable = NameIdentifier.of("metalake", "catalog", "schema2", "table");
+
+    cache.getSchema(SCHEMA, () -> schema);
+    cache.getTable(TABLE, () -> table);
+    cache.getTable(otherTable, () -> table);
+    Assertions.assertEquals(3, cache.size());
+
+    cache.invalidateTable(TABLE);
+    Assertions.assertEquals(2, cache.size());
+
+    cache.getTable(TABLE, () -> table);
+    cache.invalidateSchema(SCHEMA);
+    Assertions.assertEquals(1, cache.size());
+
+    cache.invalidateAll();
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testInvalidateDuringLoad() throws Exception {
+    CatalogMetadataCache cache = new CatalogMetadataCache(60_000L, 10);
+    Table table = Mockito.mock(Table.class);
+
+    // A write invalidating the table while it is loaded must not leave the stale table cached
+    Table loaded =
+        cache.getTable(
+            TABLE,
+            () -> {
+              cache.invalidateTable(TABLE);
+              return table;
+            });
+    Assertions.assertSame(table, loaded);
+    Assertions.assertEquals(0, cache.size());
+  }
+
+  @Test
+  public void testExpire() throws Exception {
+    CatalogMetadataCache cache = new CatalogMetadataCache(10L, 10);
+    AtomicInteger loads = new AtomicInteger();
+    Table table = Mockito.mock(Table.class);
+
+    cache.getTable(
+        TABLE,
+        () -> {
+          loads.incrementAndGet();
+          return table;
+        });
+    Thread.sleep(50);
+    cache.getTable(
+        TABLE,
+        () -> {
+          loads.incrementAndGet();
+          return table;
+        });
+    Assertions.assertEquals(2, loads.get());
+  }
+}
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.catalog;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.EntityStore;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.UserPrincipal;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLockUtils;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.utils.PrincipalUtils;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class TestEntityImporter {
+
+  private static final NameIdentifier CATALOG = NameIdentifier.of("metalake", "catalog");
+
+  private static final NameIdentifier SCHEMA = NameIdentifier.of("metalake", "catalog", "schema");
+
+  private static final NameIdentifier FIRST = NameIdentifier.of("metalake", "catalog", "first");
+
+  private EntityStore store;
+
+  private List<NameIdentifier> imported;
+
+  @BeforeAll
+  public static void setUp() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+  }
+
+  @BeforeEach
+  public void setUpStore() throws IOException {
+    store = mock(EntityStore.class);
+    imported = new CopyOnWriteArrayList<>();
+    doAnswer(
+            invocation -> {
+              List<? extends HasIdentifier> entities = invocation.getArgument(0);
+              entities.forEach(e -> imported.add(e.nameIdentifier()));
+              return null;
+            })
+        .when(store)
+        .batchPut(any(), anyBoolean());
+  }
+
+  @Test
+  public void testImportInBackground() throws Exception {
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch blocker = new CountDownLatch(1);
+
+    try (EntityImporter importer = new EntityImporter(store, 100, 10)) {
+      // Hold the worker so that the following imports are queued in one batch
+      Assertions.assertTrue(
+          importer.submit(
+              FIRST,
+              CATALOG,
+              () -> {
+                started.countDown();
+                await(blocker);
+                return null;
+              }));
+      Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+      NameIdentifier table1 = NameIdentifier.of("metalake", "catalog", "schema", "table1");
+      NameIdentifier table2 = NameIdentifier.of("metalake", "catalog", "schema", "table2");
+      Assertions.assertTrue(importer.submit(table1, SCHEMA, () -> table(table1)));
+      Assertions.assertTrue(importer.submit(table2, SCHEMA, () -> table(table2)));
+      Assertions.assertTrue(importer.submit(SCHEMA, CATALOG, () -> schema(SCHEMA)));
+      // A queued import is not queued twice
+      Assertions.assertTrue(importer.submit(table1, SCHEMA, () -> table(table1)));
+
+      blocker.countDown();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.pendingImports() == 0);
+
+      // The schema is imported before the tables under it, the tables with one batch put
+      Assertions.assertEquals(ImmutableList.of(SCHEMA, table1, table2), imported);
+      verify(store, times(2)).batchPut(any(), anyBoolean());
+      verify(store, never()).put(any(), anyBoolean());
+    }
+  }
+
+  @Test
+  public void testLoadOutsideLock() throws Exception {
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch loaded = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    Thread writer =
+        new Thread(
+            () ->
+                TreeLockUtils.doWithTreeLock(
+                    SCHEMA,
+                    LockType.WRITE,
+                    () -> {
+                      locked.countDown();
+                      await(release);
+                      return null;
+                    }));
+    writer.start();
+
+    try (EntityImporter importer = new EntityImporter(store, 100, 10)) {
+      Assertions.assertTrue(locked.await(10, TimeUnit.SECONDS));
+      NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+      importer.submit(
+          table,
+          SCHEMA,
+          () -> {
+            loaded.countDown();
+            return table(table);
+          });
+
+      // The entity is loaded while another thread holds the write lock of the schema
+      Assertions.assertTrue(loaded.await(10, TimeUnit.SECONDS));
+      Assertions.assertTrue(imported.isEmpty());
+
+      release.countDown();
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> imported.size() == 1);
+    } finally {
+      release.countDown();
+      writer.join();
+    }
+  }
+
+  @Test
+  public void testLoadAsSubmitter() throws Exception {
+    AtomicReference<String> loadingUser = new AtomicReference<>();
+
+    try (EntityImporter importer = new EntityImporter(store, 100, 10)) {
+      PrincipalUtils.doAs(
+          new UserPrincipal("user1"),
+          () ->
+              importer.submit(
+                  SCHEMA,
+                  CATALOG,
+                  () -> {
+                    loadingUser.set(PrincipalUtils.getCurrentUserName());
+                    return schema(SCHEMA);
+                  }));
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> imported.size() == 1);
+
+      // The catalog is called as the user whose load queued the import
+      Assertions.assertEquals("user1", loadingUser.get());
+    }
+  }
+
+  @Test
+  public void testImportNow() throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+
+    try (EntityImporter importer = new EntityImporter(store, 100, 1)) {
+      importer.submit(
+          FIRST,
+          CATALOG,
+          () -> {
+            await(blocker);
+            return null;
+          });
+      importer.submit(SCHEMA, CATALOG, () -> schema(SCHEMA));
+
+      // The write needing the schema imports it right away, the worker then skips it
+      importer.importNow(SCHEMA);
+      Assertions.assertEquals(ImmutableList.of(SCHEMA), imported);
+
+      blocker.countDown();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.pendingImports() == 0);
+      Assertions.assertEquals(ImmutableList.of(SCHEMA), imported);
+
+      // Nothing to do for an entity not queued
+      importer.importNow(NameIdentifier.of("metalake", "catalog", "other"));
+    }
+  }
+
+  @Test
+  public void testFailedImport() throws Exception {
+    try (EntityImporter importer = new EntityImporter(store, 100, 10)) {
+      importer.submit(
+          SCHEMA,
+          CATALOG,
+          () -> {
+            throw new RuntimeException("mock error");
+          });
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.pendingImports() == 0);
+      verify(store, never()).batchPut(any(), anyBoolean());
+
+      // A failed import can be queued again by the next load
+      Assertions.assertTrue(importer.submit(SCHEMA, CATALOG, () -> schema(SCHEMA)));
+      Awaitility.await().atMost(10, TimeUnit.SECONDS).until(() -> imported.size() == 1);
+
+      // The entities of a failed batch put are imported one by one
+      doThrow(new IOException("mock error")).when(store).batchPut(any(), anyBoolean());
+      NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+      importer.submit(table, SCHEMA, () -> table(table));
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.pendingImports() == 0);
+      verify(store).put(any(), anyBoolean());
+    }
+  }
+
+  @Test
+  public void testCancelImport() throws Exception {
+    CountDownLatch blocker = new CountDownLatch(1);
+
+    try (EntityImporter importer = new EntityImporter(store, 100, 1)) {
+      importer.submit(
+          FIRST,
+          CATALOG,
+          () -> {
+            await(blocker);
+            return null;
+          });
+      NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+      NameIdentifier otherSchema = NameIdentifier.of("metalake", "catalog", "schema2");
+      NameIdentifier other = NameIdentifier.of("metalake", "catalog", "schema2", "table");
+      importer.submit(table, SCHEMA, () -> table(table));
+      importer.submit(other, otherSchema, () -> table(other));
+
+      // Dropping the schema cancels the imports under it only
+      importer.cancel(SCHEMA);
+      blocker.countDown();
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.pendingImports() == 0);
+      Assertions.assertEquals(ImmutableList.of(other), imported);
+    }
+  }
+
+  @Test
+  public void testQueueFullOrClosed() {
+    CountDownLatch blocker = new CountDownLatch(1);
+
+    EntityImporter importer = new EntityImporter(store, 1, 1);
+    try {
+      importer.submit(
+          FIRST,
+          CATALOG,
+          () -> {
+            await(blocker);
+            return null;
+          });
+      Awaitility.await()
+          .atMost(10, TimeUnit.SECONDS)
+          .until(() -> importer.submit(SCHEMA, CATALOG, () -> schema(SCHEMA)));
+
+      // The queue is full, the caller imports the entity itself
+      NameIdentifier other = NameIdentifier.of("metalake", "catalog", "other");
+      Assertions.assertFalse(importer.submit(other, CATALOG, () -> schema(other)));
+    } finally {
+      blocker.countDown();
+      importer.close();
+    }
+
+    Assertions.assertFalse(importer.submit(SCHEMA, CATALOG, () -> schema(SCHEMA)));
+  }
+
+  private static SchemaEntity schema(NameIdentifier ident) {
+    return SchemaEntity.builder()
+        .withId(1L)
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withAuditInfo(auditInfo())
+        .build();
+  }
+
+  private static TableEntity table(NameIdentifier ident) {
+    return TableEntity.builder()
+        .withId(1L)
+        .withName(ident.name())
+        .withNamespace(ident.namespace())
+        .withAuditInfo(auditInfo())
+        .build();
+  }
+
+  private static AuditInfo auditInfo() {
+    return AuditInfo.builder().withCreator("gravitino").withCreateTime(Instant.now()).build();
+  }
+
+  private static void await(CountDownLatch latch) {
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
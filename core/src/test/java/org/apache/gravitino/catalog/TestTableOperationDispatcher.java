@@ -27,11 +27,13 @@ import static org.apache.gravitino.StringIdentifier.ID_KEY;
 import static org.apache.gravitino.TestBasePropertiesMetadata.COMMENT_KEY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.reset;
+import static org.mockito.Mockito.verify;
 
 import com.google.common.collect.ImmutableMap;
 import java.io.IOException;
@@ -54,7 +56,9 @@ import org.apache.gravitino.TestCatalog;
 import org.apache.gravitino.TestColumn;
 import org.apache.gravitino.auth.AuthConstants;
 import org.apache.gravitino.connector.TestCatalogOperations;
+import org.apache.gravitino.exceptions.LockTimeoutException;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.lock.DistributedLockProvider;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.ColumnEntity;
@@ -333,6 +337,49 @@ public class TestTableOperationDispatcher extends TestOperationDispatcher {
     Assertions.assertEquals("test", alteredTable4.auditInfo().lastModifier());
   }
 
+  @Test
+  public void testAlterTableTakesDistributedLock() throws Exception {
+    Namespace tableNs = Namespace.of(metalake, catalog, "schema62");
+    Map<String, String> props = ImmutableMap.of("k1", "v1", "k2", "v2");
+    schemaOperationDispatcher.createSchema(NameIdentifier.of(tableNs.levels()), "comment", props);
+
+    NameIdentifier tableIdent = NameIdentifier.of(tableNs, "table22");
+    Column[] columns =
+        new Column[] {
+          TestColumn.builder()
+              .withName("col1")
+              .withPosition(0)
+              .withType(Types.StringType.get())
+              .build()
+        };
+    tableOperationDispatcher.createTable(tableIdent, columns, "comment", props, new Transform[0]);
+
+    // This server can't take the lease while another server alters a table of the schema.
+    DistributedLockProvider lockProvider = mock(DistributedLockProvider.class);
+    doThrow(new LockTimeoutException("The lease is held by another server"))
+        .when(lockProvider)
+        .acquire(eq(tableIdent), anyLong());
+    FieldUtils.writeField(
+        GravitinoEnv.getInstance(), "distributedLockProvider", lockProvider, true);
+    try {
+      TableChange[] changes = new TableChange[] {TableChange.setProperty("k3", "v3")};
+      Assertions.assertThrows(
+          LockTimeoutException.class,
+          () -> tableOperationDispatcher.alterTable(tableIdent, changes));
+      Assertions.assertFalse(
+          tableOperationDispatcher.loadTable(tableIdent).properties().containsKey("k3"));
+
+      // Once the other server released it, the alteration runs under the lease.
+      DistributedLockProvider.Lease lease = mock(DistributedLockProvider.Lease.class);
+      doReturn(lease).when(lockProvider).acquire(eq(tableIdent), anyLong());
+      Table alteredTable = tableOperationDispatcher.alterTable(tableIdent, changes);
+      Assertions.assertEquals("v3", alteredTable.properties().get("k3"));
+      verify(lease).release();
+    } finally {
+      FieldUtils.writeField(GravitinoEnv.getInstance(), "distributedLockProvider", null, true);
+    }
+  }
+
   @Test
   public void testCreateAndDropTable() throws IOException {
     NameIdentifier tableIdent = NameIdentifier.of(metalake, catalog, "schema71", "table31");
@@ -29,6 +29,7 @@ import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import java.util.List;
 import java.util.Map;
 import java.util.Random;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionService;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -42,6 +43,8 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+import org.awaitility.Awaitility;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -669,4 +672,70 @@ public class TestLockManager {
     lockManager.createTreeLock(NameIdentifier.of("/"));
     Assertions.assertEquals(2L, lockManager.totalNodeCount.get(), "Should have 2 nodes");
   }
+
+  @Test
+  void testLockHoldersAndWaiters() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    TreeLock schemaLock = lockManager.createTreeLock(schema);
+    schemaLock.lock(LockType.WRITE);
+    List<LockThreadInfo> holders = lockManager.getLockHolders();
+    Assertions.assertEquals(4, holders.size());
+    holders.forEach(holder -> Assertions.assertEquals(schema, holder.identifier()));
+    Assertions.assertTrue(lockManager.getLockWaiters().isEmpty());
+
+    CompletableFuture<Void> tableRead =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock tableLock = lockManager.createTreeLock(table);
+              tableLock.lock(LockType.READ);
+              tableLock.unlock();
+            });
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> !lockManager.getLockWaiters().isEmpty());
+
+    LockThreadInfo waiter = lockManager.getLockWaiters().get(0);
+    Assertions.assertEquals(table, waiter.identifier());
+    Assertions.assertEquals("schema", waiter.nodeName());
+    Assertions.assertEquals(3, waiter.depth());
+
+    schemaLock.unlock();
+    tableRead.get(10, TimeUnit.SECONDS);
+    Assertions.assertTrue(lockManager.getLockWaiters().isEmpty());
+    Assertions.assertTrue(lockManager.getLockHolders().isEmpty());
+
+    TreeLockMetricsSource metrics = lockManager.metricsSource;
+    Assertions.assertEquals(1, metrics.lockWait(3).getCount());
+    Assertions.assertEquals(0, metrics.lockWait(4).getCount());
+    Assertions.assertEquals(1, metrics.lockHold(3).getCount());
+    Assertions.assertEquals(1, metrics.lockHold(4).getCount());
+  }
+
+  @Test
+  void testWriteBlockedByReaders() throws Exception {
+    LockManager lockManager = new LockManager(getConfig());
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    TreeLock readLock = lockManager.createTreeLock(table);
+    readLock.lock(LockType.READ);
+    CompletableFuture<Void> tableWrite =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock writeLock = lockManager.createTreeLock(table);
+              writeLock.lock(LockType.WRITE);
+              writeLock.unlock();
+            });
+    Awaitility.await()
+        .atMost(10, TimeUnit.SECONDS)
+        .until(() -> !lockManager.getLockWaiters().isEmpty());
+    Assertions.assertEquals(1, lockManager.metricsSource.writeBlockedByReaders(4).getCount());
+
+    readLock.unlock();
+    tableWrite.get(10, TimeUnit.SECONDS);
+    Assertions.assertEquals(1, lockManager.metricsSource.lockWait(4).getCount());
+    Assertions.assertEquals(0, lockManager.metricsSource.writeBlockedByReaders(3).getCount());
+  }
 }
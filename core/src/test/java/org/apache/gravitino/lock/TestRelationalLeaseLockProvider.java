@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.apache.commons.lang3.StringUtils;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.po.TreeLockLeasePO;
+import org.apache.gravitino.storage.relational.service.TreeLockLeaseMetaService;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestRelationalLeaseLockProvider extends TestJDBCBackend {
+  private static final NameIdentifier TABLE1 = NameIdentifier.of("m", "c", "s", "t1");
+  private static final NameIdentifier TABLE2 = NameIdentifier.of("m", "c", "s", "t2");
+
+  @TestTemplate
+  public void testLockKey() throws Exception {
+    try (RelationalLeaseLockProvider provider =
+        new RelationalLeaseLockProvider("server1", 60_000L, 3)) {
+      assertEquals("m.c.s", provider.lockKey(TABLE1));
+      assertEquals("m.c", provider.lockKey(NameIdentifier.of("m", "c")));
+      assertEquals("/", provider.lockKey(LockManager.ROOT));
+
+      String longName = StringUtils.repeat('a', RelationalLeaseLockProvider.MAX_LOCK_KEY_LENGTH);
+      String longKey = provider.lockKey(NameIdentifier.of("m", longName, "s"));
+      assertEquals(64, longKey.length());
+      assertNotEquals(longKey, provider.lockKey(NameIdentifier.of("m", longName, "s2")));
+    }
+  }
+
+  @TestTemplate
+  public void testLeaseIsSharedWithinServer() throws Exception {
+    try (RelationalLeaseLockProvider server1 =
+            new RelationalLeaseLockProvider("server1", 60_000L, 3);
+        RelationalLeaseLockProvider server2 =
+            new RelationalLeaseLockProvider("server2", 60_000L, 3)) {
+      DistributedLockProvider.Lease lease1 = server1.acquire(TABLE1, 100L);
+      DistributedLockProvider.Lease lease2 = server1.acquire(TABLE2, 100L);
+      assertEquals(lease1.fencingToken(), lease2.fencingToken());
+
+      assertThrows(LockTimeoutException.class, () -> server2.acquire(TABLE2, 100L));
+
+      // The lease is released once all the threads of the server released it.
+      lease1.release();
+      assertThrows(LockTimeoutException.class, () -> server2.acquire(TABLE1, 100L));
+      lease2.release();
+      assertThrows(IllegalStateException.class, lease2::release);
+
+      DistributedLockProvider.Lease lease3 = server2.acquire(TABLE1, 100L);
+      assertTrue(lease3.fencingToken() > lease1.fencingToken());
+      lease3.release();
+    }
+  }
+
+  @TestTemplate
+  public void testLeaseIsRenewedUntilReleased() throws Exception {
+    try (RelationalLeaseLockProvider server1 = new RelationalLeaseLockProvider("server1", 50L, 3);
+        RelationalLeaseLockProvider server2 =
+            new RelationalLeaseLockProvider("server2", 60_000L, 3)) {
+      DistributedLockProvider.Lease lease1 = server1.acquire(TABLE1, 100L);
+      Thread.sleep(200L);
+      assertThrows(LockTimeoutException.class, () -> server2.acquire(TABLE1, 100L));
+
+      // Closing the server releases its leases.
+      server1.close();
+      DistributedLockProvider.Lease lease2 = server2.acquire(TABLE1, 100L);
+      assertTrue(lease2.fencingToken() > lease1.fencingToken());
+      lease1.release();
+      assertEquals("server2", TreeLockLeaseMetaService.getInstance().getLease("m.c.s").getOwner());
+      lease2.release();
+    }
+  }
+
+  @TestTemplate
+  public void testExpiredLeaseIsTakenOver() throws Exception {
+    TreeLockLeaseMetaService leaseService = TreeLockLeaseMetaService.getInstance();
+    // A server that stalled without renewing its lease.
+    long staleToken = leaseService.tryAcquireLease("m.c.s", "server1", 50L);
+
+    try (RelationalLeaseLockProvider server2 =
+        new RelationalLeaseLockProvider("server2", 60_000L, 3)) {
+      DistributedLockProvider.Lease lease = server2.acquire(TABLE1, 1_000L);
+      assertTrue(lease.fencingToken() > staleToken);
+      assertFalse(leaseService.renewLease("m.c.s", "server1", staleToken, 60_000L));
+
+      TreeLockLeasePO leasePO = leaseService.getLease("m.c.s");
+      assertEquals("server2", leasePO.getOwner());
+      assertEquals(lease.fencingToken(), leasePO.getFencingToken());
+      lease.release();
+    }
+  }
+}
@@ -0,0 +1,259 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.lock;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_IMPLEMENTATION;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
+import static org.apache.gravitino.Configs.TREE_LOCK_STRIPES;
+
+import com.google.common.collect.Sets;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.awaitility.Awaitility;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class TestStripedLockManager {
+  private StripedLockManager lockManager;
+
+  @BeforeEach
+  void setUp() {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_STRIPES)).thenReturn(60);
+    Mockito.when(config.get(TREE_LOCK_OPTIMISTIC_READ_ENABLED)).thenReturn(true);
+    lockManager = new StripedLockManager(config);
+  }
+
+  @Test
+  void testCreateByConfig() {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_IMPLEMENTATION))
+        .thenReturn(LockManagerFactory.STRIPED_LOCK_MANAGER);
+    Mockito.when(config.get(TREE_LOCK_STRIPES)).thenReturn(16);
+    Assertions.assertInstanceOf(
+        StripedLockManager.class, LockManagerFactory.createLockManager(config));
+
+    Mockito.when(config.get(TREE_LOCK_IMPLEMENTATION))
+        .thenReturn(LockManagerFactory.TREE_LOCK_MANAGER);
+    Assertions.assertEquals(
+        LockManager.class, LockManagerFactory.createLockManager(config).getClass());
+  }
+
+  @Test
+  void testNodesOfPath() {
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLockNode[] nodes = lockManager.nodesOf(table);
+
+    // One node per level, the same ones for the same path, and distinct along the path.
+    Assertions.assertEquals(5, nodes.length);
+    Assertions.assertSame(lockManager.treeLockRootNode, nodes[0]);
+    Assertions.assertArrayEquals(nodes, lockManager.nodesOf(table));
+    Set<TreeLockNode> distinctNodes = Sets.newIdentityHashSet();
+    distinctNodes.addAll(Arrays.asList(nodes));
+    Assertions.assertEquals(5, distinctNodes.size());
+
+    // The prefix of a path maps to the nodes of its parent.
+    TreeLockNode[] schemaNodes =
+        lockManager.nodesOf(NameIdentifier.of("metalake", "catalog", "schema"));
+    Assertions.assertArrayEquals(schemaNodes, Arrays.copyOf(nodes, 4));
+
+    Assertions.assertArrayEquals(
+        new TreeLockNode[] {lockManager.treeLockRootNode}, lockManager.nodesOf(LockManager.ROOT));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> lockManager.nodesOf(NameIdentifier.of("a", "b", "c", "d", "e", "f", "g", "h", "i")));
+  }
+
+  @Test
+  void testFootprintIsFixed() {
+    Set<TreeLockNode> nodes = Sets.newIdentityHashSet();
+    for (int i = 0; i < 10000; i++) {
+      NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema" + i % 10, "t" + i);
+      nodes.addAll(Arrays.asList(lockManager.nodesOf(table)));
+    }
+
+    // The root, the metalake and catalog nodes, at most one node per schema, and at most the 64
+    // stripes of the table level.
+    Assertions.assertTrue(nodes.size() <= 3 + 10 + 64, "Too many lock nodes: " + nodes.size());
+  }
+
+  @Test
+  void testWriteOnSchemaExcludesReadOfTable() throws Exception {
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+
+    TreeLock schemaLock = lockManager.createTreeLock(schema);
+    schemaLock.lock(LockType.WRITE);
+    CompletableFuture<Void> tableRead =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock tableLock = lockManager.createTreeLock(table);
+              tableLock.lock(LockType.READ);
+              tableLock.unlock();
+            });
+
+    Awaitility.await()
+        .during(200, TimeUnit.MILLISECONDS)
+        .atMost(1, TimeUnit.SECONDS)
+        .until(() -> !tableRead.isDone());
+    Assertions.assertNull(lockManager.tryOptimisticRead(table));
+    Assertions.assertTrue(
+        lockManager.getLockWaiters().stream()
+            .anyMatch(waiter -> waiter.identifier().equals(table) && waiter.depth() == 3));
+
+    schemaLock.unlock();
+    tableRead.get(10, TimeUnit.SECONDS);
+    Assertions.assertNotNull(lockManager.tryOptimisticRead(table));
+  }
+
+  @Test
+  void testReadsOfSiblingsDoNotExcludeEachOther() throws Exception {
+    TreeLock tableLock =
+        lockManager.createTreeLock(NameIdentifier.of("metalake", "catalog", "schema", "t1"));
+    tableLock.lock(LockType.READ);
+
+    CompletableFuture.runAsync(
+            () -> {
+              TreeLock otherLock =
+                  lockManager.createTreeLock(
+                      NameIdentifier.of("metalake", "catalog", "schema", "t2"));
+              otherLock.lock(LockType.READ);
+              otherLock.unlock();
+            })
+        .get(10, TimeUnit.SECONDS);
+    tableLock.unlock();
+  }
+
+  @Test
+  void testNestedLocksOnSharedStripes() {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_STRIPES)).thenReturn(1);
+    StripedLockManager singleStripeManager = new StripedLockManager(config);
+    NameIdentifier user = NameIdentifier.of("metalake", "system", "user", "alice");
+    NameIdentifier role = NameIdentifier.of("metalake", "system", "role", "admin");
+
+    // A write lock of a user lets the same thread read a role on the same stripe.
+    TreeLock userLock = singleStripeManager.createTreeLock(user);
+    userLock.lock(LockType.WRITE);
+    TreeLock roleLock = singleStripeManager.createTreeLock(role);
+    roleLock.lock(LockType.READ, 100);
+    roleLock.unlock();
+    userLock.unlock();
+
+    // A read lock can't be upgraded, the nested write lock fails at once instead of hanging.
+    TreeLock roleReadLock = singleStripeManager.createTreeLock(role);
+    roleReadLock.lock(LockType.READ);
+    try {
+      TreeLock userWriteLock = singleStripeManager.createTreeLock(user);
+      Assertions.assertThrows(
+          IllegalStateException.class, () -> userWriteLock.lock(LockType.WRITE));
+    } finally {
+      roleReadLock.unlock();
+    }
+
+    TreeLock userWriteLock = singleStripeManager.createTreeLock(user);
+    userWriteLock.lock(LockType.WRITE, 100);
+    userWriteLock.unlock();
+  }
+
+  @Test
+  void testCrossedNestedLocksOnSharedStripesDoNotDeadlock() throws Exception {
+    Config config = TestLockManager.getConfig();
+    Mockito.when(config.get(TREE_LOCK_STRIPES)).thenReturn(2);
+    StripedLockManager twoStripeManager = new StripedLockManager(config);
+    Namespace users = Namespace.of("metalake", "system", "user");
+    Namespace roles = Namespace.of("metalake", "system", "role");
+
+    // Each thread write locks a user, then reads a role on the stripe of the other user. The
+    // resources are all distinct, but the stripes are taken in opposite orders.
+    NameIdentifier alice = NameIdentifier.of(users, "alice");
+    TreeLockNode aliceStripe = twoStripeManager.nodesOf(alice)[4];
+    NameIdentifier bob = onOtherStripe(twoStripeManager, users, aliceStripe);
+    NameIdentifier roleOfBobStripe = onOtherStripe(twoStripeManager, roles, aliceStripe);
+    NameIdentifier roleOfAliceStripe =
+        onOtherStripe(twoStripeManager, roles, twoStripeManager.nodesOf(bob)[4]);
+
+    CyclicBarrier barrier = new CyclicBarrier(2);
+    ExecutorService executor = Executors.newFixedThreadPool(2);
+    try {
+      Future<?> first =
+          executor.submit(
+              () -> {
+                lockNested(twoStripeManager, alice, roleOfBobStripe, 300, barrier);
+                return null;
+              });
+      Future<?> second =
+          executor.submit(
+              () -> {
+                lockNested(twoStripeManager, bob, roleOfAliceStripe, 10_000, barrier);
+                return null;
+              });
+
+      // The nested lock with the shorter timeout gives up, which lets the other one through.
+      ExecutionException e =
+          Assertions.assertThrows(ExecutionException.class, () -> first.get(10, TimeUnit.SECONDS));
+      Assertions.assertInstanceOf(LockTimeoutException.class, e.getCause());
+      second.get(10, TimeUnit.SECONDS);
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private static void lockNested(
+      LockManager manager,
+      NameIdentifier outer,
+      NameIdentifier inner,
+      long innerTimeoutMs,
+      CyclicBarrier barrier)
+      throws Exception {
+    TreeLock outerLock = manager.createTreeLock(outer);
+    outerLock.lock(LockType.WRITE);
+    try {
+      barrier.await(10, TimeUnit.SECONDS);
+      TreeLock innerLock = manager.createTreeLock(inner);
+      innerLock.lock(LockType.READ, innerTimeoutMs);
+      innerLock.unlock();
+    } finally {
+      outerLock.unlock();
+    }
+  }
+
+  private static NameIdentifier onOtherStripe(
+      StripedLockManager manager, Namespace namespace, TreeLockNode stripe) {
+    for (int i = 0; ; i++) {
+      NameIdentifier ident = NameIdentifier.of(namespace, "name" + i);
+      if (manager.nodesOf(ident)[namespace.length() + 1] != stripe) {
+        return ident;
+      }
+    }
+  }
+}
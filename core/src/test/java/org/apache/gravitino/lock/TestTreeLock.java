@@ -26,7 +26,12 @@ import static org.mockito.Mockito.doThrow;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
@@ -123,4 +128,47 @@ class TestTreeLock {
 
     assertDoesNotThrow(treeLock::unlock);
   }
+
+  @Test
+  void testLockTimeoutReleasesAncestors() throws Exception {
+    NameIdentifier schema = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    CountDownLatch locked = new CountDownLatch(1);
+    CountDownLatch release = new CountDownLatch(1);
+    CompletableFuture<Void> schemaWrite =
+        CompletableFuture.runAsync(
+            () -> {
+              TreeLock schemaLock = lockManager.createTreeLock(schema);
+              schemaLock.lock(LockType.WRITE);
+              locked.countDown();
+              try {
+                release.await();
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+              } finally {
+                schemaLock.unlock();
+              }
+            });
+    Assertions.assertTrue(locked.await(10, TimeUnit.SECONDS));
+
+    TreeLock tableLock = lockManager.createTreeLock(table);
+    assertThrows(LockTimeoutException.class, () -> tableLock.lock(LockType.READ, 100L));
+    Assertions.assertEquals(1, lockManager.metricsSource.lockTimeouts(3).getCount());
+    Assertions.assertTrue(lockManager.getLockWaiters().isEmpty());
+    // Only the writer of the schema holds the root, metalake, catalog and schema nodes.
+    Assertions.assertEquals(4, lockManager.getLockHolders().size());
+
+    release.countDown();
+    schemaWrite.get(10, TimeUnit.SECONDS);
+    TreeLockNode node = lockManager.treeLockRootNode;
+    for (String name : new String[] {"metalake", "catalog", "schema", "table"}) {
+      node = node.getChild(name);
+      Assertions.assertEquals(0, node.getReference(), name);
+    }
+
+    // The lock can be taken in time once the schema is released.
+    TreeLock retryLock = lockManager.createTreeLock(table);
+    assertDoesNotThrow(() -> retryLock.lock(LockType.READ, 100L));
+    retryLock.unlock();
+  }
 }
@@ -22,24 +22,35 @@ package org.apache.gravitino.lock;
 import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
 import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_OPTIMISTIC_READ_ENABLED;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
 import org.apache.commons.lang3.reflect.FieldUtils;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class TestTreeLockUtils {
 
-  @Test
-  void testHolderMultipleLock() throws Exception {
+  private static LockManager setLockManager() throws IllegalAccessException {
     Config config = mock(Config.class);
     doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
     doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
     doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
-    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", new LockManager(config), true);
+    doReturn(true).when(config).get(TREE_LOCK_OPTIMISTIC_READ_ENABLED);
+    LockManager lockManager = new LockManager(config);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", lockManager, true);
+    return lockManager;
+  }
+
+  @Test
+  void testHolderMultipleLock() throws Exception {
+    setLockManager();
 
     TreeLockUtils.doWithTreeLock(
         NameIdentifier.of("test"),
@@ -48,4 +59,125 @@ public class TestTreeLockUtils {
             TreeLockUtils.doWithTreeLock(
                 NameIdentifier.of("test", "test1"), LockType.WRITE, () -> null));
   }
+
+  @Test
+  void testOptimisticReadWithoutWrite() throws Exception {
+    LockManager lockManager = setLockManager();
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    AtomicInteger executions = new AtomicInteger();
+
+    // The nodes of the path don't exist yet, so the first read takes the read locks.
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+    TreeLockUtils.doWithOptimisticReadTreeLock(ident, executions::incrementAndGet);
+    Assertions.assertEquals(1, executions.get());
+
+    Assertions.assertEquals(
+        2, TreeLockUtils.doWithOptimisticReadTreeLock(ident, executions::incrementAndGet));
+    Assertions.assertEquals(0, lockManager.treeLockRootNode.getReference());
+    Assertions.assertTrue(lockManager.treeLockRootNode.getHoldingThreadTimestamp().isEmpty());
+  }
+
+  @Test
+  void testOptimisticReadOverlappingWrite() throws Exception {
+    setLockManager();
+    NameIdentifier schemaIdent = NameIdentifier.of("metalake", "catalog", "schema");
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> null);
+    AtomicInteger executions = new AtomicInteger();
+
+    String result =
+        TreeLockUtils.doWithOptimisticReadTreeLock(
+            ident,
+            () -> {
+              if (executions.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(
+                        () -> TreeLockUtils.doWithTreeLock(schemaIdent, LockType.WRITE, () -> null))
+                    .join();
+                return "stale";
+              }
+              return "fresh";
+            });
+
+    Assertions.assertEquals("fresh", result);
+    Assertions.assertEquals(2, executions.get());
+  }
+
+  @Test
+  void testOptimisticReadFailureOverlappingWrite() throws Exception {
+    setLockManager();
+    NameIdentifier catalogIdent = NameIdentifier.of("metalake", "catalog");
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema");
+    TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> null);
+    AtomicInteger executions = new AtomicInteger();
+
+    // A failure caused by a concurrent write is retried with the read lock.
+    String result =
+        TreeLockUtils.doWithOptimisticReadTreeLock(
+            ident,
+            () -> {
+              if (executions.incrementAndGet() == 1) {
+                CompletableFuture.runAsync(
+                        () ->
+                            TreeLockUtils.doWithTreeLock(catalogIdent, LockType.WRITE, () -> null))
+                    .join();
+                throw new IllegalStateException("Read a partial write");
+              }
+              return "fresh";
+            });
+    Assertions.assertEquals("fresh", result);
+
+    // A failure without a concurrent write is thrown as is.
+    Assertions.assertThrows(
+        IllegalStateException.class,
+        () ->
+            TreeLockUtils.doWithOptimisticReadTreeLock(
+                ident,
+                () -> {
+                  executions.incrementAndGet();
+                  throw new IllegalStateException("Failed to read");
+                }));
+    Assertions.assertEquals(3, executions.get());
+  }
+
+  @Test
+  void testOptimisticReadStampInvalidation() throws Exception {
+    LockManager lockManager = setLockManager();
+    lockManager.minTreeNodeInMemory = 0;
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog");
+    NameIdentifier childIdent = NameIdentifier.of("metalake", "catalog", "schema");
+    TreeLockUtils.doWithTreeLock(childIdent, LockType.READ, () -> null);
+
+    TreeLockStamp stamp = lockManager.tryOptimisticRead(ident);
+    Assertions.assertNotNull(stamp);
+    Assertions.assertTrue(stamp.validate());
+
+    // A write lock held on the path prevents optimistic reads.
+    TreeLock writeLock = lockManager.createTreeLock(ident);
+    writeLock.lock(LockType.WRITE);
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+    Assertions.assertNull(lockManager.tryOptimisticRead(childIdent));
+    writeLock.unlock();
+    Assertions.assertFalse(stamp.validate());
+
+    // An evicted node fails the stamps that have seen it.
+    stamp = lockManager.tryOptimisticRead(ident);
+    Assertions.assertNotNull(stamp);
+    lockManager.evictStaleNodes(
+        lockManager.treeLockRootNode.getChild("metalake"), lockManager.treeLockRootNode);
+    Assertions.assertNull(lockManager.treeLockRootNode.getChild("metalake"));
+    Assertions.assertFalse(stamp.validate());
+
+    // Reentrant write locks change the version once.
+    TreeLockUtils.doWithTreeLock(ident, LockType.READ, () -> null);
+    stamp = lockManager.tryOptimisticRead(ident);
+    TreeLock outerLock = lockManager.createTreeLock(ident);
+    outerLock.lock(LockType.WRITE);
+    TreeLock innerLock = lockManager.createTreeLock(ident);
+    innerLock.lock(LockType.WRITE);
+    innerLock.unlock();
+    Assertions.assertNull(lockManager.tryOptimisticRead(ident));
+    outerLock.unlock();
+    Assertions.assertNotNull(lockManager.tryOptimisticRead(ident));
+    Assertions.assertFalse(stamp.validate());
+  }
 }
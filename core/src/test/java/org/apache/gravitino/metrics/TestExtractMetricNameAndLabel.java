@@ -122,5 +122,48 @@ public class TestExtractMetricNameAndLabel {
             + "_"
             + Collector.sanitizeMetricName(MetricNames.DATASOURCE_MAX_CONNECTIONS),
         ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME
+            + ".table."
+            + MetricNames.GC_ROWS_PURGED,
+        Collector.sanitizeMetricName(
+                MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.GC_ROWS_PURGED),
+        ImmutableMap.of("entity_type", "table"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME
+            + "."
+            + MetricNames.GC_PASS_DURATION,
+        Collector.sanitizeMetricName(
+                MetricsSource.GRAVITINO_RELATIONAL_GARBAGE_COLLECTOR_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.GC_PASS_DURATION),
+        ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME + ".user." + MetricNames.CACHE_HIT_COUNT,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CACHE_HIT_COUNT),
+        ImmutableMap.of("entity_type", "user"));
+
+    checkResult(
+        MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME
+            + "."
+            + MetricNames.CACHE_SECOND_TIER_BYTES,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_ENTITY_CACHE_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.CACHE_SECOND_TIER_BYTES),
+        ImmutableMap.of());
+
+    checkResult(
+        MetricsSource.GRAVITINO_TREE_LOCK_METRIC_NAME + ".schema." + MetricNames.TREE_LOCK_WAIT,
+        Collector.sanitizeMetricName(MetricsSource.GRAVITINO_TREE_LOCK_METRIC_NAME)
+            + "_"
+            + Collector.sanitizeMetricName(MetricNames.TREE_LOCK_WAIT),
+        ImmutableMap.of("level", "schema"));
   }
 }
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+
+package org.apache.gravitino.storage;
+
+import com.google.common.collect.Sets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Configs;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestTimeOrderedIdGenerator {
+
+  @Test
+  public void testIdLayout() {
+    long now = TimeOrderedIdGenerator.EPOCH_MS + 123456L;
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(42, () -> now);
+
+    long id = generator.nextId();
+    Assertions.assertTrue(id > 0);
+    Assertions.assertEquals(42, TimeOrderedIdGenerator.nodeIdOf(id));
+    Assertions.assertEquals(now, TimeOrderedIdGenerator.timestampOf(id));
+    Assertions.assertEquals(id + 1, generator.nextId());
+  }
+
+  @Test
+  public void testIdsAreIncreasing() {
+    AtomicLong clock = new AtomicLong(System.currentTimeMillis());
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(1, clock::get);
+
+    long last = generator.nextId();
+    // Exhaust the sequence of one millisecond several times, then move the clock backwards.
+    for (int i = 0; i < 5 * 4096; i++) {
+      long id = generator.nextId();
+      Assertions.assertTrue(id > last);
+      last = id;
+    }
+
+    clock.addAndGet(-10_000L);
+    long afterRollback = generator.nextId();
+    Assertions.assertTrue(afterRollback > last);
+
+    clock.addAndGet(20_000L);
+    long afterCatchUp = generator.nextId();
+    Assertions.assertTrue(afterCatchUp > afterRollback);
+    Assertions.assertEquals(clock.get(), TimeOrderedIdGenerator.timestampOf(afterCatchUp));
+  }
+
+  @Test
+  public void testConcurrentIdsAreUnique() throws Exception {
+    TimeOrderedIdGenerator generator = new TimeOrderedIdGenerator(7);
+    ExecutorService executor = Executors.newFixedThreadPool(8);
+    try {
+      List<Future<List<Long>>> futures = new ArrayList<>();
+      for (int i = 0; i < 8; i++) {
+        futures.add(
+            executor.submit(
+                () -> {
+                  List<Long> ids = new ArrayList<>();
+                  for (int j = 0; j < 10_000; j++) {
+                    ids.add(generator.nextId());
+                  }
+                  return ids;
+                }));
+      }
+
+      Set<Long> allIds = Sets.newHashSet();
+      for (Future<List<Long>> future : futures) {
+        allIds.addAll(future.get());
+      }
+      Assertions.assertEquals(80_000, allIds.size());
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testDifferentNodesDoNotCollide() {
+    long now = System.currentTimeMillis();
+    TimeOrderedIdGenerator node1 = new TimeOrderedIdGenerator(1, () -> now);
+    TimeOrderedIdGenerator node2 = new TimeOrderedIdGenerator(2, () -> now);
+
+    Set<Long> ids = Sets.newHashSet();
+    for (int i = 0; i < 1000; i++) {
+      Assertions.assertTrue(ids.add(node1.nextId()));
+      Assertions.assertTrue(ids.add(node2.nextId()));
+    }
+  }
+
+  @Test
+  public void testInvalidNodeId() {
+    Assertions.assertThrows(IllegalArgumentException.class, () -> new TimeOrderedIdGenerator(-1));
+    Assertions.assertThrows(
+        IllegalArgumentException.class,
+        () -> new TimeOrderedIdGenerator(TimeOrderedIdGenerator.MAX_NODE_ID + 1));
+  }
+
+  @Test
+  public void testCreateIdGeneratorFromConfig() {
+    Config config = new Config(false) {};
+    Assertions.assertInstanceOf(
+        RandomIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+
+    config.set(Configs.ENTITY_STORE_ID_GENERATOR, IdGeneratorFactory.TIME_ORDERED_ID_GENERATOR);
+    config.set(Configs.ENTITY_STORE_ID_GENERATOR_NODE_ID, 3);
+    IdGenerator generator = IdGeneratorFactory.createIdGenerator(config);
+    Assertions.assertInstanceOf(TimeOrderedIdGenerator.class, generator);
+    Assertions.assertEquals(3, TimeOrderedIdGenerator.nodeIdOf(generator.nextId()));
+
+    // Without a node id, one is derived from the host and process.
+    config.set(Configs.ENTITY_STORE_ID_GENERATOR_NODE_ID, -1);
+    Assertions.assertInstanceOf(
+        TimeOrderedIdGenerator.class, IdGeneratorFactory.createIdGenerator(config));
+  }
+}
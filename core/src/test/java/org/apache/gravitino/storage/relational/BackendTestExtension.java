@@ -175,6 +175,10 @@ public class BackendTestExtension
       Mockito.when(config.get(ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS))
           .thenReturn(DEFAULT_RELATIONAL_JDBC_BACKEND_MAX_WAIT_MILLISECONDS);
 
+      // Use a tiny chunk size so that batch writes in tests span several transactions.
+      Mockito.when(config.get(Configs.ENTITY_RELATIONAL_BATCH_WRITE_CHUNK_SIZE)).thenReturn(2);
+      // List the change log entries as soon as they are written.
+      Mockito.when(config.get(Configs.ENTITY_RELATIONAL_CHANGE_LOG_COMMIT_LAG_MS)).thenReturn(0L);
       Mockito.when(config.get(CACHE_ENABLED)).thenReturn(true);
 
       FieldUtils.writeField(GravitinoEnv.getInstance(), "config", config, true);
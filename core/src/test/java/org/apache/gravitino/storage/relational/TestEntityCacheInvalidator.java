@@ -0,0 +1,336 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_MAX_STALENESS_MS;
+import static org.apache.gravitino.Configs.CACHE_INVALIDATION_POLL_INTERVAL_MS;
+import static org.apache.gravitino.Configs.CACHE_NEGATIVE_ENABLED;
+import static org.apache.gravitino.SupportsRelationOperations.Type.OWNER_REL;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import com.google.common.collect.ImmutableList;
+import java.io.IOException;
+import java.time.Instant;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.cache.CaffeineEntityCache;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestTemplate;
+import org.mockito.Mockito;
+
+public class TestEntityCacheInvalidator extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_cache_invalidator_test";
+  private final String catalogName = "catalog_for_cache_invalidator_test";
+  private final String schemaName = "schema_for_cache_invalidator_test";
+
+  @TestTemplate
+  public void testChangesOfOneNodeInvalidateTheOtherNode() throws IOException {
+    // Two servers sharing one store, each with its own cache and invalidator.
+    Config config = new Config(false) {};
+    EntityCache cacheA = new CaffeineEntityCache(config);
+    EntityCache cacheB = new CaffeineEntityCache(config);
+    try (EntityCacheInvalidator invalidatorA = new EntityCacheInvalidator(backend, cacheA, config);
+        EntityCacheInvalidator invalidatorB = new EntityCacheInvalidator(backend, cacheB, config)) {
+      createAndInsertMakeLake(metalakeName);
+      CatalogEntity catalog = createAndInsertCatalog(metalakeName, catalogName);
+      SchemaEntity schema = createAndInsertSchema(metalakeName, catalogName, schemaName);
+      Namespace tableNamespace = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+      TableEntity table =
+          createTableEntity(
+              RandomIdGenerator.INSTANCE.nextId(), tableNamespace, "table", AUDIT_INFO);
+      backend.insert(table, false);
+      UserEntity user =
+          createUserEntity(
+              RandomIdGenerator.INSTANCE.nextId(),
+              NamespaceUtil.ofUser(metalakeName),
+              "user",
+              AUDIT_INFO);
+      backend.insert(user, false);
+      invalidatorA.poll();
+      invalidatorB.poll();
+
+      // Node B has read the catalog, the schema, the table and the owner of the table.
+      cacheB.put(catalog);
+      cacheB.put(schema);
+      cacheB.put(table);
+      cacheB.put(
+          table.nameIdentifier(), Entity.EntityType.TABLE, OWNER_REL, ImmutableList.of(user));
+
+      // Node A sets the owner of the table, both ends of the relation are invalidated.
+      backend.insertRelation(
+          OWNER_REL,
+          table.nameIdentifier(),
+          Entity.EntityType.TABLE,
+          user.nameIdentifier(),
+          Entity.EntityType.USER,
+          true);
+      Assertions.assertTrue(
+          cacheB.contains(table.nameIdentifier(), Entity.EntityType.TABLE, OWNER_REL));
+      invalidatorB.poll();
+      Assertions.assertFalse(
+          cacheB.contains(table.nameIdentifier(), Entity.EntityType.TABLE, OWNER_REL));
+      cacheB.put(table);
+
+      // Node A alters the schema.
+      backend.update(
+          schema.nameIdentifier(),
+          Entity.EntityType.SCHEMA,
+          e ->
+              SchemaEntity.builder()
+                  .withId(schema.id())
+                  .withName(schema.name())
+                  .withNamespace(schema.namespace())
+                  .withComment("altered")
+                  .withAuditInfo(AUDIT_INFO)
+                  .build());
+      Assertions.assertTrue(cacheB.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+      invalidatorB.poll();
+      // The cached children of the schema are invalidated with it, the catalog is kept.
+      Assertions.assertFalse(cacheB.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+      Assertions.assertFalse(cacheB.contains(table.nameIdentifier(), Entity.EntityType.TABLE));
+      Assertions.assertTrue(cacheB.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+
+      // Node A drops the schema.
+      SchemaEntity alteredSchema = backend.get(schema.nameIdentifier(), Entity.EntityType.SCHEMA);
+      cacheB.put(alteredSchema);
+      backend.delete(schema.nameIdentifier(), Entity.EntityType.SCHEMA, true);
+      invalidatorB.poll();
+      Assertions.assertFalse(cacheB.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+
+      // A node also reads its own changes, invalidating them again is harmless.
+      invalidatorA.poll();
+      Assertions.assertEquals(invalidatorB.lastSequence(), invalidatorA.lastSequence());
+      Assertions.assertTrue(invalidatorB.gaps().isEmpty());
+    }
+  }
+
+  @TestTemplate
+  public void testChangesOfOneStoreAreSeenByTheOtherStore() throws Exception {
+    // Two servers on one database, each with its own entity store, backend, cache and invalidator.
+    Config config = new Config(false) {};
+    config.set(CACHE_NEGATIVE_ENABLED, true);
+    EntityCache cacheA = new CaffeineEntityCache(config);
+    EntityCache cacheB = new CaffeineEntityCache(config);
+    RelationalBackend backendA = new JDBCBackend();
+    RelationalBackend backendB = new JDBCBackend();
+    RelationalEntityStore storeA = createStore(backendA, cacheA);
+    RelationalEntityStore storeB = createStore(backendB, cacheB);
+    try (EntityCacheInvalidator invalidatorA = new EntityCacheInvalidator(backendA, cacheA, config);
+        EntityCacheInvalidator invalidatorB =
+            new EntityCacheInvalidator(backendB, cacheB, config)) {
+      createAndInsertMakeLake(metalakeName);
+      createAndInsertCatalog(metalakeName, catalogName);
+      SchemaEntity schema = createAndInsertSchema(metalakeName, catalogName, schemaName);
+      NameIdentifier schemaIdent = schema.nameIdentifier();
+      invalidatorA.poll();
+      invalidatorB.poll();
+
+      // Both stores cache the schema, store A alters it.
+      storeA.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class);
+      storeB.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class);
+      storeA.update(
+          schemaIdent,
+          SchemaEntity.class,
+          Entity.EntityType.SCHEMA,
+          e -> schemaWithComment(schema, "altered"));
+      Assertions.assertEquals(
+          "altered",
+          storeA.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class).comment());
+
+      // Store B serves its cached copy until it polls the change log.
+      Assertions.assertEquals(
+          schema.comment(),
+          storeB.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class).comment());
+      invalidatorB.poll();
+      Assertions.assertEquals(
+          "altered",
+          storeB.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class).comment());
+
+      // Store A drops the schema, store B still finds it in its cache until it polls.
+      Assertions.assertTrue(storeA.delete(schemaIdent, Entity.EntityType.SCHEMA, true));
+      Assertions.assertFalse(storeA.exists(schemaIdent, Entity.EntityType.SCHEMA));
+      Assertions.assertTrue(storeB.exists(schemaIdent, Entity.EntityType.SCHEMA));
+      invalidatorB.poll();
+      Assertions.assertFalse(storeB.exists(schemaIdent, Entity.EntityType.SCHEMA));
+
+      // Store B creates the schema again, store A has recorded it as missing until it polls.
+      SchemaEntity recreated =
+          createSchemaEntity(
+              RandomIdGenerator.INSTANCE.nextId(), schema.namespace(), schemaName, AUDIT_INFO);
+      storeB.put(recreated, false);
+      Assertions.assertFalse(storeA.exists(schemaIdent, Entity.EntityType.SCHEMA));
+      invalidatorA.poll();
+      Assertions.assertEquals(
+          recreated.id(),
+          storeA.get(schemaIdent, Entity.EntityType.SCHEMA, SchemaEntity.class).id());
+    }
+  }
+
+  @Test
+  public void testLateCommittedSequenceIsApplied() throws IOException {
+    Config config = mockConfig(60_000L);
+    RelationalBackend mockBackend = Mockito.mock(RelationalBackend.class);
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    EntityChangeLogEntry second = changeLogEntry(2, "table2");
+    EntityChangeLogEntry third = changeLogEntry(3, "table3");
+    Mockito.when(mockBackend.listAllChanges(eq(0L), anyInt()))
+        .thenReturn(ImmutableList.of(third))
+        .thenReturn(ImmutableList.of(second, third));
+    Mockito.when(mockBackend.listAllChanges(eq(3L), anyInt())).thenReturn(ImmutableList.of());
+
+    try (EntityCacheInvalidator invalidator =
+        new EntityCacheInvalidator(mockBackend, cache, config)) {
+      // Sequences 1 and 2 are not committed yet when 3 is read.
+      invalidator.poll();
+      Assertions.assertEquals(3, invalidator.lastSequence());
+      Assertions.assertEquals(2, invalidator.gaps().size());
+      Mockito.verify(cache).invalidate(third.identifier(), Entity.EntityType.TABLE);
+
+      // Sequence 2 shows up and is applied, sequence 3 is not applied twice.
+      invalidator.poll();
+      Mockito.verify(cache).invalidate(second.identifier(), Entity.EntityType.TABLE);
+      Mockito.verify(cache).invalidate(third.identifier(), Entity.EntityType.TABLE);
+      Assertions.assertEquals(1, invalidator.gaps().size());
+    }
+  }
+
+  @Test
+  public void testCacheIsClearedOnUntrackedGap() throws IOException {
+    Config config = mockConfig(60_000L);
+    RelationalBackend mockBackend = Mockito.mock(RelationalBackend.class);
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    EntityChangeLogEntry first = changeLogEntry(1, "table1");
+    EntityChangeLogEntry far =
+        changeLogEntry(EntityCacheInvalidator.MAX_TRACKED_GAP + 3, "table_far");
+    Mockito.when(mockBackend.listAllChanges(eq(0L), anyInt()))
+        .thenReturn(ImmutableList.of(first, far));
+
+    try (EntityCacheInvalidator invalidator =
+        new EntityCacheInvalidator(mockBackend, cache, config)) {
+      // The sequences between the two entries are too many to wait for.
+      invalidator.poll();
+      Mockito.verify(cache).clear();
+      Mockito.verify(cache).invalidate(far.identifier(), Entity.EntityType.TABLE);
+      Assertions.assertEquals(far.sequence(), invalidator.lastSequence());
+      Assertions.assertTrue(invalidator.gaps().isEmpty());
+    }
+  }
+
+  @Test
+  public void testCacheIsClearedWhenTooStale() throws IOException, InterruptedException {
+    Config config = mockConfig(1L);
+    RelationalBackend mockBackend = Mockito.mock(RelationalBackend.class);
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    Mockito.when(mockBackend.listAllChanges(anyLong(), anyInt()))
+        .thenThrow(new RuntimeException("The store is unreachable"));
+
+    try (EntityCacheInvalidator invalidator =
+        new EntityCacheInvalidator(mockBackend, cache, config)) {
+      Thread.sleep(10);
+      invalidator.poll();
+      Mockito.verify(cache, Mockito.never()).clear();
+      invalidator.checkStaleness();
+      Mockito.verify(cache).clear();
+    }
+  }
+
+  @Test
+  public void testCacheIsClearedWhilePollHangs() throws Exception {
+    Config config = mockConfig(1L);
+    RelationalBackend mockBackend = Mockito.mock(RelationalBackend.class);
+    EntityCache cache = Mockito.mock(EntityCache.class);
+    CountDownLatch pollStarted = new CountDownLatch(1);
+    CountDownLatch storeResponds = new CountDownLatch(1);
+    Mockito.when(mockBackend.listAllChanges(anyLong(), anyInt()))
+        .thenAnswer(
+            invocation -> {
+              pollStarted.countDown();
+              storeResponds.await();
+              return ImmutableList.of();
+            });
+
+    try (EntityCacheInvalidator invalidator =
+        new EntityCacheInvalidator(mockBackend, cache, config)) {
+      Thread pollThread = new Thread(invalidator::poll);
+      pollThread.start();
+      try {
+        Assertions.assertTrue(pollStarted.await(5, TimeUnit.SECONDS));
+        Thread.sleep(10);
+        // The check does not wait for the hanging poll.
+        invalidator.checkStaleness();
+        Mockito.verify(cache).clear();
+      } finally {
+        storeResponds.countDown();
+        pollThread.join();
+      }
+    }
+  }
+
+  private static RelationalEntityStore createStore(RelationalBackend backend, EntityCache cache)
+      throws IllegalAccessException {
+    RelationalEntityStore store = new RelationalEntityStore();
+    FieldUtils.writeField(store, "backend", backend, true);
+    FieldUtils.writeField(store, "cache", cache, true);
+    cache.setRefreshLoader((ident, entityType) -> backend.get(ident, entityType));
+    return store;
+  }
+
+  private static SchemaEntity schemaWithComment(SchemaEntity schema, String comment) {
+    return SchemaEntity.builder()
+        .withId(schema.id())
+        .withName(schema.name())
+        .withNamespace(schema.namespace())
+        .withComment(comment)
+        .withAuditInfo(AUDIT_INFO)
+        .build();
+  }
+
+  private static Config mockConfig(long maxStalenessMillis) {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(CACHE_INVALIDATION_POLL_INTERVAL_MS)).thenReturn(1_000L);
+    Mockito.when(config.get(CACHE_INVALIDATION_MAX_STALENESS_MS)).thenReturn(maxStalenessMillis);
+    return config;
+  }
+
+  private static EntityChangeLogEntry changeLogEntry(long sequence, String tableName) {
+    return EntityChangeLogEntry.of(
+        sequence,
+        Entity.EntityType.TABLE,
+        NameIdentifier.of("metalake", "catalog", "schema", tableName),
+        ChangeLogEntry.Operation.CREATE,
+        Instant.now().toEpochMilli());
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.CACHE_WARMUP_PARALLELISM;
+import static org.apache.gravitino.Configs.CACHE_WARMUP_TIMEOUT_MS;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Optional;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.cache.CaffeineEntityCache;
+import org.apache.gravitino.cache.EntityCache;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.RoleEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestTemplate;
+import org.mockito.Mockito;
+
+public class TestEntityCacheWarmer extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_cache_warmer_test";
+  private final String catalogName = "catalog_for_cache_warmer_test";
+  private final String schemaName = "schema_for_cache_warmer_test";
+
+  @TestTemplate
+  public void testWarmUpLoadsEntities() throws IOException {
+    BaseMetalake metalake = createAndInsertMakeLake(metalakeName);
+    CatalogEntity catalog = createAndInsertCatalog(metalakeName, catalogName);
+    SchemaEntity schema = createAndInsertSchema(metalakeName, catalogName, schemaName);
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofUser(metalakeName),
+            "user",
+            AUDIT_INFO);
+    backend.insert(user, false);
+    RoleEntity role =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            NamespaceUtil.ofRole(metalakeName),
+            "role",
+            AUDIT_INFO,
+            catalogName);
+    backend.insert(role, false);
+
+    EntityCache cache = new CaffeineEntityCache(new Config(false) {});
+    EntityCacheWarmer warmer = new EntityCacheWarmer(backend, cache, new Config(false) {});
+    warmer.run();
+
+    Assertions.assertEquals(EntityCacheWarmer.State.COMPLETED, warmer.state());
+    Assertions.assertTrue(cache.contains(metalake.nameIdentifier(), Entity.EntityType.METALAKE));
+    Assertions.assertTrue(cache.contains(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+    Assertions.assertTrue(cache.contains(schema.nameIdentifier(), Entity.EntityType.SCHEMA));
+    Assertions.assertTrue(cache.contains(user.nameIdentifier(), Entity.EntityType.USER));
+
+    // The roles are loaded with their securable objects.
+    Optional<RoleEntity> cachedRole =
+        cache.getIfPresent(role.nameIdentifier(), Entity.EntityType.ROLE);
+    Assertions.assertTrue(cachedRole.isPresent());
+    Assertions.assertEquals(role.securableObjects(), cachedRole.get().securableObjects());
+  }
+
+  @Test
+  public void testWarmUpGivesUpAfterTimeout() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(CACHE_WARMUP_PARALLELISM)).thenReturn(1);
+    Mockito.when(config.get(CACHE_WARMUP_TIMEOUT_MS)).thenReturn(200L);
+    RelationalBackend mockBackend = Mockito.mock(RelationalBackend.class);
+    Mockito.doAnswer(
+            invocation -> {
+              Thread.sleep(30_000L);
+              return Collections.emptyList();
+            })
+        .when(mockBackend)
+        .list(any(), eq(Entity.EntityType.METALAKE), anyBoolean());
+
+    EntityCacheWarmer warmer =
+        new EntityCacheWarmer(mockBackend, Mockito.mock(EntityCache.class), config);
+    long start = System.currentTimeMillis();
+    warmer.run();
+
+    Assertions.assertEquals(EntityCacheWarmer.State.TIMED_OUT, warmer.state());
+    Assertions.assertTrue(System.currentTimeMillis() - start < 10_000L);
+  }
+}
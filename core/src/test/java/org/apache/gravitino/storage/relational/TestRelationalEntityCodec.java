@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.time.Instant;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.meta.AuditInfo;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.rel.Column;
+import org.apache.gravitino.rel.expressions.literals.Literals;
+import org.apache.gravitino.rel.types.Types;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestRelationalEntityCodec {
+  private static final AuditInfo AUDIT_INFO =
+      AuditInfo.builder().withCreator("creator").withCreateTime(Instant.now()).build();
+
+  private final RelationalEntityCodec codec = new RelationalEntityCodec();
+
+  @Test
+  void testTableRoundTrip() throws IOException {
+    NameIdentifier ident = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TableEntity table =
+        TableEntity.builder()
+            .withId(1L)
+            .withName(ident.name())
+            .withNamespace(ident.namespace())
+            .withComment("comment")
+            .withProperties(ImmutableMap.of("key", "value"))
+            .withColumns(
+                ImmutableList.of(
+                    ColumnEntity.builder()
+                        .withId(2L)
+                        .withName("id")
+                        .withPosition(0)
+                        .withComment("id column")
+                        .withDataType(Types.LongType.get())
+                        .withNullable(false)
+                        .withAutoIncrement(true)
+                        .withDefaultValue(Column.DEFAULT_VALUE_NOT_SET)
+                        .withAuditInfo(AUDIT_INFO)
+                        .build(),
+                    ColumnEntity.builder()
+                        .withId(3L)
+                        .withName("name")
+                        .withPosition(1)
+                        .withDataType(Types.StringType.get())
+                        .withNullable(true)
+                        .withAutoIncrement(false)
+                        .withDefaultValue(Literals.stringLiteral("unknown"))
+                        .withAuditInfo(AUDIT_INFO)
+                        .build()))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+
+    Entity decoded = codec.decode(ident, Entity.EntityType.TABLE, codec.encode(table));
+    Assertions.assertEquals(table, decoded);
+    Assertions.assertEquals(2, ((TableEntity) decoded).columns().size());
+  }
+
+  @Test
+  void testSchemaTopicAndModelRoundTrip() throws IOException {
+    NameIdentifier schemaIdent = NameIdentifier.of("metalake", "catalog", "schema");
+    SchemaEntity schema =
+        SchemaEntity.builder()
+            .withId(1L)
+            .withName(schemaIdent.name())
+            .withNamespace(schemaIdent.namespace())
+            .withComment("comment")
+            .withProperties(ImmutableMap.of("key", "value"))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Assertions.assertEquals(
+        schema, codec.decode(schemaIdent, Entity.EntityType.SCHEMA, codec.encode(schema)));
+
+    NameIdentifier topicIdent = NameIdentifier.of("metalake", "catalog", "schema", "topic");
+    TopicEntity topic =
+        TopicEntity.builder()
+            .withId(2L)
+            .withName(topicIdent.name())
+            .withNamespace(topicIdent.namespace())
+            .withProperties(ImmutableMap.of())
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Assertions.assertEquals(
+        topic, codec.decode(topicIdent, Entity.EntityType.TOPIC, codec.encode(topic)));
+
+    NameIdentifier modelIdent = NameIdentifier.of("metalake", "catalog", "schema", "model");
+    ModelEntity model =
+        ModelEntity.builder()
+            .withId(3L)
+            .withName(modelIdent.name())
+            .withNamespace(modelIdent.namespace())
+            .withLatestVersion(4)
+            .withProperties(ImmutableMap.of("key", "value"))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    Assertions.assertEquals(
+        model, codec.decode(modelIdent, Entity.EntityType.MODEL, codec.encode(model)));
+  }
+
+  @Test
+  void testUnsupportedTypes() {
+    Assertions.assertFalse(codec.supports(Entity.EntityType.ROLE));
+    Assertions.assertFalse(codec.supports(Entity.EntityType.TAG));
+    Assertions.assertFalse(codec.supports(Entity.EntityType.CATALOG));
+    Assertions.assertThrows(
+        IOException.class,
+        () ->
+            codec.decode(
+                NameIdentifier.of("metalake", "catalog", "schema"),
+                Entity.EntityType.SCHEMA,
+                new byte[] {0}));
+  }
+}
@@ -0,0 +1,124 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational;
+
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND;
+import static org.apache.gravitino.Configs.GARBAGE_COLLECTOR_PARALLELISM;
+import static org.apache.gravitino.Configs.STORE_DELETE_AFTER_TIME;
+import static org.apache.gravitino.Configs.VERSION_RETENTION_COUNT;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestRelationalGarbageCollector {
+
+  @Test
+  public void testAdaptiveBatchSize() {
+    RelationalGarbageCollector.AdaptiveBatchSize batchSize =
+        new RelationalGarbageCollector.AdaptiveBatchSize(100, 10, 400, 100);
+    Assertions.assertEquals(100, batchSize.get());
+
+    // A full and fast batch doubles the size, up to the maximum.
+    batchSize.update(100, 10);
+    Assertions.assertEquals(200, batchSize.get());
+    batchSize.update(200, 10);
+    batchSize.update(400, 10);
+    Assertions.assertEquals(400, batchSize.get());
+
+    // A partial batch means the backlog is drained, the size is kept.
+    batchSize.update(5, 10);
+    Assertions.assertEquals(400, batchSize.get());
+
+    // A slow batch halves the size, down to the minimum.
+    batchSize.update(400, 150);
+    Assertions.assertEquals(200, batchSize.get());
+    for (int i = 0; i < 10; i++) {
+      batchSize.update(0, 150);
+    }
+    Assertions.assertEquals(10, batchSize.get());
+  }
+
+  @Test
+  public void testCollectAndCleanDrainsEveryEntityType() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(GARBAGE_COLLECTOR_PARALLELISM)).thenReturn(3);
+    Mockito.when(config.get(GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND)).thenReturn(100_000);
+
+    // Every entity type has 250 legacy rows, deleted batch by batch.
+    Map<Entity.EntityType, AtomicInteger> remaining = new ConcurrentHashMap<>();
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      remaining.put(entityType, new AtomicInteger(250));
+      Mockito.when(backend.hardDeleteLegacyData(eq(entityType), anyLong(), anyInt()))
+          .thenAnswer(
+              invocation -> {
+                int limit = invocation.getArgument(2);
+                AtomicInteger left = remaining.get(entityType);
+                int deleted = Math.min(limit, left.get());
+                left.addAndGet(-deleted);
+                return deleted;
+              });
+    }
+
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      garbageCollector.collectAndClean();
+    }
+
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      Assertions.assertEquals(0, remaining.get(entityType).get(), entityType.name());
+      Mockito.verify(backend, Mockito.atLeastOnce())
+          .deleteOldVersionData(eq(entityType), eq(1L), anyInt());
+    }
+    Mockito.verify(backend).deleteLegacyChangeLogs(anyLong(), anyInt());
+  }
+
+  @Test
+  public void testCollectAndCleanWithoutLegacyData() throws IOException {
+    Config config = Mockito.mock(Config.class);
+    Mockito.when(config.get(STORE_DELETE_AFTER_TIME)).thenReturn(20 * 60 * 1000L);
+    Mockito.when(config.get(VERSION_RETENTION_COUNT)).thenReturn(1L);
+    Mockito.when(config.get(GARBAGE_COLLECTOR_PARALLELISM)).thenReturn(3);
+    Mockito.when(config.get(GARBAGE_COLLECTOR_MAX_DELETES_PER_SECOND)).thenReturn(100_000);
+
+    // The hard delete still runs once per entity type, it also purges the secondary tables.
+    RelationalBackend backend = Mockito.mock(RelationalBackend.class);
+    try (RelationalGarbageCollector garbageCollector =
+        new RelationalGarbageCollector(backend, config)) {
+      garbageCollector.collectAndClean();
+    }
+
+    for (Entity.EntityType entityType : Entity.EntityType.values()) {
+      Mockito.verify(backend).hardDeleteLegacyData(eq(entityType), anyLong(), anyInt());
+      Mockito.verify(backend).deleteOldVersionData(eq(entityType), eq(1L), anyInt());
+    }
+  }
+}
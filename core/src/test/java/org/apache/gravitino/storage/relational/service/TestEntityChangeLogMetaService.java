@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.apache.gravitino.ChangeLogEntry;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.utils.NamespaceUtil;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestEntityChangeLogMetaService extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_change_log_test";
+  private final String catalogName = "catalog_for_change_log_test";
+  private final String schemaName = "schema_for_change_log_test";
+
+  @TestTemplate
+  public void testMutationsAreLogged() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName);
+
+    Namespace namespace = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+    TableEntity table =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table.1", AUDIT_INFO);
+    backend.insert(table, false);
+    backend.update(
+        table.nameIdentifier(),
+        Entity.EntityType.TABLE,
+        e -> createTableEntity(table.id(), namespace, "table_renamed", AUDIT_INFO));
+    backend.delete(NameIdentifier.of(namespace, "table_renamed"), Entity.EntityType.TABLE, false);
+
+    List<EntityChangeLogEntry> changes = backend.listChanges(metalakeName, 0, 100);
+    assertEquals(7, changes.size());
+    for (int i = 1; i < changes.size(); i++) {
+      assertTrue(changes.get(i).sequence() > changes.get(i - 1).sequence());
+    }
+
+    assertEquals(
+        List.of("METALAKE", "CATALOG", "SCHEMA", "TABLE", "TABLE", "TABLE", "TABLE"),
+        changes.stream().map(ChangeLogEntry::entityType).collect(Collectors.toList()));
+    assertEquals(
+        List.of(
+            ChangeLogEntry.Operation.CREATE,
+            ChangeLogEntry.Operation.CREATE,
+            ChangeLogEntry.Operation.CREATE,
+            ChangeLogEntry.Operation.CREATE,
+            ChangeLogEntry.Operation.ALTER,
+            ChangeLogEntry.Operation.ALTER,
+            ChangeLogEntry.Operation.DROP),
+        changes.stream().map(ChangeLogEntry::operation).collect(Collectors.toList()));
+    assertEquals(NameIdentifier.of(metalakeName), changes.get(0).identifier());
+    // The name containing a dot is kept as a single level.
+    assertEquals(table.nameIdentifier(), changes.get(3).identifier());
+    assertEquals(table.nameIdentifier(), changes.get(4).identifier());
+    assertEquals(NameIdentifier.of(namespace, "table_renamed"), changes.get(5).identifier());
+
+    // Pages continue from the sequence of the last entry read.
+    List<EntityChangeLogEntry> page =
+        backend.listChanges(metalakeName, changes.get(2).sequence(), 2);
+    assertEquals(changes.subList(3, 5), page);
+    assertTrue(backend.listChanges(metalakeName, changes.get(6).sequence(), 100).isEmpty());
+    assertTrue(backend.listChanges("another_metalake", 0, 100).isEmpty());
+  }
+
+  @TestTemplate
+  public void testFailedMutationIsNotLogged() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName);
+
+    Namespace namespace = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+    backend.insert(
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table", AUDIT_INFO),
+        false);
+    TableEntity tableCopy =
+        createTableEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "table", AUDIT_INFO);
+    assertThrows(EntityAlreadyExistsException.class, () -> backend.insert(tableCopy, false));
+
+    assertEquals(4, backend.listChanges(metalakeName, 0, 100).size());
+  }
+
+  @TestTemplate
+  public void testRecentChangesAreHeldBack() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    List<EntityChangeLogEntry> changes = backend.listChanges(metalakeName, 0, 100);
+    assertEquals(2, changes.size());
+
+    try {
+      // Entries younger than the commit lag are not listed, so a reader paging by sequence does
+      // not move past an entry whose transaction is yet to commit.
+      EntityChangeLogMetaService.getInstance().setCommitLagMs(60_000L);
+      assertTrue(backend.listChanges(metalakeName, 0, 100).isEmpty());
+      createAndInsertSchema(metalakeName, catalogName, schemaName);
+      assertTrue(backend.listChanges(metalakeName, changes.get(1).sequence(), 100).isEmpty());
+    } finally {
+      EntityChangeLogMetaService.getInstance().setCommitLagMs(0L);
+    }
+
+    List<EntityChangeLogEntry> page =
+        backend.listChanges(metalakeName, changes.get(1).sequence(), 100);
+    assertEquals(1, page.size());
+    assertEquals(
+        NameIdentifier.of(metalakeName, catalogName, schemaName), page.get(0).identifier());
+    assertThrows(
+        IllegalArgumentException.class,
+        () -> EntityChangeLogMetaService.getInstance().setCommitLagMs(-1L));
+  }
+
+  @TestTemplate
+  public void testDeleteLegacyChangeLogs() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+
+    assertEquals(0, backend.deleteLegacyChangeLogs(System.currentTimeMillis() - 60_000L, 100));
+    assertEquals(2, backend.listChanges(metalakeName, 0, 100).size());
+
+    assertEquals(1, backend.deleteLegacyChangeLogs(System.currentTimeMillis() + 60_000L, 1));
+    assertEquals(1, backend.deleteLegacyChangeLogs(System.currentTimeMillis() + 60_000L, 100));
+    assertTrue(backend.listChanges(metalakeName, 0, 100).isEmpty());
+  }
+}
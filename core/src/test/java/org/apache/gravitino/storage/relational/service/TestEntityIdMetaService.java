@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import com.google.common.collect.Lists;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
+import org.apache.gravitino.authorization.AuthorizationUtils;
+import org.apache.gravitino.exceptions.NoSuchEntityException;
+import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.CatalogEntity;
+import org.apache.gravitino.meta.ColumnEntity;
+import org.apache.gravitino.meta.NamespacedEntityId;
+import org.apache.gravitino.meta.SchemaEntity;
+import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.rel.types.Types;
+import org.apache.gravitino.storage.RandomIdGenerator;
+import org.apache.gravitino.storage.relational.RelationalEntityStoreIdResolver;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestEntityIdMetaService extends TestJDBCBackend {
+
+  private static final String METALAKE_NAME = "metalake_for_entity_id_test";
+  private static final String CATALOG_NAME = "catalog_for_entity_id_test";
+  private static final String SCHEMA_NAME = "schema_for_entity_id_test";
+
+  @TestTemplate
+  public void testBatchGetEntityIds() throws IOException {
+    BaseMetalake metalake = createAndInsertMakeLake(METALAKE_NAME);
+    CatalogEntity catalog = createAndInsertCatalog(METALAKE_NAME, CATALOG_NAME);
+    SchemaEntity schema = createAndInsertSchema(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+    Namespace tableNs = Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+
+    List<NameIdentifier> tableIdents = Lists.newArrayList();
+    List<TableEntity> tables = Lists.newArrayList();
+    for (int i = 0; i < 3; i++) {
+      TableEntity table =
+          createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, "table" + i, AUDIT_INFO);
+      backend.insert(table, false);
+      tables.add(table);
+      tableIdents.add(table.nameIdentifier());
+    }
+    NameIdentifier missingTable = NameIdentifier.of(tableNs, "missing_table");
+    tableIdents.add(missingTable);
+
+    EntityIdMetaService service = EntityIdMetaService.getInstance();
+    Map<NameIdentifier, NamespacedEntityId> tableIds =
+        service.batchGetEntityIds(tableIdents, Entity.EntityType.TABLE);
+    Assertions.assertEquals(3, tableIds.size());
+    Assertions.assertFalse(tableIds.containsKey(missingTable));
+    for (TableEntity table : tables) {
+      NamespacedEntityId ids = tableIds.get(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), ids.entityId());
+      Assertions.assertArrayEquals(
+          new long[] {metalake.id(), catalog.id(), schema.id()}, ids.namespaceIds());
+    }
+
+    NamespacedEntityId metalakeIds =
+        service
+            .batchGetEntityIds(
+                Lists.newArrayList(NameIdentifier.of(METALAKE_NAME)), Entity.EntityType.METALAKE)
+            .get(NameIdentifier.of(METALAKE_NAME));
+    Assertions.assertEquals(metalake.id(), metalakeIds.entityId());
+    Assertions.assertEquals(0, metalakeIds.namespaceIds().length);
+
+    NamespacedEntityId catalogIds =
+        service
+            .batchGetEntityIds(
+                Lists.newArrayList(catalog.nameIdentifier()), Entity.EntityType.CATALOG)
+            .get(catalog.nameIdentifier());
+    Assertions.assertEquals(catalog.id(), catalogIds.entityId());
+    Assertions.assertArrayEquals(new long[] {metalake.id()}, catalogIds.namespaceIds());
+
+    NamespacedEntityId schemaIds =
+        service
+            .batchGetEntityIds(
+                Lists.newArrayList(schema.nameIdentifier()), Entity.EntityType.SCHEMA)
+            .get(schema.nameIdentifier());
+    Assertions.assertEquals(schema.id(), schemaIds.entityId());
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id()}, schemaIds.namespaceIds());
+
+    UserEntity user =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(METALAKE_NAME),
+            "user1",
+            AUDIT_INFO);
+    backend.insert(user, false);
+    NamespacedEntityId userIds =
+        service
+            .batchGetEntityIds(Lists.newArrayList(user.nameIdentifier()), Entity.EntityType.USER)
+            .get(user.nameIdentifier());
+    Assertions.assertEquals(user.id(), userIds.entityId());
+    Assertions.assertArrayEquals(new long[] {metalake.id()}, userIds.namespaceIds());
+  }
+
+  @TestTemplate
+  public void testBatchGetColumnIds() throws IOException {
+    BaseMetalake metalake = createAndInsertMakeLake(METALAKE_NAME);
+    CatalogEntity catalog = createAndInsertCatalog(METALAKE_NAME, CATALOG_NAME);
+    SchemaEntity schema = createAndInsertSchema(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME);
+
+    ColumnEntity column =
+        ColumnEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("column1")
+            .withPosition(0)
+            .withDataType(Types.IntegerType.get())
+            .withNullable(true)
+            .withAutoIncrement(false)
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableEntity table =
+        TableEntity.builder()
+            .withId(RandomIdGenerator.INSTANCE.nextId())
+            .withName("table1")
+            .withNamespace(Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME))
+            .withColumns(Lists.newArrayList(column))
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    backend.insert(table, false);
+
+    Namespace columnNs = Namespace.of(METALAKE_NAME, CATALOG_NAME, SCHEMA_NAME, "table1");
+    NameIdentifier columnIdent = NameIdentifier.of(columnNs, "column1");
+    NameIdentifier missingColumn = NameIdentifier.of(columnNs, "missing_column");
+    Map<NameIdentifier, NamespacedEntityId> columnIds =
+        EntityIdMetaService.getInstance()
+            .batchGetEntityIds(
+                Lists.newArrayList(columnIdent, missingColumn), Entity.EntityType.COLUMN);
+    Assertions.assertEquals(1, columnIds.size());
+    Assertions.assertEquals(column.id(), columnIds.get(columnIdent).entityId());
+    Assertions.assertArrayEquals(
+        new long[] {metalake.id(), catalog.id(), schema.id(), table.id()},
+        columnIds.get(columnIdent).namespaceIds());
+  }
+
+  @TestTemplate
+  public void testResolverFallsBackForMissingEntity() throws IOException {
+    createAndInsertMakeLake(METALAKE_NAME);
+    CatalogEntity catalog = createAndInsertCatalog(METALAKE_NAME, CATALOG_NAME);
+
+    RelationalEntityStoreIdResolver resolver = new RelationalEntityStoreIdResolver();
+    Assertions.assertEquals(
+        catalog.id(), resolver.getEntityId(catalog.nameIdentifier(), Entity.EntityType.CATALOG));
+
+    // The schema is missing, so the level by level lookup names it in the exception.
+    NameIdentifier tableIdent =
+        NameIdentifier.of(METALAKE_NAME, CATALOG_NAME, "missing_schema", "table1");
+    Assertions.assertThrows(
+        NoSuchEntityException.class,
+        () -> resolver.getEntityIds(tableIdent, Entity.EntityType.TABLE));
+    Assertions.assertTrue(
+        resolver.getEntityIds(Lists.newArrayList(tableIdent), Entity.EntityType.TABLE).isEmpty());
+  }
+}
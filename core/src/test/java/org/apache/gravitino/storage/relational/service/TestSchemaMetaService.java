@@ -62,6 +62,35 @@ public class TestSchemaMetaService extends TestJDBCBackend {
     assertThrows(EntityAlreadyExistsException.class, () -> backend.insert(schemaCopy, false));
   }
 
+  @TestTemplate
+  public void testBatchPutSchemas() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+
+    List<SchemaEntity> schemas =
+        List.of(
+            createSchemaEntity(
+                RandomIdGenerator.INSTANCE.nextId(),
+                NamespaceUtil.ofSchema(metalakeName, catalogName),
+                "schema1",
+                AUDIT_INFO),
+            createSchemaEntity(
+                RandomIdGenerator.INSTANCE.nextId(),
+                NamespaceUtil.ofSchema(metalakeName, catalogName),
+                "schema2",
+                AUDIT_INFO));
+    backend.batchPut(schemas, false);
+    Assertions.assertEquals(
+        2,
+        backend
+            .list(NamespaceUtil.ofSchema(metalakeName, catalogName), Entity.EntityType.SCHEMA, true)
+            .size());
+
+    assertThrows(
+        EntityAlreadyExistsException.class, () -> backend.batchPut(List.of(schemas.get(0)), false));
+    backend.batchPut(schemas, true);
+  }
+
   @TestTemplate
   public void testUpdateAlreadyExistsException() throws IOException {
     createAndInsertMakeLake(metalakeName);
@@ -29,6 +29,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
+import org.apache.gravitino.Configs;
+import org.apache.gravitino.Entity;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
@@ -41,6 +43,7 @@ import org.apache.gravitino.storage.relational.TestJDBCBackend;
 import org.apache.gravitino.storage.relational.mapper.TableColumnMapper;
 import org.apache.gravitino.storage.relational.po.ColumnPO;
 import org.apache.gravitino.storage.relational.session.SqlSessions;
+import org.apache.gravitino.storage.relational.utils.POConverters;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.TestTemplate;
 
@@ -529,6 +532,127 @@ public class TestTableColumnMetaService extends TestJDBCBackend {
         () -> TableColumnMetaService.getInstance().getColumnPOById(updatedColumn.id()));
   }
 
+  @TestTemplate
+  public void testColumnSnapshots() throws IOException {
+    String catalogName = "catalog1";
+    String schemaName = "schema1";
+    createParentEntities(METALAKE_NAME, catalogName, schemaName, AUDIT_INFO);
+
+    TableColumnMetaService.getInstance().setSnapshotInterval(3);
+    try {
+      List<ColumnEntity> columns = new ArrayList<>();
+      for (int i = 0; i < 4; i++) {
+        columns.add(
+            ColumnEntity.builder()
+                .withId(RandomIdGenerator.INSTANCE.nextId())
+                .withName("column_" + i)
+                .withPosition(i)
+                .withComment("comment_" + i)
+                .withDataType(Types.StringType.get())
+                .withNullable(true)
+                .withAutoIncrement(false)
+                .withAuditInfo(AUDIT_INFO)
+                .build());
+      }
+      ColumnEntity updatedColumn0 =
+          ColumnEntity.builder()
+              .withId(columns.get(0).id())
+              .withName(columns.get(0).name())
+              .withPosition(columns.get(0).position())
+              .withComment("comment_0_updated")
+              .withDataType(Types.LongType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withAuditInfo(AUDIT_INFO)
+              .build();
+
+      // Version 1 creates column 0 to 2.
+      TableEntity table =
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("snapshot_table")
+              .withNamespace(Namespace.of(METALAKE_NAME, catalogName, schemaName))
+              .withColumns(columns.subList(0, 3))
+              .withAuditInfo(AUDIT_INFO)
+              .build();
+      TableMetaService.getInstance().insertTable(table, false);
+
+      // Version 2 updates column 0, version 3 is a snapshot that also drops column 2 and adds
+      // column 3.
+      List<ColumnEntity> version2 =
+          Lists.newArrayList(updatedColumn0, columns.get(1), columns.get(2));
+      table = updateTableColumns(table, table.name(), version2);
+      List<ColumnEntity> version3 =
+          Lists.newArrayList(updatedColumn0, columns.get(1), columns.get(3));
+      table = updateTableColumns(table, table.name(), version3);
+      compareTwoColumns(version3, table.columns());
+
+      ColumnPO column1PO =
+          TableColumnMetaService.getInstance().getColumnPOById(columns.get(1).id());
+      Assertions.assertEquals(ColumnPO.ColumnOpType.SNAPSHOT.value(), column1PO.getColumnOpType());
+      Assertions.assertEquals(3L, column1PO.getTableVersion());
+
+      // The column dropped by the snapshot no longer resolves.
+      long tableId = table.id();
+      Assertions.assertThrows(
+          NoSuchEntityException.class,
+          () -> TableColumnMetaService.getInstance().getColumnPOById(columns.get(2).id()));
+      Assertions.assertThrows(
+          NoSuchEntityException.class,
+          () ->
+              TableColumnMetaService.getInstance()
+                  .getColumnIdByTableIdAndName(tableId, "column_2"));
+      NameIdentifier droppedColumn =
+          NameIdentifier.of(METALAKE_NAME, catalogName, schemaName, table.name(), "column_2");
+      Assertions.assertTrue(
+          EntityIdMetaService.getInstance()
+              .batchGetEntityIds(Lists.newArrayList(droppedColumn), Entity.EntityType.COLUMN)
+              .isEmpty());
+
+      // Version 4 only renames the table, version 5 drops column 3, and version 6 is a snapshot
+      // even though no column changes.
+      table = updateTableColumns(table, "snapshot_table_renamed", version3);
+      List<ColumnEntity> version5 = Lists.newArrayList(updatedColumn0, columns.get(1));
+      table = updateTableColumns(table, table.name(), version5);
+      table = updateTableColumns(table, "snapshot_table", version5);
+      compareTwoColumns(version5, table.columns());
+      column1PO = TableColumnMetaService.getInstance().getColumnPOById(columns.get(1).id());
+      Assertions.assertEquals(6L, column1PO.getTableVersion());
+      Assertions.assertThrows(
+          NoSuchEntityException.class,
+          () -> TableColumnMetaService.getInstance().getColumnPOById(columns.get(3).id()));
+
+      // The versions before the latest snapshot are still rebuilt from their own snapshot.
+      compareTwoColumns(version2, getColumnsByVersion(table.id(), 2L));
+      compareTwoColumns(version3, getColumnsByVersion(table.id(), 3L));
+      compareTwoColumns(version3, getColumnsByVersion(table.id(), 4L));
+      compareTwoColumns(version5, getColumnsByVersion(table.id(), 5L));
+    } finally {
+      TableColumnMetaService.getInstance()
+          .setSnapshotInterval(
+              Configs.ENTITY_RELATIONAL_COLUMN_SNAPSHOT_INTERVAL.getDefaultValue());
+    }
+  }
+
+  private TableEntity updateTableColumns(
+      TableEntity table, String newName, List<ColumnEntity> columns) throws IOException {
+    TableEntity updatedTable =
+        TableEntity.builder()
+            .withId(table.id())
+            .withName(newName)
+            .withNamespace(table.namespace())
+            .withColumns(columns)
+            .withAuditInfo(AUDIT_INFO)
+            .build();
+    TableMetaService.getInstance().updateTable(table.nameIdentifier(), oldTable -> updatedTable);
+    return TableMetaService.getInstance().getTableByIdentifier(updatedTable.nameIdentifier());
+  }
+
+  private List<ColumnEntity> getColumnsByVersion(Long tableId, Long version) {
+    return POConverters.fromColumnPOs(
+        TableColumnMetaService.getInstance().getColumnsByTableIdAndVersion(tableId, version));
+  }
+
   private void compareTwoColumns(
       List<ColumnEntity> expectedColumns, List<ColumnEntity> actualColumns) {
     Assertions.assertEquals(expectedColumns.size(), actualColumns.size());
@@ -24,12 +24,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.exceptions.NoSuchEntityException;
 import org.apache.gravitino.meta.BaseMetalake;
@@ -102,6 +104,106 @@ public class TestTableMetaService extends TestJDBCBackend {
                     createTableEntity(tableCopy.id(), tableCopy.namespace(), "table", AUDIT_INFO)));
   }
 
+  @TestTemplate
+  public void testListTablesWithKeyset() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName);
+
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+    for (String name : new String[] {"table_c", "table_a", "table_b"}) {
+      backend.insert(
+          createTableEntity(RandomIdGenerator.INSTANCE.nextId(), tableNs, name, AUDIT_INFO),
+          false);
+    }
+
+    TableMetaService tableMetaService = TableMetaService.getInstance();
+    List<TableEntity> firstPage = tableMetaService.listTablesByNamespace(tableNs, null, 2);
+    Assertions.assertEquals(
+        List.of("table_a", "table_b"),
+        firstPage.stream().map(TableEntity::name).collect(Collectors.toList()));
+
+    List<TableEntity> secondPage = tableMetaService.listTablesByNamespace(tableNs, "table_b", 2);
+    Assertions.assertEquals(
+        List.of("table_c"),
+        secondPage.stream().map(TableEntity::name).collect(Collectors.toList()));
+
+    // Soft-deleted tables are skipped by the keyset query.
+    backend.delete(NameIdentifier.of(tableNs, "table_a"), Entity.EntityType.TABLE, false);
+    List<TableEntity> afterDelete = backend.list(tableNs, Entity.EntityType.TABLE, null, 10);
+    Assertions.assertEquals(
+        List.of("table_b", "table_c"),
+        afterDelete.stream().map(TableEntity::name).collect(Collectors.toList()));
+  }
+
+  @TestTemplate
+  public void testBatchInsertTables() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, catalogName);
+    createAndInsertSchema(metalakeName, catalogName, schemaName);
+
+    Namespace tableNs = NamespaceUtil.ofTable(metalakeName, catalogName, schemaName);
+    List<TableEntity> tables = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      ColumnEntity column =
+          ColumnEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("column_" + i)
+              .withPosition(0)
+              .withComment("comment")
+              .withDataType(Types.IntegerType.get())
+              .withNullable(true)
+              .withAutoIncrement(false)
+              .withDefaultValue(Literals.integerLiteral(i))
+              .withAuditInfo(AUDIT_INFO)
+              .build();
+      tables.add(
+          TableEntity.builder()
+              .withId(RandomIdGenerator.INSTANCE.nextId())
+              .withName("table_" + i)
+              .withNamespace(tableNs)
+              .withColumns(List.of(column))
+              .withAuditInfo(AUDIT_INFO)
+              .build());
+    }
+
+    backend.batchPut(tables, false);
+
+    List<TableEntity> listed = backend.list(tableNs, Entity.EntityType.TABLE, true);
+    Assertions.assertEquals(5, listed.size());
+    for (TableEntity table : tables) {
+      TableEntity loaded =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertEquals(table.id(), loaded.id());
+      Assertions.assertEquals(1, loaded.columns().size());
+      Assertions.assertEquals(table.columns().get(0).name(), loaded.columns().get(0).name());
+    }
+
+    // Inserting an existing table without overwrite fails.
+    assertThrows(
+        EntityAlreadyExistsException.class, () -> backend.batchPut(List.of(tables.get(0)), false));
+
+    // Overwriting replaces the columns of the existing tables.
+    List<TableEntity> overwritten =
+        tables.stream()
+            .map(
+                table ->
+                    TableEntity.builder()
+                        .withId(table.id())
+                        .withName(table.name())
+                        .withNamespace(tableNs)
+                        .withColumns(List.of())
+                        .withAuditInfo(AUDIT_INFO)
+                        .build())
+            .collect(Collectors.toList());
+    backend.batchPut(overwritten, true);
+    for (TableEntity table : overwritten) {
+      TableEntity loaded =
+          TableMetaService.getInstance().getTableByIdentifier(table.nameIdentifier());
+      Assertions.assertTrue(loaded.columns().isEmpty());
+    }
+  }
+
   @TestTemplate
   public void testMetaLifeCycleFromCreationToDeletion() throws IOException {
     BaseMetalake metalake =
@@ -22,11 +22,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.google.common.collect.Lists;
 import java.io.IOException;
 import java.time.Instant;
 import java.util.List;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityAlreadyExistsException;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.Namespace;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.storage.RandomIdGenerator;
 import org.apache.gravitino.storage.relational.TestJDBCBackend;
@@ -145,4 +148,38 @@ public class TestTopicMetaService extends TestJDBCBackend {
                 e ->
                     createTopicEntity(topicCopy.id(), topicCopy.namespace(), "topic", AUDIT_INFO)));
   }
+
+  @TestTemplate
+  public void testBatchGetTopicByIdentifier() throws IOException {
+    String anotherSchemaName = "another_schema_for_topic_test";
+    createAndInsertSchema(metalakeName, catalogName, anotherSchemaName);
+    Namespace namespace = NamespaceUtil.ofTopic(metalakeName, catalogName, schemaName);
+    Namespace anotherNamespace =
+        NamespaceUtil.ofTopic(metalakeName, catalogName, anotherSchemaName);
+
+    TopicEntity topic1 =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "topic1", AUDIT_INFO);
+    TopicEntity topic2 =
+        createTopicEntity(RandomIdGenerator.INSTANCE.nextId(), namespace, "topic2", AUDIT_INFO);
+    TopicEntity topic3 =
+        createTopicEntity(
+            RandomIdGenerator.INSTANCE.nextId(), anotherNamespace, "topic3", AUDIT_INFO);
+    backend.insert(topic1, false);
+    backend.insert(topic2, false);
+    backend.insert(topic3, false);
+
+    List<NameIdentifier> identifiers =
+        Lists.newArrayList(
+            topic1.nameIdentifier(),
+            topic3.nameIdentifier(),
+            NameIdentifier.of(namespace, "missing_topic"),
+            topic2.nameIdentifier(),
+            NameIdentifierUtil.ofTopic(metalakeName, catalogName, "missing_schema", "topic1"));
+    List<TopicEntity> topics = backend.batchGet(identifiers, Entity.EntityType.TOPIC);
+    Assertions.assertEquals(3, topics.size());
+    Assertions.assertTrue(topics.containsAll(Lists.newArrayList(topic1, topic2, topic3)));
+
+    Assertions.assertTrue(
+        TopicMetaService.getInstance().batchGetTopicByIdentifier(Lists.newArrayList()).isEmpty());
+  }
 }
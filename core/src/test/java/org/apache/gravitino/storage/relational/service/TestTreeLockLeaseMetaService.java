@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.storage.relational.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import org.apache.gravitino.Entity;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.exceptions.LockTimeoutException;
+import org.apache.gravitino.storage.relational.TestJDBCBackend;
+import org.apache.gravitino.storage.relational.po.TreeLockLeasePO;
+import org.junit.jupiter.api.TestTemplate;
+
+public class TestTreeLockLeaseMetaService extends TestJDBCBackend {
+  private final String metalakeName = "metalake_for_lease_test";
+  private final String lockKey = "metalake_for_lease_test.catalog.schema";
+
+  private final TreeLockLeaseMetaService leaseService = TreeLockLeaseMetaService.getInstance();
+
+  @TestTemplate
+  public void testAcquireRenewAndRelease() throws InterruptedException {
+    assertNull(leaseService.getLease(lockKey));
+
+    Long token = leaseService.tryAcquireLease(lockKey, "server1", 60_000L);
+    assertEquals(1L, token);
+    assertNull(leaseService.tryAcquireLease(lockKey, "server2", 60_000L));
+    // A lease is not reentrant in the store, the provider shares it within a server.
+    assertNull(leaseService.tryAcquireLease(lockKey, "server1", 60_000L));
+
+    assertTrue(leaseService.renewLease(lockKey, "server1", token, 60_000L));
+    assertFalse(leaseService.renewLease(lockKey, "server2", token, 60_000L));
+    assertFalse(leaseService.releaseLease(lockKey, "server1", token + 1));
+    assertTrue(leaseService.releaseLease(lockKey, "server1", token));
+
+    // The row is kept once released, so the next owner gets a greater token.
+    TreeLockLeasePO released = leaseService.getLease(lockKey);
+    assertEquals(0L, released.getLeaseExpireAt());
+    assertEquals(2L, leaseService.tryAcquireLease(lockKey, "server2", 1L));
+
+    // An expired lease is taken over without being released.
+    Thread.sleep(10);
+    assertEquals(3L, leaseService.tryAcquireLease(lockKey, "server1", 60_000L));
+    assertFalse(leaseService.renewLease(lockKey, "server2", 2L, 60_000L));
+    assertEquals("server1", leaseService.getLease(lockKey).getOwner());
+  }
+
+  @TestTemplate
+  public void testMutationIsFenced() throws IOException {
+    long token = leaseService.tryAcquireLease(lockKey, "server1", 60_000L);
+    leaseService.addFence(lockKey, "server1", token);
+    try {
+      createAndInsertMakeLake(metalakeName);
+    } finally {
+      leaseService.removeFence(lockKey, "server1", token);
+    }
+
+    // The lease is taken over by another server, the stale holder can't write anymore.
+    leaseService.releaseLease(lockKey, "server1", token);
+    leaseService.tryAcquireLease(lockKey, "server2", 60_000L);
+    leaseService.addFence(lockKey, "server1", token);
+    try {
+      assertThrows(
+          LockTimeoutException.class, () -> createAndInsertCatalog(metalakeName, "catalog"));
+    } finally {
+      leaseService.removeFence(lockKey, "server1", token);
+    }
+
+    assertFalse(
+        backend.exists(NameIdentifier.of(metalakeName, "catalog"), Entity.EntityType.CATALOG));
+    assertEquals(1, backend.listChanges(metalakeName, 0, 100).size());
+  }
+}
@@ -1178,4 +1178,67 @@ class TestUserMetaService extends TestJDBCBackend {
     }
     return count;
   }
+
+  @TestTemplate
+  public void testBatchGetUserByIdentifier() throws IOException {
+    createAndInsertMakeLake(metalakeName);
+    createAndInsertCatalog(metalakeName, "catalog");
+
+    RoleEntity role1 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role1",
+            AUDIT_INFO,
+            "catalog");
+    RoleEntity role2 =
+        createRoleEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofRoleNamespace(metalakeName),
+            "role2",
+            AUDIT_INFO,
+            "catalog");
+    backend.insert(role1, false);
+    backend.insert(role2, false);
+
+    UserEntity user1 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user1",
+            AUDIT_INFO,
+            Lists.newArrayList(role1.name(), role2.name()),
+            Lists.newArrayList(role1.id(), role2.id()));
+    UserEntity user2 =
+        createUserEntity(
+            RandomIdGenerator.INSTANCE.nextId(),
+            AuthorizationUtils.ofUserNamespace(metalakeName),
+            "user2",
+            AUDIT_INFO);
+    backend.insert(user1, false);
+    backend.insert(user2, false);
+
+    List<UserEntity> users =
+        Lists.newArrayList(
+            backend.<UserEntity>batchGet(
+                Lists.newArrayList(
+                    user1.nameIdentifier(),
+                    user2.nameIdentifier(),
+                    AuthorizationUtils.ofUser(metalakeName, "missing_user")),
+                Entity.EntityType.USER));
+    assertEquals(2, users.size());
+    users.sort(Comparator.comparing(UserEntity::name));
+    assertEquals(user1.nameIdentifier(), users.get(0).nameIdentifier());
+    assertEquals(
+        Sets.newHashSet(role1.name(), role2.name()), Sets.newHashSet(users.get(0).roleNames()));
+    assertEquals(Sets.newHashSet(role1.id(), role2.id()), Sets.newHashSet(users.get(0).roleIds()));
+    assertEquals(backend.get(user2.nameIdentifier(), Entity.EntityType.USER), users.get(1));
+
+    List<RoleEntity> roles =
+        backend.batchGet(
+            Lists.newArrayList(role1.nameIdentifier(), role2.nameIdentifier()),
+            Entity.EntityType.ROLE);
+    assertEquals(2, roles.size());
+    assertTrue(roles.containsAll(Lists.newArrayList(role1, role2)));
+  }
 }
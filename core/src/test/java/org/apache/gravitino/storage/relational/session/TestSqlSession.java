@@ -26,24 +26,35 @@ import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_PASSWO
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_URL;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_USER;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_JDBC_BACKEND_WAIT_MILLISECONDS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_MAX_CONNECTIONS;
+import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_READ_REPLICA_MAX_LAG_MS;
 import static org.apache.gravitino.Configs.ENTITY_RELATIONAL_STORE;
 import static org.apache.gravitino.Configs.ENTITY_STORE;
 import static org.apache.gravitino.Configs.RELATIONAL_ENTITY_STORE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Paths;
 import java.sql.SQLException;
+import java.util.Optional;
 import java.util.UUID;
 import org.apache.commons.dbcp2.BasicDataSource;
 import org.apache.commons.io.FileUtils;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.storage.relational.JDBCBackend;
 import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.AfterAll;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeAll;
@@ -159,4 +170,91 @@ public class TestSqlSession {
     assertNull(SqlSessions.getSessions().get());
     assertEquals(0, SqlSessions.getSessionCount());
   }
+
+  @Test
+  public void testReadOnlySessionWithoutReplica() {
+    assertNull(SqlSessionFactoryHelper.getInstance().getReadReplicaRouter());
+
+    SqlSession session = SqlSessions.getReadOnlySqlSession();
+    assertNotNull(session);
+    assertFalse(SqlSessions.isReplicaSession());
+    SqlSessions.closeSqlSession();
+    assertNull(SqlSessions.getSessions().get());
+    assertEquals(0, SqlSessions.getSessionCount());
+  }
+
+  @Test
+  public void testReadOnlySessionRouting() {
+    SqlSessionFactoryHelper.getInstance().close();
+    // The replica points to the same embedded database, its lag is always 0.
+    String replicaUrl = config.get(ENTITY_RELATIONAL_JDBC_BACKEND_URL);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL))
+        .thenReturn(Optional.of(replicaUrl));
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_USER)).thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_PASSWORD))
+        .thenReturn(Optional.empty());
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_MAX_CONNECTIONS)).thenReturn(10);
+    Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_MAX_LAG_MS)).thenReturn(60_000L);
+
+    try {
+      SqlSessionFactoryHelper.getInstance().init(config);
+      ReadReplicaRouter router = SqlSessionFactoryHelper.getInstance().getReadReplicaRouter();
+      assertNotNull(router);
+      router.checkLag();
+      assertEquals(0L, router.getReplicaLagMs());
+
+      // A standalone read goes to the replica.
+      SqlSessions.getReadOnlySqlSession();
+      assertTrue(SqlSessions.isReplicaSession());
+      SqlSessions.closeSqlSession();
+      assertFalse(SqlSessions.isReplicaSession());
+      assertEquals(1L, router.getReplicaReads());
+
+      // A read inside a transaction reuses the session of the transaction.
+      SqlSession writeSession = SqlSessions.getSqlSession();
+      assertSame(writeSession, SqlSessions.getReadOnlySqlSession());
+      assertFalse(SqlSessions.isReplicaSession());
+      SqlSessions.closeSqlSession();
+      SqlSessions.commitAndCloseSqlSession();
+
+      // After a write is committed, the reads go to the primary database.
+      SqlSessions.getReadOnlySqlSession();
+      assertFalse(SqlSessions.isReplicaSession());
+      SqlSessions.closeSqlSession();
+      assertEquals(1L, router.getReplicaReads());
+      assertEquals(1L, router.getPrimaryReads());
+    } finally {
+      Mockito.when(config.get(ENTITY_RELATIONAL_READ_REPLICA_JDBC_URL))
+          .thenReturn(Optional.empty());
+    }
+  }
+
+  @Test
+  public void testReadReplicaRouterWithUnknownLag() {
+    ReadReplicaRouter router =
+        new ReadReplicaRouter(
+            Mockito.mock(SqlSessionFactory.class),
+            Mockito.mock(BasicDataSource.class),
+            JDBCBackend.JDBCBackendType.H2,
+            1000L);
+
+    // The lag is unknown before it's checked.
+    assertFalse(router.routeToReplica());
+
+    router.setReplicaLagMs(500L);
+    assertTrue(router.routeToReplica());
+
+    router.setReplicaLagMs(5000L);
+    assertFalse(router.routeToReplica());
+
+    router.setReplicaLagMs(ReadReplicaRouter.UNKNOWN_LAG);
+    assertFalse(router.routeToReplica());
+
+    router.setReplicaLagMs(0L);
+    router.markWrite();
+    assertFalse(router.routeToReplica());
+
+    assertEquals(1L, router.getReplicaReads());
+    assertEquals(4L, router.getPrimaryReads());
+  }
 }
@@ -22,6 +22,8 @@ package org.apache.gravitino.storage.relational.utils;
 import static org.apache.gravitino.file.Fileset.LOCATION_NAME_UNKNOWN;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.google.common.collect.ImmutableList;
@@ -64,6 +66,7 @@ import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.policy.Policy;
 import org.apache.gravitino.policy.PolicyContent;
 import org.apache.gravitino.policy.PolicyContents;
+import org.apache.gravitino.rel.Table;
 import org.apache.gravitino.rel.expressions.Expression;
 import org.apache.gravitino.rel.expressions.NamedReference;
 import org.apache.gravitino.rel.expressions.distributions.Distributions;
@@ -182,6 +185,42 @@ public class TestPOConverters {
     assertEquals(expectedTable.auditInfo().creator(), convertedTable.auditInfo().creator());
   }
 
+  @Test
+  public void testFromTablePODecodesJsonFieldsLazily() throws JsonProcessingException {
+    AuditInfo auditInfo =
+        AuditInfo.builder().withCreator("creator").withCreateTime(FIX_INSTANT).build();
+    TablePO tablePO =
+        TablePO.builder()
+            .withTableId(1L)
+            .withTableName("test")
+            .withMetalakeId(1L)
+            .withCatalogId(1L)
+            .withSchemaId(1L)
+            .withAuditInfo(JsonUtils.anyFieldMapper().writeValueAsString(auditInfo))
+            .withFormat("iceberg")
+            .withProperties(
+                JsonUtils.anyFieldMapper().writeValueAsString(ImmutableMap.of("k", "v")))
+            .withPartitions("not a json array")
+            .withCurrentVersion(1L)
+            .withLastVersion(1L)
+            .withDeletedAt(0L)
+            .build();
+
+    // The malformed partitioning is not decoded until it is read.
+    TableEntity convertedTable =
+        POConverters.fromTablePO(
+            tablePO, NamespaceUtil.ofTable("test_metalake", "test_catalog", "test_schema"));
+    assertEquals("test", convertedTable.name());
+    assertEquals("creator", convertedTable.auditInfo().creator());
+    assertEquals(
+        ImmutableMap.of("k", "v", Table.PROPERTY_TABLE_FORMAT, "iceberg"),
+        convertedTable.properties());
+    assertSame(convertedTable.properties(), convertedTable.properties());
+    assertEquals(0, convertedTable.sortOrders().length);
+    assertEquals(Distributions.NONE, convertedTable.distribution());
+    assertThrows(RuntimeException.class, convertedTable::partitioning);
+  }
+
   @Test
   public void testFromColumnPO() throws JsonProcessingException {
     ColumnPO columnPO =
@@ -99,14 +99,15 @@ CREATE TABLE IF NOT EXISTS `table_column_version_info` (
     `column_nullable` TINYINT(1) NOT NULL DEFAULT 1 COMMENT 'column nullable, 0 is not nullable, 1 is nullable',
     `column_auto_increment` TINYINT(1) NOT NULL DEFAULT 0 COMMENT 'column auto increment, 0 is not auto increment, 1 is auto increment',
     `column_default_value` CLOB DEFAULT NULL COMMENT 'column default value',
-    `column_op_type` TINYINT(1) NOT NULL COMMENT 'column operation type, 1 is create, 2 is update, 3 is delete',
+    `column_op_type` TINYINT(1) NOT NULL COMMENT 'column operation type, 1 is create, 2 is update, 3 is delete, 4 is snapshot',
     `deleted_at` BIGINT(20) UNSIGNED NOT NULL DEFAULT 0 COMMENT 'column deleted at',
     `audit_info` CLOB NOT NULL COMMENT 'column audit info',
     PRIMARY KEY (`id`),
     UNIQUE KEY `uk_tid_ver_cid_del` (`table_id`, `table_version`, `column_id`, `deleted_at`),
     KEY `idx_tcmid` (`metalake_id`),
     KEY `idx_tccid` (`catalog_id`),
-    KEY `idx_tcsid` (`schema_id`)
+    KEY `idx_tcsid` (`schema_id`),
+    KEY `idx_tcv_tid_op_ver` (`table_id`, `column_op_type`, `table_version`)
 ) ENGINE=InnoDB;
 
 
@@ -510,3 +511,23 @@ CREATE TABLE IF NOT EXISTS partition_statistic_meta (
 );
 
 CREATE INDEX IF NOT EXISTS idx_table_partition ON partition_statistic_meta(table_id, partition_name);
+
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'change sequence number',
+    `metalake_name` VARCHAR(128) NOT NULL COMMENT 'metalake name',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'changed entity type',
+    `identifier` CLOB NOT NULL COMMENT 'changed entity identifier levels as JSON',
+    `operate_type` VARCHAR(32) NOT NULL COMMENT 'operation type, CREATE, ALTER or DROP',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change time in milliseconds',
+    PRIMARY KEY (`id`),
+    KEY `idx_ecl_mn_id` (`metalake_name`, `id`),
+    KEY `idx_ecl_ca` (`created_at`)
+) ENGINE=InnoDB;
+
+CREATE TABLE IF NOT EXISTS `tree_lock_lease` (
+    `lock_key` VARCHAR(512) NOT NULL COMMENT 'locked resource path',
+    `owner` VARCHAR(128) NOT NULL COMMENT 'server holding the lease, empty if never taken',
+    `fencing_token` BIGINT(20) UNSIGNED NOT NULL COMMENT 'token increased by every acquisition',
+    `lease_expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'lease expiration time in milliseconds',
+    PRIMARY KEY (`lock_key`)
+) ENGINE=InnoDB;
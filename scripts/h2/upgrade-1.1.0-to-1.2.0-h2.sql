@@ -81,3 +81,28 @@ CREATE TABLE IF NOT EXISTS partition_statistic_meta (
 );
 
 CREATE INDEX IF NOT EXISTS idx_table_partition ON partition_statistic_meta(table_id, partition_name);
+
+-- Add entity change log support
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'change sequence number',
+    `metalake_name` VARCHAR(128) NOT NULL COMMENT 'metalake name',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'changed entity type',
+    `identifier` CLOB NOT NULL COMMENT 'changed entity identifier levels as JSON',
+    `operate_type` VARCHAR(32) NOT NULL COMMENT 'operation type, CREATE, ALTER or DROP',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change time in milliseconds',
+    PRIMARY KEY (`id`),
+    KEY `idx_ecl_mn_id` (`metalake_name`, `id`),
+    KEY `idx_ecl_ca` (`created_at`)
+) ENGINE=InnoDB;
+
+-- Add column snapshot support
+CREATE INDEX IF NOT EXISTS idx_tcv_tid_op_ver ON table_column_version_info (table_id, column_op_type, table_version);
+
+-- Add distributed tree lock support
+CREATE TABLE IF NOT EXISTS `tree_lock_lease` (
+    `lock_key` VARCHAR(512) NOT NULL COMMENT 'locked resource path',
+    `owner` VARCHAR(128) NOT NULL COMMENT 'server holding the lease, empty if never taken',
+    `fencing_token` BIGINT(20) UNSIGNED NOT NULL COMMENT 'token increased by every acquisition',
+    `lease_expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'lease expiration time in milliseconds',
+    PRIMARY KEY (`lock_key`)
+) ENGINE=InnoDB;
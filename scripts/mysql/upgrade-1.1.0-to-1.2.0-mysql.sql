@@ -80,3 +80,29 @@ CREATE TABLE IF NOT EXISTS `partition_statistic_meta` (
     PRIMARY KEY (`table_id`, `partition_name`(255), `statistic_name`),
     KEY `idx_table_partition` (`table_id`, `partition_name`(255))
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'partition statistics metadata';
+
+-- Add entity change log support
+CREATE TABLE IF NOT EXISTS `entity_change_log` (
+    `id` BIGINT(20) UNSIGNED NOT NULL AUTO_INCREMENT COMMENT 'change sequence number',
+    `metalake_name` VARCHAR(128) NOT NULL COMMENT 'metalake name',
+    `entity_type` VARCHAR(64) NOT NULL COMMENT 'changed entity type',
+    `identifier` TEXT NOT NULL COMMENT 'changed entity identifier levels as JSON',
+    `operate_type` VARCHAR(32) NOT NULL COMMENT 'operation type, CREATE, ALTER or DROP',
+    `created_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'change time in milliseconds',
+    PRIMARY KEY (`id`),
+    KEY `idx_ecl_mn_id` (`metalake_name`, `id`),
+    KEY `idx_ecl_ca` (`created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'entity change log';
+
+-- Add column snapshot support
+ALTER TABLE `table_column_version_info` ADD INDEX `idx_tcv_tid_op_ver` (`table_id`, `column_op_type`, `table_version`);
+ALTER TABLE `table_column_version_info` MODIFY COLUMN `column_op_type` TINYINT(1) NOT NULL COMMENT 'column operation type, 1 is create, 2 is update, 3 is delete, 4 is snapshot';
+
+-- Add distributed tree lock support
+CREATE TABLE IF NOT EXISTS `tree_lock_lease` (
+    `lock_key` VARCHAR(512) NOT NULL COMMENT 'locked resource path',
+    `owner` VARCHAR(128) NOT NULL COMMENT 'server holding the lease, empty if never taken',
+    `fencing_token` BIGINT(20) UNSIGNED NOT NULL COMMENT 'token increased by every acquisition',
+    `lease_expire_at` BIGINT(20) UNSIGNED NOT NULL COMMENT 'lease expiration time in milliseconds',
+    PRIMARY KEY (`lock_key`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_bin COMMENT 'distributed tree lock leases';
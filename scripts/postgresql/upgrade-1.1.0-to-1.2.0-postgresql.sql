@@ -125,3 +125,43 @@ COMMENT ON COLUMN partition_statistic_meta.statistic_value IS 'statistic value a
 COMMENT ON COLUMN partition_statistic_meta.audit_info IS 'audit information as JSON';
 COMMENT ON COLUMN partition_statistic_meta.created_at IS 'creation timestamp in milliseconds';
 COMMENT ON COLUMN partition_statistic_meta.updated_at IS 'last update timestamp in milliseconds';
+
+-- Add entity change log support
+CREATE TABLE IF NOT EXISTS entity_change_log (
+    id BIGINT NOT NULL GENERATED BY DEFAULT AS IDENTITY,
+    metalake_name VARCHAR(128) NOT NULL,
+    entity_type VARCHAR(64) NOT NULL,
+    identifier TEXT NOT NULL,
+    operate_type VARCHAR(32) NOT NULL,
+    created_at BIGINT NOT NULL,
+    PRIMARY KEY (id)
+);
+CREATE INDEX IF NOT EXISTS idx_ecl_mn_id ON entity_change_log (metalake_name, id);
+CREATE INDEX IF NOT EXISTS idx_ecl_ca ON entity_change_log (created_at);
+
+COMMENT ON TABLE entity_change_log IS 'entity change log';
+COMMENT ON COLUMN entity_change_log.id IS 'change sequence number';
+COMMENT ON COLUMN entity_change_log.metalake_name IS 'metalake name';
+COMMENT ON COLUMN entity_change_log.entity_type IS 'changed entity type';
+COMMENT ON COLUMN entity_change_log.identifier IS 'changed entity identifier levels as JSON';
+COMMENT ON COLUMN entity_change_log.operate_type IS 'operation type, CREATE, ALTER or DROP';
+COMMENT ON COLUMN entity_change_log.created_at IS 'change time in milliseconds';
+
+-- Add column snapshot support
+CREATE INDEX IF NOT EXISTS table_column_version_info_idx_tid_op_ver ON table_column_version_info (table_id, column_op_type, table_version);
+COMMENT ON COLUMN table_column_version_info.column_op_type IS 'column operation type, 1 is create, 2 is update, 3 is delete, 4 is snapshot';
+
+-- Add distributed tree lock support
+CREATE TABLE IF NOT EXISTS tree_lock_lease (
+    lock_key VARCHAR(512) NOT NULL,
+    owner VARCHAR(128) NOT NULL,
+    fencing_token BIGINT NOT NULL,
+    lease_expire_at BIGINT NOT NULL,
+    PRIMARY KEY (lock_key)
+);
+
+COMMENT ON TABLE tree_lock_lease IS 'distributed tree lock leases';
+COMMENT ON COLUMN tree_lock_lease.lock_key IS 'locked resource path';
+COMMENT ON COLUMN tree_lock_lease.owner IS 'server holding the lease, empty if never taken';
+COMMENT ON COLUMN tree_lock_lease.fencing_token IS 'token increased by every acquisition';
+COMMENT ON COLUMN tree_lock_lease.lease_expire_at IS 'lease expiration time in milliseconds';
@@ -17,6 +17,7 @@
 
 package org.apache.gravitino.server.authorization;
 
+import com.google.common.collect.ImmutableMap;
 import java.lang.reflect.Array;
 import java.security.Principal;
 import java.util.ArrayList;
@@ -32,13 +33,23 @@ import org.apache.gravitino.Config;
 import org.apache.gravitino.Configs;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.HasIdentifier;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.authorization.AuthorizationRequestContext;
 import org.apache.gravitino.authorization.GravitinoAuthorizer;
 import org.apache.gravitino.dto.tag.MetadataObjectDTO;
+import org.apache.gravitino.meta.FilesetEntity;
+import org.apache.gravitino.meta.FunctionEntity;
+import org.apache.gravitino.meta.GenericEntity;
+import org.apache.gravitino.meta.ModelEntity;
+import org.apache.gravitino.meta.PolicyEntity;
+import org.apache.gravitino.meta.RoleEntity;
 import org.apache.gravitino.meta.TableEntity;
+import org.apache.gravitino.meta.TagEntity;
+import org.apache.gravitino.meta.TopicEntity;
+import org.apache.gravitino.meta.UserEntity;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionConstants;
 import org.apache.gravitino.server.authorization.expression.AuthorizationExpressionEvaluator;
 import org.apache.gravitino.utils.MetadataObjectUtil;
@@ -57,6 +68,22 @@ public class MetadataAuthzHelper {
   private static final Logger LOG = LoggerFactory.getLogger(MetadataAuthzHelper.class);
   private static volatile Executor executor = null;
 
+  // The entity types whose listed entities are loaded into the cache with one batch get before
+  // the filtering, so that evaluating the expression does not load them one by one.
+  private static final Map<Entity.EntityType, Class<?>> BATCH_GET_ENTITY_CLASSES =
+      ImmutableMap.<Entity.EntityType, Class<?>>builder()
+          .put(Entity.EntityType.TABLE, TableEntity.class)
+          .put(Entity.EntityType.FILESET, FilesetEntity.class)
+          .put(Entity.EntityType.TOPIC, TopicEntity.class)
+          .put(Entity.EntityType.MODEL, ModelEntity.class)
+          .put(Entity.EntityType.FUNCTION, FunctionEntity.class)
+          .put(Entity.EntityType.VIEW, GenericEntity.class)
+          .put(Entity.EntityType.USER, UserEntity.class)
+          .put(Entity.EntityType.ROLE, RoleEntity.class)
+          .put(Entity.EntityType.TAG, TagEntity.class)
+          .put(Entity.EntityType.POLICY, PolicyEntity.class)
+          .build();
+
   private MetadataAuthzHelper() {}
 
   public static Metalake[] filterMetalakes(Metalake[] metalakes, String expression) {
@@ -138,7 +165,24 @@ public class MetadataAuthzHelper {
       Entity.EntityType entityType,
       NameIdentifier[] nameIdentifiers) {
     preloadToCache(entityType, nameIdentifiers);
-    return filterByExpression(metalake, expression, entityType, nameIdentifiers, e -> e);
+    GravitinoAuthorizer authorizer =
+        GravitinoAuthorizerProvider.getInstance().getGravitinoAuthorizer();
+    AuthorizationRequestContext authorizationRequestContext = new AuthorizationRequestContext();
+    if (enableAuthorization()) {
+      // Resolve the ids of all the listed entities and their parents at once, instead of one
+      // entity load per metadata object while evaluating the expression.
+      authorizationRequestContext.putMetadataIds(
+          metalake, MetadataIdConverter.getIDs(metalake, entityType, nameIdentifiers));
+    }
+    return doFilter(
+        expression,
+        nameIdentifiers,
+        PrincipalUtils.getCurrentPrincipal(),
+        authorizer,
+        authorizationRequestContext,
+        nameIdentifier ->
+            NameIdentifierUtil.splitNameIdentifier(metalake, entityType, nameIdentifier),
+        (unused) -> null);
   }
 
   /**
@@ -326,13 +370,13 @@ public class MetadataAuthzHelper {
     }
   }
 
-  private static void preloadToCache(
+  @SuppressWarnings("unchecked")
+  private static <E extends Entity & HasIdentifier> void preloadToCache(
       Entity.EntityType entityType, NameIdentifier[] nameIdentifiers) {
     if (GravitinoEnv.getInstance().cacheEnabled()) {
-      if (entityType == Entity.EntityType.TABLE) {
-        GravitinoEnv.getInstance()
-            .entityStore()
-            .batchGet(nameIdentifiers, entityType, TableEntity.class);
+      Class<E> entityClass = (Class<E>) BATCH_GET_ENTITY_CLASSES.get(entityType);
+      if (entityClass != null) {
+        GravitinoEnv.getInstance().entityStore().batchGet(nameIdentifiers, entityType, entityClass);
       }
     }
   }
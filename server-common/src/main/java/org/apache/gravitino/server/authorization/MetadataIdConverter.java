@@ -22,7 +22,10 @@ package org.apache.gravitino.server.authorization;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Maps;
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Map;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.EntityStore;
@@ -40,6 +43,7 @@ import org.apache.gravitino.meta.FilesetEntity;
 import org.apache.gravitino.meta.GroupEntity;
 import org.apache.gravitino.meta.JobEntity;
 import org.apache.gravitino.meta.JobTemplateEntity;
+import org.apache.gravitino.meta.NamespacedEntityId;
 import org.apache.gravitino.meta.ModelEntity;
 import org.apache.gravitino.meta.ModelVersionEntity;
 import org.apache.gravitino.meta.RoleEntity;
@@ -48,11 +52,17 @@ import org.apache.gravitino.meta.TableEntity;
 import org.apache.gravitino.meta.TagEntity;
 import org.apache.gravitino.meta.TopicEntity;
 import org.apache.gravitino.meta.UserEntity;
+import org.apache.gravitino.storage.relational.service.EntityIdService;
 import org.apache.gravitino.utils.MetadataObjectUtil;
+import org.apache.gravitino.utils.NameIdentifierUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /** It is used to convert MetadataObject to MetadataId */
 public class MetadataIdConverter {
 
+  private static final Logger LOG = LoggerFactory.getLogger(MetadataIdConverter.class);
+
   // Maps metadata type to capability scope
   private static final Map<MetadataObject.Type, Capability.Scope> METADATA_SCOPE_MAPPING =
       ImmutableMap.of(
@@ -115,6 +125,55 @@ public class MetadataIdConverter {
     return extractIdFromEntity(entity);
   }
 
+  /**
+   * Resolves the ids of the given entities and of all their parents in one batch. This is best
+   * effort: the entities that are not resolved are simply missing from the result, and callers
+   * should fall back to {@link #getID(MetadataObject, String)} for them.
+   *
+   * @param metalake The metalake name.
+   * @param entityType The type of the entities.
+   * @param identifiers The identifiers of the entities.
+   * @return The resolved ids keyed by metadata object.
+   */
+  public static Map<MetadataObject, Long> getIDs(
+      String metalake, Entity.EntityType entityType, NameIdentifier[] identifiers) {
+    if (identifiers.length == 0 || !EntityIdService.isInitialized()) {
+      return Collections.emptyMap();
+    }
+
+    Map<NameIdentifier, NamespacedEntityId> entityIds;
+    try {
+      entityIds = EntityIdService.getEntityIds(Arrays.asList(identifiers), entityType);
+    } catch (RuntimeException e) {
+      LOG.warn(
+          "Failed to resolve the ids of {} {}s in metalake {}",
+          identifiers.length,
+          entityType,
+          metalake,
+          e);
+      return Collections.emptyMap();
+    }
+
+    Map<MetadataObject, Long> metadataIds = Maps.newHashMap();
+    entityIds.forEach(
+        (ident, ids) -> {
+          metadataIds.put(NameIdentifierUtil.toMetadataObject(ident, entityType), ids.entityId());
+
+          // The namespace ids are ordered from the metalake down, so walk them back up along
+          // with the parents of the identifier.
+          NameIdentifier parent = ident;
+          Entity.EntityType parentType = entityType;
+          long[] namespaceIds = ids.namespaceIds();
+          for (int i = namespaceIds.length - 1; i >= 0; i--) {
+            parent = NameIdentifierUtil.parentNameIdentifier(parent, parentType);
+            parentType = NameIdentifierUtil.parentEntityType(parentType);
+            metadataIds.put(
+                NameIdentifierUtil.toMetadataObject(parent, parentType), namespaceIds[i]);
+          }
+        });
+    return metadataIds;
+  }
+
   @VisibleForTesting
   static NameIdentifier normalizeCaseSensitive(
       NameIdentifier ident, Capability.Scope scope, CatalogManager catalogManager) {
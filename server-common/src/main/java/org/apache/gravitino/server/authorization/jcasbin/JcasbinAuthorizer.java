@@ -221,11 +221,11 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     Long userId;
     boolean result;
     try {
-      Long metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+      Long metadataId = getMetadataId(metalake, metadataObject, requestContext);
       loadOwnerPolicy(metalake, metadataObject, metadataId);
       UserEntity userEntity = getUserEntity(principal.getName(), metalake);
       userId = userEntity.id();
-      metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+      metadataId = getMetadataId(metalake, metadataObject, requestContext);
       result = Objects.equals(Optional.of(userId), ownerRel.getIfPresent(metadataId));
     } catch (Exception e) {
       LOG.debug("Can not get entity id", e);
@@ -386,6 +386,16 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
     loadedRoles.invalidate(roleId);
   }
 
+  // Reuses the ids resolved earlier in the same request, possibly in one batch for a whole list.
+  private static Long getMetadataId(
+      String metalake, MetadataObject metadataObject, AuthorizationRequestContext requestContext) {
+    if (requestContext == null) {
+      return MetadataIdConverter.getID(metadataObject, metalake);
+    }
+    return requestContext.getMetadataId(
+        metalake, metadataObject, () -> MetadataIdConverter.getID(metadataObject, metalake));
+  }
+
   @Override
   public void handleMetadataOwnerChange(
       String metalake, Long oldOwnerId, NameIdentifier nameIdentifier, Entity.EntityType type) {
@@ -433,7 +443,7 @@ public class JcasbinAuthorizer implements GravitinoAuthorizer {
       try {
         UserEntity userEntity = getUserEntity(username, metalake);
         userId = userEntity.id();
-        metadataId = MetadataIdConverter.getID(metadataObject, metalake);
+        metadataId = getMetadataId(metalake, metadataObject, requestContext);
       } catch (Exception e) {
         LOG.debug("Can not get entity id", e);
         return false;
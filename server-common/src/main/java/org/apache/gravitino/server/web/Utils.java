@@ -26,6 +26,7 @@ import java.util.Map;
 import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.PathParam;
+import javax.ws.rs.core.HttpHeaders;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import javax.ws.rs.core.Response.Status;
@@ -44,6 +45,9 @@ public class Utils {
 
   private static final String REMOTE_USER = "gravitino";
 
+  // The lock holders usually finish within a second, so the clients can retry soon.
+  private static final int LOCK_TIMEOUT_RETRY_AFTER_SECONDS = 1;
+
   private Utils() {}
 
   public static String remoteUser(HttpServletRequest httpRequest) {
@@ -191,6 +195,14 @@ public class Utils {
         .build();
   }
 
+  public static Response lockTimeout(String message, Throwable throwable) {
+    return Response.status(Response.Status.SERVICE_UNAVAILABLE)
+        .header(HttpHeaders.RETRY_AFTER, LOCK_TIMEOUT_RETRY_AFTER_SECONDS)
+        .entity(ErrorResponse.lockTimeout(message, throwable))
+        .type(MediaType.APPLICATION_JSON)
+        .build();
+  }
+
   public static Response doAs(
       HttpServletRequest httpRequest, PrivilegedExceptionAction<Response> action) throws Exception {
     UserPrincipal principal =
@@ -20,6 +20,7 @@ package org.apache.gravitino.server.web.rest;
 
 import com.codahale.metrics.annotation.ResponseMetered;
 import com.codahale.metrics.annotation.Timed;
+import com.google.common.base.Preconditions;
 import javax.inject.Inject;
 import javax.servlet.http.HttpServletRequest;
 import javax.ws.rs.Consumes;
@@ -41,6 +42,7 @@ import org.apache.gravitino.CatalogChange;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.CatalogDispatcher;
 import org.apache.gravitino.dto.requests.CatalogCreateRequest;
@@ -88,7 +90,9 @@ public class CatalogOperations {
   public Response listCatalogs(
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
-      @QueryParam("details") @DefaultValue("false") boolean verbose) {
+      @QueryParam("details") @DefaultValue("false") boolean verbose,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info(
         "Received list catalog {} request for metalake: {}, ",
         verbose ? "infos" : "names",
@@ -113,14 +117,21 @@ public class CatalogOperations {
               LOG.info("List {} catalogs info under metalake: {}", catalogs.length, metalake);
               return response;
             } else {
-              NameIdentifier[] idents = catalogDispatcher.listCatalogs(catalogNS);
-              idents =
+              // Pagination only applies to the name listing, the number of catalogs in a
+              // metalake is small enough to return their details in one response.
+              NameIdentifier[] catalogs = catalogDispatcher.listCatalogs(catalogNS);
+              NameIdentifierPage page =
+                  pageSize == null
+                      ? NameIdentifierPage.of(catalogs, null)
+                      : NameIdentifierPage.paginate(catalogs, pageToken, pageSize);
+              NameIdentifier[] idents =
                   MetadataAuthzHelper.filterByExpression(
                       metalake,
                       AuthorizationExpressionConstants.LOAD_CATALOG_AUTHORIZATION_EXPRESSION,
                       Entity.EntityType.CATALOG,
-                      idents);
-              Response response = Utils.ok(new EntityListResponse(idents));
+                      page.identifiers());
+              Response response =
+                  Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
               LOG.info("List {} catalogs under metalake: {}", idents.length, metalake);
               return response;
             }
@@ -349,4 +360,50 @@ public class CatalogOperations {
           OperationType.DROP, catalogName, metalakeName, e);
     }
   }
+
+  @POST
+  @Path("{catalog}/refresh")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "refresh-catalog." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "refresh-catalog", absolute = true)
+  @AuthorizationExpression(
+      expression = "ANY(OWNER, METALAKE, CATALOG)",
+      accessMetadataType = MetadataObject.Type.CATALOG)
+  public Response refreshCatalog(
+      @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalakeName,
+      @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG)
+          String catalogName,
+      @QueryParam("schema") String schemaName,
+      @QueryParam("table") String tableName) {
+    LOG.info(
+        "Received refresh catalog request for catalog: {}.{}, schema: {}, table: {}",
+        metalakeName,
+        catalogName,
+        schemaName,
+        tableName);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier ident;
+            if (tableName != null) {
+              Preconditions.checkArgument(
+                  schemaName != null, "\"schema\" is required when \"table\" is specified");
+              ident = NameIdentifierUtil.ofTable(metalakeName, catalogName, schemaName, tableName);
+            } else if (schemaName != null) {
+              ident = NameIdentifierUtil.ofSchema(metalakeName, catalogName, schemaName);
+            } else {
+              ident = NameIdentifierUtil.ofCatalog(metalakeName, catalogName);
+            }
+
+            catalogDispatcher.refreshMetadataCache(ident);
+            LOG.info("Metadata cache refreshed for {}", ident);
+            return Utils.ok(new BaseResponse());
+          });
+    } catch (Exception e) {
+      return ExceptionHandlers.handleCatalogException(
+          OperationType.LOAD, catalogName, metalakeName, e);
+    }
+  }
 }
@@ -44,6 +44,7 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.audit.CallerContext;
 import org.apache.gravitino.catalog.FilesetDispatcher;
@@ -96,7 +97,9 @@ public class FilesetOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
 
     try {
       LOG.info("Received list filesets request for schema: {}.{}.{}", metalake, catalog, schema);
@@ -104,14 +107,19 @@ public class FilesetOperations {
           httpRequest,
           () -> {
             Namespace filesetNS = NamespaceUtil.ofFileset(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listFilesets(filesetNS);
-            idents =
+            NameIdentifier[] filesets = dispatcher.listFilesets(filesetNS);
+            NameIdentifierPage page =
+                pageSize == null
+                    ? NameIdentifierPage.of(filesets, null)
+                    : NameIdentifierPage.paginate(filesets, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataAuthzHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.FILTER_FILESET_AUTHORIZATION_EXPRESSION,
                     Entity.EntityType.FILESET,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.identifiers());
+            Response response =
+                Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} filesets under schema: {}.{}.{}",
                 idents.length,
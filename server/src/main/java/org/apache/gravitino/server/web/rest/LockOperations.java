@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import com.codahale.metrics.annotation.ResponseMetered;
+import com.codahale.metrics.annotation.Timed;
+import java.util.List;
+import javax.servlet.http.HttpServlet;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.dto.LockThreadDTO;
+import org.apache.gravitino.dto.responses.LockThreadsResponse;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockThreadInfo;
+import org.apache.gravitino.metrics.MetricNames;
+import org.apache.gravitino.metrics.source.TreeLockMetricsSource;
+import org.apache.gravitino.server.authorization.annotations.AuthorizationExpression;
+import org.apache.gravitino.server.web.Utils;
+
+/** Dumps the threads holding and waiting for the tree lock nodes, to diagnose lock contention. */
+@Path("/admin/locks")
+@Consumes(MediaType.APPLICATION_JSON)
+@Produces(MediaType.APPLICATION_JSON)
+public class LockOperations extends HttpServlet {
+
+  @GET
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-lock-threads." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-lock-threads", absolute = true)
+  @AuthorizationExpression(
+      expression = "SERVICE_ADMIN",
+      errorMessage = "Only service admins can list the threads holding and waiting for locks")
+  public Response listLockThreads() {
+    LockManager lockManager = GravitinoEnv.getInstance().lockManager();
+    if (lockManager == null) {
+      return Utils.internalError("The lock manager is not initialized");
+    }
+
+    long now = System.currentTimeMillis();
+    return Utils.ok(
+        new LockThreadsResponse(
+            toDTOs(lockManager.getLockHolders(), now),
+            toDTOs(lockManager.getLockWaiters(), now)));
+  }
+
+  private static LockThreadDTO[] toDTOs(List<LockThreadInfo> threads, long now) {
+    return threads.stream()
+        .map(
+            thread ->
+                LockThreadDTO.builder()
+                    .withNode(thread.nodeName())
+                    .withLevel(TreeLockMetricsSource.levelOf(thread.depth()))
+                    .withIdentifier(thread.identifier())
+                    .withThreadName(thread.threadName())
+                    .withThreadId(thread.threadId())
+                    .withSince(thread.sinceMillis())
+                    .withAgeMs(Math.max(0, now - thread.sinceMillis()))
+                    .build())
+        .toArray(LockThreadDTO[]::new);
+  }
+}
@@ -37,17 +37,20 @@ import javax.ws.rs.QueryParam;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.Metalake;
 import org.apache.gravitino.MetalakeChange;
 import org.apache.gravitino.NameIdentifier;
 import org.apache.gravitino.Namespace;
+import org.apache.gravitino.dto.ChangeLogEntryDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.requests.MetalakeCreateRequest;
 import org.apache.gravitino.dto.requests.MetalakeSetRequest;
 import org.apache.gravitino.dto.requests.MetalakeUpdateRequest;
 import org.apache.gravitino.dto.requests.MetalakeUpdatesRequest;
 import org.apache.gravitino.dto.responses.BaseResponse;
+import org.apache.gravitino.dto.responses.ChangeLogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.MetalakeListResponse;
 import org.apache.gravitino.dto.responses.MetalakeResponse;
@@ -164,6 +167,40 @@ public class MetalakeOperations {
     }
   }
 
+  @GET
+  @Path("{name}/changes")
+  @Produces("application/vnd.gravitino.v1+json")
+  @Timed(name = "list-metalake-changes." + MetricNames.HTTP_PROCESS_DURATION, absolute = true)
+  @ResponseMetered(name = "list-metalake-changes", absolute = true)
+  @AuthorizationExpression(expression = "METALAKE::OWNER")
+  public Response listChanges(
+      @PathParam("name") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
+          String metalakeName,
+      @DefaultValue("0") @QueryParam("afterSequence") long afterSequence,
+      @DefaultValue("100") @QueryParam("limit") int limit) {
+    LOG.info(
+        "Received list changes request for metalake: {} after sequence {}",
+        metalakeName,
+        afterSequence);
+    try {
+      return Utils.doAs(
+          httpRequest,
+          () -> {
+            NameIdentifier identifier = NameIdentifierUtil.ofMetalake(metalakeName);
+            ChangeLogEntry[] changes =
+                metalakeDispatcher.listChanges(identifier, afterSequence, limit);
+            ChangeLogEntryDTO[] changeDTOs =
+                Arrays.stream(changes).map(DTOConverters::toDTO).toArray(ChangeLogEntryDTO[]::new);
+            Response response = Utils.ok(new ChangeLogResponse(changeDTOs));
+            LOG.info("List {} changes of metalake {}", changeDTOs.length, metalakeName);
+            return response;
+          });
+
+    } catch (Exception e) {
+      return ExceptionHandlers.handleMetalakeException(OperationType.LIST, metalakeName, e);
+    }
+  }
+
   @PATCH
   @Path("{name}")
   @Produces("application/vnd.gravitino.v1+json")
@@ -38,6 +38,7 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.SchemaChange;
@@ -87,21 +88,28 @@ public class SchemaOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG)
-          String catalog) {
+          String catalog,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list schema request for catalog: {}.{}", metalake, catalog);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace schemaNS = NamespaceUtil.ofSchema(metalake, catalog);
-            NameIdentifier[] idents = dispatcher.listSchemas(schemaNS);
-            idents =
+            // Only the schemas in the requested page are authorized when the list is paginated.
+            NameIdentifierPage page =
+                pageSize == null
+                    ? NameIdentifierPage.of(dispatcher.listSchemas(schemaNS), null)
+                    : dispatcher.listSchemas(schemaNS, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataAuthzHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.FILTER_SCHEMA_AUTHORIZATION_EXPRESSION,
                     Entity.EntityType.SCHEMA,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.identifiers());
+            Response response =
+                Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info("List {} schemas in catalog {}.{}", idents.length, metalake, catalog);
             return response;
           });
@@ -39,6 +39,7 @@ import javax.ws.rs.core.Response;
 import org.apache.gravitino.Entity;
 import org.apache.gravitino.MetadataObject;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Namespace;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.dto.requests.TableCreateRequest;
@@ -87,21 +88,28 @@ public class TableOperations {
       @PathParam("metalake") @AuthorizationMetadata(type = Entity.EntityType.METALAKE)
           String metalake,
       @PathParam("catalog") @AuthorizationMetadata(type = Entity.EntityType.CATALOG) String catalog,
-      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema) {
+      @PathParam("schema") @AuthorizationMetadata(type = Entity.EntityType.SCHEMA) String schema,
+      @QueryParam("pageToken") String pageToken,
+      @QueryParam("pageSize") Integer pageSize) {
     LOG.info("Received list tables request for schema: {}.{}.{}", metalake, catalog, schema);
     try {
       return Utils.doAs(
           httpRequest,
           () -> {
             Namespace tableNS = NamespaceUtil.ofTable(metalake, catalog, schema);
-            NameIdentifier[] idents = dispatcher.listTables(tableNS);
-            idents =
+            // Only the tables in the requested page are authorized when the list is paginated.
+            NameIdentifierPage page =
+                pageSize == null
+                    ? NameIdentifierPage.of(dispatcher.listTables(tableNS), null)
+                    : dispatcher.listTables(tableNS, pageToken, pageSize);
+            NameIdentifier[] idents =
                 MetadataAuthzHelper.filterByExpression(
                     metalake,
                     AuthorizationExpressionConstants.FILTER_TABLE_AUTHORIZATION_EXPRESSION,
                     Entity.EntityType.TABLE,
-                    idents);
-            Response response = Utils.ok(new EntityListResponse(idents));
+                    page.identifiers());
+            Response response =
+                Utils.ok(new EntityListResponse(idents, page.nextPageToken()));
             LOG.info(
                 "List {} tables under schema: {}.{}.{}", idents.length, metalake, catalog, schema);
             return response;
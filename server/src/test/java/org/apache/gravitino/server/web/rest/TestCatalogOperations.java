@@ -28,6 +28,7 @@ import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.ImmutableList;
@@ -583,6 +584,60 @@ public class TestCatalogOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResponse1.getType());
   }
 
+  @Test
+  public void testRefreshCatalog() {
+    doNothing().when(manager).refreshMetadataCache(any());
+
+    Response resp =
+        target("/metalakes/metalake1/catalogs/catalog1/refresh")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    Assertions.assertEquals(0, resp.readEntity(BaseResponse.class).getCode());
+    verify(manager).refreshMetadataCache(NameIdentifier.of("metalake1", "catalog1"));
+
+    // Test refresh a single table
+    resp =
+        target("/metalakes/metalake1/catalogs/catalog1/refresh")
+            .queryParam("schema", "schema1")
+            .queryParam("table", "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+    verify(manager)
+        .refreshMetadataCache(NameIdentifier.of("metalake1", "catalog1", "schema1", "table1"));
+
+    // Test table without schema
+    resp =
+        target("/metalakes/metalake1/catalogs/catalog1/refresh")
+            .queryParam("table", "table1")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.ILLEGAL_ARGUMENTS_CODE, errorResponse.getCode());
+
+    // Test throw NoSuchCatalogException
+    doThrow(new NoSuchCatalogException("mock error")).when(manager).refreshMetadataCache(any());
+
+    resp =
+        target("/metalakes/metalake1/catalogs/catalog1/refresh")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .post(null);
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp.getStatus());
+    ErrorResponse errorResponse1 = resp.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse1.getCode());
+    Assertions.assertEquals(NoSuchCatalogException.class.getSimpleName(), errorResponse1.getType());
+  }
+
   private static TestCatalog buildCatalog(String metalake, String catalogName) {
     CatalogEntity entity =
         CatalogEntity.builder()
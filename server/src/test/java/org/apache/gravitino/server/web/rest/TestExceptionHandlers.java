@@ -18,6 +18,11 @@
  */
 package org.apache.gravitino.server.web.rest;
 
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import org.apache.gravitino.dto.responses.ErrorConstants;
+import org.apache.gravitino.dto.responses.ErrorResponse;
+import org.apache.gravitino.exceptions.LockTimeoutException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -50,4 +55,18 @@ public class TestExceptionHandlers {
     String msg6 = ExceptionHandlers.BaseExceptionHandler.getErrorMsg(e6);
     Assertions.assertEquals("", msg6);
   }
+
+  @Test
+  public void testLockTimeoutIsRetryable() {
+    LockTimeoutException e = new LockTimeoutException("Failed to lock '%s'", "metalake.catalog");
+    Response response =
+        ExceptionHandlers.handleTableException(OperationType.LOAD, "table", "schema", e);
+
+    Assertions.assertEquals(
+        Response.Status.SERVICE_UNAVAILABLE.getStatusCode(), response.getStatus());
+    Assertions.assertNotNull(response.getHeaderString(HttpHeaders.RETRY_AFTER));
+    ErrorResponse errorResponse = (ErrorResponse) response.getEntity();
+    Assertions.assertEquals(ErrorConstants.LOCK_TIMEOUT_CODE, errorResponse.getCode());
+    Assertions.assertEquals(LockTimeoutException.class.getSimpleName(), errorResponse.getType());
+  }
 }
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *  http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.gravitino.server.web.rest;
+
+import static org.apache.gravitino.Configs.TREE_LOCK_CLEAN_INTERVAL;
+import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
+import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
+import static org.mockito.Mockito.mock;
+
+import java.io.IOException;
+import java.util.Arrays;
+import javax.ws.rs.core.Application;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response;
+import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.Config;
+import org.apache.gravitino.GravitinoEnv;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.LockThreadDTO;
+import org.apache.gravitino.dto.responses.LockThreadsResponse;
+import org.apache.gravitino.lock.LockManager;
+import org.apache.gravitino.lock.LockType;
+import org.apache.gravitino.lock.TreeLock;
+import org.apache.gravitino.rest.RESTUtils;
+import org.glassfish.jersey.server.ResourceConfig;
+import org.glassfish.jersey.test.TestProperties;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+public class TestLockOperations extends BaseOperationsTest {
+
+  private static LockManager lockManager;
+
+  @BeforeAll
+  public static void setup() throws IllegalAccessException {
+    Config config = mock(Config.class);
+    Mockito.doReturn(100000L).when(config).get(TREE_LOCK_MAX_NODE_IN_MEMORY);
+    Mockito.doReturn(1000L).when(config).get(TREE_LOCK_MIN_NODE_IN_MEMORY);
+    Mockito.doReturn(36000L).when(config).get(TREE_LOCK_CLEAN_INTERVAL);
+    lockManager = new LockManager(config);
+    FieldUtils.writeField(GravitinoEnv.getInstance(), "lockManager", lockManager, true);
+  }
+
+  @Override
+  protected Application configure() {
+    try {
+      forceSet(
+          TestProperties.CONTAINER_PORT, String.valueOf(RESTUtils.findAvailablePort(2000, 3000)));
+    } catch (IOException e) {
+      throw new RuntimeException(e);
+    }
+
+    ResourceConfig resourceConfig = new ResourceConfig();
+    resourceConfig.register(LockOperations.class);
+    return resourceConfig;
+  }
+
+  @Test
+  public void testListLockThreads() {
+    NameIdentifier table = NameIdentifier.of("metalake", "catalog", "schema", "table");
+    TreeLock treeLock = lockManager.createTreeLock(table);
+    treeLock.lock(LockType.WRITE);
+    try {
+      Response resp =
+          target("/admin/locks")
+              .request(MediaType.APPLICATION_JSON_TYPE)
+              .accept("application/vnd.gravitino.v1+json")
+              .get();
+      Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+      LockThreadsResponse lockThreadsResponse = resp.readEntity(LockThreadsResponse.class);
+      Assertions.assertEquals(0, lockThreadsResponse.getCode());
+      lockThreadsResponse.validate();
+
+      LockThreadDTO[] holders = lockThreadsResponse.getHolders();
+      Assertions.assertEquals(5, holders.length);
+      Assertions.assertEquals(0, lockThreadsResponse.getWaiters().length);
+      for (LockThreadDTO holder : holders) {
+        Assertions.assertEquals(table, holder.identifier());
+        Assertions.assertEquals(Thread.currentThread().getName(), holder.threadName());
+        Assertions.assertTrue(holder.ageMs() >= 0);
+      }
+      Assertions.assertTrue(
+          Arrays.stream(holders)
+              .anyMatch(h -> h.node().equals("table") && h.level().equals("leaf")));
+    } finally {
+      treeLock.unlock();
+    }
+  }
+}
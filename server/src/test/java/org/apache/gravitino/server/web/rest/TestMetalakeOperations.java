@@ -23,6 +23,9 @@ import static org.apache.gravitino.Configs.TREE_LOCK_MAX_NODE_IN_MEMORY;
 import static org.apache.gravitino.Configs.TREE_LOCK_MIN_NODE_IN_MEMORY;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -44,13 +47,18 @@ import javax.ws.rs.core.Application;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response;
 import org.apache.commons.lang3.reflect.FieldUtils;
+import org.apache.gravitino.ChangeLogEntry;
 import org.apache.gravitino.Config;
+import org.apache.gravitino.Entity.EntityType;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.MetalakeChange;
+import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.dto.ChangeLogEntryDTO;
 import org.apache.gravitino.dto.MetalakeDTO;
 import org.apache.gravitino.dto.requests.MetalakeCreateRequest;
 import org.apache.gravitino.dto.requests.MetalakeUpdateRequest;
 import org.apache.gravitino.dto.requests.MetalakeUpdatesRequest;
+import org.apache.gravitino.dto.responses.ChangeLogResponse;
 import org.apache.gravitino.dto.responses.DropResponse;
 import org.apache.gravitino.dto.responses.ErrorConstants;
 import org.apache.gravitino.dto.responses.ErrorResponse;
@@ -60,6 +68,7 @@ import org.apache.gravitino.exceptions.NoSuchMetalakeException;
 import org.apache.gravitino.lock.LockManager;
 import org.apache.gravitino.meta.AuditInfo;
 import org.apache.gravitino.meta.BaseMetalake;
+import org.apache.gravitino.meta.EntityChangeLogEntry;
 import org.apache.gravitino.meta.SchemaVersion;
 import org.apache.gravitino.metalake.MetalakeDispatcher;
 import org.apache.gravitino.metalake.MetalakeManager;
@@ -303,6 +312,68 @@ public class TestMetalakeOperations extends BaseOperationsTest {
             .contains("Failed to operate object [" + metalakeName + "] operation [LOAD]"));
   }
 
+  @Test
+  public void testListChanges() {
+    String metalakeName = "test";
+    ChangeLogEntry[] changes =
+        new ChangeLogEntry[] {
+          EntityChangeLogEntry.of(
+              11L,
+              EntityType.CATALOG,
+              NameIdentifier.of(metalakeName, "catalog"),
+              ChangeLogEntry.Operation.CREATE,
+              1000L),
+          EntityChangeLogEntry.of(
+              12L,
+              EntityType.TABLE,
+              NameIdentifier.of(metalakeName, "catalog", "schema", "table"),
+              ChangeLogEntry.Operation.DROP,
+              2000L)
+        };
+    when(metalakeManager.listChanges(any(), eq(10L), eq(2))).thenReturn(changes);
+
+    Response resp =
+        target("/metalakes/" + metalakeName + "/changes")
+            .queryParam("afterSequence", 10)
+            .queryParam("limit", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    ChangeLogResponse changeLogResponse = resp.readEntity(ChangeLogResponse.class);
+    Assertions.assertEquals(0, changeLogResponse.getCode());
+    changeLogResponse.validate();
+
+    ChangeLogEntryDTO[] changeDTOs = changeLogResponse.getChanges();
+    Assertions.assertEquals(2, changeDTOs.length);
+    Assertions.assertEquals(11L, changeDTOs[0].sequence());
+    Assertions.assertEquals("CATALOG", changeDTOs[0].entityType());
+    Assertions.assertEquals(NameIdentifier.of(metalakeName, "catalog"), changeDTOs[0].identifier());
+    Assertions.assertEquals(ChangeLogEntry.Operation.CREATE, changeDTOs[0].operation());
+    Assertions.assertEquals(12L, changeDTOs[1].sequence());
+    Assertions.assertEquals(ChangeLogEntry.Operation.DROP, changeDTOs[1].operation());
+    Assertions.assertEquals(2000L, changeDTOs[1].changeTime());
+
+    // Test when specified metalake is not found.
+    doThrow(new NoSuchMetalakeException("Failed to find metalake by name %s", metalakeName))
+        .when(metalakeManager)
+        .listChanges(any(), anyLong(), anyInt());
+
+    Response resp1 =
+        target("/metalakes/" + metalakeName + "/changes")
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.NOT_FOUND.getStatusCode(), resp1.getStatus());
+
+    ErrorResponse errorResponse = resp1.readEntity(ErrorResponse.class);
+    Assertions.assertEquals(ErrorConstants.NOT_FOUND_CODE, errorResponse.getCode());
+    Assertions.assertEquals(NoSuchMetalakeException.class.getSimpleName(), errorResponse.getType());
+  }
+
   @Test
   public void testAlterMetalake() {
     String metalakeName = "test";
@@ -41,6 +41,7 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.Schema;
 import org.apache.gravitino.catalog.SchemaDispatcher;
 import org.apache.gravitino.catalog.SchemaOperationDispatcher;
@@ -172,6 +173,43 @@ public class TestSchemaOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListSchemasWithPagination() {
+    NameIdentifier ident1 = NameIdentifier.of(metalake, catalog, "schema1");
+    NameIdentifier ident2 = NameIdentifier.of(metalake, catalog, "schema2");
+
+    when(dispatcher.listSchemas(any(), eq("schema0"), eq(2)))
+        .thenReturn(NameIdentifierPage.of(new NameIdentifier[] {ident1, ident2}, "schema2"));
+
+    Response resp =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageToken", "schema0")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new NameIdentifier[] {ident1, ident2}, listResp.identifiers());
+    Assertions.assertEquals("schema2", listResp.nextPageToken());
+
+    // Test invalid page size
+    doThrow(new IllegalArgumentException("pageSize must be positive"))
+        .when(dispatcher)
+        .listSchemas(any(), any(), eq(0));
+    Response resp1 =
+        target("/metalakes/" + metalake + "/catalogs/" + catalog + "/schemas")
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   @Test
   public void testCreateSchema() {
     SchemaCreateRequest req =
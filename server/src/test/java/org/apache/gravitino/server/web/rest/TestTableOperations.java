@@ -46,6 +46,7 @@ import org.apache.gravitino.Audit;
 import org.apache.gravitino.Config;
 import org.apache.gravitino.GravitinoEnv;
 import org.apache.gravitino.NameIdentifier;
+import org.apache.gravitino.NameIdentifierPage;
 import org.apache.gravitino.catalog.TableDispatcher;
 import org.apache.gravitino.catalog.TableOperationDispatcher;
 import org.apache.gravitino.dto.rel.ColumnDTO;
@@ -199,6 +200,43 @@ public class TestTableOperations extends BaseOperationsTest {
     Assertions.assertEquals(RuntimeException.class.getSimpleName(), errorResp2.getType());
   }
 
+  @Test
+  public void testListTablesWithPagination() {
+    NameIdentifier table1 = NameIdentifier.of(metalake, catalog, schema, "table1");
+    NameIdentifier table2 = NameIdentifier.of(metalake, catalog, schema, "table2");
+
+    when(dispatcher.listTables(any(), eq("table0"), eq(2)))
+        .thenReturn(NameIdentifierPage.of(new NameIdentifier[] {table1, table2}, "table2"));
+
+    Response resp =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageToken", "table0")
+            .queryParam("pageSize", 2)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.OK.getStatusCode(), resp.getStatus());
+
+    EntityListResponse listResp = resp.readEntity(EntityListResponse.class);
+    Assertions.assertEquals(0, listResp.getCode());
+    Assertions.assertArrayEquals(new NameIdentifier[] {table1, table2}, listResp.identifiers());
+    Assertions.assertEquals("table2", listResp.nextPageToken());
+
+    // Test invalid page size
+    doThrow(new IllegalArgumentException("pageSize must be positive"))
+        .when(dispatcher)
+        .listTables(any(), any(), eq(0));
+    Response resp1 =
+        target(tablePath(metalake, catalog, schema))
+            .queryParam("pageSize", 0)
+            .request(MediaType.APPLICATION_JSON_TYPE)
+            .accept("application/vnd.gravitino.v1+json")
+            .get();
+
+    Assertions.assertEquals(Response.Status.BAD_REQUEST.getStatusCode(), resp1.getStatus());
+  }
+
   private DistributionDTO createMockDistributionDTO(String columnName, int bucketNum) {
     return DistributionDTO.builder()
         .withStrategy(Strategy.HASH)